@@ -3,6 +3,7 @@ package com.organization.api;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Spring Boot アプリケーションのメインクラス.
@@ -14,6 +15,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
  * <ul>
  *   <li>Spring Boot自動設定の有効化</li>
  *   <li>JPA監査機能の有効化（作成日時、更新日時の自動記録）</li>
+ *   <li>スケジュール実行の有効化（JWTキーリングの再読み込み等）</li>
  * </ul>
  * 
  * @author Organization Development Team
@@ -22,6 +24,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
  */
 @SpringBootApplication
 @EnableJpaAuditing  // JPA監査機能を有効化（BaseEntityの自動フィールド更新のため）
+@EnableScheduling  // 定期処理を有効化（JWTキーリングのホットローテーション等）
 public class Application {
 
     /**
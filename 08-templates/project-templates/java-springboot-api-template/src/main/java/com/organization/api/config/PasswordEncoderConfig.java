@@ -0,0 +1,70 @@
+package com.organization.api.config;
+
+import com.organization.api.security.CalibratedBCryptPasswordEncoder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * パスワードエンコーダー設定クラス.
+ *
+ * <p>{@link SecurityConfig}から分離することで、
+ * SecurityConfig → JwtAuthenticationFilter → UserService → PasswordEncoder
+ * の循環依存を解消しています。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    /**
+     * パスワードエンコーダー設定.
+     *
+     * <p>BCryptアルゴリズムを使用したパスワードハッシュ化を提供します。
+     * 強度は起動時に{@code auth.password-hashing.target-latency}以内に収まるよう調整します
+     * （Organization Standards準拠: 下限強度10）。
+     * {@code auth.password-hashing.strength}を指定した場合は調整せずその強度を使用します。
+     * 固定強度・下限強度のいずれも10未満を指定した場合は起動を中止します
+     * （設定ミスによる強度の低下を防ぐため）。
+     *
+     * @param meterRegistry メトリクスレジストリ
+     * @param strength 固定強度（0の場合は起動時に調整）
+     * @param targetLatency 1回のハッシュ化の目標レイテンシ
+     * @param minimumStrength 下限強度
+     * @param maximumStrength 上限強度
+     * @return 強度調整済みのBCryptパスワードエンコーダー
+     * @throws IllegalArgumentException 強度が下限強度未満の場合
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${auth.password-hashing.strength:0}") int strength,
+            @Value("${auth.password-hashing.target-latency:250ms}") Duration targetLatency,
+            @Value("${auth.password-hashing.minimum-strength:10}") int minimumStrength,
+            @Value("${auth.password-hashing.maximum-strength:14}") int maximumStrength) {
+
+        if (strength > 0 && strength < minimumStrength) {
+            throw new IllegalArgumentException("auth.password-hashing.strength(" + strength
+                    + ")がminimum-strength(" + minimumStrength + ")未満です");
+        }
+
+        CalibratedBCryptPasswordEncoder encoder = strength > 0
+                ? new CalibratedBCryptPasswordEncoder(strength)
+                : CalibratedBCryptPasswordEncoder.calibrate(
+                        targetLatency, minimumStrength, maximumStrength);
+
+        Gauge.builder("auth.password.bcrypt.strength", encoder,
+                        CalibratedBCryptPasswordEncoder::getStrength)
+                .description("BCrypt強度（cost）")
+                .register(meterRegistry);
+
+        return encoder;
+    }
+}
@@ -0,0 +1,48 @@
+package com.organization.api.config;
+
+import com.organization.api.security.RequestPathClassifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * リクエストパス分類設定クラス.
+ *
+ * <p>パブリック・管理者専用のパスを一元的に定義します。
+ * {@link SecurityConfig}の認可判定、{@link com.organization.api.security.JwtAuthenticationFilter}
+ * のスキップ判定、{@link com.organization.api.security.RateLimitFilter}の制限対象の判定で
+ * 同じ分類器を使用します（分類はリクエストごとに1回のみ行い、結果をリクエスト属性に保持します）。
+ * SecurityConfigから分離することで、SecurityConfig → JwtAuthenticationFilter
+ * → RequestPathClassifierの循環依存を回避しています。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Configuration
+public class RequestPathConfig {
+
+    /**
+     * リクエストパス分類器.
+     *
+     * <p>ここに定義されていないパスはすべて認証必須です。
+     *
+     * @return リクエストパス分類器
+     */
+    @Bean
+    public RequestPathClassifier requestPathClassifier() {
+        return RequestPathClassifier.builder()
+                // パブリックエンドポイント（認証不要）
+                .permitAll(
+                        "/api/v1/auth/**",      // 認証API
+                        "/api/v1/public/**",    // 公開API
+                        "/actuator/health",     // ヘルスチェック
+                        "/actuator/info",       // アプリケーション情報
+                        "/.well-known/jwks.json", // JWT検証用の公開鍵
+                        "/h2-console/**",       // H2コンソール（開発環境のみ）
+                        "/error"                // エラーページ
+                )
+                // 管理者専用エンドポイント
+                .admin("/api/v1/admin/**")
+                .build();
+    }
+}
@@ -1,22 +1,41 @@
 package com.organization.api.config;
 
+import com.organization.api.entity.User;
+import com.organization.api.security.AdminOnly;
 import com.organization.api.security.JwtAuthenticationFilter;
+import com.organization.api.security.RateLimitFilter;
+import com.organization.api.security.RequestPathClassifier;
+import com.organization.api.security.RoleAuthorizationManager;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -34,10 +53,12 @@ import java.util.List;
  * <p>主な機能:
  * <ul>
  *   <li>JWT認証の実装（アクセストークン15分、リフレッシュトークン7日）</li>
- *   <li>BCryptパスワードエンコーディング</li>
+ *   <li>BCryptパスワードエンコーディング（{@link PasswordEncoderConfig}で定義）</li>
  *   <li>CORS設定</li>
  *   <li>CSRF保護（APIモードは無効化）</li>
  *   <li>ステートレスセッション管理</li>
+ *   <li>認証API・管理者APIのレート制限</li>
+ *   <li>管理者判定のロールビットマスクによる高速化（{@link AdminOnly}）</li>
  * </ul>
  * 
  * @author Organization Development Team
@@ -51,7 +72,11 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final RequestPathClassifier requestPathClassifier;
     private final UserDetailsService userDetailsService;
+    private final UserDetailsPasswordService userDetailsPasswordService;
+    private final PasswordEncoder passwordEncoder;
 
     /**
      * セキュリティフィルターチェーン設定.
@@ -74,21 +99,12 @@ public class SecurityConfig {
             
             // エンドポイント認証設定
             .authorizeHttpRequests(auth -> auth
-                // パブリックエンドポイント（認証不要）
-                .requestMatchers(
-                    "/api/v1/auth/**",      // 認証API
-                    "/api/v1/public/**",    // 公開API
-                    "/actuator/health",     // ヘルスチェック
-                    "/actuator/info",       // アプリケーション情報
-                    "/h2-console/**",       // H2コンソール（開発環境のみ）
-                    "/error"                // エラーページ
-                ).permitAll()
+                // 非同期レスポンスの再ディスパッチ（認可は元のリクエストで実施済み）
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 
-                // 管理者専用エンドポイント
-                .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
-                
-                // その他すべてのエンドポイントは認証必須
-                .anyRequest().authenticated()
+                // パブリック・認証必須・管理者専用をリクエストパス分類器で1回で判定
+                // （パスの定義は RequestPathConfig を参照）
+                .anyRequest().access(requestClassAuthorizationManager())
             )
             
             // セッション管理: ステートレス（JWTトークンベース認証）
@@ -103,11 +119,69 @@ public class SecurityConfig {
             .addFilterBefore(
                 jwtAuthenticationFilter, 
                 UsernamePasswordAuthenticationFilter.class
+            )
+            
+            // レート制限フィルターを追加（認証済みプリンシパルをキーにするためJWT認証フィルターの後に配置）
+            .addFilterAfter(
+                rateLimitFilter,
+                JwtAuthenticationFilter.class
             );
 
         return http.build();
     }
 
+    /**
+     * リクエストパスの分類に基づく認可マネージャー.
+     * 
+     * <p>パターンを1件ずつ評価する代わりに、{@link RequestPathClassifier}で
+     * リクエストを1回だけ分類して認可を判定します
+     * （JWT認証フィルターで分類済みの場合はリクエスト属性に保持した結果を使用します）。
+     * 
+     * @return 認可マネージャー
+     */
+    private AuthorizationManager<RequestAuthorizationContext> requestClassAuthorizationManager() {
+        AuthorizationDecision granted = new AuthorizationDecision(true);
+        AuthorizationManager<RequestAuthorizationContext> authenticated =
+                AuthenticatedAuthorizationManager.authenticated();
+        // ロールのビットマスクで判定（権限コレクションを走査しない）
+        AuthorizationManager<RequestAuthorizationContext> admin =
+                new RoleAuthorizationManager<>(User.Role.ROLE_ADMIN);
+
+        return (authentication, context) -> {
+            switch (requestPathClassifier.classify(context.getRequest())) {
+                case PUBLIC:
+                    return granted;
+                case ADMIN:
+                    return admin.check(authentication, context);
+                default:
+                    return authenticated.check(authentication, context);
+            }
+        };
+    }
+
+    /**
+     * {@link AdminOnly}メソッドの認可インターセプター.
+     * 
+     * <p>{@code @PreAuthorize}と同じ順序で実行し、SpELを評価せずに
+     * ロールのビットマスクで管理者かを判定します。
+     * メソッドセキュリティのインフラストラクチャBeanのため、staticメソッドで定義しています。
+     * 
+     * @return 認可インターセプター
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor adminOnlyAuthorizationAdvisor() {
+        // メソッドまたはクラスに付与されたアノテーションを対象にする
+        Pointcut pointcut = new ComposablePointcut(
+                new AnnotationMatchingPointcut(null, AdminOnly.class, true))
+                .union(new AnnotationMatchingPointcut(AdminOnly.class, true));
+        AuthorizationManagerBeforeMethodInterceptor interceptor =
+                new AuthorizationManagerBeforeMethodInterceptor(
+                        pointcut, new RoleAuthorizationManager<MethodInvocation>(User.Role.ROLE_ADMIN));
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder());
+        return interceptor;
+    }
+
     /**
      * CORS設定ソース.
      * 
@@ -149,6 +223,8 @@ public class SecurityConfig {
      * 
      * <p>UserDetailsServiceとPasswordEncoderを使用した
      * DAO認証プロバイダーを提供します。
+     * ログイン成功時、保存済みハッシュのBCrypt強度が現在の強度と異なる場合は
+     * UserDetailsPasswordServiceで再ハッシュ化したパスワードを保存します。
      * 
      * @return 設定された認証プロバイダー
      */
@@ -156,7 +232,8 @@ public class SecurityConfig {
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         return authProvider;
     }
 
@@ -175,18 +252,4 @@ public class SecurityConfig {
             AuthenticationConfiguration config) throws Exception {
         return config.getAuthenticationManager();
     }
-
-    /**
-     * パスワードエンコーダー設定.
-     * 
-     * <p>BCryptアルゴリズムを使用したパスワードハッシュ化を提供します。
-     * Organization Standards準拠: BCrypt強度10（デフォルト）
-     * 
-     * @return BCryptパスワードエンコーダー
-     */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        // BCrypt強度: 10（デフォルト、2^10 = 1024回のハッシュ化）
-        return new BCryptPasswordEncoder();
-    }
 }
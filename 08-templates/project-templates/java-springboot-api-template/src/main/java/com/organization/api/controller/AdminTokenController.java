@@ -0,0 +1,163 @@
+package com.organization.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.organization.api.dto.BulkTokenRequest;
+import com.organization.api.dto.IssuedTokenDto;
+import com.organization.api.entity.User;
+import com.organization.api.exception.ResourceNotFoundException;
+import com.organization.api.security.AdminOnly;
+import com.organization.api.security.JwtTokenProvider;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 管理者向けトークンコントローラー.
+ *
+ * <p>バッチジョブ等のサービスアカウント向けに、アクセストークンを一括発行する
+ * REST APIエンドポイントを提供します。
+ * 発行対象は{@link User.Role#ROLE_SERVICE}のユーザーに限り、管理者・一般ユーザーの
+ * トークンは発行できません。
+ *
+ * <p>一括発行のたびに、実行した管理者・発行対象・発行件数を監査ログ
+ * （ロガー名{@value #AUDIT_LOGGER}）に出力します。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@RestController
+@RequestMapping("/api/v1/admin/tokens")
+@RequiredArgsConstructor
+public class AdminTokenController {
+
+    /**
+     * NDJSON（改行区切りJSON）のメディアタイプ.
+     */
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    /**
+     * 監査ログのロガー名.
+     */
+    public static final String AUDIT_LOGGER = "com.organization.api.audit";
+
+    private static final Logger AUDIT_LOG = LoggerFactory.getLogger(AUDIT_LOGGER);
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserDetailsService userDetailsService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * アクセストークン一括発行.
+     *
+     * <p>POST /api/v1/admin/tokens/bulk
+     *
+     * <p>指定したユーザーのアクセストークンを{@code count}件発行し、
+     * 1件1行のNDJSON（{@link IssuedTokenDto}）としてストリーミングで返却します。
+     * トークンはサーバー側に保持しないため、発行件数によらずメモリ使用量は一定です。
+     *
+     * @param request 一括発行リクエスト
+     * @param authentication 実行した管理者の認証情報（監査ログ用）
+     * @return 発行したトークン（NDJSON）
+     * @throws ResourceNotFoundException ユーザーが存在しない、または無効な場合
+     * @throws AccessDeniedException ユーザーがサービスアカウントでない場合
+     */
+    @PostMapping(value = "/bulk", produces = APPLICATION_NDJSON_VALUE)
+    @AdminOnly  // 管理者のみアクセス可
+    public ResponseEntity<StreamingResponseBody> issueTokens(
+            @Valid @RequestBody BulkTokenRequest request,
+            Authentication authentication) {
+
+        UserDetails userDetails = loadActiveUser(request.getEmail());
+        if ((User.Role.maskOf(userDetails.getAuthorities()) & User.Role.ROLE_SERVICE.getMask()) == 0) {
+            AUDIT_LOG.warn("アクセストークン一括発行拒否（サービスアカウント以外）: admin={}, subject={}, count={}",
+                    authentication.getName(), request.getEmail(), request.getCount());
+            throw new AccessDeniedException("サービスアカウント以外のユーザーにはトークンを一括発行できません");
+        }
+
+        int count = request.getCount();
+        long maxExpiration = jwtTokenProvider.getAccessTokenExpiration();
+        long expiration = request.getExpiresIn() != null
+                ? Math.min(request.getExpiresIn(), maxExpiration / 1000L) * 1000L
+                : maxExpiration;
+
+        String admin = authentication.getName();
+        String subject = userDetails.getUsername();
+        AUDIT_LOG.info("アクセストークン一括発行開始: admin={}, subject={}, count={}, expiresIn={}s",
+                admin, subject, count, expiration / 1000);
+
+        StreamingResponseBody body = outputStream -> {
+            AtomicInteger issued = new AtomicInteger();
+            boolean completed = false;
+            // 1件ごとのflushは行わない（コンテナの出力バッファが満杯になるごとに送信）
+            try (SequenceWriter writer = objectMapper.writer()
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("\n")
+                    .writeValues(outputStream)) {
+                jwtTokenProvider.generateAccessTokens(userDetails, count, expiration,
+                        (tokenId, token, expiresAt) -> {
+                            try {
+                                writer.write(IssuedTokenDto.builder()
+                                        .tokenId(tokenId.toString())
+                                        .accessToken(token)
+                                        .expiresAt(expiresAt)
+                                        .build());
+                                issued.incrementAndGet();
+                            } catch (IOException ex) {
+                                throw new UncheckedIOException(ex);
+                            }
+                        });
+                writer.flush();
+                outputStream.write('\n');
+                completed = true;
+            } finally {
+                // 発行件数は実際にレスポンスへ書き出した件数（クライアント切断時は要求件数未満）
+                AUDIT_LOG.info("アクセストークン一括発行{}: admin={}, subject={}, count={}, issued={}",
+                        completed ? "完了" : "中断", admin, subject, count, issued.get());
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    /**
+     * 発行対象のユーザーを取得し、有効なユーザーかを確認.
+     *
+     * @param email メールアドレス
+     * @return ユーザー情報
+     * @throws ResourceNotFoundException ユーザーが存在しない、または無効な場合
+     */
+    private UserDetails loadActiveUser(String email) {
+        UserDetails userDetails;
+        try {
+            userDetails = userDetailsService.loadUserByUsername(email);
+        } catch (UsernameNotFoundException ex) {
+            throw new ResourceNotFoundException("User", "email", email);
+        }
+        if (!userDetails.isEnabled()) {
+            throw new ResourceNotFoundException("User", "email", email);
+        }
+        return userDetails;
+    }
+}
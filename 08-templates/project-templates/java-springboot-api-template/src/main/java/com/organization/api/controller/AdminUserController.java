@@ -0,0 +1,201 @@
+package com.organization.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.organization.api.dto.BulkUserRequest;
+import com.organization.api.dto.BulkUserResponse;
+import com.organization.api.dto.UserDto;
+import com.organization.api.repository.UserRepository;
+import com.organization.api.security.AdminOnly;
+import com.organization.api.security.UserPrincipal;
+import com.organization.api.service.UserBulkService;
+import com.organization.api.service.UserService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 管理者向けユーザーコントローラー.
+ *
+ * <p>レポート作成等のための全ユーザーの一括取得と、ユーザーの一括操作（無効化・有効化・ロール変更・削除）の
+ * REST APIエンドポイントを提供します。
+ * 個人情報をまとめて取得・変更できるため、実行のたびに実行した管理者・件数を
+ * 監査ログ（ロガー名{@value AdminTokenController#AUDIT_LOGGER}）に出力します。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@RestController
+@RequestMapping("/api/v1/admin/users")
+@RequiredArgsConstructor
+public class AdminUserController {
+
+    /**
+     * レスポンスをクライアントへ送信する間隔（件数）.
+     *
+     * <p>JDBCのフェッチサイズと揃え、1回のフェッチ分を書き出すごとに送信します。
+     */
+    private static final int FLUSH_INTERVAL = UserRepository.EXPORT_FETCH_SIZE;
+
+    private static final Logger AUDIT_LOG = LoggerFactory.getLogger(AdminTokenController.AUDIT_LOGGER);
+
+    private final UserService userService;
+    private final UserBulkService userBulkService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * ユーザーエクスポート.
+     *
+     * <p>GET /api/v1/admin/users/export
+     *
+     * <p>全ユーザーをID昇順で、1件1行のNDJSON（{@link UserDto}）としてストリーミングで返却します。
+     * データベースから取得した行は順次書き出し、一定件数ごとにクライアントへ送信するため、
+     * 件数によらずメモリ使用量は一定です。
+     *
+     * @param authentication 実行した管理者の認証情報（監査ログ用）
+     * @return 全ユーザー（NDJSON）
+     */
+    @GetMapping(value = "/export", produces = AdminTokenController.APPLICATION_NDJSON_VALUE)
+    @AdminOnly  // 管理者のみアクセス可
+    public ResponseEntity<StreamingResponseBody> exportUsers(Authentication authentication) {
+        String admin = authentication.getName();
+        AUDIT_LOG.info("ユーザーエクスポート開始: admin={}", admin);
+
+        StreamingResponseBody body = outputStream -> {
+            AtomicLong exported = new AtomicLong();
+            boolean completed = false;
+            // 1件ごとのflushは行わず、FLUSH_INTERVAL件ごとに送信する
+            try (SequenceWriter writer = objectMapper.writer()
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("\n")
+                    .writeValues(outputStream)) {
+                userService.exportUsers(userDto -> {
+                    try {
+                        writer.write(userDto);
+                        if (exported.incrementAndGet() % FLUSH_INTERVAL == 0) {
+                            writer.flush();
+                        }
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                writer.flush();
+                outputStream.write('\n');
+                completed = true;
+            } finally {
+                // 出力件数は実際にレスポンスへ書き出した件数（クライアント切断時は全件未満）
+                AUDIT_LOG.info("ユーザーエクスポート{}: admin={}, exported={}",
+                        completed ? "完了" : "中断", admin, exported.get());
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(AdminTokenController.APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    /**
+     * ユーザー一括無効化.
+     *
+     * <p>POST /api/v1/admin/users/bulk/disable
+     *
+     * <p>対象ユーザーを1つのUPDATE文で無効化し、発行済みトークンを失効させます。
+     *
+     * @param request 対象の指定（{@code ids}または{@code filter}）
+     * @param authentication 実行した管理者の認証情報（監査ログ用、自身は対象から除外）
+     * @return 無効化した件数
+     */
+    @PostMapping("/bulk/disable")
+    @AdminOnly  // 管理者のみアクセス可
+    public ResponseEntity<BulkUserResponse> disableUsers(
+            @Valid @RequestBody BulkUserRequest request, Authentication authentication) {
+        BulkUserResponse response = userBulkService.setEnabled(request, false, adminId(authentication));
+        AUDIT_LOG.info("ユーザー一括無効化: admin={}, affected={}", authentication.getName(), response.getAffected());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * ユーザー一括有効化.
+     *
+     * <p>POST /api/v1/admin/users/bulk/enable
+     *
+     * @param request 対象の指定（{@code ids}または{@code filter}）
+     * @param authentication 実行した管理者の認証情報（監査ログ用）
+     * @return 有効化した件数
+     */
+    @PostMapping("/bulk/enable")
+    @AdminOnly  // 管理者のみアクセス可
+    public ResponseEntity<BulkUserResponse> enableUsers(
+            @Valid @RequestBody BulkUserRequest request, Authentication authentication) {
+        BulkUserResponse response = userBulkService.setEnabled(request, true, adminId(authentication));
+        AUDIT_LOG.info("ユーザー一括有効化: admin={}, affected={}", authentication.getName(), response.getAffected());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * ユーザー一括ロール変更.
+     *
+     * <p>POST /api/v1/admin/users/bulk/role
+     *
+     * <p>アクセストークンはロールを含むため、ロールを変更したユーザーの発行済みトークンは失効させます。
+     *
+     * @param request 対象の指定（{@code ids}または{@code filter}）と変更後のロール（{@code role}）
+     * @param authentication 実行した管理者の認証情報（監査ログ用、自身は対象から除外）
+     * @return ロールを変更した件数
+     */
+    @PostMapping("/bulk/role")
+    @AdminOnly  // 管理者のみアクセス可
+    public ResponseEntity<BulkUserResponse> changeRole(
+            @Valid @RequestBody BulkUserRequest request, Authentication authentication) {
+        BulkUserResponse response = userBulkService.changeRole(request, adminId(authentication));
+        AUDIT_LOG.info("ユーザー一括ロール変更: admin={}, role={}, affected={}",
+                authentication.getName(), request.getRole(), response.getAffected());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * ユーザー一括削除.
+     *
+     * <p>POST /api/v1/admin/users/bulk/delete
+     *
+     * <p>リクエストボディで対象を指定するため、DELETEではなくPOSTで受け付けます。
+     *
+     * @param request 対象の指定（{@code ids}または{@code filter}）
+     * @param authentication 実行した管理者の認証情報（監査ログ用、自身は対象から除外）
+     * @return 削除した件数
+     */
+    @PostMapping("/bulk/delete")
+    @AdminOnly  // 管理者のみアクセス可
+    public ResponseEntity<BulkUserResponse> deleteUsers(
+            @Valid @RequestBody BulkUserRequest request, Authentication authentication) {
+        BulkUserResponse response = userBulkService.deleteUsers(request, adminId(authentication));
+        AUDIT_LOG.info("ユーザー一括削除: admin={}, affected={}", authentication.getName(), response.getAffected());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 実行した管理者のユーザーIDを取得.
+     *
+     * @param authentication 実行した管理者の認証情報
+     * @return ユーザーID（プリンシパルがユーザー情報でない場合はnull）
+     */
+    private static Long adminId(Authentication authentication) {
+        return authentication.getPrincipal() instanceof UserPrincipal principal ? principal.getId() : null;
+    }
+}
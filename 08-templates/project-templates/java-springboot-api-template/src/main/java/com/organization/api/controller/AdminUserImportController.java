@@ -0,0 +1,124 @@
+package com.organization.api.controller;
+
+import com.organization.api.dto.PageResponse;
+import com.organization.api.dto.UserImportErrorDto;
+import com.organization.api.dto.UserImportJobDto;
+import com.organization.api.security.AdminOnly;
+import com.organization.api.service.UserImportService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.net.URI;
+
+/**
+ * 管理者向けユーザーCSVインポートコントローラー.
+ *
+ * <p>CSVによるユーザーの一括登録ジョブを登録・参照するREST APIエンドポイントを提供します。
+ * ジョブの登録・再開のたびに、実行した管理者を
+ * 監査ログ（ロガー名{@value AdminTokenController#AUDIT_LOGGER}）に出力します。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@RestController
+@RequestMapping("/api/v1/admin/user-imports")
+@RequiredArgsConstructor
+public class AdminUserImportController {
+
+    /**
+     * CSVのメディアタイプ.
+     */
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final Logger AUDIT_LOG = LoggerFactory.getLogger(AdminTokenController.AUDIT_LOGGER);
+
+    private final UserImportService userImportService;
+
+    /**
+     * インポートジョブ登録.
+     *
+     * <p>POST /api/v1/admin/user-imports
+     *
+     * <p>リクエストボディはUTF-8のCSV（1行目はヘッダー: {@code email,name,password[,role]}）です。
+     * CSVを保存してジョブを登録し、202 Acceptedとジョブの状態を返却します。
+     * データ行はバックグラウンドで処理するため、進捗は{@code Location}のジョブ状態APIで確認してください。
+     *
+     * @param body リクエストボディ（CSV）
+     * @param authentication 実行した管理者の認証情報（監査ログ用）
+     * @return 登録したジョブ
+     */
+    @PostMapping(consumes = TEXT_CSV_VALUE)
+    @AdminOnly  // 管理者のみアクセス可
+    public ResponseEntity<UserImportJobDto> submit(InputStream body, Authentication authentication) {
+        String admin = authentication.getName();
+        UserImportJobDto job = userImportService.submit(body, admin);
+        AUDIT_LOG.info("ユーザーCSVインポート登録: admin={}, job={}", admin, job.getId());
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/admin/user-imports/" + job.getId()))
+                .body(job);
+    }
+
+    /**
+     * インポートジョブ状態取得.
+     *
+     * <p>GET /api/v1/admin/user-imports/{id}
+     *
+     * @param id ジョブID
+     * @return ジョブの状態・進捗（処理済み行数、登録数、エラー行数）
+     */
+    @GetMapping("/{id}")
+    @AdminOnly  // 管理者のみアクセス可
+    public ResponseEntity<UserImportJobDto> getJob(@PathVariable Long id) {
+        return ResponseEntity.ok(userImportService.getJob(id));
+    }
+
+    /**
+     * インポートジョブの行エラー取得.
+     *
+     * <p>GET /api/v1/admin/user-imports/{id}/errors?page=0&amp;size=20
+     *
+     * @param id ジョブID
+     * @param page ページ番号（0始まり）
+     * @param size ページサイズ（最大100）
+     * @return 行エラー（CSVのデータ行番号順、ヘッダー行を除き1始まり）
+     */
+    @GetMapping("/{id}/errors")
+    @AdminOnly  // 管理者のみアクセス可
+    public ResponseEntity<PageResponse<UserImportErrorDto>> getErrors(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = UserController.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseEntity.ok(userImportService.getErrors(id, page, size));
+    }
+
+    /**
+     * インポートジョブ再開.
+     *
+     * <p>POST /api/v1/admin/user-imports/{id}/resume
+     *
+     * <p>失敗したジョブをチェックポイント（処理済み行数）の次の行から再開します。
+     *
+     * @param id ジョブID
+     * @param authentication 実行した管理者の認証情報（監査ログ用）
+     * @return 再開したジョブ
+     */
+    @PostMapping("/{id}/resume")
+    @AdminOnly  // 管理者のみアクセス可
+    public ResponseEntity<UserImportJobDto> resume(@PathVariable Long id, Authentication authentication) {
+        UserImportJobDto job = userImportService.resume(id);
+        AUDIT_LOG.info("ユーザーCSVインポート再開: admin={}, job={}", authentication.getName(), id);
+        return ResponseEntity.accepted().body(job);
+    }
+}
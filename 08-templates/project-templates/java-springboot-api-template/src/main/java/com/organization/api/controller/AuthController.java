@@ -0,0 +1,220 @@
+package com.organization.api.controller;
+
+import com.organization.api.dto.LoginRequest;
+import com.organization.api.dto.RefreshTokenRequest;
+import com.organization.api.dto.TokenResponse;
+import com.organization.api.security.JwtTokenProvider;
+import com.organization.api.security.RefreshTokenStore;
+import com.organization.api.security.TokenRevocationStore;
+import com.organization.api.security.UserPrincipal;
+import com.organization.api.security.VerifiedToken;
+import io.jsonwebtoken.JwtException;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * 認証コントローラー.
+ *
+ * <p>トークンの発行・失効に関するREST APIエンドポイントを提供します。
+ * {@code /api/v1/auth/**}は認証不要のパブリックエンドポイントのため、
+ * トークンはこのコントローラー内で検証します。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@RestController
+@RequestMapping("/api/v1/auth")
+@RequiredArgsConstructor
+@Slf4j
+public class AuthController {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AuthenticationManager authenticationManager;
+    private final UserDetailsService userDetailsService;
+
+    /**
+     * ログイン（アクセストークン・リフレッシュトークンの発行）.
+     *
+     * <p>POST /api/v1/auth/login
+     *
+     * <p>保存済みパスワードハッシュのBCrypt強度が現在の強度と異なる場合、
+     * 認証成功時に再ハッシュ化して保存します。
+     *
+     * @param request ログインリクエスト
+     * @return トークンレスポンス
+     * @throws org.springframework.security.core.AuthenticationException 認証に失敗した場合
+     */
+    @PostMapping("/login")
+    public ResponseEntity<TokenResponse> login(@Valid @RequestBody LoginRequest request) {
+        log.info("ログインリクエスト: email={}", request.getEmail());
+
+        Authentication authentication = authenticationManager.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated(
+                        request.getEmail(), request.getPassword()));
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+
+        return ResponseEntity.ok(TokenResponse.builder()
+                .accessToken(jwtTokenProvider.generateAccessToken(userDetails))
+                .refreshToken(jwtTokenProvider.generateRefreshToken(userDetails))
+                .expiresIn(jwtTokenProvider.getAccessTokenExpiration() / 1000)
+                .build());
+    }
+
+    /**
+     * アクセストークンの再発行（リフレッシュトークンのローテーション）.
+     *
+     * <p>POST /api/v1/auth/refresh
+     *
+     * <p>リフレッシュトークンは1回のみ使用でき、使用時に同じファミリーの
+     * 新しいリフレッシュトークンを発行します。使用済みのリフレッシュトークンが
+     * 再度提示された場合は漏洩とみなし、ファミリー全体を失効させます。
+     * ユーザーが無効化・削除された場合やセキュリティバージョンが古い場合もファミリーを失効させます。
+     *
+     * @param request トークン再発行リクエスト
+     * @return トークンレスポンス
+     * @throws BadCredentialsException リフレッシュトークンが不正、使用済み、失効済み、
+     *         またはユーザーが無効な場合
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(
+            @Valid @RequestBody RefreshTokenRequest request) {
+
+        VerifiedToken token = verifyToken(request.getRefreshToken());
+        UUID tokenId = token.getTokenUuid();
+        UUID familyId = token.getFamilyId();
+        if (!token.isRefreshToken() || tokenId == null || familyId == null) {
+            throw new BadCredentialsException("リフレッシュトークンではありません");
+        }
+
+        log.info("トークン再発行リクエスト: subject={}", token.getSubject());
+        UserDetails userDetails;
+        try {
+            userDetails = loadActiveUser(token);
+        } catch (BadCredentialsException ex) {
+            refreshTokenStore.revokeFamily(familyId);
+            throw ex;
+        }
+
+        switch (refreshTokenStore.rotate(tokenId, familyId)) {
+            case ROTATED:
+                break;
+            case REUSED:
+                throw new BadCredentialsException("使用済みのリフレッシュトークンです");
+            case REVOKED:
+                throw new BadCredentialsException("失効済みのリフレッシュトークンです");
+            default:
+                throw new BadCredentialsException("未登録のリフレッシュトークンです");
+        }
+
+        return ResponseEntity.ok(TokenResponse.builder()
+                .accessToken(jwtTokenProvider.generateAccessToken(userDetails))
+                .refreshToken(jwtTokenProvider.generateRefreshToken(userDetails, familyId))
+                .expiresIn(jwtTokenProvider.getAccessTokenExpiration() / 1000)
+                .build());
+    }
+
+    /**
+     * ログアウト（アクセストークンの失効）.
+     *
+     * <p>POST /api/v1/auth/logout
+     *
+     * <p>Authorizationヘッダーのアクセストークンを有効期限まで失効させます。
+     * リクエストボディにリフレッシュトークンが指定された場合は、そのファミリーも失効させます。
+     *
+     * @param authorization Authorizationヘッダー（Bearer形式）
+     * @param request リフレッシュトークン（任意）
+     * @return 失効成功レスポンス
+     * @throws BadCredentialsException トークンが存在しない、または不正な場合
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false)
+            String authorization,
+            @RequestBody(required = false) RefreshTokenRequest request) {
+
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new BadCredentialsException("Bearerトークンが指定されていません");
+        }
+
+        VerifiedToken token = verifyToken(authorization.substring(BEARER_PREFIX.length()));
+        if (token.getId() == null) {
+            throw new BadCredentialsException("トークンIDがありません");
+        }
+
+        log.info("ログアウトリクエスト: subject={}", token.getSubject());
+        tokenRevocationStore.revoke(token.getId(), token.getExpiration());
+
+        if (request != null && request.getRefreshToken() != null) {
+            VerifiedToken refreshToken = verifyToken(request.getRefreshToken());
+            if (refreshToken.isRefreshToken() && refreshToken.getFamilyId() != null
+                    && refreshToken.getSubject().equals(token.getSubject())) {
+                refreshTokenStore.revokeFamily(refreshToken.getFamilyId());
+            }
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * トークンを検証.
+     *
+     * @param token JWTトークン
+     * @return 検証済みトークン
+     * @throws BadCredentialsException トークンが不正な場合
+     */
+    private VerifiedToken verifyToken(String token) {
+        try {
+            return jwtTokenProvider.verify(token);
+        } catch (JwtException | IllegalArgumentException ex) {
+            throw new BadCredentialsException("トークンが不正です", ex);
+        }
+    }
+
+    /**
+     * トークンのユーザーを取得し、有効なユーザーかを確認.
+     *
+     * @param token 検証済みトークン
+     * @return ユーザー情報
+     * @throws BadCredentialsException ユーザーが存在しない、無効、またはトークンが古い場合
+     */
+    private UserDetails loadActiveUser(VerifiedToken token) {
+        UserDetails userDetails;
+        try {
+            userDetails = userDetailsService.loadUserByUsername(token.getSubject());
+        } catch (UsernameNotFoundException ex) {
+            throw new BadCredentialsException("トークンのユーザーが存在しません", ex);
+        }
+
+        if (!userDetails.isEnabled()) {
+            throw new BadCredentialsException("無効化されたユーザーです");
+        }
+        if (userDetails instanceof UserPrincipal principal
+                && principal.getSecurityVersion() != null
+                && token.getSecurityVersion() != null
+                && token.getSecurityVersion() < principal.getSecurityVersion()) {
+            throw new BadCredentialsException("セキュリティバージョンが古いトークンです");
+        }
+        return userDetails;
+    }
+}
@@ -0,0 +1,62 @@
+package com.organization.api.controller;
+
+import com.organization.api.security.JwtKeyRing;
+import io.jsonwebtoken.security.Jwks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWKS（JSON Web Key Set）コントローラー.
+ *
+ * <p>ES256/EdDSAの検証キー（公開鍵）をJWK Set形式で公開し、他のサービスが
+ * 署名秘密鍵を共有せずにトークンを検証できるようにします。
+ * HS256の共有秘密鍵は公開しません。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtKeyRing keyRing;
+
+    /**
+     * 検証キー一覧取得.
+     *
+     * <p>GET /.well-known/jwks.json
+     *
+     * <p>ローテーション中の旧キーも含みます。検証側はトークンヘッダーの{@code kid}で
+     * キーを選択してください。
+     *
+     * @return JWK Set（{@code {"keys": [...]}}）
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        List<Map<String, ?>> keys = new ArrayList<>();
+        keyRing.current().getVerificationKeys().forEach((keyId, key) -> {
+            if (key.algorithm().isAsymmetric() && key.key() instanceof PublicKey publicKey) {
+                keys.add(Jwks.builder()
+                        .key(publicKey)
+                        .id(keyId)
+                        .algorithm(key.algorithm().getHeaderValue())
+                        .publicKeyUse("sig")
+                        .build());
+            }
+        });
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+                .body(Map.of("keys", keys));
+    }
+}
@@ -0,0 +1,65 @@
+package com.organization.api.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.organization.api.dto.CreateUserRequest;
+import com.organization.api.dto.UserBatchResponse;
+import com.organization.api.exception.InvalidRequestException;
+import com.organization.api.security.AdminOnly;
+import com.organization.api.service.UserBatchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * ユーザー一括作成コントローラー.
+ *
+ * <p>{@code /api/v1/users:batch}（カスタムメソッド形式のURL）は
+ * {@link UserController}のパス配下（{@code /api/v1/users/...}）に置けないため、
+ * 別のコントローラーで定義しています。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class UserBatchController {
+
+    private final UserBatchService userBatchService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * ユーザー一括作成.
+     *
+     * <p>POST /api/v1/users:batch
+     *
+     * <p>リクエストボディは{@link CreateUserRequest}のJSON配列です。
+     * 配列全体をメモリに読み込まず、1件ずつ読み込みながらチャンク単位で作成します。
+     * 検証エラーがあった場合は400、メールアドレスの重複があった場合は409を返却します
+     * （エラーメッセージに作成済み件数を含む。それまでのチャンクはコミット済み）。
+     *
+     * @param body リクエストボディ（JSON配列）
+     * @return 一括作成結果
+     * @throws IOException リクエストボディの読み込みに失敗した場合
+     */
+    @PostMapping(value = "/api/v1/users:batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @AdminOnly  // 管理者のみアクセス可
+    public ResponseEntity<UserBatchResponse> createUsers(InputStream body) throws IOException {
+        log.info("ユーザー一括作成リクエスト");
+        try (MappingIterator<CreateUserRequest> requests =
+                     objectMapper.readerFor(CreateUserRequest.class).readValues(body)) {
+            return ResponseEntity.ok(userBatchService.createUsers(requests));
+        } catch (JsonProcessingException ex) {
+            throw new InvalidRequestException("リクエストボディはユーザー作成リクエストのJSON配列を指定してください");
+        }
+    }
+}
@@ -1,24 +1,37 @@
 package com.organization.api.controller;
 
+import com.organization.api.dto.CursorPageResponse;
+import com.organization.api.dto.PageResponse;
+import com.organization.api.dto.PatchUserRequest;
 import com.organization.api.dto.UserDto;
+import com.organization.api.entity.User;
+import com.organization.api.exception.InvalidRequestException;
+import com.organization.api.exception.PreconditionRequiredException;
+import com.organization.api.security.AdminOnly;
+import com.organization.api.security.UserPrincipal;
 import com.organization.api.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * ユーザーコントローラー.
@@ -42,21 +55,52 @@ import java.util.List;
 @Slf4j
 public class UserController {
 
+    /** 一覧取得のページサイズ既定値. */
+    static final String DEFAULT_PAGE_SIZE = "20";
+
     private final UserService userService;
 
     /**
-     * 全ユーザー取得.
+     * ユーザー一覧取得（ページ番号方式）.
+     * 
+     * <p>GET /api/v1/users?page=0&amp;size=20
      * 
-     * <p>GET /api/v1/users
+     * <p>{@code (created_at, id)}の昇順で返却します。
+     * ページサイズはサーバー側の上限（{@code api.pagination.max-page-size}）に切り詰めます。
      * 
-     * @return ユーザーリスト
+     * @param page ページ番号（0始まり）
+     * @param size ページサイズ
+     * @return ユーザーのページ
      */
     @GetMapping
-    @PreAuthorize("hasRole('ADMIN')")  // 管理者のみアクセス可
-    public ResponseEntity<List<UserDto>> getAllUsers() {
-        log.info("全ユーザー取得リクエスト");
-        List<UserDto> users = userService.findAllUsers();
-        return ResponseEntity.ok(users);
+    @AdminOnly  // 管理者のみアクセス可
+    public ResponseEntity<PageResponse<UserDto>> getUsers(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        log.info("ユーザー一覧取得リクエスト: page={}, size={}", page, size);
+        return ResponseEntity.ok(userService.findUsers(page, size));
+    }
+
+    /**
+     * ユーザー一覧取得（カーソル方式）.
+     * 
+     * <p>GET /api/v1/users?cursor=&amp;size=20
+     * 
+     * <p>{@code cursor}パラメーターを指定した場合はキーセットページングで返却します
+     * （総件数は返却しない）。先頭ページは{@code cursor}を空で指定し、
+     * 以降はレスポンスの{@code nextCursor}を指定してください。
+     * 
+     * @param cursor 前ページの{@code nextCursor}（先頭ページは空）
+     * @param size ページサイズ
+     * @return ユーザーのページ
+     */
+    @GetMapping(params = "cursor")
+    @AdminOnly  // 管理者のみアクセス可
+    public ResponseEntity<CursorPageResponse<UserDto>> getUsersByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        log.info("ユーザー一覧取得リクエスト（カーソル）: size={}", size);
+        return ResponseEntity.ok(userService.findUsersByCursor(cursor, size));
     }
 
     /**
@@ -71,7 +115,8 @@ public class UserController {
     public ResponseEntity<UserDto> getUserById(@PathVariable Long id) {
         log.info("ユーザー取得リクエスト: id={}", id);
         UserDto user = userService.findUserById(id);
-        return ResponseEntity.ok(user);
+        // 部分更新（PATCH）のIf-Matchに指定するバージョン
+        return ResponseEntity.ok().eTag(String.valueOf(user.getVersion())).body(user);
     }
 
     /**
@@ -79,12 +124,16 @@ public class UserController {
      * 
      * <p>POST /api/v1/users
      * 
+     * <p>パスワードのハッシュ化は専用スレッドプールで実行され、
+     * 完了までリクエストスレッドを占有しません（非同期レスポンス）。
+     * ハッシュ化の待機キューが上限に達している場合は503を返却します。
+     * 
      * @param request ユーザー作成リクエスト
      * @return 作成されたユーザー情報
      */
     @PostMapping
-    @PreAuthorize("hasRole('ADMIN')")  // 管理者のみアクセス可
-    public ResponseEntity<UserDto> createUser(
+    @AdminOnly  // 管理者のみアクセス可
+    public CompletableFuture<ResponseEntity<UserDto>> createUser(
             @Valid @RequestBody CreateUserRequest request) {
         
         log.info("ユーザー作成リクエスト: email={}", request.getEmail());
@@ -95,12 +144,12 @@ public class UserController {
                 .role(request.getRole())
                 .build();
         
-        UserDto createdUser = userService.createUser(userDto, request.getPassword());
-        
-        // 作成されたリソースのURIを返却
-        URI location = URI.create("/api/v1/users/" + createdUser.getId());
-        
-        return ResponseEntity.created(location).body(createdUser);
+        return userService.createUser(userDto, request.getPassword())
+                .thenApply(createdUser -> {
+                    // 作成されたリソースのURIを返却
+                    URI location = URI.create("/api/v1/users/" + createdUser.getId());
+                    return ResponseEntity.created(location).body(createdUser);
+                });
     }
 
     /**
@@ -122,6 +171,42 @@ public class UserController {
         return ResponseEntity.ok(updatedUser);
     }
 
+    /**
+     * ユーザー部分更新.
+     * 
+     * <p>PATCH /api/v1/users/{id}
+     * 
+     * <p>指定した項目のみを、バージョンが一致する場合に限り1つのUPDATE文で更新します。
+     * {@code If-Match}ヘッダーには取得時の{@code ETag}（バージョン）を指定してください。
+     * 未指定の場合は428、他の更新と競合した場合は409を返却します。
+     * 成功時は204と更新後のバージョンの{@code ETag}を返却します。
+     * 
+     * <p>管理者以外は自分自身のユーザー名のみ更新できます
+     * （他のユーザーの更新・有効/無効状態の変更は403）。
+     * 
+     * @param id ユーザーID
+     * @param ifMatch 更新前のバージョン（{@code If-Match}ヘッダー）
+     * @param request 部分更新リクエスト
+     * @param authentication 実行したユーザーの認証情報
+     * @return 更新後のバージョン（{@code ETag}ヘッダー）
+     * @throws AccessDeniedException 管理者以外が他のユーザー・有効/無効状態を更新しようとした場合
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchUser(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody PatchUserRequest request,
+            Authentication authentication) {
+
+        log.info("ユーザー部分更新リクエスト: id={}", id);
+        if (!(authentication.getPrincipal() instanceof UserPrincipal principal
+                && principal.hasRole(User.Role.ROLE_ADMIN))) {
+            checkSelfUpdate(id, request, authentication);
+        }
+        long version = userService.patchUser(id, parseVersion(ifMatch), request);
+        return ResponseEntity.noContent().eTag(String.valueOf(version)).build();
+    }
+
     /**
      * ユーザー削除.
      * 
@@ -131,13 +216,53 @@ public class UserController {
      * @return 削除成功レスポンス
      */
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN')")  // 管理者のみアクセス可
+    @AdminOnly  // 管理者のみアクセス可
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
         log.info("ユーザー削除リクエスト: id={}", id);
         userService.deleteUser(id);
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 管理者以外の部分更新が自分自身のユーザー名のみであることを確認.
+     * 
+     * @param id 更新対象のユーザーID
+     * @param request 部分更新リクエスト
+     * @param authentication 実行したユーザーの認証情報
+     * @throws AccessDeniedException 他のユーザーの更新、または有効/無効状態の変更の場合
+     */
+    private static void checkSelfUpdate(Long id, PatchUserRequest request, Authentication authentication) {
+        if (!(authentication.getPrincipal() instanceof UserPrincipal principal) || !id.equals(principal.getId())) {
+            throw new AccessDeniedException("他のユーザーの情報は更新できません");
+        }
+        if (request.getEnabled() != null) {
+            throw new AccessDeniedException("有効/無効状態は管理者のみ変更できます");
+        }
+    }
+
+    /**
+     * {@code If-Match}ヘッダーからバージョンを取得.
+     * 
+     * @param ifMatch {@code If-Match}ヘッダー（例: {@code "3"}）
+     * @return バージョン
+     * @throws PreconditionRequiredException ヘッダーがない場合
+     * @throws InvalidRequestException 強いエンティティタグ1つ以外が指定された場合
+     */
+    private static long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw new PreconditionRequiredException("If-Matchヘッダーにユーザー取得時のETagを指定してください");
+        }
+        String tag = ifMatch.strip();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException ex) {
+                // 下で不正として扱う
+            }
+        }
+        throw new InvalidRequestException("If-Matchヘッダーが不正です: " + tag);
+    }
+
     /**
      * ユーザー作成リクエストDTO.
      */
@@ -0,0 +1,60 @@
+package com.organization.api.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * アクセストークン一括発行リクエストDTO.
+ * 
+ * <p>このクラスは、管理者向けトークン一括発行APIのリクエストボディを表現します。</p>
+ * 
+ * <p><strong>リクエスト例:</strong></p>
+ * <pre>{@code
+ * {
+ *   "email": "batch-job@example.com",
+ *   "count": 1000,
+ *   "expiresIn": 300
+ * }
+ * }</pre>
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTokenRequest {
+
+    /**
+     * 発行対象のユーザー（サービスアカウント）のメールアドレス.
+     */
+    @NotBlank(message = "メールアドレスは必須項目です")
+    @Size(max = 255, message = "メールアドレスは255文字以内で入力してください")
+    private String email;
+
+    /**
+     * 発行件数.
+     */
+    @NotNull(message = "発行件数は必須項目です")
+    @Min(value = 1, message = "発行件数は1以上を指定してください")
+    @Max(value = 10000, message = "発行件数は10000以下を指定してください")
+    private Integer count;
+
+    /**
+     * 有効期間（秒、省略時はアクセストークンの有効期間）.
+     * 
+     * <p>アクセストークンの有効期間を超える値は、アクセストークンの有効期間に切り詰めます。
+     */
+    @Min(value = 1, message = "有効期間は1秒以上を指定してください")
+    private Long expiresIn;
+
+}
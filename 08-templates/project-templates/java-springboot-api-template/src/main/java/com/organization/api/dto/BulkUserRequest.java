@@ -0,0 +1,77 @@
+package com.organization.api.dto;
+
+import com.organization.api.entity.User;
+import com.organization.api.repository.UserRepository;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ユーザー一括操作リクエストDTO.
+ * 
+ * <p>このクラスは、管理者向けユーザー一括操作API（無効化・有効化・ロール変更・削除）の
+ * リクエストボディを表現します。対象は{@code ids}（ID指定）または{@code filter}（条件指定）の
+ * いずれか一方で指定します。</p>
+ * 
+ * <p><strong>リクエスト例:</strong></p>
+ * <pre>{@code
+ * {"ids": [101, 102, 103]}
+ * {"filter": {"role": "ROLE_SERVICE", "enabled": true}}
+ * {"filter": {"role": "ROLE_USER"}, "role": "ROLE_SERVICE"}
+ * }</pre>
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserRequest {
+
+    /**
+     * 対象のユーザーID.
+     */
+    @Size(min = 1, max = UserRepository.MAX_BULK_IDS,
+            message = "ユーザーIDは1〜" + UserRepository.MAX_BULK_IDS + "件で指定してください")
+    private List<Long> ids;
+
+    /**
+     * 対象の条件.
+     */
+    @Valid
+    private Filter filter;
+
+    /**
+     * 変更後のロール（ロール変更時のみ）.
+     */
+    private User.Role role;
+
+    /**
+     * 一括操作の対象条件.
+     * 
+     * <p>指定した項目のすべてに一致するユーザーが対象です（1項目以上必須）。
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Filter {
+
+        /**
+         * ロール.
+         */
+        private User.Role role;
+
+        /**
+         * 有効/無効状態.
+         */
+        private Boolean enabled;
+    }
+}
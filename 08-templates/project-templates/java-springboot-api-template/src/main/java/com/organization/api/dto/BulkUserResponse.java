@@ -0,0 +1,33 @@
+package com.organization.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ユーザー一括操作レスポンスDTO.
+ * 
+ * <p>このクラスは、管理者向けユーザー一括操作APIのレスポンスを表現します。</p>
+ * 
+ * <p><strong>レスポンス例:</strong></p>
+ * <pre>{@code
+ * {"affected":5000}
+ * }</pre>
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserResponse {
+
+    /**
+     * 変更・削除した件数（既に指定の状態だったユーザー、存在しないIDは含まない）.
+     */
+    private int affected;
+
+}
@@ -1,5 +1,6 @@
 package com.organization.api.dto;
 
+import com.organization.api.entity.User;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -37,7 +38,7 @@ public class CreateUserRequest {
      */
     @NotBlank(message = "メールアドレスは必須項目です")
     @Email(message = "メールアドレスの形式が不正です")
-    @Size(max = 255, message = "メールアドレスは255文字以内で入力してください")
+    @Size(max = 100, message = "メールアドレスは100文字以内で入力してください")
     private String email;
 
     /**
@@ -47,4 +48,9 @@ public class CreateUserRequest {
     @Size(min = 8, max = 100, message = "パスワードは8〜100文字で入力してください")
     private String password;
 
+    /**
+     * ロール（省略時は{@link User.Role#ROLE_USER}）.
+     */
+    private User.Role role;
+
 }
@@ -0,0 +1,52 @@
+package com.organization.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * カーソル方式（キーセットページング）のページングレスポンスDTO.
+ * 
+ * <p>一覧APIの{@code cursor}指定時のレスポンスを表現します。
+ * 総件数は返却しません（{@code COUNT(*)}を実行しない）。
+ * 次のページは{@code nextCursor}をそのまま{@code cursor}パラメーターに指定して取得します。
+ * 
+ * <p><strong>レスポンス例:</strong>
+ * <pre>{@code
+ * {"content":[...],"size":20,"nextCursor":"AAAAAGWSAAAAAAAAAAAAAAAAAAAAFA","hasNext":true}
+ * }</pre>
+ * 
+ * @param <T> 要素の型
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    /**
+     * ページの要素.
+     */
+    private List<T> content;
+
+    /**
+     * ページサイズ（サーバー側の上限適用後）.
+     */
+    private int size;
+
+    /**
+     * 次のページのカーソル（最終ページの場合はnull）.
+     */
+    private String nextCursor;
+
+    /**
+     * 次のページが存在する場合true.
+     */
+    private boolean hasNext;
+}
@@ -0,0 +1,45 @@
+package com.organization.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 発行済みアクセストークンDTO.
+ * 
+ * <p>このクラスは、トークン一括発行APIのレスポンス（NDJSONの1行）を表現します。</p>
+ * 
+ * <p><strong>レスポンス例:</strong></p>
+ * <pre>{@code
+ * {"tokenId":"9f1c...","accessToken":"eyJhbGciOiJIUzI1NiIs...","expiresAt":"2024-01-01T00:05:00Z"}
+ * }</pre>
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssuedTokenDto {
+
+    /**
+     * トークンID（jti、失効時に使用）.
+     */
+    private String tokenId;
+
+    /**
+     * アクセストークン.
+     */
+    private String accessToken;
+
+    /**
+     * 有効期限.
+     */
+    private Instant expiresAt;
+
+}
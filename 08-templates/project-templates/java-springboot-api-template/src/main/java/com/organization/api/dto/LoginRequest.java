@@ -0,0 +1,41 @@
+package com.organization.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * ログインリクエストDTO.
+ * 
+ * <p>このクラスは、ログインAPIのリクエストボディを表現します。</p>
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginRequest {
+
+    /**
+     * メールアドレス.
+     */
+    @NotBlank(message = "メールアドレスは必須項目です")
+    @Size(max = 255, message = "メールアドレスは255文字以内で入力してください")
+    private String email;
+
+    /**
+     * パスワード.
+     */
+    @NotBlank(message = "パスワードは必須項目です")
+    @Size(max = 100, message = "パスワードは100文字以内で入力してください")
+    @ToString.Exclude
+    private String password;
+
+}
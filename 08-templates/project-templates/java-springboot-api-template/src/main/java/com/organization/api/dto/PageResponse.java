@@ -0,0 +1,57 @@
+package com.organization.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ページ番号方式のページングレスポンスDTO.
+ * 
+ * <p>一覧APIの{@code page}/{@code size}指定時のレスポンスを表現します。
+ * 総件数の取得に{@code COUNT(*)}を実行するため、件数の多い一覧を順に走査する場合は
+ * {@link CursorPageResponse}（カーソル方式）を使用してください。
+ * 
+ * <p><strong>レスポンス例:</strong>
+ * <pre>{@code
+ * {"content":[...],"page":0,"size":20,"totalElements":125,"totalPages":7}
+ * }</pre>
+ * 
+ * @param <T> 要素の型
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponse<T> {
+
+    /**
+     * ページの要素.
+     */
+    private List<T> content;
+
+    /**
+     * ページ番号（0始まり）.
+     */
+    private int page;
+
+    /**
+     * ページサイズ（サーバー側の上限適用後）.
+     */
+    private int size;
+
+    /**
+     * 総件数.
+     */
+    private long totalElements;
+
+    /**
+     * 総ページ数.
+     */
+    private int totalPages;
+}
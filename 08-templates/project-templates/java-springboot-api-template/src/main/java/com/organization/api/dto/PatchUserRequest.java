@@ -0,0 +1,43 @@
+package com.organization.api.dto;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ユーザー部分更新リクエストDTO.
+ * 
+ * <p>このクラスは、ユーザー部分更新API（PATCH）のリクエストボディを表現します。
+ * 指定した項目のみを更新し、省略した項目（nullを含む）は変更しません。</p>
+ * 
+ * <p><strong>リクエスト例:</strong></p>
+ * <pre>{@code
+ * {"enabled": false}
+ * }</pre>
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PatchUserRequest {
+
+    /**
+     * ユーザー名.
+     */
+    @Size(min = 2, max = 100, message = "ユーザー名は2文字以上100文字以下で入力してください")
+    @Pattern(regexp = ".*\\S.*", message = "ユーザー名は必須です")
+    private String name;
+
+    /**
+     * アカウント有効状態.
+     */
+    private Boolean enabled;
+
+}
@@ -0,0 +1,32 @@
+package com.organization.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * トークン再発行リクエストDTO.
+ * 
+ * <p>このクラスは、トークン再発行APIのリクエストボディを表現します。</p>
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenRequest {
+
+    /**
+     * リフレッシュトークン.
+     */
+    @NotBlank(message = "リフレッシュトークンは必須項目です")
+    @ToString.Exclude
+    private String refreshToken;
+
+}
@@ -0,0 +1,47 @@
+package com.organization.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * トークンレスポンスDTO.
+ * 
+ * <p>このクラスは、ログイン・トークン再発行APIのレスポンスボディを表現します。</p>
+ * 
+ * <p><strong>レスポンス例:</strong></p>
+ * <pre>{@code
+ * {
+ *   "accessToken": "eyJhbGciOiJIUzI1NiIs...",
+ *   "refreshToken": "eyJhbGciOiJIUzI1NiIs...",
+ *   "expiresIn": 900
+ * }
+ * }</pre>
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenResponse {
+
+    /**
+     * アクセストークン.
+     */
+    private String accessToken;
+
+    /**
+     * リフレッシュトークン.
+     */
+    private String refreshToken;
+
+    /**
+     * アクセストークンの有効期間（秒）.
+     */
+    private long expiresIn;
+
+}
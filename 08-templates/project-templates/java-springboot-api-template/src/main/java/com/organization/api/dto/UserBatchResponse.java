@@ -0,0 +1,38 @@
+package com.organization.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ユーザー一括作成レスポンスDTO.
+ * 
+ * <p>このクラスは、ユーザー一括作成APIのレスポンスを表現します。</p>
+ * 
+ * <p><strong>レスポンス例:</strong></p>
+ * <pre>{@code
+ * {"created":10000,"elapsedMillis":5321}
+ * }</pre>
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchResponse {
+
+    /**
+     * 作成した件数.
+     */
+    private int created;
+
+    /**
+     * 処理時間（ミリ秒）.
+     */
+    private long elapsedMillis;
+
+}
@@ -65,4 +65,9 @@ public class UserDto {
      * 更新日時.
      */
     private Instant updatedAt;
+
+    /**
+     * バージョン（楽観的排他制御、{@code ETag}ヘッダーと同じ値、入力時は無視）.
+     */
+    private Long version;
 }
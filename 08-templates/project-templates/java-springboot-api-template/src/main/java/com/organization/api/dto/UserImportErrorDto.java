@@ -0,0 +1,38 @@
+package com.organization.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ユーザーCSVインポートの行エラーDTO.
+ * 
+ * <p>このクラスは、インポートでスキップした行のエラーを表現します。</p>
+ * 
+ * <p><strong>レスポンス例:</strong></p>
+ * <pre>{@code
+ * {"rowNumber":42,"message":"email: メールアドレスの形式が不正です"}
+ * }</pre>
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportErrorDto {
+
+    /**
+     * データ行番号（1始まり、ヘッダー行を除く）.
+     */
+    private long rowNumber;
+
+    /**
+     * エラー内容.
+     */
+    private String message;
+
+}
@@ -0,0 +1,82 @@
+package com.organization.api.dto;
+
+import com.organization.api.entity.UserImportJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * ユーザーCSVインポートジョブDTO.
+ * 
+ * <p>このクラスは、インポートジョブの登録・状態取得APIのレスポンスを表現します。</p>
+ * 
+ * <p><strong>レスポンス例:</strong></p>
+ * <pre>{@code
+ * {"id":1,"status":"RUNNING","processedRows":12000,"createdCount":11990,"failedCount":10,
+ *  "createdBy":"admin@example.com","createdAt":"2024-01-01T00:00:00Z","startedAt":"2024-01-01T00:00:01Z"}
+ * }</pre>
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportJobDto {
+
+    /**
+     * ジョブID.
+     */
+    private Long id;
+
+    /**
+     * ジョブの状態.
+     */
+    private UserImportJob.Status status;
+
+    /**
+     * 処理済みのデータ行数（ヘッダー行を除く）.
+     */
+    private long processedRows;
+
+    /**
+     * 登録したユーザー数.
+     */
+    private long createdCount;
+
+    /**
+     * エラーでスキップした行数（内容は行エラー取得APIで取得）.
+     */
+    private long failedCount;
+
+    /**
+     * ジョブが失敗した場合の理由.
+     */
+    private String errorMessage;
+
+    /**
+     * ジョブを登録した管理者.
+     */
+    private String createdBy;
+
+    /**
+     * 登録日時.
+     */
+    private Instant createdAt;
+
+    /**
+     * 処理開始日時.
+     */
+    private Instant startedAt;
+
+    /**
+     * 処理終了日時.
+     */
+    private Instant finishedAt;
+
+}
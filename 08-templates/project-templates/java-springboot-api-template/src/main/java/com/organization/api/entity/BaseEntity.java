@@ -3,6 +3,7 @@ package com.organization.api.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.CreatedDate;
@@ -16,6 +17,7 @@ import java.time.Instant;
  * 
  * <p>すべてのエンティティクラスが継承する基底クラスです。
  * JPA監査機能により、作成日時と更新日時を自動的に記録します。
+ * バージョン列による楽観的排他制御で、同時更新による更新の消失を防ぎます。
  * 
  * <p>Organization Standards準拠:
  * <ul>
@@ -63,4 +65,16 @@ public abstract class BaseEntity {
     @LastModifiedDate
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
+
+    /**
+     * バージョン（楽観的排他制御）.
+     * 
+     * <p>更新のたびにインクリメントされ、UPDATE文の条件に含まれます。
+     * 読み込み後に他の更新があった場合は更新件数0となり、
+     * {@link jakarta.persistence.OptimisticLockException}がスローされます。
+     * JPQLの一括更新ではインクリメントされないため、UPDATE文で明示的に更新してください。
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
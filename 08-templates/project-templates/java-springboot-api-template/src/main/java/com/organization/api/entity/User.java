@@ -7,7 +7,13 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,6 +25,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * ユーザーエンティティ.
@@ -38,7 +45,16 @@ import java.util.List;
  * @since 2024-01-01
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    // 一覧取得のソート・キーセットページング用
+    @Index(name = "idx_users_created_at_id", columnList = "created_at, id"),
+    // 一括操作の対象の絞り込み用（ロール・有効状態は値の種類が少ないため、ID順に取得できるようidを含める）
+    @Index(name = "idx_users_role_enabled_id", columnList = "role, enabled, id"),
+    @Index(name = "idx_users_enabled_id", columnList = "enabled, id")
+}, uniqueConstraints = {
+    // メールアドレスの大文字小文字を区別しない一意制約・検索用
+    @UniqueConstraint(name = User.EMAIL_NORMALIZED_CONSTRAINT, columnNames = "email_normalized")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -46,13 +62,45 @@ import java.util.List;
 @Builder
 public class User extends BaseEntity implements UserDetails {
 
+    private static final long serialVersionUID = 1L;
+
+    /** 正規化したメールアドレスの一意制約名. */
+    public static final String EMAIL_NORMALIZED_CONSTRAINT = "uk_users_email_normalized";
+
+    /** ID採番用のシーケンス名. */
+    public static final String ID_SEQUENCE = "users_seq";
+
+    /** ID採番用シーケンスの増分（1回のシーケンス参照で確保するID数）. */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * ユーザーID.
+     * 
+     * <p>プール型シーケンス（{@value #ID_SEQUENCE}、増分{@value #ID_ALLOCATION_SIZE}）で採番します。
+     * IDENTITYと異なりINSERT前にIDが確定するため、JDBCバッチINSERTが有効になります
+     * （シーケンスの参照は{@value #ID_ALLOCATION_SIZE}件に1回）。
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 100)
+    /**
+     * メールアドレス（登録時の表記のまま保持）.
+     */
+    @Column(nullable = false, length = 100)
     private String email;
 
+    /**
+     * 正規化したメールアドレス（{@link #normalizeEmail(String)}）.
+     * 
+     * <p>保存時に{@link #email}から設定します。メールアドレスによる検索・一意制約はこの列で行い、
+     * 大文字小文字の違いによる重複登録を防ぎます。
+     */
+    @Column(name = "email_normalized", nullable = false, length = 100)
+    @Setter(AccessLevel.NONE)
+    private String emailNormalized;
+
     @Column(nullable = false, length = 100)
     private String name;
 
@@ -70,6 +118,7 @@ public class User extends BaseEntity implements UserDetails {
      * 
      * <p>ROLE_USER: 一般ユーザー
      * <p>ROLE_ADMIN: 管理者
+     * <p>ROLE_SERVICE: サービスアカウント（バッチジョブ等、アクセストークンの一括発行対象）
      */
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -79,12 +128,120 @@ public class User extends BaseEntity implements UserDetails {
     @Builder.Default
     private Boolean enabled = true;
 
+    /**
+     * セキュリティバージョン.
+     * 
+     * <p>アカウントの無効化など、発行済みトークンを失効させるべき変更のたびに
+     * インクリメントされます。アクセストークンに埋め込まれ、
+     * トークン側の値が古い場合は認証を拒否します。
+     */
+    @Column(name = "security_version", nullable = false)
+    @Builder.Default
+    private Long securityVersion = 0L;
+
     /**
      * ユーザーロール列挙型.
+     *
+     * <p>各ロールは権限オブジェクトとビットマスクを1つずつ保持します。
+     * 認証・認可のたびに権限オブジェクトを生成せず、共有の不変インスタンスを返却します。
      */
     public enum Role {
         ROLE_USER,
-        ROLE_ADMIN
+        ROLE_ADMIN,
+        ROLE_SERVICE;
+
+        /** ロール名の接頭辞. */
+        private static final String ROLE_PREFIX = "ROLE_";
+        /** {@link #values()}は呼び出しごとに配列を複製するため、1回だけ取得して使い回す. */
+        private static final Role[] VALUES = values();
+
+        private final GrantedAuthority authority = new SimpleGrantedAuthority(name());
+        private final List<GrantedAuthority> authorities = List.of(authority);
+        private final int mask = 1 << ordinal();
+
+        /**
+         * このロールの権限を取得.
+         *
+         * @return 共有の権限インスタンス
+         */
+        public GrantedAuthority getAuthority() {
+            return authority;
+        }
+
+        /**
+         * このロールのみを含む権限リストを取得.
+         *
+         * @return 共有の不変リスト
+         */
+        public List<GrantedAuthority> getAuthorities() {
+            return authorities;
+        }
+
+        /**
+         * このロールのビットマスクを取得.
+         *
+         * @return ビットマスク（ロールごとに1ビット）
+         */
+        public int getMask() {
+            return mask;
+        }
+
+        /**
+         * 権限名からロールを取得.
+         *
+         * <p>{@code ROLE_}接頭辞を含む権限名と完全に一致するロールのみを返却します
+         * （接頭辞のない{@code "ADMIN"}等の権限はロールとして扱いません）。
+         *
+         * @param authority 権限名（例: "ROLE_ADMIN"）
+         * @return ロール（該当しない場合はnull）
+         */
+        public static Role fromAuthority(String authority) {
+            if (authority == null || !authority.startsWith(ROLE_PREFIX)) {
+                return null;
+            }
+            for (Role role : VALUES) {
+                if (role.name().equals(authority)) {
+                    return role;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 権限のコレクションからロールのビットマスクを算出.
+         *
+         * @param authorities 権限のコレクション
+         * @return ビットマスク（ロール以外の権限は無視）
+         */
+        public static int maskOf(Collection<? extends GrantedAuthority> authorities) {
+            int mask = 0;
+            for (GrantedAuthority granted : authorities) {
+                Role role = fromAuthority(granted.getAuthority());
+                if (role != null) {
+                    mask |= role.mask;
+                }
+            }
+            return mask;
+        }
+    }
+
+    /**
+     * メールアドレスを検索・一意制約用に正規化.
+     * 
+     * @param email メールアドレス
+     * @return 前後の空白を除去して小文字化したメールアドレス（nullの場合はnull）
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 保存前に正規化したメールアドレスを設定.
+     */
+    @PrePersist
+    @PreUpdate
+    void updateEmailNormalized() {
+        emailNormalized = normalizeEmail(email);
     }
 
     // ===== UserDetails実装メソッド =====
@@ -96,7 +253,7 @@ public class User extends BaseEntity implements UserDetails {
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority(role.name()));
+        return role.getAuthorities();
     }
 
     /**
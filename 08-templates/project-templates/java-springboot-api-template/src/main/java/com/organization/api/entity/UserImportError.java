@@ -0,0 +1,63 @@
+package com.organization.api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * ユーザーCSVインポートの行エラーエンティティ.
+ * 
+ * <p>検証エラー・メールアドレスの重複等でスキップした行を記録します。
+ * チャンクのユーザー登録と同じトランザクションでJDBCバッチINSERTします。
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Entity
+@Table(name = "user_import_errors", indexes = {
+    @Index(name = "idx_user_import_errors_job_id_row_no", columnList = "job_id, row_no")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserImportError {
+
+    /** ID採番用のシーケンス名. */
+    public static final String ID_SEQUENCE = "user_import_errors_seq";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = 50)
+    private Long id;
+
+    /**
+     * インポートジョブID.
+     */
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    /**
+     * データ行番号（1始まり、ヘッダー行を除く）.
+     */
+    @Column(name = "row_no", nullable = false)
+    private Long rowNumber;
+
+    /**
+     * エラー内容.
+     */
+    @Column(nullable = false, length = 500)
+    private String message;
+}
@@ -0,0 +1,109 @@
+package com.organization.api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * ユーザーCSVインポートジョブエンティティ.
+ * 
+ * <p>CSVインポートの進捗とチェックポイントを管理するエンティティクラスです。
+ * {@link #processedRows}はチャンクのユーザー登録と同じトランザクションで更新されるため、
+ * 処理中にプロセスが停止しても、コミット済みの行の次から再開できます。
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Entity
+@Table(name = "user_import_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserImportJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * ジョブの状態.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    /**
+     * ジョブを登録した管理者（メールアドレス）.
+     */
+    @Column(name = "created_by", nullable = false, length = 100)
+    private String createdBy;
+
+    /**
+     * 処理済みのデータ行数（チェックポイント、ヘッダー行を除く）.
+     */
+    @Column(name = "processed_rows", nullable = false)
+    @Builder.Default
+    private Long processedRows = 0L;
+
+    /**
+     * 登録したユーザー数.
+     */
+    @Column(name = "created_count", nullable = false)
+    @Builder.Default
+    private Long createdCount = 0L;
+
+    /**
+     * エラーでスキップした行数.
+     */
+    @Column(name = "failed_count", nullable = false)
+    @Builder.Default
+    private Long failedCount = 0L;
+
+    /**
+     * ジョブが失敗した場合の理由.
+     */
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    /**
+     * 処理開始日時（再開時は更新しない）.
+     */
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    /**
+     * 処理終了日時.
+     */
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    /**
+     * ジョブ状態列挙型.
+     *
+     * <p>QUEUED: 処理待ち
+     * <p>RUNNING: 処理中（起動時にこの状態のジョブはチェックポイントから再開）
+     * <p>COMPLETED: 完了
+     * <p>FAILED: 失敗（再開APIでチェックポイントから再開可能）
+     */
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
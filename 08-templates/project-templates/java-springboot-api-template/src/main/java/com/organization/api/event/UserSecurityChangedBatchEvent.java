@@ -0,0 +1,29 @@
+package com.organization.api.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 複数ユーザーのセキュリティ状態変更イベント.
+ *
+ * <p>管理者の一括操作（無効化・有効化・ロール変更・削除）で変更されたユーザーをまとめて通知します。
+ * 1件ごとに{@link UserSecurityChangedEvent}を発行せず、受信側はキャッシュの破棄等を1回で行えます。
+ * 各要素の意味は{@link UserSecurityChangedEvent}と同じです。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class UserSecurityChangedBatchEvent {
+
+    /**
+     * ユーザーごとの変更内容.
+     */
+    private final List<UserSecurityChangedEvent> changes;
+}
@@ -0,0 +1,45 @@
+package com.organization.api.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * ユーザーのセキュリティ状態変更イベント.
+ *
+ * <p>ユーザーの無効化・削除など、発行済みトークンや認証情報キャッシュを
+ * 無効化すべき変更が発生した場合に{@link com.organization.api.service.UserService}から
+ * 発行されます。
+ *
+ * <p>受信側は、{@code securityVersion}より古いセキュリティバージョンを持つ
+ * トークンを拒否し、キャッシュしている認証情報を破棄してください。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class UserSecurityChangedEvent {
+
+    /**
+     * ユーザーID.
+     */
+    private final Long userId;
+
+    /**
+     * メールアドレス（ログインID）.
+     */
+    private final String email;
+
+    /**
+     * 変更後のセキュリティバージョン.
+     */
+    private final long securityVersion;
+
+    /**
+     * ユーザーが削除された場合true.
+     */
+    private final boolean deleted;
+}
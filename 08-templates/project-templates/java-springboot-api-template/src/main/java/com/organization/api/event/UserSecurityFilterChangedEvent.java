@@ -0,0 +1,27 @@
+package com.organization.api.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 条件指定の一括操作によるセキュリティ状態変更イベント.
+ *
+ * <p>管理者の条件指定の一括操作（{@code filter}）は対象のIDを取得せずに1つのUPDATE/DELETE文で実行するため、
+ * 変更されたユーザーを特定できません。受信側は、条件に一致した可能性のあるすべてのユーザーについて
+ * キャッシュしている認証情報を破棄し、発行済みトークンをデータベースで確認してください。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class UserSecurityFilterChangedEvent {
+
+    /**
+     * 変更・削除した件数.
+     */
+    private final int affected;
+}
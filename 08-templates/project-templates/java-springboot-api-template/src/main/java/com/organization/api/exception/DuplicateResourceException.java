@@ -0,0 +1,39 @@
+package com.organization.api.exception;
+
+/**
+ * リソース重複例外.
+ * 
+ * <p>一意であるべきキー（メールアドレス等）が既に登録されている場合にスローされます。
+ * {@link GlobalExceptionHandler}で409 Conflictに変換されます。
+ * 
+ * <p>使用例:
+ * <pre>{@code
+ * throw new DuplicateResourceException("User", "email", email);
+ * }</pre>
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+public class DuplicateResourceException extends RuntimeException {
+
+    /**
+     * リソース名、フィールド名、フィールド値を指定した例外を作成.
+     * 
+     * @param resourceName リソース名（例: "User"）
+     * @param fieldName フィールド名（例: "email"）
+     * @param fieldValue フィールド値
+     */
+    public DuplicateResourceException(String resourceName, String fieldName, Object fieldValue) {
+        super(String.format("%s already exists with %s: %s", resourceName, fieldName, fieldValue));
+    }
+
+    /**
+     * カスタムメッセージを指定した例外を作成.
+     * 
+     * @param message エラーメッセージ
+     */
+    public DuplicateResourceException(String message) {
+        super(message);
+    }
+}
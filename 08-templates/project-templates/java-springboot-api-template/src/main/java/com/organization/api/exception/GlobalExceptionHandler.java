@@ -1,10 +1,12 @@
 package com.organization.api.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -74,18 +76,48 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    /**
+     * 不正リクエストのハンドリング.
+     * 
+     * <p>ページングカーソルの改ざん等、Bean Validationでは検証できない
+     * リクエストパラメーターの不正を検出した場合に発生します。
+     * 
+     * @param ex 例外オブジェクト
+     * @param request リクエスト情報
+     * @return エラーレスポンス
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequestException(
+            InvalidRequestException ex,
+            WebRequest request) {
+        
+        log.warn("不正リクエスト: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(Instant.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Bad Request")
+                .message(ex.getMessage())
+                .path(request.getDescription(false).replace("uri=", ""))
+                .build();
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     /**
      * 認証エラーのハンドリング.
      * 
-     * <p>ログイン認証に失敗した場合に発生します。
+     * <p>ログイン認証に失敗した場合に発生します
+     * （パスワード不一致、無効化されたユーザー、不正なトークン等）。
+     * アカウントの存在を推測されないよう、メッセージは区別しません。
      * 
      * @param ex 例外オブジェクト
      * @param request リクエスト情報
      * @return エラーレスポンス
      */
-    @ExceptionHandler(BadCredentialsException.class)
+    @ExceptionHandler(AuthenticationException.class)
     public ResponseEntity<ErrorResponse> handleBadCredentialsException(
-            BadCredentialsException ex,
+            AuthenticationException ex,
             WebRequest request) {
         
         log.warn("認証失敗: {}", ex.getMessage());
@@ -155,6 +187,121 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * リソース重複エラーのハンドリング.
+     * 
+     * <p>メールアドレス等の一意制約に違反する登録を行った場合に発生します。
+     * 
+     * @param ex 例外オブジェクト
+     * @param request リクエスト情報
+     * @return エラーレスポンス
+     */
+    @ExceptionHandler(DuplicateResourceException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateResourceException(
+            DuplicateResourceException ex,
+            WebRequest request) {
+        
+        log.warn("リソース重複: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(Instant.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .message(ex.getMessage())
+                .path(request.getDescription(false).replace("uri=", ""))
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * バージョン競合エラーのハンドリング.
+     * 
+     * <p>楽観的排他制御で、読み込み後に他の更新があった場合に発生します
+     * （{@code If-Match}の不一致、エンティティ更新時のバージョン不一致）。
+     * クライアントは最新の状態を取得し直してから再度更新してください。
+     * 
+     * @param ex 例外オブジェクト
+     * @param request リクエスト情報
+     * @return エラーレスポンス
+     */
+    @ExceptionHandler({VersionConflictException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<ErrorResponse> handleVersionConflictException(
+            RuntimeException ex,
+            WebRequest request) {
+        
+        log.warn("バージョン競合: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(Instant.now())
+                .status(HttpStatus.CONFLICT.value())
+                .error("Conflict")
+                .message(ex instanceof VersionConflictException
+                        ? ex.getMessage() : "リソースは他の更新により変更されています")
+                .path(request.getDescription(false).replace("uri=", ""))
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * 事前条件未指定エラーのハンドリング.
+     * 
+     * <p>楽観的排他制御が必要な更新で{@code If-Match}ヘッダーがない場合に発生します。
+     * 
+     * @param ex 例外オブジェクト
+     * @param request リクエスト情報
+     * @return エラーレスポンス
+     */
+    @ExceptionHandler(PreconditionRequiredException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionRequiredException(
+            PreconditionRequiredException ex,
+            WebRequest request) {
+        
+        log.warn("事前条件未指定: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(Instant.now())
+                .status(HttpStatus.PRECONDITION_REQUIRED.value())
+                .error("Precondition Required")
+                .message(ex.getMessage())
+                .path(request.getDescription(false).replace("uri=", ""))
+                .build();
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).body(errorResponse);
+    }
+
+    /**
+     * 一時的な過負荷エラーのハンドリング.
+     * 
+     * <p>処理キューが上限に達した場合に発生します。
+     * {@code Retry-After}ヘッダーで再試行までの推奨待機時間（秒）を返却します。
+     * 
+     * @param ex 例外オブジェクト
+     * @param request リクエスト情報
+     * @return エラーレスポンス
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(
+            ServiceUnavailableException ex,
+            WebRequest request) {
+        
+        log.warn("サービス一時利用不可: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(Instant.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message(ex.getMessage())
+                .path(request.getDescription(false).replace("uri=", ""))
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER,
+                        String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(errorResponse);
+    }
+
     /**
      * その他の予期しないエラーのハンドリング.
      * 
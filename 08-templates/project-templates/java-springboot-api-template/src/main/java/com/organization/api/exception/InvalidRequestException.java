@@ -0,0 +1,29 @@
+package com.organization.api.exception;
+
+/**
+ * 不正リクエスト例外.
+ * 
+ * <p>Bean Validationでは検証できないリクエストパラメーターの不正
+ * （改ざん・破損したページングカーソル等）を検出した場合にスローされます。
+ * {@link GlobalExceptionHandler}で400 Bad Requestに変換されます。
+ * 
+ * <p>使用例:
+ * <pre>{@code
+ * throw new InvalidRequestException("ページ番号は0以上を指定してください");
+ * }</pre>
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    /**
+     * メッセージを指定した例外を作成.
+     * 
+     * @param message エラーメッセージ
+     */
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,28 @@
+package com.organization.api.exception;
+
+/**
+ * 事前条件必須例外.
+ * 
+ * <p>楽観的排他制御が必要な更新で、{@code If-Match}ヘッダーが指定されていない場合にスローされます。
+ * {@link GlobalExceptionHandler}で428 Precondition Requiredに変換されます。
+ * 
+ * <p>使用例:
+ * <pre>{@code
+ * throw new PreconditionRequiredException("If-Matchヘッダーを指定してください");
+ * }</pre>
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+public class PreconditionRequiredException extends RuntimeException {
+
+    /**
+     * メッセージを指定した例外を作成.
+     * 
+     * @param message エラーメッセージ
+     */
+    public PreconditionRequiredException(String message) {
+        super(message);
+    }
+}
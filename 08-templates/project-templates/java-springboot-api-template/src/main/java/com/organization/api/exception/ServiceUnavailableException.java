@@ -0,0 +1,44 @@
+package com.organization.api.exception;
+
+import java.time.Duration;
+
+/**
+ * サービス一時利用不可例外.
+ *
+ * <p>処理キューが上限に達した等、一時的な過負荷でリクエストを受け付けられない場合に
+ * スローされます。{@link GlobalExceptionHandler}で503 Service Unavailableと
+ * {@code Retry-After}ヘッダーに変換されます。
+ *
+ * <p>使用例:
+ * <pre>{@code
+ * throw new ServiceUnavailableException("パスワードハッシュ処理が混雑しています", Duration.ofSeconds(1));
+ * }</pre>
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    /**
+     * メッセージと再試行までの推奨待機時間を指定した例外を作成.
+     *
+     * @param message エラーメッセージ
+     * @param retryAfter 再試行までの推奨待機時間
+     */
+    public ServiceUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * 再試行までの推奨待機時間を取得.
+     *
+     * @return 再試行までの推奨待機時間
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
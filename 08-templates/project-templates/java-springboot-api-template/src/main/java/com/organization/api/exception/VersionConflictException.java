@@ -0,0 +1,29 @@
+package com.organization.api.exception;
+
+/**
+ * バージョン競合例外.
+ * 
+ * <p>楽観的排他制御で、リクエストが指定したバージョン（{@code If-Match}）が
+ * 現在のバージョンと一致しない場合にスローされます。
+ * {@link GlobalExceptionHandler}で409 Conflictに変換されます。
+ * 
+ * <p>使用例:
+ * <pre>{@code
+ * throw new VersionConflictException("ユーザーは他の更新により変更されています");
+ * }</pre>
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+public class VersionConflictException extends RuntimeException {
+
+    /**
+     * メッセージを指定した例外を作成.
+     * 
+     * @param message エラーメッセージ
+     */
+    public VersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,62 @@
+package com.organization.api.repository;
+
+import com.organization.api.entity.User;
+
+import java.time.Instant;
+
+/**
+ * 条件指定のユーザー一括操作リポジトリ（{@link UserRepository}のフラグメント）.
+ * 
+ * <p>対象のIDを取得せず、指定された条件のみを持つ1つのUPDATE/DELETE文を組み立てて実行します
+ * （{@code UPDATE users SET ... WHERE role = ? AND enabled = ?}）。
+ * 条件がnullの項目はWHERE句に含めないため、条件の組み合わせごとに
+ * {@code (role, enabled, id)}・{@code (enabled, id)}のインデックスを使用できます。
+ * 
+ * <p>エンティティのコールバック（監査フィールドの自動設定）・バージョン管理を経由しないため、
+ * バージョンはUPDATE文でインクリメントし、更新日時は引数で指定します。
+ * 実行前に永続化コンテキストをフラッシュし、実行後にクリアします。
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+public interface UserBulkRepository {
+
+    /**
+     * 条件に一致するユーザーの有効/無効状態を一括更新.
+     * 
+     * <p>状態が変わるユーザーのみ更新し、セキュリティバージョンをインクリメントします。
+     * 
+     * @param role ロールの条件（nullの場合は条件にしない）
+     * @param enabled 有効/無効状態の条件（nullの場合は条件にしない）
+     * @param excludedId 対象から除外するユーザーID（除外しない場合はnull）
+     * @param newEnabled 変更後の有効/無効状態
+     * @param now 更新日時
+     * @return 更新した件数
+     */
+    int updateEnabledByFilter(User.Role role, Boolean enabled, Long excludedId, boolean newEnabled, Instant now);
+
+    /**
+     * 条件に一致するユーザーのロールを一括更新.
+     * 
+     * <p>ロールが変わるユーザーのみ更新し、セキュリティバージョンをインクリメントします。
+     * 
+     * @param role ロールの条件（nullの場合は条件にしない）
+     * @param enabled 有効/無効状態の条件（nullの場合は条件にしない）
+     * @param excludedId 対象から除外するユーザーID（除外しない場合はnull）
+     * @param newRole 変更後のロール
+     * @param now 更新日時
+     * @return 更新した件数
+     */
+    int updateRoleByFilter(User.Role role, Boolean enabled, Long excludedId, User.Role newRole, Instant now);
+
+    /**
+     * 条件に一致するユーザーを一括削除.
+     * 
+     * @param role ロールの条件（nullの場合は条件にしない）
+     * @param enabled 有効/無効状態の条件（nullの場合は条件にしない）
+     * @param excludedId 対象から除外するユーザーID（除外しない場合はnull）
+     * @return 削除した件数
+     */
+    int deleteByFilter(User.Role role, Boolean enabled, Long excludedId);
+}
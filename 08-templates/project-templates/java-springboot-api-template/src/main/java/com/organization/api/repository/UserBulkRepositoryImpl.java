@@ -0,0 +1,130 @@
+package com.organization.api.repository;
+
+import com.organization.api.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link UserBulkRepository}の実装.
+ * 
+ * <p>Criteria APIで、指定された条件のみを持つUPDATE/DELETE文を組み立てます。
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@RequiredArgsConstructor
+class UserBulkRepositoryImpl implements UserBulkRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int updateEnabledByFilter(User.Role role, Boolean enabled, Long excludedId,
+                                     boolean newEnabled, Instant now) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<User> update = cb.createCriteriaUpdate(User.class);
+        Root<User> user = update.from(User.class);
+        Path<Boolean> currentEnabled = user.get("enabled");
+
+        List<Predicate> predicates = filter(cb, user, role, enabled, excludedId);
+        predicates.add(cb.notEqual(currentEnabled, newEnabled));
+        update.set(currentEnabled, newEnabled);
+        bumpVersions(cb, update, user, now);
+        update.where(predicates.toArray(Predicate[]::new));
+
+        return execute(entityManager.createQuery(update));
+    }
+
+    @Override
+    public int updateRoleByFilter(User.Role role, Boolean enabled, Long excludedId,
+                                  User.Role newRole, Instant now) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<User> update = cb.createCriteriaUpdate(User.class);
+        Root<User> user = update.from(User.class);
+        Path<User.Role> currentRole = user.get("role");
+
+        List<Predicate> predicates = filter(cb, user, role, enabled, excludedId);
+        predicates.add(cb.notEqual(currentRole, newRole));
+        update.set(currentRole, newRole);
+        bumpVersions(cb, update, user, now);
+        update.where(predicates.toArray(Predicate[]::new));
+
+        return execute(entityManager.createQuery(update));
+    }
+
+    @Override
+    public int deleteByFilter(User.Role role, Boolean enabled, Long excludedId) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaDelete<User> delete = cb.createCriteriaDelete(User.class);
+        Root<User> user = delete.from(User.class);
+        delete.where(filter(cb, user, role, enabled, excludedId).toArray(Predicate[]::new));
+
+        return execute(entityManager.createQuery(delete));
+    }
+
+    /**
+     * 指定された条件のみの述語を作成.
+     * 
+     * @param cb CriteriaBuilder
+     * @param user ユーザー
+     * @param role ロールの条件（nullの場合は条件にしない）
+     * @param enabled 有効/無効状態の条件（nullの場合は条件にしない）
+     * @param excludedId 対象から除外するユーザーID（除外しない場合はnull）
+     * @return 述語（追加可能なリスト）
+     */
+    private static List<Predicate> filter(CriteriaBuilder cb, Root<User> user,
+                                          User.Role role, Boolean enabled, Long excludedId) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (role != null) {
+            predicates.add(cb.equal(user.get("role"), role));
+        }
+        if (enabled != null) {
+            predicates.add(cb.equal(user.get("enabled"), enabled));
+        }
+        if (excludedId != null) {
+            predicates.add(cb.notEqual(user.get("id"), excludedId));
+        }
+        return predicates;
+    }
+
+    /**
+     * セキュリティバージョン・バージョンをインクリメントし、更新日時を設定.
+     * 
+     * @param cb CriteriaBuilder
+     * @param update UPDATE文
+     * @param user ユーザー
+     * @param now 更新日時
+     */
+    private static void bumpVersions(CriteriaBuilder cb, CriteriaUpdate<User> update,
+                                     Root<User> user, Instant now) {
+        Path<Long> securityVersion = user.get("securityVersion");
+        Path<Long> version = user.get("version");
+        update.set(securityVersion, cb.sum(securityVersion, 1L));
+        update.set(version, cb.sum(version, 1L));
+        update.set(user.<Instant>get("updatedAt"), now);
+    }
+
+    /**
+     * 永続化コンテキストをフラッシュしてから実行し、実行後にクリア.
+     * 
+     * @param statement UPDATE/DELETE文のクエリ
+     * @return 更新・削除した件数
+     */
+    private int execute(Query statement) {
+        entityManager.flush();
+        int affected = statement.executeUpdate();
+        entityManager.clear();
+        return affected;
+    }
+}
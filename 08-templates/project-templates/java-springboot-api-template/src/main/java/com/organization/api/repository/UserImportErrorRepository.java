@@ -0,0 +1,29 @@
+package com.organization.api.repository;
+
+import com.organization.api.entity.UserImportError;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * ユーザーCSVインポートの行エラーリポジトリ.
+ * 
+ * <p>インポートでスキップした行のエラーのデータアクセスを提供します。
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Repository
+public interface UserImportErrorRepository extends JpaRepository<UserImportError, Long> {
+
+    /**
+     * ジョブの行エラーを行番号順に取得.
+     * 
+     * @param jobId インポートジョブID
+     * @param pageable ページ番号・件数
+     * @return 行エラーのページ
+     */
+    Page<UserImportError> findByJobIdOrderByRowNumberAsc(Long jobId, Pageable pageable);
+}
@@ -0,0 +1,31 @@
+package com.organization.api.repository;
+
+import com.organization.api.entity.UserImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ユーザーCSVインポートジョブリポジトリ.
+ * 
+ * <p>インポートジョブの進捗・チェックポイントのデータアクセスを提供します。
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Repository
+public interface UserImportJobRepository extends JpaRepository<UserImportJob, Long> {
+
+    /**
+     * 指定した状態のジョブを登録順に取得.
+     * 
+     * <p>起動時に、中断されたジョブを再開するために使用されます。
+     * 
+     * @param statuses ジョブの状態
+     * @return ジョブのリスト（ID昇順）
+     */
+    List<UserImportJob> findByStatusInOrderByIdAsc(Collection<UserImportJob.Status> statuses);
+}
@@ -0,0 +1,35 @@
+package com.organization.api.repository;
+
+import java.time.Instant;
+
+/**
+ * ユーザーの部分更新リポジトリ（{@link UserRepository}のフラグメント）.
+ * 
+ * <p>指定された項目のみを更新する条件付きUPDATE文を、リクエストごとに組み立てて実行します。
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+public interface UserPatchRepository {
+
+    /**
+     * バージョンが一致する場合のみ、指定された項目を更新.
+     * 
+     * <p>{@code UPDATE users SET ... WHERE id = ? AND version = ?}の1文のみを実行します
+     * （エンティティの読み込み・ダーティチェックを行わない）。
+     * nullの項目は更新しません。
+     * 
+     * <p>有効/無効状態を指定した場合は
+     * {@code security_version = security_version + CASE WHEN enabled <> ? THEN 1 ELSE 0 END}とし、
+     * 状態が変わる場合のみセキュリティバージョンをインクリメントします。
+     * 
+     * @param id ユーザーID
+     * @param expectedVersion 更新前のバージョン
+     * @param name ユーザー名（nullの場合は更新しない）
+     * @param enabled 有効/無効状態（nullの場合は更新しない）
+     * @param now 更新日時
+     * @return 更新した件数（ユーザーが存在しない、またはバージョンが一致しない場合は0）
+     */
+    int patch(Long id, long expectedVersion, String name, Boolean enabled, Instant now);
+}
@@ -0,0 +1,55 @@
+package com.organization.api.repository;
+
+import com.organization.api.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * {@link UserPatchRepository}の実装.
+ * 
+ * <p>Criteria APIで、指定された項目のSET句のみを持つUPDATE文を組み立てます。
+ * セキュリティバージョンはCASE式で有効/無効状態が変わる場合のみインクリメントし、
+ * 更新前の状態を読み込みません。
+ * 
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@RequiredArgsConstructor
+class UserPatchRepositoryImpl implements UserPatchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int patch(Long id, long expectedVersion, String name, Boolean enabled, Instant now) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<User> update = cb.createCriteriaUpdate(User.class);
+        Root<User> user = update.from(User.class);
+        Path<Long> version = user.get("version");
+
+        if (name != null) {
+            update.set(user.<String>get("name"), name);
+        }
+        if (enabled != null) {
+            Path<Boolean> currentEnabled = user.get("enabled");
+            Path<Long> securityVersion = user.get("securityVersion");
+            Expression<Long> increment = cb.<Long>selectCase()
+                    .when(cb.notEqual(currentEnabled, enabled), 1L)
+                    .otherwise(0L);
+            update.set(securityVersion, cb.sum(securityVersion, increment));
+            update.set(currentEnabled, enabled);
+        }
+        update.set(version, cb.sum(version, 1L));
+        update.set(user.<Instant>get("updatedAt"), now);
+        update.where(cb.equal(user.get("id"), id), cb.equal(version, expectedVersion));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
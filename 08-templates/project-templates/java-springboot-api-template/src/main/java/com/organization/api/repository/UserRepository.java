@@ -1,10 +1,26 @@
 package com.organization.api.repository;
 
+import com.organization.api.dto.UserDto;
 import com.organization.api.entity.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * ユーザーリポジトリ.
@@ -12,30 +28,348 @@ import java.util.Optional;
  * <p>ユーザーエンティティのデータアクセスを提供します。
  * Organization Standards準拠: Repositoryはデータアクセスのみを担当。
  * 
+ * <p>参照系APIは{@code find*Dto*}・{@code streamAllForExport}のプロジェクションを使用し、
+ * エンティティ（パスワードハッシュを含む）を読み込みません。
+ * エンティティの取得は更新・認証処理に限定してください。
+ * 
  * @author Organization Development Team
  * @version 1.0.0
  * @since 2024-01-01
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserPatchRepository, UserBulkRepository {
+
+    /**
+     * エクスポート時のJDBCフェッチサイズ.
+     */
+    int EXPORT_FETCH_SIZE = 500;
+
+    /**
+     * 一括操作で1つのSQLに指定するIDの最大件数（IN句のパラメーター数の上限）.
+     */
+    int MAX_BULK_IDS = 1000;
+
+    /**
+     * {@link UserDto}の列のみを取得するプロジェクションのSELECT句.
+     * 
+     * <p>コンストラクター式でDTOを直接生成するため、パスワードハッシュ列は取得せず、
+     * エンティティを永続化コンテキストで管理しません（ダーティチェック用のスナップショットも保持しない）。
+     * 引数の順序は{@link UserDto}のフィールド宣言順です。
+     */
+    String USER_DTO_SELECT = "select new com.organization.api.dto.UserDto("
+            + "u.id, u.email, u.name, u.role, u.enabled, u.createdAt, u.updatedAt, u.version) from User u";
 
     /**
      * メールアドレスでユーザーを検索.
      * 
-     * <p>ログイン認証時に使用されます。
+     * <p>ログイン認証時に使用されます。大文字小文字を区別せず、
+     * 正規化したメールアドレスの一意制約のインデックスで検索します。
      * 
      * @param email メールアドレス
      * @return ユーザー（存在しない場合はOptional.empty()）
      */
-    Optional<User> findByEmail(String email);
+    default Optional<User> findByEmail(String email) {
+        return findByEmailNormalized(User.normalizeEmail(email));
+    }
+
+    /**
+     * 正規化したメールアドレスでユーザーを検索.
+     * 
+     * @param emailNormalized 正規化したメールアドレス（{@link User#normalizeEmail(String)}）
+     * @return ユーザー（存在しない場合はOptional.empty()）
+     */
+    Optional<User> findByEmailNormalized(String emailNormalized);
 
     /**
      * メールアドレスの存在チェック.
      * 
-     * <p>ユーザー登録時の重複チェックに使用されます。
+     * <p>ユーザー登録時、{@link com.organization.api.service.RegisteredEmailFilter}が
+     * 登録済みの可能性ありと判定したメールアドレスの確認に使用されます。
      * 
-     * @param email メールアドレス
+     * @param email メールアドレス（大文字小文字を区別しない）
+     * @return 存在する場合true
+     */
+    default boolean existsByEmail(String email) {
+        return existsByEmailNormalized(User.normalizeEmail(email));
+    }
+
+    /**
+     * 正規化したメールアドレスの存在チェック.
+     * 
+     * @param emailNormalized 正規化したメールアドレス（{@link User#normalizeEmail(String)}）
      * @return 存在する場合true
      */
-    boolean existsByEmail(String email);
+    boolean existsByEmailNormalized(String emailNormalized);
+
+    /**
+     * 指定したメールアドレスのうち登録済みのものを取得.
+     * 
+     * <p>一括登録時に、チャンク単位で重複を1回のクエリで判定するために使用されます。
+     * 
+     * @param emails 正規化したメールアドレス（{@link User#normalizeEmail(String)}）
+     * @return 登録済みのメールアドレス（正規化済み）
+     */
+    @Query("select u.emailNormalized from User u where u.emailNormalized in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * 全ユーザーのメールアドレスをストリームで取得.
+     * 
+     * <p>起動時に{@link com.organization.api.service.RegisteredEmailFilter}を構築するために使用されます。
+     * {@link #streamAllForExport()}と同様に、トランザクション内で呼び出し、使用後は必ずクローズしてください。
+     * 
+     * @return 正規化したメールアドレスのストリーム
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query("select u.emailNormalized from User u")
+    Stream<String> streamAllEmails();
+
+    /**
+     * IDでユーザーDTOを取得.
+     * 
+     * @param id ユーザーID
+     * @return ユーザーDTO（存在しない場合はOptional.empty()）
+     */
+    @Query(USER_DTO_SELECT + " where u.id = :id")
+    Optional<UserDto> findDtoById(@Param("id") Long id);
+
+    /**
+     * ページ番号方式でユーザーDTOを取得.
+     * 
+     * <p>ソート順は{@code pageable}で指定します。総件数の取得に{@code COUNT(*)}を実行します。
+     * 
+     * @param pageable ページ番号・件数・ソート順
+     * @return ユーザーDTOのページ
+     */
+    @Query(value = USER_DTO_SELECT, countQuery = "select count(u) from User u")
+    Page<UserDto> findDtoPage(Pageable pageable);
+
+    /**
+     * キーセットページングの先頭ページを取得.
+     * 
+     * <p>{@code (created_at, id)}の昇順で、{@code pageable}のサイズ分を取得します。
+     * {@link Slice}で返却するため、次ページ判定はサイズ+1件の取得で行い
+     * {@code COUNT(*)}は実行しません。{@code pageable}はページ番号0で指定してください。
+     * 
+     * @param pageable 取得件数（ページ番号は0）
+     * @return ユーザーDTOのスライス
+     */
+    @Query(USER_DTO_SELECT + " order by u.createdAt asc, u.id asc")
+    Slice<UserDto> findFirstKeysetPage(Pageable pageable);
+
+    /**
+     * キーセットページングで指定行より後のページを取得.
+     * 
+     * <p>{@code (created_at, id)}が指定値より大きい行を昇順で取得します。
+     * {@code OFFSET}を使用しないため、深いページでも
+     * {@code (created_at, id)}インデックスの範囲走査のみで取得できます。
+     * 条件は{@code created_at >= ?}を先頭に置き、インデックスの走査開始位置を指定します
+     * （{@code created_at > ? OR (...)}のみではインデックスを先頭から走査して絞り込むため）。
+     * 
+     * @param createdAt 前ページ最終行の作成日時
+     * @param id 前ページ最終行のユーザーID
+     * @param pageable 取得件数（ページ番号は0）
+     * @return ユーザーDTOのスライス
+     */
+    @Query(USER_DTO_SELECT
+            + " where u.createdAt >= :createdAt and (u.createdAt > :createdAt or u.id > :id)"
+            + " order by u.createdAt asc, u.id asc")
+    Slice<UserDto> findKeysetPageAfter(@Param("createdAt") Instant createdAt,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+
+    /**
+     * 有効/無効状態が変わるユーザーの無効化に必要な列を取得し、行ロックを取得.
+     * 
+     * <p>一括更新の前に変更対象を特定します。トランザクション終了まで行ロックを保持するため、
+     * 続けて実行するUPDATE文はここで取得した行のみを更新し、
+     * 変更後のセキュリティバージョンは取得した値+1になります。
+     * 
+     * @param ids ユーザーID（{@value #MAX_BULK_IDS}件以下）
+     * @param enabled 変更後の有効/無効状態
+     * @return 現在の状態が{@code enabled}と異なるユーザーのID・メールアドレス・セキュリティバージョン（ID昇順）
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u.id as id, u.email as email, u.securityVersion as securityVersion"
+            + " from User u where u.id in :ids and u.enabled <> :enabled order by u.id asc")
+    List<SecurityKey> lockSecurityKeysWithEnabledNot(@Param("ids") Collection<Long> ids,
+                                                     @Param("enabled") boolean enabled);
+
+    /**
+     * ロールが変わるユーザーの無効化に必要な列を取得し、行ロックを取得.
+     * 
+     * @param ids ユーザーID（{@value #MAX_BULK_IDS}件以下）
+     * @param role 変更後のロール
+     * @return 現在のロールが{@code role}と異なるユーザーのID・メールアドレス・セキュリティバージョン（ID昇順）
+     * @see #lockSecurityKeysWithEnabledNot(Collection, boolean)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u.id as id, u.email as email, u.securityVersion as securityVersion"
+            + " from User u where u.id in :ids and u.role <> :role order by u.id asc")
+    List<SecurityKey> lockSecurityKeysWithRoleNot(@Param("ids") Collection<Long> ids,
+                                                  @Param("role") User.Role role);
+
+    /**
+     * ロールが一致する有効なユーザーの行ロックを取得.
+     * 
+     * <p>管理者を減らす可能性がある操作の前に{@link User.Role#ROLE_ADMIN}を指定して呼び出し、
+     * 操作後に{@link #countByRoleAndEnabled(User.Role, boolean)}で有効な管理者が残ることを確認します。
+     * 同じ操作は行ロックの取得で直列化されるため、同時に実行しても有効な管理者がいなくなりません。
+     * 
+     * @param role ロール
+     * @return ユーザーID（昇順、デッドロックを避けるため常に同じ順序でロックする）
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u.id from User u where u.role = :role and u.enabled = true order by u.id asc")
+    List<Long> lockEnabledIdsByRole(@Param("role") User.Role role);
+
+    /**
+     * ロール・有効/無効状態が一致するユーザー数を取得.
+     * 
+     * @param role ロール
+     * @param enabled 有効/無効状態
+     * @return ユーザー数
+     */
+    long countByRoleAndEnabled(User.Role role, boolean enabled);
+
+    /**
+     * キャッシュ・発行済みトークンの無効化に必要な列を取得.
+     * 
+     * @param ids ユーザーID（{@value #MAX_BULK_IDS}件以下）
+     * @return ID・メールアドレス・セキュリティバージョン
+     */
+    @Query("select u.id as id, u.email as email, u.securityVersion as securityVersion"
+            + " from User u where u.id in :ids")
+    List<SecurityKey> findSecurityKeys(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 部分更新の前に、キャッシュ・発行済みトークンの無効化に必要な列と現在の状態を取得.
+     * 
+     * @param id ユーザーID
+     * @return ID・メールアドレス・セキュリティバージョン・ロール・有効/無効状態・バージョン
+     */
+    @Query("select u.id as id, u.email as email, u.securityVersion as securityVersion,"
+            + " u.role as role, u.enabled as enabled, u.version as version from User u where u.id = :id")
+    Optional<SecurityState> findSecurityStateById(@Param("id") Long id);
+
+    /**
+     * 有効/無効状態を一括更新.
+     * 
+     * <p>エンティティを読み込まず、1つのUPDATE文で更新します。
+     * 状態が変わるユーザーのみ、セキュリティバージョンをインクリメントして発行済みトークンを失効させます。
+     * 一括更新はエンティティのコールバック（監査フィールドの自動設定）・バージョン管理を経由しないため、
+     * バージョンはUPDATE文でインクリメントし、更新日時は引数で指定します。実行前に永続化コンテキストをフラッシュし、実行後にクリアします。
+     * 
+     * @param ids ユーザーID（{@value #MAX_BULK_IDS}件以下）
+     * @param enabled 変更後の有効/無効状態
+     * @param now 更新日時
+     * @return 更新した件数
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.enabled = :enabled, u.securityVersion = u.securityVersion + 1,"
+            + " u.version = u.version + 1, u.updatedAt = :now where u.id in :ids and u.enabled <> :enabled")
+    int updateEnabled(@Param("ids") Collection<Long> ids,
+                      @Param("enabled") boolean enabled,
+                      @Param("now") Instant now);
+
+    /**
+     * ロールを一括更新.
+     * 
+     * <p>アクセストークンはロールを含むため、ロールが変わるユーザーのみ
+     * セキュリティバージョンをインクリメントして発行済みトークンを失効させます。
+     * 
+     * @param ids ユーザーID（{@value #MAX_BULK_IDS}件以下）
+     * @param role 変更後のロール
+     * @param now 更新日時
+     * @return 更新した件数
+     * @see #updateEnabled(Collection, boolean, Instant)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.role = :role, u.securityVersion = u.securityVersion + 1,"
+            + " u.version = u.version + 1, u.updatedAt = :now where u.id in :ids and u.role <> :role")
+    int updateRole(@Param("ids") Collection<Long> ids,
+                   @Param("role") User.Role role,
+                   @Param("now") Instant now);
+
+    /**
+     * ユーザーを一括削除.
+     * 
+     * <p>エンティティを読み込まず、1つのDELETE文で削除します。
+     * 
+     * @param ids ユーザーID（{@value #MAX_BULK_IDS}件以下）
+     * @return 削除した件数
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from User u where u.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 全ユーザーDTOをストリームで取得（エクスポート用）.
+     * 
+     * <p>JDBCのフェッチサイズ単位で行を取得するため、件数によらずメモリに保持する行は一定です
+     * （PostgreSQLはトランザクション内でのみフェッチサイズが有効なため、
+     * 読み取り専用トランザクション内で呼び出し、使用後は必ずクローズしてください）。
+     * 
+     * @return ユーザーDTOのストリーム（ID昇順）
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(USER_DTO_SELECT + " order by u.id asc")
+    Stream<UserDto> streamAllForExport();
+
+    /**
+     * キャッシュ・発行済みトークンの無効化に必要な列のプロジェクション.
+     */
+    interface SecurityKey {
+
+        /**
+         * ユーザーID.
+         *
+         * @return ユーザーID
+         */
+        Long getId();
+
+        /**
+         * メールアドレス.
+         *
+         * @return メールアドレス
+         */
+        String getEmail();
+
+        /**
+         * セキュリティバージョン.
+         *
+         * @return セキュリティバージョン
+         */
+        Long getSecurityVersion();
+    }
+
+    /**
+     * 部分更新で変更の有無を判定するための現在の状態のプロジェクション.
+     */
+    interface SecurityState extends SecurityKey {
+
+        /**
+         * ロール.
+         *
+         * @return ロール
+         */
+        User.Role getRole();
+
+        /**
+         * 有効/無効状態.
+         *
+         * @return 有効なユーザーの場合true
+         */
+        Boolean getEnabled();
+
+        /**
+         * バージョン（楽観的ロック）.
+         *
+         * @return バージョン
+         */
+        Long getVersion();
+    }
 }
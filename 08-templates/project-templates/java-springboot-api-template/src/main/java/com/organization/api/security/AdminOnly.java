@@ -0,0 +1,25 @@
+package com.organization.api.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 管理者専用メソッドを示すアノテーション.
+ *
+ * <p>{@code @PreAuthorize("hasRole('ADMIN')")}と同じ判定を、SpELを評価せずに
+ * {@link RoleAuthorizationManager}（ロールのビットマスク）で行います。
+ * クラスに付与した場合は、そのクラスのすべてのメソッドが対象になります。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ * @see com.organization.api.config.SecurityConfig
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface AdminOnly {
+}
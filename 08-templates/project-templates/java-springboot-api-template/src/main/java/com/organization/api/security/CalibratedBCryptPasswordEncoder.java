@@ -0,0 +1,178 @@
+package com.organization.api.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 実行環境に合わせて強度（cost）を調整したBCryptパスワードエンコーダー.
+ *
+ * <p>固定の強度ではハードウェアによってハッシュ化時間が大きく異なるため、
+ * 起動時に実際のハッシュ化時間を計測し、目標レイテンシ以内に収まる最大の強度を選択します
+ * （ただし下限強度を下回ることはありません）。
+ *
+ * <p>{@link #upgradeEncoding(String)}は保存済みハッシュの強度が調整後の強度から
+ * {@value #STRENGTH_TOLERANCE}より大きく離れている場合（または下限強度{@value #MINIMUM_STRENGTH}
+ * 未満の場合）にtrueを返却します。ログイン成功時に
+ * {@link org.springframework.security.authentication.dao.DaoAuthenticationProvider}が
+ * パスワードを再ハッシュ化し、保存済みハッシュを調整後の強度へ引き上げ・引き下げます。
+ * 許容幅を設けることで、ハードウェアの異なるインスタンス間で調整結果が1段階ずれても
+ * ログインのたびに再ハッシュ化・DB更新が発生することはありません。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Slf4j
+public class CalibratedBCryptPasswordEncoder implements PasswordEncoder {
+
+    /**
+     * 下限強度（Organization Standards準拠）.
+     */
+    public static final int MINIMUM_STRENGTH = 10;
+
+    /**
+     * 再ハッシュ化しない強度差の許容幅.
+     */
+    public static final int STRENGTH_TOLERANCE = 1;
+
+    private static final int SAMPLES = 3;
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    private final int strength;
+    private final BCryptPasswordEncoder delegate;
+
+    /**
+     * 強度を指定してエンコーダーを作成.
+     *
+     * @param strength BCrypt強度（{@value #MINIMUM_STRENGTH}〜31）
+     * @throws IllegalArgumentException 強度が下限強度未満の場合
+     */
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        if (strength < MINIMUM_STRENGTH) {
+            throw new IllegalArgumentException(
+                    "BCrypt強度は" + MINIMUM_STRENGTH + "以上を指定してください: " + strength);
+        }
+        this.strength = strength;
+        this.delegate = new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * 目標レイテンシに合わせて強度を調整したエンコーダーを作成.
+     *
+     * <p>下限強度から順に1回あたりのハッシュ化時間（{@value #SAMPLES}回計測の中央値）を計測し、
+     * 目標レイテンシを超えた時点で直前の強度を採用します。
+     *
+     * @param targetLatency 1回のハッシュ化の目標レイテンシ
+     * @param minimumStrength 下限強度（目標レイテンシを超える場合もこの強度を使用）
+     * @param maximumStrength 上限強度
+     * @return 強度調整済みのエンコーダー
+     * @throws IllegalArgumentException 下限強度が{@value #MINIMUM_STRENGTH}未満、
+     *         または上限強度が下限強度未満の場合
+     */
+    public static CalibratedBCryptPasswordEncoder calibrate(
+            Duration targetLatency, int minimumStrength, int maximumStrength) {
+
+        if (minimumStrength < MINIMUM_STRENGTH || maximumStrength < minimumStrength) {
+            throw new IllegalArgumentException("BCrypt強度の範囲が不正です: minimum="
+                    + minimumStrength + ", maximum=" + maximumStrength
+                    + "（下限強度は" + MINIMUM_STRENGTH + "以上）");
+        }
+
+        long targetNanos = targetLatency.toNanos();
+        int selected = minimumStrength;
+        long selectedNanos = 0;
+
+        // JITウォームアップ
+        new BCryptPasswordEncoder(4).encode(CALIBRATION_PASSWORD);
+
+        for (int candidate = minimumStrength; candidate <= maximumStrength; candidate++) {
+            long nanos = measure(new BCryptPasswordEncoder(candidate));
+            if (candidate > minimumStrength && nanos > targetNanos) {
+                break;
+            }
+            selected = candidate;
+            selectedNanos = nanos;
+            // 次の強度は約2倍の時間がかかるため、明らかに超える場合は計測しない
+            if (nanos * 2 > targetNanos) {
+                break;
+            }
+        }
+
+        log.info("BCrypt強度調整完了: strength={}, latency={}ms, target={}ms",
+                selected, selectedNanos / 1_000_000, targetLatency.toMillis());
+        return new CalibratedBCryptPasswordEncoder(selected);
+    }
+
+    /**
+     * 調整後の強度を取得.
+     *
+     * @return BCrypt強度
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    /**
+     * 保存済みハッシュの再ハッシュ化が必要かを判定.
+     *
+     * @param encodedPassword 保存済みハッシュ（例: {@code $2a$10$...}）
+     * @return 強度が下限強度未満、または調整後の強度との差が許容幅を超える場合true
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int stored = strengthOf(encodedPassword);
+        return stored > 0
+                && (stored < MINIMUM_STRENGTH || Math.abs(stored - strength) > STRENGTH_TOLERANCE);
+    }
+
+    /**
+     * BCryptハッシュから強度を抽出.
+     *
+     * @param encodedPassword BCryptハッシュ
+     * @return 強度（BCrypt形式でない場合は-1）
+     */
+    private static int strengthOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$'
+                || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = encodedPassword.charAt(4);
+        char ones = encodedPassword.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(ones)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    /**
+     * ハッシュ化時間の中央値を計測.
+     *
+     * @param encoder 計測対象のエンコーダー
+     * @return ハッシュ化時間の中央値（ナノ秒）
+     */
+    private static long measure(BCryptPasswordEncoder encoder) {
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
@@ -0,0 +1,525 @@
+package com.organization.api.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 省アロケーションHS256トークン検証器.
+ *
+ * <p>jjwtはトークンごとにMap・JSONツリー・{@code Date}等を生成するため、
+ * 認証の高頻度経路では主要なアロケーション源になります。
+ * この検証器はトークンをバイト列のまま処理し、汎用JSONツリーを構築せずに
+ * 必要なクレームのみを直接抽出します。
+ *
+ * <p>処理内容:
+ * <ul>
+ *   <li>Base64URLデコード・HMAC計算はスレッドローカルのバッファと{@link Mac}を再利用</li>
+ *   <li>署名比較は定数時間（{@link MessageDigest#isEqual(byte[], byte[])}）</li>
+ *   <li>{@code sub}/{@code jti}/{@code iat}/{@code exp}とフラットなカスタムクレームのみ抽出</li>
+ * </ul>
+ *
+ * <p>対応外のトークン（HS256以外、{@code alg}/{@code typ}/{@code kid}以外のヘッダー、
+ * {@code nbf}クレーム、ネストしたクレーム値等）は{@code null}を返却し、
+ * 呼び出し側（{@link JwtTokenProvider}）がjjwtで検証します。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Component
+public class CompactHs256Verifier {
+
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    private static final byte[] BASE64URL_DECODE = new byte[128];
+
+    static {
+        Arrays.fill(BASE64URL_DECODE, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL_DECODE[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final ThreadLocal<Workspace> workspace = ThreadLocal.withInitial(Workspace::new);
+
+    /**
+     * トークンを検証.
+     *
+     * @param token JWTトークン
+     * @param keys 検証に使用するキーセット
+     * @return 検証済みトークン（この検証器の対応外のトークンの場合はnull）
+     * @throws SignatureException 署名が一致しない場合
+     * @throws ExpiredJwtException 有効期限切れの場合
+     * @throws MalformedJwtException トークンの形式が不正な場合
+     * @throws io.jsonwebtoken.UnsupportedJwtException 未知のキーID、またはキーがHS256でない場合
+     */
+    public VerifiedToken verify(String token, JwtKeyRing.KeySet keys) {
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+        if (headerEnd <= 0 || payloadEnd <= headerEnd + 1 || payloadEnd == token.length() - 1
+                || token.indexOf('.', payloadEnd + 1) >= 0) {
+            throw new MalformedJwtException("JWTの形式が不正です");
+        }
+
+        Workspace ws = workspace.get();
+
+        // ヘッダー: alg=HS256であること、kidで検証キーを選択
+        int headerLength = ws.decode(token, 0, headerEnd);
+        JsonScanner header = ws.scanner.reset(ws.decoded, headerLength);
+        String keyId = null;
+        boolean hs256 = false;
+        if (!header.beginObject()) {
+            return null;
+        }
+        while (header.nextMember()) {
+            if (header.nameEquals("alg")) {
+                hs256 = header.valueEquals("HS256");
+            } else if (header.nameEquals("kid")) {
+                keyId = header.readString();
+            } else if (header.nameEquals("typ")) {
+                header.skipValue();
+            } else {
+                return null;
+            }
+            if (header.failed()) {
+                return null;
+            }
+        }
+        if (!hs256 || header.failed()) {
+            return null;
+        }
+
+        // 署名検証（定数時間比較）
+        SecretKey key = (SecretKey) keys.verificationKey(
+                keyId, JwtSigningAlgorithm.HS256.getHeaderValue());
+        byte[] expected = ws.sign(key, token, payloadEnd);
+        if (ws.decodeSignature(token, payloadEnd + 1) != SIGNATURE_LENGTH
+                || !MessageDigest.isEqual(expected, ws.signature)) {
+            throw new SignatureException("JWT署名が一致しません");
+        }
+
+        // ペイロード: 必要なクレームを直接抽出
+        int payloadLength = ws.decode(token, headerEnd + 1, payloadEnd);
+        JsonScanner payload = ws.scanner.reset(ws.decoded, payloadLength);
+        String id = null;
+        String subject = null;
+        long issuedAt = Long.MIN_VALUE;
+        long expiration = Long.MIN_VALUE;
+        Map<String, Object> claims = null;
+
+        if (!payload.beginObject()) {
+            return null;
+        }
+        while (payload.nextMember()) {
+            if (payload.nameEquals("sub")) {
+                subject = payload.readString();
+            } else if (payload.nameEquals("jti")) {
+                id = payload.readString();
+            } else if (payload.nameEquals("iat")) {
+                issuedAt = payload.readLong();
+            } else if (payload.nameEquals("exp")) {
+                expiration = payload.readLong();
+            } else if (payload.nameEquals("nbf") || payload.nameEquals("iss")
+                    || payload.nameEquals("aud")) {
+                return null;
+            } else {
+                if (claims == null) {
+                    claims = new LinkedHashMap<>(8);
+                }
+                String name = payload.name();
+                claims.put(name, payload.readScalar());
+            }
+            if (payload.failed()) {
+                return null;
+            }
+        }
+        if (payload.failed()) {
+            return null;
+        }
+
+        if (expiration != Long.MIN_VALUE
+                && System.currentTimeMillis() >= expiration * 1000L) {
+            throw new ExpiredJwtException(null, null, "JWTの有効期限が切れています");
+        }
+
+        return new VerifiedToken(
+                id,
+                subject,
+                issuedAt != Long.MIN_VALUE ? Instant.ofEpochSecond(issuedAt) : null,
+                expiration != Long.MIN_VALUE ? Instant.ofEpochSecond(expiration) : null,
+                claims != null ? Collections.unmodifiableMap(claims) : Map.of());
+    }
+
+    /**
+     * スレッドごとの作業領域（バッファ・Mac・JSONスキャナー）.
+     */
+    private static final class Workspace {
+
+        private final Mac mac;
+        private final JsonScanner scanner = new JsonScanner();
+        private final byte[] signature = new byte[SIGNATURE_LENGTH];
+        private final byte[] computed = new byte[SIGNATURE_LENGTH];
+        private byte[] decoded = new byte[INITIAL_BUFFER_SIZE];
+        private byte[] ascii = new byte[INITIAL_BUFFER_SIZE];
+        private SecretKey macKey;
+
+        Workspace() {
+            try {
+                this.mac = Mac.getInstance(HMAC_SHA256);
+            } catch (GeneralSecurityException ex) {
+                throw new IllegalStateException("HmacSHA256が利用できません", ex);
+            }
+        }
+
+        /**
+         * 署名対象（ヘッダー.ペイロード）のHMAC-SHA256を計算.
+         */
+        byte[] sign(SecretKey key, String token, int length) {
+            try {
+                if (key != macKey) {
+                    mac.init(key);
+                    macKey = key;
+                }
+                if (ascii.length < length) {
+                    ascii = new byte[Math.max(length, ascii.length * 2)];
+                }
+                for (int i = 0; i < length; i++) {
+                    ascii[i] = (byte) token.charAt(i);
+                }
+                mac.update(ascii, 0, length);
+                mac.doFinal(computed, 0);
+                return computed;
+            } catch (GeneralSecurityException ex) {
+                throw new SignatureException("JWT署名の計算に失敗しました", ex);
+            }
+        }
+
+        /**
+         * 署名部分をデコード.
+         *
+         * @return デコードしたバイト数（32バイトを超える場合は-1）
+         */
+        int decodeSignature(String token, int from) {
+            int length = decodedLength(token.length() - from);
+            if (length != SIGNATURE_LENGTH) {
+                return -1;
+            }
+            return decodeInto(token, from, token.length(), signature);
+        }
+
+        /**
+         * Base64URL文字列の一部をデコード用バッファにデコード.
+         *
+         * @return デコードしたバイト数
+         */
+        int decode(String token, int from, int to) {
+            int length = decodedLength(to - from);
+            if (decoded.length < length) {
+                decoded = new byte[Math.max(length, decoded.length * 2)];
+            }
+            return decodeInto(token, from, to, decoded);
+        }
+
+        private static int decodedLength(int chars) {
+            return chars * 3 / 4;
+        }
+
+        private static int decodeInto(String token, int from, int to, byte[] out) {
+            int buffer = 0;
+            int bits = 0;
+            int length = 0;
+            for (int i = from; i < to; i++) {
+                char c = token.charAt(i);
+                int value = c < 128 ? BASE64URL_DECODE[c] : -1;
+                if (value < 0) {
+                    throw new MalformedJwtException("JWTに不正なBase64URL文字が含まれています");
+                }
+                buffer = (buffer << 6) | value;
+                bits += 6;
+                if (bits >= 8) {
+                    bits -= 8;
+                    out[length++] = (byte) (buffer >> bits);
+                }
+            }
+            return length;
+        }
+    }
+
+    /**
+     * フラットなJSONオブジェクト用の最小限のスキャナー.
+     *
+     * <p>トップレベルのメンバーを順に走査し、値が文字列・数値・真偽値・nullの場合のみ
+     * 読み取ります。ネストしたオブジェクトや配列、不正な構文を検出した場合は
+     * {@link #failed()}がtrueになります。
+     */
+    static final class JsonScanner {
+
+        private byte[] json;
+        private int length;
+        private int pos;
+        private int nameStart;
+        private int nameEnd;
+        private boolean firstMember;
+        private boolean failed;
+
+        JsonScanner reset(byte[] json, int length) {
+            this.json = json;
+            this.length = length;
+            this.pos = 0;
+            this.failed = false;
+            return this;
+        }
+
+        boolean failed() {
+            return failed;
+        }
+
+        boolean beginObject() {
+            skipWhitespace();
+            if (pos < length && json[pos] == '{') {
+                pos++;
+                firstMember = true;
+                return true;
+            }
+            failed = true;
+            return false;
+        }
+
+        /**
+         * 次のメンバー名を読み取る.
+         *
+         * @return メンバーが存在する場合true（オブジェクト終端または失敗時はfalse）
+         */
+        boolean nextMember() {
+            if (failed) {
+                return false;
+            }
+            skipWhitespace();
+            if (pos < length && json[pos] == '}') {
+                pos++;
+                return false;
+            }
+            // 2番目以降のメンバーはカンマ区切りであること
+            if (!firstMember) {
+                if (pos >= length || json[pos] != ',') {
+                    failed = true;
+                    return false;
+                }
+                pos++;
+                skipWhitespace();
+            }
+            firstMember = false;
+            if (pos >= length || json[pos] != '"') {
+                failed = true;
+                return false;
+            }
+            pos++;
+            nameStart = pos;
+            while (pos < length && json[pos] != '"') {
+                if (json[pos] == '\\') {
+                    failed = true;
+                    return false;
+                }
+                pos++;
+            }
+            nameEnd = pos++;
+            skipWhitespace();
+            if (pos >= length || json[pos] != ':') {
+                failed = true;
+                return false;
+            }
+            pos++;
+            skipWhitespace();
+            return true;
+        }
+
+        boolean nameEquals(String name) {
+            int len = nameEnd - nameStart;
+            if (len != name.length()) {
+                return false;
+            }
+            for (int i = 0; i < len; i++) {
+                if (json[nameStart + i] != name.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        String name() {
+            return new String(json, nameStart, nameEnd - nameStart,
+                    StandardCharsets.UTF_8);
+        }
+
+        boolean valueEquals(String expected) {
+            int start = pos;
+            String value = readString();
+            if (value == null) {
+                pos = start;
+                failed = true;
+                return false;
+            }
+            return expected.equals(value);
+        }
+
+        String readString() {
+            if (pos >= length || json[pos] != '"') {
+                failed = true;
+                return null;
+            }
+            int start = ++pos;
+            while (pos < length && json[pos] != '"') {
+                if (json[pos] == '\\') {
+                    return readEscapedString(start);
+                }
+                pos++;
+            }
+            if (pos >= length) {
+                failed = true;
+                return null;
+            }
+            return new String(json, start, pos++ - start, StandardCharsets.UTF_8);
+        }
+
+        long readLong() {
+            int start = pos;
+            if (pos < length && json[pos] == '-') {
+                pos++;
+            }
+            long value = 0;
+            int digits = 0;
+            while (pos < length && json[pos] >= '0' && json[pos] <= '9') {
+                value = value * 10 + (json[pos++] - '0');
+                digits++;
+            }
+            if (digits == 0 || digits > 18 || (pos < length
+                    && (json[pos] == '.' || json[pos] == 'e' || json[pos] == 'E'))) {
+                failed = true;
+                return 0;
+            }
+            return json[start] == '-' ? -value : value;
+        }
+
+        Object readScalar() {
+            if (pos >= length) {
+                failed = true;
+                return null;
+            }
+            byte c = json[pos];
+            if (c == '"') {
+                return readString();
+            }
+            if (c == '-' || (c >= '0' && c <= '9')) {
+                return readLong();
+            }
+            if (matchLiteral("true")) {
+                return Boolean.TRUE;
+            }
+            if (matchLiteral("false")) {
+                return Boolean.FALSE;
+            }
+            if (matchLiteral("null")) {
+                return null;
+            }
+            // ネストしたオブジェクト・配列は対応外
+            failed = true;
+            return null;
+        }
+
+        void skipValue() {
+            readScalar();
+        }
+
+        private boolean matchLiteral(String literal) {
+            if (pos + literal.length() > length) {
+                return false;
+            }
+            for (int i = 0; i < literal.length(); i++) {
+                if (json[pos + i] != literal.charAt(i)) {
+                    return false;
+                }
+            }
+            pos += literal.length();
+            return true;
+        }
+
+        private String readEscapedString(int start) {
+            StringBuilder builder = new StringBuilder();
+            builder.append(new String(json, start, pos - start,
+                    StandardCharsets.UTF_8));
+            int segment = pos;
+            while (pos < length && json[pos] != '"') {
+                if (json[pos] != '\\') {
+                    pos++;
+                    continue;
+                }
+                builder.append(new String(json, segment, pos - segment,
+                        StandardCharsets.UTF_8));
+                if (pos + 1 >= length) {
+                    failed = true;
+                    return null;
+                }
+                byte escaped = json[pos + 1];
+                pos += 2;
+                switch (escaped) {
+                    case '"', '\\', '/' -> builder.append((char) escaped);
+                    case 'b' -> builder.append('\b');
+                    case 'f' -> builder.append('\f');
+                    case 'n' -> builder.append('\n');
+                    case 'r' -> builder.append('\r');
+                    case 't' -> builder.append('\t');
+                    case 'u' -> {
+                        if (pos + 4 > length) {
+                            failed = true;
+                            return null;
+                        }
+                        try {
+                            builder.append((char) Integer.parseInt(
+                                    new String(json, pos, 4, StandardCharsets.US_ASCII), 16));
+                        } catch (NumberFormatException ex) {
+                            failed = true;
+                            return null;
+                        }
+                        pos += 4;
+                    }
+                    default -> {
+                        failed = true;
+                        return null;
+                    }
+                }
+                segment = pos;
+            }
+            if (pos >= length) {
+                failed = true;
+                return null;
+            }
+            builder.append(new String(json, segment, pos - segment,
+                    StandardCharsets.UTF_8));
+            pos++;
+            return builder.toString();
+        }
+
+        private void skipWhitespace() {
+            while (pos < length && (json[pos] == ' ' || json[pos] == '\t'
+                    || json[pos] == '\n' || json[pos] == '\r')) {
+                pos++;
+            }
+        }
+    }
+}
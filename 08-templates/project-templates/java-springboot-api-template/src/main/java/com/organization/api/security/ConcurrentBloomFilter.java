@@ -0,0 +1,145 @@
+package com.organization.api.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ロックフリーなBloomフィルター.
+ *
+ * <p>ビット配列を{@link AtomicLongArray}で保持し、登録はCASのみで行います。
+ * 判定はロックを取得せず、登録と並行して呼び出せます（登録済みの値に偽陰性はありません）。
+ * 要素の削除はできないため、削除が必要な場合は新しいフィルターを再構築して差し替えてください。
+ *
+ * <p>文字列の64ビットFNV-1aハッシュをMurmurHash3のファイナライザーで撹拌して2つのハッシュ値を導出し、
+ * ダブルハッシングでk個のビット位置を決定します。
+ *
+ * <p>{@link TokenRevocationStore}（失効トークン）と
+ * {@link com.organization.api.service.RegisteredEmailFilter}（登録済みメールアドレス）で使用します。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+public final class ConcurrentBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashFunctions;
+
+    /**
+     * 想定件数と偽陽性率から最適なサイズのBloomフィルターを作成.
+     *
+     * @param expectedInsertions 想定件数（1以上）
+     * @param falsePositiveProbability 想定件数での偽陽性率（0より大きく1未満）
+     * @throws IllegalArgumentException 引数が範囲外、またはビット配列が大きすぎる場合
+     */
+    public ConcurrentBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("想定件数は1以上を指定してください: " + expectedInsertions);
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException(
+                    "偽陽性率は0より大きく1未満を指定してください: " + falsePositiveProbability);
+        }
+        long optimalBits = (long) Math.ceil(
+                -expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int words = Math.toIntExact(Math.max(1L, (optimalBits + Long.SIZE - 1) / Long.SIZE));
+
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * Long.SIZE;
+        this.hashFunctions = Math.max(1,
+                (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 値を登録.
+     *
+     * @param value 値
+     */
+    public void add(String value) {
+        long h1 = hash(value);
+        long h2 = secondHash(h1);
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = index(h1, h2, i);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * 登録済みの可能性があるかを判定.
+     *
+     * @param value 値
+     * @return 登録済みの可能性がある場合true（偽陽性あり）、未登録が確実な場合false
+     */
+    public boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = secondHash(h1);
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = index(h1, h2, i);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * ビット数を取得.
+     *
+     * @return ビット数
+     */
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    /**
+     * ハッシュ関数の数を取得.
+     *
+     * @return ハッシュ関数の数
+     */
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    /**
+     * ダブルハッシング法でi番目のビット位置を算出.
+     */
+    private long index(long h1, long h2, int i) {
+        return Math.floorMod(h1 + i * h2, bitCount);
+    }
+
+    /**
+     * 64ビットFNV-1aハッシュ（最終ミキシング付き）.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * 1つ目のハッシュ値から2つ目のハッシュ値（奇数）を導出.
+     */
+    private static long secondHash(long h1) {
+        return mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+    }
+
+    /**
+     * MurmurHash3の64ビットファイナライザー.
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,211 @@
+package com.organization.api.security;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 同一ユーザー向けHS256トークンの一括署名器.
+ *
+ * <p>{@link io.jsonwebtoken.Jwts#builder()}はトークンごとにビルダー・クレームMap・
+ * JSONシリアライザー・{@link Mac}を構築します。この署名器は一括発行の開始時に
+ * ヘッダー（Base64URL済み）・固定クレームのJSON・初期化済みの{@link Mac}を
+ * 1回だけ用意し、トークンごとには{@code jti}/{@code iat}/{@code exp}のみを書き込みます。
+ *
+ * <p>出力は通常の発行経路と同じ形式（{@code kid}ヘッダー付きHS256、
+ * {@code jti}/{@code sub}/{@code iat}/{@code exp}とカスタムクレーム）で、
+ * jjwtおよび{@link CompactHs256Verifier}で検証できます。
+ *
+ * <p>スレッドセーフではありません（一括発行1回につき1インスタンスを使用）。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+final class Hs256TokenMinter {
+
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+    private static final byte[] BASE64URL_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+                    .getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EXPIRATION_PREFIX = ",\"exp\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] OBJECT_END = {'}'};
+    private static final byte[] SEPARATOR = {'.'};
+
+    private final Mac mac;
+    private final byte[] signingInputPrefix;
+    private final byte[] payloadPrefix;
+    private final byte[] payloadSuffix;
+    private final byte[] signature = new byte[SIGNATURE_LENGTH];
+    private final ByteBuilder json = new ByteBuilder(256);
+    private final ByteBuilder output = new ByteBuilder(512);
+
+    /**
+     * 署名器を作成.
+     *
+     * @param keyId 署名キーID（{@code kid}ヘッダー）
+     * @param signingKey 署名キー
+     * @param subject サブジェクト（{@code sub}）
+     * @param claims カスタムクレーム（値は文字列・数値・真偽値のみ）
+     * @throws IllegalArgumentException 対応外のクレーム値を含む場合
+     */
+    Hs256TokenMinter(String keyId, SecretKey signingKey, String subject, Map<String, Object> claims) {
+        try {
+            this.mac = Mac.getInstance(HMAC_SHA256);
+            mac.init(signingKey);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HmacSHA256が利用できません", ex);
+        }
+
+        StringBuilder header = new StringBuilder("{\"alg\":\"HS256\"");
+        if (keyId != null) {
+            header.append(",\"kid\":");
+            appendString(header, keyId);
+        }
+        header.append('}');
+        this.signingInputPrefix = (BASE64URL.encodeToString(
+                header.toString().getBytes(StandardCharsets.UTF_8)) + ".")
+                .getBytes(StandardCharsets.US_ASCII);
+
+        StringBuilder prefix = new StringBuilder("{");
+        claims.forEach((name, value) -> {
+            appendString(prefix, name);
+            prefix.append(':');
+            appendValue(prefix, value);
+            prefix.append(',');
+        });
+        prefix.append("\"jti\":\"");
+        this.payloadPrefix = prefix.toString().getBytes(StandardCharsets.UTF_8);
+
+        StringBuilder suffix = new StringBuilder("\",\"sub\":");
+        appendString(suffix, subject);
+        suffix.append(",\"iat\":");
+        this.payloadSuffix = suffix.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * トークンを1件署名.
+     *
+     * @param tokenId トークンID（{@code jti}）
+     * @param issuedAt 発行日時（エポック秒）
+     * @param expiration 有効期限（エポック秒）
+     * @return 署名済みトークン
+     */
+    String mint(UUID tokenId, long issuedAt, long expiration) {
+        // ペイロードJSON: 固定クレーム + jti + sub + iat + exp
+        json.reset(payloadPrefix);
+        json.appendAscii(tokenId.toString());
+        json.append(payloadSuffix);
+        json.appendAscii(Long.toString(issuedAt));
+        json.append(EXPIRATION_PREFIX);
+        json.appendAscii(Long.toString(expiration));
+        json.append(OBJECT_END);
+
+        // 署名対象（ヘッダー.ペイロード）と署名を再利用バッファに書き込む
+        output.reset(signingInputPrefix);
+        output.appendBase64Url(json.bytes, json.length);
+        int signingInputLength = output.length;
+        try {
+            mac.update(output.bytes, 0, signingInputLength);
+            mac.doFinal(signature, 0);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("JWTの署名に失敗しました", ex);
+        }
+        output.append(SEPARATOR);
+        output.appendBase64Url(signature, signature.length);
+        return new String(output.bytes, 0, output.length, StandardCharsets.US_ASCII);
+    }
+
+    private static void appendValue(StringBuilder target, Object value) {
+        if (value instanceof String string) {
+            appendString(target, string);
+        } else if (value instanceof Number || value instanceof Boolean) {
+            target.append(value);
+        } else {
+            throw new IllegalArgumentException("対応外のクレーム値です: " + value);
+        }
+    }
+
+    private static void appendString(StringBuilder target, String value) {
+        target.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                target.append('\\').append(c);
+            } else if (c < 0x20) {
+                target.append(String.format("\\u%04x", (int) c));
+            } else {
+                target.append(c);
+            }
+        }
+        target.append('"');
+    }
+
+    /**
+     * 再利用可能なバイト列バッファ.
+     */
+    private static final class ByteBuilder {
+
+        private byte[] bytes;
+        private int length;
+
+        ByteBuilder(int initialCapacity) {
+            this.bytes = new byte[initialCapacity];
+        }
+
+        void reset(byte[] prefix) {
+            length = 0;
+            append(prefix);
+        }
+
+        void append(byte[] source) {
+            ensureCapacity(source.length);
+            System.arraycopy(source, 0, bytes, length, source.length);
+            length += source.length;
+        }
+
+        void appendAscii(String source) {
+            ensureCapacity(source.length());
+            for (int i = 0; i < source.length(); i++) {
+                bytes[length++] = (byte) source.charAt(i);
+            }
+        }
+
+        void appendBase64Url(byte[] source, int sourceLength) {
+            ensureCapacity((sourceLength * 4 + 2) / 3);
+            int i = 0;
+            for (; i + 2 < sourceLength; i += 3) {
+                int bits = (source[i] & 0xff) << 16
+                        | (source[i + 1] & 0xff) << 8
+                        | (source[i + 2] & 0xff);
+                bytes[length++] = BASE64URL_ALPHABET[bits >>> 18];
+                bytes[length++] = BASE64URL_ALPHABET[(bits >>> 12) & 0x3f];
+                bytes[length++] = BASE64URL_ALPHABET[(bits >>> 6) & 0x3f];
+                bytes[length++] = BASE64URL_ALPHABET[bits & 0x3f];
+            }
+            int remaining = sourceLength - i;
+            if (remaining > 0) {
+                int bits = (source[i] & 0xff) << 16
+                        | (remaining == 2 ? (source[i + 1] & 0xff) << 8 : 0);
+                bytes[length++] = BASE64URL_ALPHABET[bits >>> 18];
+                bytes[length++] = BASE64URL_ALPHABET[(bits >>> 12) & 0x3f];
+                if (remaining == 2) {
+                    bytes[length++] = BASE64URL_ALPHABET[(bits >>> 6) & 0x3f];
+                }
+            }
+        }
+
+        private void ensureCapacity(int additional) {
+            if (length + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(length + additional, bytes.length * 2));
+            }
+        }
+    }
+}
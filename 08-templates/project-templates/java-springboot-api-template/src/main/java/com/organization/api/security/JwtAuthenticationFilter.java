@@ -1,15 +1,19 @@
 package com.organization.api.security;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -19,28 +23,64 @@ import java.io.IOException;
 /**
  * JWT認証フィルター.
  * 
- * <p>すべてのHTTPリクエストに対してJWTトークンを検証し、
+ * <p>HTTPリクエストに対してJWTトークンを検証し、
  * 認証されたユーザー情報をSecurityContextに設定します。
+ * {@link RequestPathClassifier}でパブリックと判定されたリクエストは
+ * トークンの検証を行わずにスキップします。
  * 
  * <p>処理フロー:
  * <ol>
  *   <li>Authorizationヘッダーからトークンを抽出</li>
- *   <li>トークンからユーザー名を抽出</li>
- *   <li>UserDetailsServiceでユーザー情報を取得</li>
- *   <li>トークンの有効性を検証</li>
+ *   <li>トークンを検証・解析（署名検証とクレーム解析は1回のみ）</li>
+ *   <li>失効済みトークン（{@link TokenRevocationStore}）でないことを確認</li>
+ *   <li>ユーザー情報を構築（認証モードにより取得方法が異なる）</li>
  *   <li>認証情報をSecurityContextに設定</li>
  * </ol>
  * 
+ * <p>認証モード（{@code jwt.authentication-mode}）:
+ * <ul>
+ *   <li>{@link AuthenticationMode#DATABASE}: UserDetailsServiceでユーザー情報を取得し、
+ *       無効化されたユーザーやセキュリティバージョンが古いトークンを拒否</li>
+ *   <li>{@link AuthenticationMode#CLAIMS}: トークンのクレーム（ユーザーID・ロール・
+ *       セキュリティバージョン）のみからプリンシパルを構築し、データベースを参照しない。
+ *       失効判定は{@link UserSecurityVersionRegistry}で行い、判定できない場合のみ
+ *       データベースで確認</li>
+ * </ul>
+ * 
+ * <p>検証に失敗したトークン（署名不正・有効期限切れ等）は認証せずに
+ * フィルターチェーンを続行します。アクセス可否は後続の認可処理で判定されます。
+ * 
  * @author Organization Development Team
  * @version 1.0.0
  * @since 2024-01-01
  */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final UserSecurityVersionRegistry securityVersionRegistry;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final RequestPathClassifier requestPathClassifier;
+
+    @Value("${jwt.authentication-mode:DATABASE}")
+    private AuthenticationMode authenticationMode;
+
+    /**
+     * パブリックなリクエストはフィルターを適用しない.
+     * 
+     * <p>パブリックなエンドポイントは認証結果を使用しないため、
+     * Authorizationヘッダーが付与されていても署名検証・ユーザー取得を行いません。
+     * 
+     * @param request HTTPリクエスト
+     * @return パブリックなリクエストの場合true
+     */
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return requestPathClassifier.classify(request) == RequestPathClassifier.RequestClass.PUBLIC;
+    }
 
     /**
      * 各リクエストに対してJWT認証を実行.
@@ -63,7 +103,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Authorizationヘッダーを取得
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String username;
+        final VerifiedToken token;
 
         // Authorizationヘッダーが存在しない、またはBearer形式でない場合はスキップ
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -74,16 +114,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // "Bearer "プレフィックスを除去してトークンを抽出
         jwt = authHeader.substring(7);
         
-        // トークンからユーザー名を抽出
-        username = jwtTokenProvider.extractUsername(jwt);
+        // トークンを検証・解析（署名検証と有効期限チェックを含む、解析は1回のみ）
+        try {
+            token = jwtTokenProvider.verify(jwt);
+        } catch (JwtException | IllegalArgumentException ex) {
+            log.debug("JWT検証失敗: {}", ex.getMessage());
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // リフレッシュトークンはAPIの認証に使用できない
+        if (token.isRefreshToken()) {
+            log.debug("リフレッシュトークンによる認証を拒否: jti={}", token.getId());
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 失効済みトークンは認証しない
+        if (token.getId() != null && tokenRevocationStore.isRevoked(token.getId())) {
+            log.debug("失効済みトークン: jti={}", token.getId());
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final String username = token.getSubject();
 
         // ユーザー名が存在し、まだ認証されていない場合
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            // UserDetailsServiceでユーザー情報を取得
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = resolveUserDetails(token);
 
-            // トークンの有効性を検証
-            if (jwtTokenProvider.isTokenValid(jwt, userDetails)) {
+            if (userDetails != null) {
                 // 認証トークンを作成
                 UsernamePasswordAuthenticationToken authToken = 
                     new UsernamePasswordAuthenticationToken(
@@ -105,4 +165,82 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 次のフィルターに処理を委譲
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * 検証済みトークンからユーザー情報を構築.
+     * 
+     * <p>クレームのみ認証モードでは、レジストリで有効と判定できたトークンについて
+     * クレームからプリンシパルを構築します。それ以外の場合はデータベースから取得します。
+     * 
+     * @param token 検証済みトークン
+     * @return ユーザー情報（トークンが失効済みの場合はnull）
+     */
+    private UserDetails resolveUserDetails(VerifiedToken token) {
+        Long userId = token.getUserId();
+        Long securityVersion = token.getSecurityVersion();
+        String role = token.getRole();
+
+        boolean hasUserClaims = userId != null && securityVersion != null && role != null;
+
+        if (authenticationMode == AuthenticationMode.CLAIMS && hasUserClaims) {
+            switch (securityVersionRegistry.check(userId, securityVersion, token.getIssuedAt())) {
+                case CURRENT:
+                    return UserPrincipal.create(userId, token.getSubject(), null, role);
+                case REVOKED:
+                    log.debug("失効済みトークン: userId={}, securityVersion={}", 
+                            userId, securityVersion);
+                    return null;
+                default:
+                    // レジストリで判定できない場合はデータベースで確認
+                    break;
+            }
+        }
+
+        return loadUserDetails(token);
+    }
+
+    /**
+     * データベースからユーザー情報を取得し、トークンの有効性を確認.
+     * 
+     * @param token 検証済みトークン
+     * @return ユーザー情報（ユーザーが存在しない、無効、またはトークンが古い場合はnull）
+     */
+    private UserDetails loadUserDetails(VerifiedToken token) {
+        UserDetails userDetails;
+        try {
+            userDetails = userDetailsService.loadUserByUsername(token.getSubject());
+        } catch (UsernameNotFoundException ex) {
+            log.debug("トークンのユーザーが存在しません: {}", token.getSubject());
+            return null;
+        }
+
+        if (!userDetails.isEnabled()) {
+            log.debug("無効化されたユーザーのトークン: {}", token.getSubject());
+            return null;
+        }
+
+        if (userDetails instanceof UserPrincipal principal
+                && principal.getSecurityVersion() != null) {
+            Long tokenVersion = token.getSecurityVersion();
+            if (tokenVersion != null && tokenVersion < principal.getSecurityVersion()) {
+                log.debug("セキュリティバージョンが古いトークン: userId={}", principal.getId());
+                return null;
+            }
+            if (authenticationMode == AuthenticationMode.CLAIMS) {
+                securityVersionRegistry.record(principal.getId(), principal.getSecurityVersion());
+            }
+        }
+
+        return userDetails;
+    }
+
+    /**
+     * 認証モード.
+     */
+    public enum AuthenticationMode {
+        /** リクエストごとにデータベースからユーザー情報を取得. */
+        DATABASE,
+        /** トークンのクレームのみからユーザー情報を構築. */
+        CLAIMS
+    }
 }
@@ -0,0 +1,319 @@
+package com.organization.api.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.Key;
+import java.security.PublicKey;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * JWT署名キーリング.
+ *
+ * <p>署名キー・検証キー・JwtParserを事前構築して保持し、
+ * リクエストごとのBase64デコードやキー生成、パーサー構築を排除します。
+ * キーセットは不変スナップショットとして{@link AtomicReference}で管理され、
+ * 再起動なしでアトミックに差し替え（ローテーション）できます。
+ *
+ * <p>キー構成:
+ * <ul>
+ *   <li>署名キー: 1つ（アクティブキー、JWTヘッダーの{@code kid}に設定）</li>
+ *   <li>検証キー: 複数（{@code kid}で選択、ローテーション中の旧キーを含む）</li>
+ * </ul>
+ *
+ * <p>キーごとに署名アルゴリズム（{@link JwtSigningAlgorithm}）を指定できます。
+ * ES256/EdDSAのキーは公開鍵で検証するため、他のサービスは秘密鍵を保持せずに
+ * トークンを検証できます（公開鍵は{@code /.well-known/jwks.json}で公開）。
+ * トークンヘッダーの{@code alg}はキーのアルゴリズムと一致する必要があります。
+ *
+ * <p>{@code jwt.key-ring.location}にキーリングファイル（properties形式）を指定すると、
+ * {@code jwt.key-ring.refresh-interval}間隔で更新を検知して再読み込みします。
+ * <pre>{@code
+ * active-key-id=2026-10
+ * algorithms.2026-10=ES256
+ * keys.2026-10=<PKCS#8秘密鍵（Base64またはPEM）>
+ * public-keys.2026-10=<X.509公開鍵（Base64またはPEM）>
+ * keys.2026-04=<ローテーション前のHS256秘密鍵（検証のみ、algorithms省略時はHS256）>
+ * }</pre>
+ * 未指定の場合は{@code jwt.algorithm}のアルゴリズムで、HS256は{@code jwt.secret}、
+ * ES256/EdDSAは{@code jwt.private-key}/{@code jwt.public-key}を
+ * {@code kid=default}の単一キーとして使用します。
+ *
+ * <p>ローテーション手順: 新キーを検証キーとして追加 → アクティブキーを切り替え →
+ * 最長トークン有効期限（リフレッシュトークン7日）経過後に旧キーを削除。
+ * HS256からES256/EdDSAへの移行も同じ手順で行えます。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Component
+@Slf4j
+public class JwtKeyRing {
+
+    /**
+     * {@code jwt.secret}から構築したキー、および{@code kid}のない旧トークンに使用するキーID.
+     */
+    public static final String DEFAULT_KEY_ID = "default";
+
+    private static final String ACTIVE_KEY_PROPERTY = "active-key-id";
+    private static final String KEY_PROPERTY_PREFIX = "keys.";
+    private static final String PUBLIC_KEY_PROPERTY_PREFIX = "public-keys.";
+    private static final String ALGORITHM_PROPERTY_PREFIX = "algorithms.";
+
+    private final AtomicReference<KeySet> current = new AtomicReference<>();
+    private final Path location;
+    private volatile FileTime loadedModifiedTime;
+
+    /**
+     * キーリングを初期化.
+     *
+     * @param algorithm 単一構成時の署名アルゴリズム
+     * @param secret 単一構成時のHS256秘密鍵（Base64）
+     * @param privateKey 単一構成時のES256/EdDSA秘密鍵（PKCS#8、Base64またはPEM）
+     * @param publicKey 単一構成時のES256/EdDSA公開鍵（X.509、Base64またはPEM）
+     * @param location キーリングファイルのパス（空の場合は単一構成）
+     * @throws IOException キーリングファイルの読み込みに失敗した場合
+     */
+    public JwtKeyRing(
+            @Value("${jwt.algorithm:HS256}") JwtSigningAlgorithm algorithm,
+            @Value("${jwt.secret:}") String secret,
+            @Value("${jwt.private-key:}") String privateKey,
+            @Value("${jwt.public-key:}") String publicKey,
+            @Value("${jwt.key-ring.location:}") String location) throws IOException {
+
+        this.location = StringUtils.hasText(location) ? Path.of(location) : null;
+
+        if (this.location != null) {
+            loadFromFile();
+        } else if (algorithm.isAsymmetric()) {
+            rotate(DEFAULT_KEY_ID, Map.of(DEFAULT_KEY_ID,
+                    new KeyDefinition(algorithm, privateKey, publicKey)));
+        } else {
+            rotate(DEFAULT_KEY_ID, Map.of(DEFAULT_KEY_ID,
+                    new KeyDefinition(algorithm, secret, secret)));
+        }
+    }
+
+    /**
+     * 現在のキーセットを取得.
+     *
+     * @return 現在のキーセット（不変）
+     */
+    public KeySet current() {
+        return current.get();
+    }
+
+    /**
+     * キーセットをアトミックに差し替え.
+     *
+     * <p>キーとパーサーはこのメソッド内で構築されるため、
+     * 差し替え後のリクエスト処理で追加のキー生成は発生しません。
+     * ES256/EdDSAの秘密鍵を持つキーは、公開鍵と対応する鍵ペアであることを確認してから差し替えます
+     * （JWKSで公開する公開鍵で検証できないトークンを発行しないため）。
+     *
+     * @param activeKeyId 署名に使用するキーID
+     * @param definitions キーIDとキー定義のマップ
+     * @throws IllegalArgumentException アクティブキーが存在しない、署名キーがない、
+     *         キーの形式が不正、または秘密鍵と公開鍵が対応しない場合
+     */
+    public void rotate(String activeKeyId, Map<String, KeyDefinition> definitions) {
+        KeyDefinition active = definitions.get(activeKeyId);
+        if (active == null || !StringUtils.hasText(active.signingKey())) {
+            throw new IllegalArgumentException(
+                    "アクティブキー（署名キー）がキーリングに存在しません: kid=" + activeKeyId);
+        }
+
+        Map<String, VerificationKey> keys = new LinkedHashMap<>();
+        Key signingKey = null;
+        for (Map.Entry<String, KeyDefinition> entry : definitions.entrySet()) {
+            String keyId = entry.getKey();
+            KeyDefinition definition = entry.getValue();
+            JwtSigningAlgorithm algorithm = definition.algorithm();
+            String encoded = algorithm.isAsymmetric()
+                    ? definition.verificationKey() : definition.signingKey();
+            Key verificationKey = algorithm.parseVerificationKey(encoded);
+
+            // 秘密鍵を持つキーは公開中の公開鍵と対応することを確認（切り替え前の次期キーを含む）
+            if (StringUtils.hasText(definition.signingKey())) {
+                Key parsed = algorithm.parseSigningKey(definition.signingKey());
+                try {
+                    algorithm.checkKeyPair(parsed, verificationKey);
+                } catch (IllegalArgumentException ex) {
+                    throw new IllegalArgumentException(ex.getMessage() + ": kid=" + keyId, ex);
+                }
+                if (keyId.equals(activeKeyId)) {
+                    signingKey = parsed;
+                }
+            }
+            keys.put(keyId, new VerificationKey(algorithm, verificationKey));
+        }
+
+        KeySet previous = current.getAndSet(new KeySet(activeKeyId, active.algorithm(), signingKey, keys));
+        if (previous != null) {
+            log.info("JWTキーリング更新: activeKeyId={}, algorithm={}, keyIds={}",
+                    activeKeyId, active.algorithm(), keys.keySet());
+        }
+    }
+
+    /**
+     * キーリングファイルの更新を検知して再読み込み.
+     *
+     * <p>ファイル未指定、または更新がない場合は何もしません。
+     * 読み込みに失敗した場合は現在のキーセットを維持します。
+     */
+    @Scheduled(
+            fixedDelayString = "${jwt.key-ring.refresh-interval:30000}",
+            initialDelayString = "${jwt.key-ring.refresh-interval:30000}")
+    public void reload() {
+        if (location == null) {
+            return;
+        }
+
+        try {
+            if (!Files.getLastModifiedTime(location).equals(loadedModifiedTime)) {
+                loadFromFile();
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.error("JWTキーリングの再読み込みに失敗しました（現在のキーを維持）: {}", location, ex);
+        }
+    }
+
+    /**
+     * キーリングファイルを読み込んでキーセットを差し替え.
+     *
+     * @throws IOException ファイルの読み込みに失敗した場合
+     */
+    private void loadFromFile() throws IOException {
+        FileTime modifiedTime = Files.getLastModifiedTime(location);
+
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(location)) {
+            properties.load(in);
+        }
+
+        Map<String, KeyDefinition> definitions = new LinkedHashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            String keyId;
+            if (name.startsWith(KEY_PROPERTY_PREFIX)) {
+                keyId = name.substring(KEY_PROPERTY_PREFIX.length());
+            } else if (name.startsWith(PUBLIC_KEY_PROPERTY_PREFIX)) {
+                keyId = name.substring(PUBLIC_KEY_PROPERTY_PREFIX.length());
+            } else {
+                continue;
+            }
+            if (!definitions.containsKey(keyId)) {
+                String algorithm = properties.getProperty(ALGORITHM_PROPERTY_PREFIX + keyId);
+                definitions.put(keyId, new KeyDefinition(
+                        algorithm != null
+                                ? JwtSigningAlgorithm.valueOf(algorithm.trim())
+                                : JwtSigningAlgorithm.HS256,
+                        properties.getProperty(KEY_PROPERTY_PREFIX + keyId),
+                        properties.getProperty(PUBLIC_KEY_PROPERTY_PREFIX + keyId)));
+            }
+        }
+
+        rotate(properties.getProperty(ACTIVE_KEY_PROPERTY), definitions);
+        loadedModifiedTime = modifiedTime;
+    }
+
+    /**
+     * キーの定義（キーリングファイル・設定値の内容）.
+     *
+     * @param algorithm 署名アルゴリズム
+     * @param signingKey 署名キー（HS256は秘密鍵、ES256/EdDSAはPKCS#8秘密鍵。検証のみのキーはnull）
+     * @param verificationKey ES256/EdDSAのX.509公開鍵（HS256は使用しない）
+     */
+    public record KeyDefinition(
+            JwtSigningAlgorithm algorithm, String signingKey, String verificationKey) {
+    }
+
+    /**
+     * 解析済みの検証キー.
+     *
+     * @param algorithm 署名アルゴリズム
+     * @param key 検証キー（HS256は{@link SecretKey}、ES256/EdDSAは{@link PublicKey}）
+     */
+    public record VerificationKey(JwtSigningAlgorithm algorithm, Key key) {
+    }
+
+    /**
+     * キーセット（不変スナップショット）.
+     *
+     * <p>署名キーと、{@code kid}ヘッダーで検証キーを選択する事前構築済みの
+     * スレッドセーフなJwtParserを保持します。
+     */
+    @Getter
+    public static final class KeySet {
+
+        private final String activeKeyId;
+        private final JwtSigningAlgorithm signingAlgorithm;
+        private final Key signingKey;
+        private final Map<String, VerificationKey> verificationKeys;
+        private final JwtParser parser;
+
+        private KeySet(
+                String activeKeyId,
+                JwtSigningAlgorithm signingAlgorithm,
+                Key signingKey,
+                Map<String, VerificationKey> verificationKeys) {
+            this.activeKeyId = activeKeyId;
+            this.signingAlgorithm = signingAlgorithm;
+            this.signingKey = signingKey;
+            this.verificationKeys = Map.copyOf(verificationKeys);
+            this.parser = Jwts.parser()
+                    .keyLocator(new LocatorAdapter<Key>() {
+                        @Override
+                        protected Key locate(JwsHeader header) {
+                            return verificationKey(header.getKeyId(), header.getAlgorithm());
+                        }
+                    })
+                    .build();
+        }
+
+        /**
+         * キーIDとアルゴリズムに対応する検証キーを取得.
+         *
+         * <p>{@code kid}のないトークン（キーリング導入前に発行されたもの）は
+         * {@link #DEFAULT_KEY_ID}のキー、存在しない場合はアクティブキーで検証します。
+         * トークンヘッダーの{@code alg}がキーのアルゴリズムと異なる場合は拒否します
+         * （公開鍵をHMAC秘密鍵として使用させる等のアルゴリズム混同攻撃の防止）。
+         *
+         * @param keyId キーID（null可）
+         * @param algorithm トークンヘッダーの{@code alg}
+         * @return 検証キー
+         * @throws UnsupportedJwtException 未知のキーID、またはアルゴリズムが一致しない場合
+         */
+        public Key verificationKey(String keyId, String algorithm) {
+            VerificationKey key = keyId != null
+                    ? verificationKeys.get(keyId)
+                    : verificationKeys.getOrDefault(DEFAULT_KEY_ID, verificationKeys.get(activeKeyId));
+            if (key == null) {
+                throw new UnsupportedJwtException("未知の署名キーIDです: kid=" + keyId);
+            }
+            if (!key.algorithm().getHeaderValue().equals(algorithm)) {
+                throw new UnsupportedJwtException(
+                        "署名キーのアルゴリズムと一致しません: kid=" + keyId + ", alg=" + algorithm);
+            }
+            return key.key();
+        }
+    }
+}
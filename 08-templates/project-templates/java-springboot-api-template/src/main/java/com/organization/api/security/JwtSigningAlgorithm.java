@@ -0,0 +1,154 @@
+package com.organization.api.security;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+import org.springframework.util.StringUtils;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+
+/**
+ * JWT署名アルゴリズム.
+ *
+ * <p>キーリングのキーごとに指定し、署名・検証に使用するアルゴリズムとキー形式を決定します。
+ * <ul>
+ *   <li>{@link #HS256}: 共有秘密鍵（HMAC-SHA256）。検証側も秘密鍵を保持する必要があります</li>
+ *   <li>{@link #ES256}: ECDSA P-256。検証側は公開鍵のみで検証できます</li>
+ *   <li>{@link #EdDSA}: Ed25519（またはEd448）。検証側は公開鍵のみで検証できます</li>
+ * </ul>
+ *
+ * <p>キーはBase64エンコードされたDER（秘密鍵はPKCS#8、公開鍵はX.509）、
+ * またはPEM形式で指定します（HS256は256ビット以上の秘密鍵をBase64で指定）。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+public enum JwtSigningAlgorithm {
+
+    /** HMAC-SHA256（共有秘密鍵）. */
+    HS256(Jwts.SIG.HS256, null),
+    /** ECDSA P-256 + SHA-256. */
+    ES256(Jwts.SIG.ES256, "EC"),
+    /** EdDSA（Ed25519/Ed448）. */
+    EdDSA(Jwts.SIG.EdDSA, "EdDSA");
+
+    private static final String KEY_PAIR_CHECK_SUBJECT = "key-pair-check";
+
+    private final SecureDigestAlgorithm<? extends Key, ? extends Key> algorithm;
+    private final String keyFactoryAlgorithm;
+
+    JwtSigningAlgorithm(
+            SecureDigestAlgorithm<? extends Key, ? extends Key> algorithm,
+            String keyFactoryAlgorithm) {
+        this.algorithm = algorithm;
+        this.keyFactoryAlgorithm = keyFactoryAlgorithm;
+    }
+
+    /**
+     * JWTヘッダーの{@code alg}の値を取得.
+     *
+     * @return アルゴリズム名
+     */
+    public String getHeaderValue() {
+        return algorithm.getId();
+    }
+
+    /**
+     * 公開鍵で検証するアルゴリズムかを判定.
+     *
+     * @return 非対称鍵アルゴリズムの場合true
+     */
+    public boolean isAsymmetric() {
+        return keyFactoryAlgorithm != null;
+    }
+
+    /**
+     * 署名キーを解析.
+     *
+     * @param encoded HS256の場合はBase64秘密鍵、それ以外はPKCS#8秘密鍵（Base64またはPEM）
+     * @return 署名キー
+     * @throws IllegalArgumentException キーの形式が不正、またはキー長が不足する場合
+     */
+    public Key parseSigningKey(String encoded) {
+        if (!isAsymmetric()) {
+            return Keys.hmacShaKeyFor(decode(encoded));
+        }
+        try {
+            return KeyFactory.getInstance(keyFactoryAlgorithm)
+                    .generatePrivate(new PKCS8EncodedKeySpec(decode(encoded)));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalArgumentException(name() + "の秘密鍵の形式が不正です", ex);
+        }
+    }
+
+    /**
+     * 検証キーを解析.
+     *
+     * @param encoded HS256の場合はBase64秘密鍵、それ以外はX.509公開鍵（Base64またはPEM）
+     * @return 検証キー
+     * @throws IllegalArgumentException キーの形式が不正、またはキー長が不足する場合
+     */
+    public Key parseVerificationKey(String encoded) {
+        if (!isAsymmetric()) {
+            return Keys.hmacShaKeyFor(decode(encoded));
+        }
+        try {
+            return KeyFactory.getInstance(keyFactoryAlgorithm)
+                    .generatePublic(new X509EncodedKeySpec(decode(encoded)));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalArgumentException(name() + "の公開鍵の形式が不正です", ex);
+        }
+    }
+
+    /**
+     * JWTビルダーに署名キーとアルゴリズムを設定.
+     *
+     * @param builder JWTビルダー
+     * @param signingKey 署名キー（{@link #parseSigningKey(String)}で解析したもの）
+     * @return JWTビルダー
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    JwtBuilder signWith(JwtBuilder builder, Key signingKey) {
+        return builder.signWith(signingKey, (SecureDigestAlgorithm) algorithm);
+    }
+
+    /**
+     * 署名キーと検証キーが対応する鍵ペアかを確認.
+     *
+     * <p>ES256/EdDSAは確認用のトークンを秘密鍵で署名し、公開鍵で検証します。
+     * HS256は署名・検証に同じ秘密鍵を使用するため確認しません。
+     *
+     * @param signingKey 署名キー（{@link #parseSigningKey(String)}で解析したもの）
+     * @param verificationKey 検証キー（{@link #parseVerificationKey(String)}で解析したもの）
+     * @throws IllegalArgumentException 秘密鍵と公開鍵が対応しない場合
+     */
+    void checkKeyPair(Key signingKey, Key verificationKey) {
+        if (!isAsymmetric()) {
+            return;
+        }
+        try {
+            String probe = signWith(Jwts.builder().subject(KEY_PAIR_CHECK_SUBJECT), signingKey).compact();
+            Jwts.parser().verifyWith((PublicKey) verificationKey).build().parseSignedClaims(probe);
+        } catch (JwtException ex) {
+            throw new IllegalArgumentException(name() + "の秘密鍵と公開鍵が対応していません", ex);
+        }
+    }
+
+    private static byte[] decode(String encoded) {
+        if (!StringUtils.hasText(encoded)) {
+            throw new IllegalArgumentException("キーが指定されていません");
+        }
+        // PEMの場合はヘッダー・フッター行を除去
+        String base64 = encoded.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Decoders.BASE64.decode(base64);
+    }
+}
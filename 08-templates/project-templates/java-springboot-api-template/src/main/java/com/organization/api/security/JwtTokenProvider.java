@@ -1,19 +1,24 @@
 package com.organization.api.security;
 
+import com.organization.api.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
+import java.time.Instant;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * JWTトークンプロバイダー.
@@ -25,19 +30,70 @@ import java.util.function.Function;
  * <ul>
  *   <li>アクセストークン生成（有効期限15分）</li>
  *   <li>リフレッシュトークン生成（有効期限7日）</li>
- *   <li>トークン検証と解析</li>
- *   <li>ユーザー情報の抽出</li>
+ *   <li>トークン検証と解析（署名検証・クレーム解析は1回のみ）</li>
+ *   <li>検証済みトークンからのユーザー情報・クレームの取得（{@link VerifiedToken}）</li>
  * </ul>
  * 
+ * <p>署名キーとパーサーは{@link JwtKeyRing}で事前構築されたものを使用し、
+ * 発行するトークンのヘッダーには署名キーID（{@code kid}）を設定します。
+ * 署名アルゴリズム（HS256/ES256/EdDSA）はアクティブキーの設定に従います。
+ * 
+ * <p>{@code jwt.compact-verifier.enabled=true}の場合、検証は
+ * {@link CompactHs256Verifier}（省アロケーション実装）を優先し、
+ * 対応外のトークンのみjjwtで検証します。
+ * 
  * @author Organization Development Team
  * @version 1.0.0
  * @since 2024-01-01
  */
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    /**
+     * ユーザーIDクレーム名.
+     */
+    public static final String CLAIM_USER_ID = "uid";
+
+    /**
+     * ロールクレーム名.
+     */
+    public static final String CLAIM_ROLE = "role";
+
+    /**
+     * セキュリティバージョンクレーム名.
+     */
+    public static final String CLAIM_SECURITY_VERSION = "sv";
+
+    /**
+     * トークン種別クレーム名.
+     */
+    public static final String CLAIM_TOKEN_TYPE = "token_type";
+
+    /**
+     * リフレッシュトークンのトークン種別.
+     */
+    public static final String TOKEN_TYPE_REFRESH = "refresh";
+
+    /**
+     * リフレッシュトークンのファミリーIDクレーム名.
+     */
+    public static final String CLAIM_FAMILY = "fam";
+
+    /**
+     * RFC 7519 登録済みクレーム名（カスタムクレームから除外する）.
+     */
+    private static final Set<String> REGISTERED_CLAIMS = Set.of(
+            Claims.ISSUER, Claims.SUBJECT, Claims.AUDIENCE, Claims.EXPIRATION,
+            Claims.NOT_BEFORE, Claims.ISSUED_AT, Claims.ID);
+
+    private final JwtKeyRing keyRing;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final CompactHs256Verifier compactVerifier;
+    private final RefreshTokenStore refreshTokenStore;
+
+    @Value("${jwt.compact-verifier.enabled:false}")
+    private boolean compactVerifierEnabled;
 
     @Value("${jwt.access-token-expiration}")
     private long accessTokenExpiration;
@@ -46,26 +102,53 @@ public class JwtTokenProvider {
     private long refreshTokenExpiration;
 
     /**
-     * トークンからユーザー名（サブジェクト）を抽出.
-     * 
+     * トークンを検証し、検証済みトークンを返却.
+     *
+     * <p>署名検証・有効期限チェック・クレーム解析を1回の解析で実行します。
+     * 認証フィルター等の呼び出し側は、この結果のみを使用してください
+     * （同一トークンを複数回解析しないこと）。
+     *
+     * <p>検証結果は{@link VerifiedTokenCache}にトークンの有効期限まで保持され、
+     * 同一トークンの2回目以降の検証では署名検証・解析を省略します。
+     *
      * @param token JWTトークン
-     * @return ユーザー名
+     * @return 検証済みトークン
+     * @throws JwtException 署名不正、有効期限切れ、形式不正の場合
+     * @throws IllegalArgumentException トークンがnullまたは空の場合
      */
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    public VerifiedToken verify(String token) {
+        return verifiedTokenCache.get(token, this::parse);
     }
 
     /**
-     * トークンから特定のクレームを抽出.
-     * 
-     * @param <T> クレームの型
+     * トークンの署名検証とクレーム解析を実行（キャッシュを経由しない）.
+     *
      * @param token JWTトークン
-     * @param claimsResolver クレーム解析関数
-     * @return 抽出されたクレーム
+     * @return 検証済みトークン
      */
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    private VerifiedToken parse(String token) {
+        if (compactVerifierEnabled && token != null) {
+            VerifiedToken verified = compactVerifier.verify(token, keyRing.current());
+            if (verified != null) {
+                return verified;
+            }
+        }
+
+        Claims claims = extractAllClaims(token);
+
+        Map<String, Object> customClaims = new LinkedHashMap<>();
+        claims.forEach((name, value) -> {
+            if (!REGISTERED_CLAIMS.contains(name)) {
+                customClaims.put(name, value);
+            }
+        });
+
+        return new VerifiedToken(
+                claims.getId(),
+                claims.getSubject(),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration()),
+                Collections.unmodifiableMap(customClaims));
     }
 
     /**
@@ -73,11 +156,71 @@ public class JwtTokenProvider {
      * 
      * <p>有効期限: 15分（organization-standards準拠）
      * 
+     * <p>{@link User}エンティティまたはセキュリティバージョンを持つ{@link UserPrincipal}の場合は、
+     * ユーザーID・ロール・セキュリティバージョンをクレームとして埋め込みます
+     * （クレームのみ認証モードで使用）。
+     * 
      * @param userDetails ユーザー詳細情報
      * @return 生成されたアクセストークン
      */
     public String generateAccessToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails, accessTokenExpiration);
+        return generateToken(accessTokenClaims(userDetails), userDetails, accessTokenExpiration);
+    }
+
+    /**
+     * 同一ユーザーのアクセストークンを一括生成.
+     * 
+     * <p>バッチジョブ等のサービスアカウント向けに、{@link #generateAccessToken(UserDetails)}と
+     * 同じクレームを持つトークンを{@code count}件発行します。
+     * HS256の場合は署名キー・ヘッダー・固定クレームの準備を1回のみ行い（{@link Hs256TokenMinter}）、
+     * トークンごとには一意なトークンID（{@code jti}）と署名のみを生成します
+     * （ES256/EdDSAは署名演算が支配的なため、通常の発行経路で1件ずつ生成します）。
+     * 生成したトークンは保持せず、1件ずつ{@code consumer}に渡します。
+     * 
+     * @param userDetails ユーザー詳細情報
+     * @param count 発行件数
+     * @param expiration 有効期限（ミリ秒）
+     * @param consumer 生成されたトークンを受け取る処理
+     */
+    public void generateAccessTokens(
+            UserDetails userDetails,
+            int count,
+            long expiration,
+            IssuedTokenConsumer consumer) {
+
+        Map<String, Object> claims = accessTokenClaims(userDetails);
+        JwtKeyRing.KeySet keys = keyRing.current();
+
+        long issuedAt = System.currentTimeMillis() / 1000L;
+        long expiresAt = issuedAt + expiration / 1000L;
+        Instant expiresAtInstant = Instant.ofEpochSecond(expiresAt);
+
+        if (keys.getSigningAlgorithm() != JwtSigningAlgorithm.HS256) {
+            Date issuedAtDate = new Date(issuedAt * 1000L);
+            Date expirationDate = new Date(expiresAt * 1000L);
+            for (int i = 0; i < count; i++) {
+                UUID tokenId = UUID.randomUUID();
+                consumer.accept(tokenId, buildToken(keys, claims, userDetails, tokenId,
+                        issuedAtDate, expirationDate), expiresAtInstant);
+            }
+            return;
+        }
+
+        Hs256TokenMinter minter = new Hs256TokenMinter(keys.getActiveKeyId(),
+                (SecretKey) keys.getSigningKey(), userDetails.getUsername(), claims);
+        for (int i = 0; i < count; i++) {
+            UUID tokenId = UUID.randomUUID();
+            consumer.accept(tokenId, minter.mint(tokenId, issuedAt, expiresAt), expiresAtInstant);
+        }
+    }
+
+    /**
+     * アクセストークンの有効期間を取得.
+     * 
+     * @return 有効期間（ミリ秒）
+     */
+    public long getAccessTokenExpiration() {
+        return accessTokenExpiration;
     }
 
     /**
@@ -85,16 +228,56 @@ public class JwtTokenProvider {
      * 
      * <p>有効期限: 7日（organization-standards準拠）
      * 
+     * <p>トークン種別クレーム（{@code token_type=refresh}）を付与し、
+     * 認証フィルターでアクセストークンとして使用されることを防ぎます。
+     * セキュリティバージョンを持つ{@link UserPrincipal}の場合は、
+     * 再発行時の失効判定用にセキュリティバージョンを埋め込みます。
+     * 
+     * <p>新しいファミリーを開始し、{@link RefreshTokenStore}に登録します（ログイン時に使用）。
+     * 
      * @param userDetails ユーザー詳細情報
      * @return 生成されたリフレッシュトークン
      */
     public String generateRefreshToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails, refreshTokenExpiration);
+        return generateRefreshToken(userDetails, UUID.randomUUID());
+    }
+
+    /**
+     * 指定したファミリーのリフレッシュトークンを生成.
+     * 
+     * <p>ローテーション時に、使用済みトークンと同じファミリーの後続トークンを発行するために使用します。
+     * 
+     * @param userDetails ユーザー詳細情報
+     * @param familyId ファミリーID
+     * @return 生成されたリフレッシュトークン
+     */
+    public String generateRefreshToken(UserDetails userDetails, UUID familyId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_TOKEN_TYPE, TOKEN_TYPE_REFRESH);
+        claims.put(CLAIM_FAMILY, familyId.toString());
+
+        if (userDetails instanceof User user) {
+            userDetails = UserPrincipal.from(user);
+        }
+        if (userDetails instanceof UserPrincipal principal
+                && principal.getSecurityVersion() != null) {
+            claims.put(CLAIM_SECURITY_VERSION, principal.getSecurityVersion());
+        }
+
+        UUID tokenId = UUID.randomUUID();
+        long now = System.currentTimeMillis();
+        Date expiration = new Date(now + refreshTokenExpiration);
+
+        String token = buildToken(claims, userDetails, tokenId, new Date(now), expiration);
+        refreshTokenStore.issue(tokenId, familyId, expiration.toInstant());
+        return token;
     }
 
     /**
      * カスタムクレーム付きトークンを生成.
      * 
+     * <p>トークンには失効管理用の一意なトークンID（{@code jti}）を付与します。
+     * 
      * @param extraClaims 追加のクレーム情報
      * @param userDetails ユーザー詳細情報
      * @param expiration 有効期限（ミリ秒）
@@ -105,77 +288,148 @@ public class JwtTokenProvider {
             UserDetails userDetails,
             long expiration) {
         
-        return Jwts.builder()
-                .setClaims(extraClaims)
-                .setSubject(userDetails.getUsername())
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-                .compact();
+        long now = System.currentTimeMillis();
+        return buildToken(extraClaims, userDetails, UUID.randomUUID(),
+                new Date(now), new Date(now + expiration));
     }
 
     /**
-     * トークンの有効性を検証.
+     * トークンIDと日時を指定してトークンを構築・署名.
      * 
-     * <p>以下の条件を満たす場合、トークンは有効と判定されます:
-     * <ul>
-     *   <li>トークンに含まれるユーザー名がUserDetailsと一致</li>
-     *   <li>トークンが有効期限内</li>
-     * </ul>
+     * @param claims クレーム情報
+     * @param userDetails ユーザー詳細情報
+     * @param tokenId トークンID（jti）
+     * @param issuedAt 発行日時
+     * @param expiration 有効期限
+     * @return 生成されたトークン
+     */
+    private String buildToken(
+            Map<String, Object> claims,
+            UserDetails userDetails,
+            UUID tokenId,
+            Date issuedAt,
+            Date expiration) {
+
+        return buildToken(keyRing.current(), claims, userDetails, tokenId, issuedAt, expiration);
+    }
+
+    /**
+     * 指定したキーセットのアクティブキーでトークンを構築・署名.
      * 
-     * @param token JWTトークン
+     * @param keys キーセット
+     * @param claims クレーム情報
      * @param userDetails ユーザー詳細情報
-     * @return トークンが有効な場合true
+     * @param tokenId トークンID（jti）
+     * @param issuedAt 発行日時
+     * @param expiration 有効期限
+     * @return 生成されたトークン
      */
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+    private static String buildToken(
+            JwtKeyRing.KeySet keys,
+            Map<String, Object> claims,
+            UserDetails userDetails,
+            UUID tokenId,
+            Date issuedAt,
+            Date expiration) {
+
+        JwtBuilder builder = Jwts.builder()
+                .header().keyId(keys.getActiveKeyId()).and()
+                .claims(claims)
+                .id(tokenId.toString())
+                .subject(userDetails.getUsername())
+                .issuedAt(issuedAt)
+                .expiration(expiration);
+        return keys.getSigningAlgorithm().signWith(builder, keys.getSigningKey()).compact();
     }
 
     /**
-     * トークンの有効期限切れをチェック.
+     * アクセストークンのクレームを構築.
      * 
-     * @param token JWTトークン
-     * @return 有効期限切れの場合true
+     * <p>{@link User}エンティティまたはセキュリティバージョンを持つ{@link UserPrincipal}の場合は、
+     * ユーザーID・ロール・セキュリティバージョンを設定します。
+     * 
+     * @param userDetails ユーザー詳細情報
+     * @return クレーム情報
      */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private static Map<String, Object> accessTokenClaims(UserDetails userDetails) {
+        Map<String, Object> claims = new HashMap<>();
+
+        if (userDetails instanceof User user) {
+            userDetails = UserPrincipal.from(user);
+        }
+        if (userDetails instanceof UserPrincipal principal
+                && principal.getSecurityVersion() != null
+                && principal.getAuthorities().size() == 1) {
+            claims.put(CLAIM_USER_ID, principal.getId());
+            claims.put(CLAIM_ROLE, principal.getAuthorities().iterator().next().getAuthority());
+            claims.put(CLAIM_SECURITY_VERSION, principal.getSecurityVersion());
+        }
+        return claims;
     }
 
     /**
-     * トークンから有効期限を抽出.
+     * トークンの有効性を検証.
+     * 
+     * <p>以下の条件を満たす場合、トークンは有効と判定されます:
+     * <ul>
+     *   <li>トークンに含まれるユーザー名がUserDetailsと一致</li>
+     *   <li>トークンが有効期限内</li>
+     * </ul>
+     * 
+     * <p>トークンの解析は1回のみ実行されます。
      * 
      * @param token JWTトークン
-     * @return 有効期限日時
+     * @param userDetails ユーザー詳細情報
+     * @return トークンが有効な場合true
      */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        try {
+            VerifiedToken verified = verify(token);
+            return verified.getSubject().equals(userDetails.getUsername())
+                    && !verified.isExpired(Instant.now());
+        } catch (JwtException | IllegalArgumentException ex) {
+            return false;
+        }
     }
 
     /**
      * トークンからすべてのクレームを抽出.
      * 
+     * <p>キーリングの事前構築済みパーサーを使用し、{@code kid}ヘッダーで
+     * 検証キーを選択します。
+     * 
      * @param token JWTトークン
      * @return すべてのクレーム
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return keyRing.current().getParser()
+                .parseSignedClaims(token)
+                .getPayload();
     }
 
     /**
-     * 署名キーを取得.
+     * DateをInstantに変換（nullを許容）.
      * 
-     * <p>秘密鍵をBase64デコードしてHMAC-SHA256署名キーを生成します。
-     * 本番環境では、最低256ビットの秘密鍵を環境変数から取得してください。
-     * 
-     * @return 署名キー
+     * @param date 日時
+     * @return Instant（dateがnullの場合はnull）
+     */
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+
+    /**
+     * 一括生成したトークンを受け取る処理.
      */
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    @FunctionalInterface
+    public interface IssuedTokenConsumer {
+
+        /**
+         * 生成されたトークンを受け取る.
+         * 
+         * @param tokenId トークンID（jti）
+         * @param token 生成されたトークン
+         * @param expiresAt 有効期限
+         */
+        void accept(UUID tokenId, String token, Instant expiresAt);
     }
 }
@@ -0,0 +1,249 @@
+package com.organization.api.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.organization.api.exception.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * レート制限フィルター.
+ *
+ * <p>BCryptを実行する認証API、および負荷の高い管理者向け一覧APIに対して
+ * インプロセスのトークンバケット方式でリクエスト数を制限します。
+ * 上限を超えたリクエストには429 Too Many Requestsと{@code Retry-After}ヘッダーを返却します。
+ *
+ * <p>制限対象（{@link KeyClass}）:
+ * <ul>
+ *   <li>{@link KeyClass#AUTH_IP}: {@code /api/v1/auth/**}（クライアントIPごと）</li>
+ *   <li>{@link KeyClass#ADMIN_PRINCIPAL}: {@code /api/v1/admin/**}、
+ *       {@code GET /api/v1/users}（認証済みユーザーごと、未認証の場合はクライアントIPごと）</li>
+ * </ul>
+ *
+ * <p>制限対象はサーブレットコンテナがデコードしたパス
+ * （{@link RequestPathClassifier#pathWithinApplication(HttpServletRequest)}）で判定し、
+ * 管理者APIかどうかは認可判定と同じ{@link RequestPathClassifier}の分類結果
+ * （リクエスト属性に保持済みのもの）を使用します。
+ * {@code /api/v1/%61uth/login}のようにエンコードしたパスで制限を回避することはできません。
+ *
+ * <p>JWT認証フィルターの後に配置し、認証済みのプリンシパルをキーとして使用します。
+ * クライアントIPは{@link HttpServletRequest#getRemoteAddr()}を使用するため、
+ * リバースプロキシ配下では{@code server.forward-headers-strategy}を設定してください。
+ *
+ * <p>メトリクス: 拒否件数{@code rate.limit.rejected}、保持キー数{@code rate.limit.keys}
+ * （いずれも{@code key.class}タグ付き）
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PATH = "/api/v1/auth";
+    private static final String USERS_PATH = "/api/v1/users";
+
+    private final ObjectMapper objectMapper;
+    private final RequestPathClassifier requestPathClassifier;
+    private final boolean enabled;
+    private final Map<KeyClass, TokenBucketRateLimiter> limiters = new EnumMap<>(KeyClass.class);
+    private final Map<KeyClass, Counter> rejectedCounters = new EnumMap<>(KeyClass.class);
+
+    /**
+     * レート制限フィルターを初期化.
+     *
+     * @param objectMapper エラーレスポンスのシリアライズに使用
+     * @param requestPathClassifier リクエストパス分類器（管理者APIの判定に使用）
+     * @param meterRegistry メトリクスレジストリ
+     * @param enabled レート制限を有効化する場合true
+     * @param authCapacity 認証APIのバケット容量（クライアントIPごと）
+     * @param authPeriod 認証APIのバケットが満杯に戻るまでの時間
+     * @param adminCapacity 管理者APIのバケット容量（プリンシパルごと）
+     * @param adminPeriod 管理者APIのバケットが満杯に戻るまでの時間
+     */
+    public RateLimitFilter(
+            ObjectMapper objectMapper,
+            RequestPathClassifier requestPathClassifier,
+            MeterRegistry meterRegistry,
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.auth.capacity:20}") int authCapacity,
+            @Value("${rate-limit.auth.period:1m}") Duration authPeriod,
+            @Value("${rate-limit.admin.capacity:60}") int adminCapacity,
+            @Value("${rate-limit.admin.period:1m}") Duration adminPeriod) {
+
+        this.objectMapper = objectMapper;
+        this.requestPathClassifier = requestPathClassifier;
+        this.enabled = enabled;
+        limiters.put(KeyClass.AUTH_IP, new TokenBucketRateLimiter(authCapacity, authPeriod));
+        limiters.put(KeyClass.ADMIN_PRINCIPAL, new TokenBucketRateLimiter(adminCapacity, adminPeriod));
+
+        for (KeyClass keyClass : KeyClass.values()) {
+            rejectedCounters.put(keyClass, Counter.builder("rate.limit.rejected")
+                    .description("レート制限により拒否したリクエスト数")
+                    .tag("key.class", keyClass.tagValue)
+                    .register(meterRegistry));
+            Gauge.builder("rate.limit.keys", limiters.get(keyClass), TokenBucketRateLimiter::size)
+                    .description("レート制限の保持キー数")
+                    .tag("key.class", keyClass.tagValue)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 制限対象のリクエストについてトークンを消費し、上限超過時は429を返却.
+     *
+     * @param request HTTPリクエスト
+     * @param response HTTPレスポンス
+     * @param filterChain フィルターチェーン
+     * @throws ServletException サーブレット例外
+     * @throws IOException I/O例外
+     */
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        KeyClass keyClass = enabled ? classify(request) : null;
+        if (keyClass == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = resolveKey(keyClass, request);
+        long waitNanos = limiters.get(keyClass).tryAcquire(key);
+        if (waitNanos == 0L) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        rejectedCounters.get(keyClass).increment();
+        log.debug("レート制限超過: keyClass={}, key={}", keyClass, key);
+        writeTooManyRequests(request, response, waitNanos);
+    }
+
+    /**
+     * 満杯に戻ったバケットを定期的に削除.
+     */
+    @Scheduled(
+            fixedDelayString = "${rate-limit.purge-interval:60000}",
+            initialDelayString = "${rate-limit.purge-interval:60000}")
+    public void purgeIdle() {
+        limiters.forEach((keyClass, limiter) -> {
+            int remaining = limiter.purgeIdle();
+            log.debug("レート制限キー削除: keyClass={}, remaining={}", keyClass, remaining);
+        });
+    }
+
+    /**
+     * リクエストの制限対象を判定.
+     *
+     * <p>未デコードの{@link HttpServletRequest#getRequestURI()}ではなく、
+     * デコード済みのアプリケーション内パスで判定します。
+     *
+     * @param request HTTPリクエスト
+     * @return 制限対象（対象外の場合はnull）
+     */
+    private KeyClass classify(HttpServletRequest request) {
+        String path = RequestPathClassifier.pathWithinApplication(request);
+        if (requestPathClassifier.classify(request) == RequestPathClassifier.RequestClass.ADMIN) {
+            return KeyClass.ADMIN_PRINCIPAL;
+        }
+        if (path.startsWith(AUTH_PATH)
+                && (path.length() == AUTH_PATH.length() || path.charAt(AUTH_PATH.length()) == '/')) {
+            return KeyClass.AUTH_IP;
+        }
+        if (USERS_PATH.equals(path) && HttpMethod.GET.matches(request.getMethod())) {
+            return KeyClass.ADMIN_PRINCIPAL;
+        }
+        return null;
+    }
+
+    /**
+     * レート制限キーを決定.
+     *
+     * @param keyClass 制限対象
+     * @param request HTTPリクエスト
+     * @return レート制限キー
+     */
+    private static String resolveKey(KeyClass keyClass, HttpServletRequest request) {
+        if (keyClass == KeyClass.ADMIN_PRINCIPAL) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()) {
+                return authentication.getName();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    /**
+     * 429 Too Many Requestsレスポンスを書き込み.
+     *
+     * @param request HTTPリクエスト
+     * @param response HTTPレスポンス
+     * @param waitNanos 再試行までの待機時間（ナノ秒）
+     * @throws IOException I/O例外
+     */
+    private void writeTooManyRequests(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            long waitNanos) throws IOException {
+
+        long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(
+                waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(Instant.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Too Many Requests")
+                .message("リクエスト数が上限を超えました。しばらくしてから再試行してください")
+                .path(request.getRequestURI())
+                .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * レート制限の対象とキーの種類.
+     */
+    public enum KeyClass {
+        /** 認証API（クライアントIPごと）. */
+        AUTH_IP("auth-ip"),
+        /** 管理者API（プリンシパルごと）. */
+        ADMIN_PRINCIPAL("admin-principal");
+
+        private final String tagValue;
+
+        KeyClass(String tagValue) {
+            this.tagValue = tagValue;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.organization.api.security;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.VarHandle;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * リフレッシュトークンストアの追記専用ログ（メモリマップドファイル）.
+ *
+ * <p>固定長レコード（{@value #RECORD_SIZE}バイト）をメモリマップした領域に追記します。
+ * 追記位置は{@link AtomicLong}で予約するため、複数スレッドから並行して追記できます。
+ * レコードは本体を書き込んだ後に操作種別を書き込むため、書き込み途中で
+ * プロセスが停止したレコード（操作種別が0）は再生時に無視されます。
+ * {@link MappedByteBuffer}への書き込みは順序が保証されないため、
+ * 操作種別の書き込み前にリリースフェンスを置き、本体が先に書き込まれることを保証します。
+ *
+ * <p>レコード形式:
+ * <pre>
+ * offset  size  内容
+ *      0     1  操作種別（{@link #OP_ISSUE}/{@link #OP_USE}/{@link #OP_REVOKE_FAMILY}）
+ *      8    16  トークンID（UUID）
+ *     24    16  ファミリーID（UUID）
+ *     40     8  有効期限（エポック秒）
+ * </pre>
+ *
+ * <p>{@link #compact(Compactor)}は稼働中のエントリのみを新しいファイルに書き出し、
+ * アトミックに置き換えます（実行中は追記を待機させます）。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+final class RefreshTokenLog implements Closeable {
+
+    static final byte OP_ISSUE = 1;
+    static final byte OP_USE = 2;
+    static final byte OP_REVOKE_FAMILY = 3;
+
+    static final int RECORD_SIZE = 48;
+    private static final int HEADER_SIZE = 16;
+    private static final long MAGIC = 0x52544C4F47303031L;  // "RTLOG001"
+
+    private final Path path;
+    private final int minimumCapacity;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong position = new AtomicLong(HEADER_SIZE);
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+
+    /**
+     * ログファイルを開く（存在しない場合は作成）.
+     *
+     * @param path ログファイルのパス
+     * @param capacity ログファイルのサイズ（バイト）
+     * @throws IOException ファイルの作成・マップに失敗した場合
+     * @throws IllegalArgumentException サイズがレコード1件分未満、または2GB以上の場合
+     */
+    RefreshTokenLog(Path path, long capacity) throws IOException {
+        if (capacity < HEADER_SIZE + RECORD_SIZE || capacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "ログファイルのサイズは" + (HEADER_SIZE + RECORD_SIZE) + "バイト以上2GB未満を指定してください: "
+                            + capacity);
+        }
+        this.path = path;
+        this.minimumCapacity = (int) capacity;
+        Path parent = path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        int size = Files.exists(path)
+                ? Math.toIntExact(Math.max(Files.size(path), capacity))
+                : minimumCapacity;
+        map(path, size);
+        if (buffer.getLong(0) != MAGIC) {
+            buffer.putLong(0, MAGIC);
+        }
+    }
+
+    /**
+     * ログの全レコードを再生.
+     *
+     * <p>再生後の追記位置は最後の有効なレコードの直後になります。
+     *
+     * @param visitor レコードの処理
+     */
+    void replay(RecordVisitor visitor) {
+        long end = HEADER_SIZE;
+        for (int offset = HEADER_SIZE; offset + RECORD_SIZE <= capacity; offset += RECORD_SIZE) {
+            byte op = buffer.get(offset);
+            if (op == 0) {
+                continue;
+            }
+            // 操作種別を読んだ後に本体を読む（appendのリリースフェンスと対）
+            VarHandle.acquireFence();
+            visitor.visit(op,
+                    new UUID(buffer.getLong(offset + 8), buffer.getLong(offset + 16)),
+                    new UUID(buffer.getLong(offset + 24), buffer.getLong(offset + 32)),
+                    buffer.getLong(offset + 40));
+            end = offset + RECORD_SIZE;
+        }
+        position.set(end);
+    }
+
+    /**
+     * レコードを追記.
+     *
+     * @param op 操作種別
+     * @param tokenId トークンID
+     * @param familyId ファミリーID
+     * @param expiresAt 有効期限（エポック秒）
+     * @return 追記できた場合true（ログが満杯の場合false）
+     */
+    boolean append(byte op, UUID tokenId, UUID familyId, long expiresAt) {
+        lock.readLock().lock();
+        try {
+            long offset = position.getAndAdd(RECORD_SIZE);
+            if (offset + RECORD_SIZE > capacity) {
+                return false;
+            }
+            write(buffer, (int) offset, op, tokenId, familyId, expiresAt);
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * ログの使用率を取得.
+     *
+     * @return 使用率（0.0〜1.0）
+     */
+    double usage() {
+        return Math.min(1.0, (double) position.get() / capacity);
+    }
+
+    /**
+     * 稼働中のエントリのみでログを再作成.
+     *
+     * <p>実行中は追記を待機させるため、{@code compactor}の実行中に行われた変更は
+     * 新しいログに追記されます。
+     *
+     * @param compactor 稼働中のエントリを書き出す処理
+     * @throws IOException ファイルの書き込み・置き換えに失敗した場合
+     */
+    void compact(Compactor compactor) throws IOException {
+        lock.writeLock().lock();
+        try {
+            Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+            List<Record> records = new ArrayList<>();
+            compactor.writeTo((op, tokenId, familyId, expiresAt) ->
+                    records.add(new Record(op, tokenId, familyId, expiresAt)));
+
+            long required = HEADER_SIZE + (long) records.size() * RECORD_SIZE;
+            int size = (int) Math.min(Integer.MAX_VALUE, Math.max(minimumCapacity, required * 2));
+
+            try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                MappedByteBuffer target = out.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                target.putLong(0, MAGIC);
+                int offset = HEADER_SIZE;
+                for (Record record : records) {
+                    write(target, offset, record.op(), record.tokenId(),
+                            record.familyId(), record.expiresAt());
+                    offset += RECORD_SIZE;
+                }
+                target.force();
+            }
+
+            Files.move(compacted, path,
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel.close();
+            map(path, size);
+            position.set(required);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * マップ領域の変更をディスクに書き出す.
+     */
+    void force() {
+        lock.readLock().lock();
+        try {
+            buffer.force();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            buffer.force();
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void map(Path file, int size) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        this.capacity = size;
+    }
+
+    private static void write(MappedByteBuffer target, int offset, byte op,
+                              UUID tokenId, UUID familyId, long expiresAt) {
+        target.putLong(offset + 8, tokenId.getMostSignificantBits());
+        target.putLong(offset + 16, tokenId.getLeastSignificantBits());
+        target.putLong(offset + 24, familyId.getMostSignificantBits());
+        target.putLong(offset + 32, familyId.getLeastSignificantBits());
+        target.putLong(offset + 40, expiresAt);
+        // 操作種別は最後に書き込む（書き込み途中のレコードを再生時に無視するため）
+        // 本体の書き込みが操作種別より後に並べ替えられないようリリースフェンスを置く
+        VarHandle.releaseFence();
+        target.put(offset, op);
+    }
+
+    /**
+     * コンパクション時の書き出し対象レコード.
+     */
+    private record Record(byte op, UUID tokenId, UUID familyId, long expiresAt) {
+    }
+
+    /**
+     * ログレコードの処理.
+     */
+    @FunctionalInterface
+    interface RecordVisitor {
+        void visit(byte op, UUID tokenId, UUID familyId, long expiresAt);
+    }
+
+    /**
+     * コンパクション時に稼働中のエントリを書き出す処理.
+     */
+    @FunctionalInterface
+    interface Compactor {
+        void writeTo(RecordVisitor writer);
+    }
+}
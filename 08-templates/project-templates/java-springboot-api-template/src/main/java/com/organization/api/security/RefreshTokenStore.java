@@ -0,0 +1,315 @@
+package com.organization.api.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * リフレッシュトークンストア.
+ *
+ * <p>発行済みリフレッシュトークンを追跡し、使用時のローテーション（使い捨て）と
+ * 再使用検知を実現します。リフレッシュトークンはログイン時に発行される
+ * ファミリー（{@code fam}クレーム）に属し、ローテーションで発行される後続トークンも
+ * 同じファミリーを引き継ぎます。
+ *
+ * <p>判定ルール:
+ * <ul>
+ *   <li>未使用のトークン: 使用済みにしてローテーションを許可</li>
+ *   <li>使用済みのトークン（再使用）: 漏洩とみなしファミリー全体を失効</li>
+ *   <li>失効済みファミリーのトークン、または未登録のトークン: 拒否</li>
+ * </ul>
+ *
+ * <p>構成:
+ * <ul>
+ *   <li>インメモリインデックス: トークンIDをキーとする{@link ConcurrentHashMap}</li>
+ *   <li>永続化: {@code jwt.refresh-token-store.location}を指定した場合、
+ *       メモリマップドファイルの追記専用ログ（{@link RefreshTokenLog}）に記録し、
+ *       起動時にログを再生して状態を復元（データベースのテーブルは使用しない）</li>
+ *   <li>コンパクション: ログの使用率が{@code compaction-threshold}を超えた場合、
+ *       有効期限内のエントリのみで再作成</li>
+ * </ul>
+ *
+ * <p>ログはページキャッシュに書き込まれるためプロセスの異常終了では失われませんが、
+ * OSの停止に備えて{@code jwt.refresh-token-store.flush-interval}間隔でディスクに書き出します。
+ * 状態はインスタンスごとに独立しているため、複数インスタンス構成では
+ * リフレッシュ要求を同一インスタンスへ振り分けてください。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Component
+@Slf4j
+public class RefreshTokenStore {
+
+    private final Map<UUID, Entry> tokens = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> revokedFamilies = new ConcurrentHashMap<>();
+    private final RefreshTokenLog tokenLog;
+    private final double compactionThreshold;
+    private final long familyRevocationSeconds;
+    private final Counter reuseCounter;
+
+    /**
+     * リフレッシュトークンストアを初期化し、ログから状態を復元.
+     *
+     * @param meterRegistry メトリクスレジストリ
+     * @param location ログファイルのパス（空の場合は永続化しない）
+     * @param logCapacity ログファイルのサイズ（2GB未満）
+     * @param compactionThreshold コンパクションを実行するログ使用率
+     * @param refreshTokenExpiration リフレッシュトークンの有効期限（ミリ秒、ファミリー失効の保持期間）
+     */
+    public RefreshTokenStore(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.refresh-token-store.location:}") String location,
+            @Value("${jwt.refresh-token-store.log-capacity:16MB}") DataSize logCapacity,
+            @Value("${jwt.refresh-token-store.compaction-threshold:0.75}") double compactionThreshold,
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+
+        this.compactionThreshold = compactionThreshold;
+        this.familyRevocationSeconds = refreshTokenExpiration / 1000;
+
+        if (location == null || location.isBlank()) {
+            this.tokenLog = null;
+            log.info("リフレッシュトークンストア: 永続化なし（インメモリのみ）");
+        } else {
+            this.tokenLog = openLog(Path.of(location), logCapacity.toBytes());
+        }
+
+        Gauge.builder("jwt.refresh.tokens", tokens, Map::size)
+                .description("追跡中のリフレッシュトークン数")
+                .register(meterRegistry);
+        this.reuseCounter = Counter.builder("jwt.refresh.reuse.detected")
+                .description("リフレッシュトークンの再使用検知数（ファミリー失効）")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 発行したリフレッシュトークンを登録.
+     *
+     * @param tokenId トークンID（jti）
+     * @param familyId ファミリーID
+     * @param expiration 有効期限
+     */
+    public void issue(UUID tokenId, UUID familyId, Instant expiration) {
+        long expiresAt = expiration.getEpochSecond();
+        tokens.put(tokenId, new Entry(familyId, expiresAt));
+        append(RefreshTokenLog.OP_ISSUE, tokenId, familyId, expiresAt);
+    }
+
+    /**
+     * リフレッシュトークンを使用済みにする（ローテーション）.
+     *
+     * <p>使用済みのトークンが再度提示された場合はファミリー全体を失効させます。
+     *
+     * @param tokenId トークンID（jti）
+     * @param familyId トークンのファミリーID
+     * @return 判定結果
+     */
+    public RotationResult rotate(UUID tokenId, UUID familyId) {
+        if (revokedFamilies.containsKey(familyId)) {
+            return RotationResult.REVOKED;
+        }
+
+        Entry entry = tokens.get(tokenId);
+        if (entry == null || !entry.familyId.equals(familyId)) {
+            return RotationResult.UNKNOWN;
+        }
+
+        if (!entry.used.compareAndSet(false, true)) {
+            reuseCounter.increment();
+            log.warn("リフレッシュトークンの再使用を検知: jti={}, family={}", tokenId, familyId);
+            revokeFamily(familyId);
+            return RotationResult.REUSED;
+        }
+
+        append(RefreshTokenLog.OP_USE, tokenId, familyId, entry.expiresAt);
+        return RotationResult.ROTATED;
+    }
+
+    /**
+     * ファミリー全体を失効させる.
+     *
+     * <p>ファミリーに属するトークンの最長有効期限（リフレッシュトークンの有効期間）まで保持します。
+     *
+     * @param familyId ファミリーID
+     */
+    public void revokeFamily(UUID familyId) {
+        long expiresAt = Instant.now().getEpochSecond() + familyRevocationSeconds;
+        if (revokedFamilies.putIfAbsent(familyId, expiresAt) == null) {
+            append(RefreshTokenLog.OP_REVOKE_FAMILY, new UUID(0L, 0L), familyId, expiresAt);
+            log.info("リフレッシュトークンファミリー失効: family={}", familyId);
+        }
+    }
+
+    /**
+     * 有効期限切れのエントリを削除し、必要に応じてログをコンパクション.
+     */
+    @Scheduled(
+            fixedDelayString = "${jwt.refresh-token-store.purge-interval:60000}",
+            initialDelayString = "${jwt.refresh-token-store.purge-interval:60000}")
+    public void purgeExpired() {
+        long now = Instant.now().getEpochSecond();
+        tokens.values().removeIf(entry -> entry.expiresAt <= now);
+        revokedFamilies.values().removeIf(expiresAt -> expiresAt <= now);
+
+        if (tokenLog != null && tokenLog.usage() >= compactionThreshold) {
+            compact();
+        }
+    }
+
+    /**
+     * ログをディスクに書き出す.
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-store.flush-interval:1000}")
+    public void flush() {
+        if (tokenLog != null) {
+            tokenLog.force();
+        }
+    }
+
+    /**
+     * シャットダウン時にログを書き出して閉じる.
+     *
+     * @throws IOException ログのクローズに失敗した場合
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        if (tokenLog != null) {
+            tokenLog.close();
+        }
+    }
+
+    /**
+     * 追跡中のリフレッシュトークン数を取得.
+     *
+     * @return トークン数
+     */
+    public int size() {
+        return tokens.size();
+    }
+
+    /**
+     * ログを開いて状態を復元.
+     *
+     * @param path ログファイルのパス
+     * @param capacity ログファイルのサイズ（バイト）
+     * @return ログ
+     */
+    private RefreshTokenLog openLog(Path path, long capacity) {
+        long started = System.nanoTime();
+        long now = Instant.now().getEpochSecond();
+        try {
+            RefreshTokenLog opened = new RefreshTokenLog(path, capacity);
+            opened.replay((op, tokenId, familyId, expiresAt) -> {
+                if (expiresAt <= now) {
+                    return;
+                }
+                switch (op) {
+                    case RefreshTokenLog.OP_ISSUE ->
+                            tokens.putIfAbsent(tokenId, new Entry(familyId, expiresAt));
+                    case RefreshTokenLog.OP_USE -> {
+                        Entry entry = tokens.get(tokenId);
+                        if (entry != null) {
+                            entry.used.set(true);
+                        }
+                    }
+                    case RefreshTokenLog.OP_REVOKE_FAMILY ->
+                            revokedFamilies.merge(familyId, expiresAt, Math::max);
+                    default -> log.warn("不明なログレコードを無視: op={}", op);
+                }
+            });
+            log.info("リフレッシュトークンストア復元完了: tokens={}, revokedFamilies={}, {}ms",
+                    size(), revokedFamilies.size(), (System.nanoTime() - started) / 1_000_000);
+            return opened;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("リフレッシュトークンログを開けません: " + path, ex);
+        }
+    }
+
+    /**
+     * ログに追記（満杯の場合はコンパクションして再試行）.
+     */
+    private void append(byte op, UUID tokenId, UUID familyId, long expiresAt) {
+        if (tokenLog == null || tokenLog.append(op, tokenId, familyId, expiresAt)) {
+            return;
+        }
+        compact();
+        if (!tokenLog.append(op, tokenId, familyId, expiresAt)) {
+            log.error("リフレッシュトークンログに追記できません: op={}, jti={}", op, tokenId);
+        }
+    }
+
+    /**
+     * 有効期限内のエントリのみでログを再作成.
+     */
+    private synchronized void compact() {
+        long started = System.nanoTime();
+        long now = Instant.now().getEpochSecond();
+        try {
+            tokenLog.compact(writer -> {
+                tokens.forEach((tokenId, entry) -> {
+                    if (entry.expiresAt <= now) {
+                        return;
+                    }
+                    writer.visit(RefreshTokenLog.OP_ISSUE, tokenId, entry.familyId, entry.expiresAt);
+                    if (entry.used.get()) {
+                        writer.visit(RefreshTokenLog.OP_USE, tokenId, entry.familyId, entry.expiresAt);
+                    }
+                });
+                revokedFamilies.forEach((familyId, expiresAt) -> {
+                    if (expiresAt > now) {
+                        writer.visit(RefreshTokenLog.OP_REVOKE_FAMILY, new UUID(0L, 0L), familyId, expiresAt);
+                    }
+                });
+            });
+            log.info("リフレッシュトークンログのコンパクション完了: tokens={}, {}ms",
+                    size(), (System.nanoTime() - started) / 1_000_000);
+        } catch (IOException ex) {
+            log.error("リフレッシュトークンログのコンパクションに失敗しました", ex);
+        }
+    }
+
+    /**
+     * リフレッシュトークンの状態.
+     */
+    private static final class Entry {
+
+        private final UUID familyId;
+        private final long expiresAt;
+        private final AtomicBoolean used = new AtomicBoolean();
+
+        Entry(UUID familyId, long expiresAt) {
+            this.familyId = familyId;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * ローテーションの判定結果.
+     */
+    public enum RotationResult {
+        /** 未使用のトークン（使用済みにした）. */
+        ROTATED,
+        /** 使用済みトークンの再使用（ファミリーを失効した）. */
+        REUSED,
+        /** 失効済みファミリーのトークン. */
+        REVOKED,
+        /** 未登録のトークン. */
+        UNKNOWN
+    }
+}
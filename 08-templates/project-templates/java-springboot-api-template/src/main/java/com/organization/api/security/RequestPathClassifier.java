@@ -0,0 +1,247 @@
+package com.organization.api.security;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Arrays;
+
+/**
+ * リクエストパスの分類器（コンパイル済みプレフィックストライ）.
+ *
+ * <p>設定したパスパターンを文字単位のトライに変換し、リクエストパスを1回走査するだけで
+ * {@link RequestClass}（パブリック・認証必須・管理者専用）を判定します。
+ * パターンを1件ずつ評価する方式と異なり、判定コストはパターン数に依存せず、
+ * 判定時にオブジェクトを生成しません。
+ *
+ * <p>パターン形式:
+ * <ul>
+ *   <li>{@code /actuator/health}: 完全一致</li>
+ *   <li>{@code /api/v1/auth/**}: {@code /api/v1/auth}自体とその配下すべて</li>
+ * </ul>
+ * 複数のパターンに一致する場合は最長一致のパターンを採用し、
+ * いずれにも一致しない場合は{@link RequestClass#AUTHENTICATED}とします。
+ *
+ * <p>判定対象のパスはサーブレットコンテナがデコード・正規化したアプリケーション内パス
+ * （{@code servletPath + pathInfo}、Spring Securityのパスマッチャーと同じ）です。
+ * エンコードされた文字やパスパラメーター（{@code ;}）によって判定を回避することはできません。
+ *
+ * <p>{@link #classify(HttpServletRequest)}の結果はリクエスト属性{@link #REQUEST_CLASS_ATTRIBUTE}に
+ * 保持し、同じリクエストでの2回目以降の呼び出し（JWT認証フィルターのスキップ判定・認可判定・
+ * レート制限）では再計算しません。パスが変わるフォワード・エラーディスパッチでは保持した結果を使用しません。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+public final class RequestPathClassifier {
+
+    /**
+     * 分類結果を保持するリクエスト属性名.
+     */
+    public static final String REQUEST_CLASS_ATTRIBUTE =
+            RequestPathClassifier.class.getName() + ".REQUEST_CLASS";
+
+    private static final String SUBTREE_SUFFIX = "/**";
+
+    private final Node root;
+
+    private RequestPathClassifier(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * 分類器のビルダーを作成.
+     *
+     * @return ビルダー
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * リクエストを分類.
+     *
+     * <p>通常のディスパッチ（{@link DispatcherType#REQUEST}）では、分類結果をリクエスト属性に保持し、
+     * 同じリクエストの2回目以降の呼び出しでは保持した結果を返却します。
+     *
+     * @param request HTTPリクエスト
+     * @return リクエストの分類
+     */
+    public RequestClass classify(HttpServletRequest request) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return classify(pathWithinApplication(request));
+        }
+        if (request.getAttribute(REQUEST_CLASS_ATTRIBUTE) instanceof RequestClass cached) {
+            return cached;
+        }
+        RequestClass requestClass = classify(pathWithinApplication(request));
+        request.setAttribute(REQUEST_CLASS_ATTRIBUTE, requestClass);
+        return requestClass;
+    }
+
+    /**
+     * リクエストのアプリケーション内パスを取得.
+     *
+     * <p>{@link HttpServletRequest#getRequestURI()}はデコードされていないため、
+     * パスによる判定には必ずこのメソッドの戻り値を使用してください。
+     *
+     * @param request HTTPリクエスト
+     * @return サーブレットコンテナがデコード・正規化したパス（{@code servletPath + pathInfo}）
+     */
+    public static String pathWithinApplication(HttpServletRequest request) {
+        String pathInfo = request.getPathInfo();
+        String servletPath = request.getServletPath();
+        return pathInfo == null ? servletPath : servletPath + pathInfo;
+    }
+
+    /**
+     * パスを分類.
+     *
+     * @param path アプリケーション内パス（デコード済み）
+     * @return パスの分類
+     */
+    public RequestClass classify(String path) {
+        RequestClass result = RequestClass.AUTHENTICATED;
+        Node node = root;
+        int length = path.length();
+        for (int i = 0; i < length; i++) {
+            char c = path.charAt(i);
+            if (c == '/' && node.subtree != null) {
+                result = node.subtree;
+            }
+            node = node.child(c);
+            if (node == null) {
+                return result;
+            }
+        }
+        if (node.exact != null) {
+            return node.exact;
+        }
+        return node.subtree != null ? node.subtree : result;
+    }
+
+    /**
+     * リクエストの分類.
+     */
+    public enum RequestClass {
+        /** 認証不要（JWT認証処理をスキップ）. */
+        PUBLIC,
+        /** 認証必須. */
+        AUTHENTICATED,
+        /** 管理者専用. */
+        ADMIN
+    }
+
+    /**
+     * 分類器のビルダー.
+     */
+    public static final class Builder {
+
+        private final Node root = new Node();
+
+        private Builder() {
+        }
+
+        /**
+         * パブリック（認証不要）なパスパターンを追加.
+         *
+         * @param patterns パスパターン
+         * @return このビルダー
+         */
+        public Builder permitAll(String... patterns) {
+            return add(RequestClass.PUBLIC, patterns);
+        }
+
+        /**
+         * 管理者専用のパスパターンを追加.
+         *
+         * @param patterns パスパターン
+         * @return このビルダー
+         */
+        public Builder admin(String... patterns) {
+            return add(RequestClass.ADMIN, patterns);
+        }
+
+        /**
+         * 分類器を作成.
+         *
+         * @return 分類器
+         */
+        public RequestPathClassifier build() {
+            return new RequestPathClassifier(root);
+        }
+
+        private Builder add(RequestClass requestClass, String... patterns) {
+            for (String pattern : patterns) {
+                if (pattern == null || !pattern.startsWith("/")) {
+                    throw new IllegalArgumentException("パスパターンは/で始めてください: " + pattern);
+                }
+                boolean subtree = pattern.endsWith(SUBTREE_SUFFIX);
+                String literal = subtree
+                        ? pattern.substring(0, pattern.length() - SUBTREE_SUFFIX.length())
+                        : pattern;
+                if (literal.indexOf('*') >= 0 || literal.indexOf('{') >= 0) {
+                    throw new IllegalArgumentException(
+                            "末尾の/**以外のワイルドカードには対応していません: " + pattern);
+                }
+
+                Node node = root;
+                for (int i = 0; i < literal.length(); i++) {
+                    node = node.childOrCreate(literal.charAt(i));
+                }
+                RequestClass previous = subtree ? node.subtree : node.exact;
+                if (previous != null && previous != requestClass) {
+                    throw new IllegalArgumentException(
+                            "パスパターンが重複しています: " + pattern + " (" + previous + ")");
+                }
+                if (subtree) {
+                    node.subtree = requestClass;
+                } else {
+                    node.exact = requestClass;
+                }
+            }
+            return this;
+        }
+    }
+
+    /**
+     * トライのノード（子ノードは文字の昇順に保持）.
+     */
+    private static final class Node {
+
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private RequestClass exact;
+        private RequestClass subtree;
+
+        Node child(char c) {
+            char[] k = keys;
+            for (int i = 0; i < k.length; i++) {
+                if (k[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node childOrCreate(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertion = -index - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertion);
+            System.arraycopy(children, 0, newChildren, 0, insertion);
+            newKeys[insertion] = c;
+            newChildren[insertion] = new Node();
+            System.arraycopy(keys, insertion, newKeys, insertion + 1, keys.length - insertion);
+            System.arraycopy(children, insertion, newChildren, insertion + 1,
+                    children.length - insertion);
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[insertion];
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.organization.api.security;
+
+import com.organization.api.entity.User;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+
+import java.util.function.Supplier;
+
+/**
+ * ロールのビットマスクによる認可マネージャー.
+ *
+ * <p>{@code hasRole('ADMIN')}式や{@link org.springframework.security.authorization.AuthorityAuthorizationManager}
+ * は判定のたびに権限コレクションを走査し、SpELの場合は評価コンテキスト・権限名のSet・
+ * 接頭辞付きのロール名も生成します。このマネージャーは{@link UserPrincipal}が
+ * 生成時に算出したロールのビットマスクで判定し、判定結果も共有インスタンスを返却するため、
+ * 判定ごとのオブジェクト生成がありません。
+ *
+ * <p>プリンシパルが{@link UserPrincipal}以外の場合は権限コレクションから判定します。
+ *
+ * @param <T> 認可対象の型
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+public final class RoleAuthorizationManager<T> implements AuthorizationManager<T> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final User.Role role;
+
+    /**
+     * 認可マネージャーを作成.
+     *
+     * @param role 必要なロール
+     */
+    public RoleAuthorizationManager(User.Role role) {
+        this.role = role;
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, T object) {
+        return hasRole(authentication.get(), role) ? GRANTED : DENIED;
+    }
+
+    /**
+     * 指定したロールを保持しているかを判定.
+     *
+     * @param authentication 認証情報
+     * @param role ロール
+     * @return 保持している場合true
+     */
+    public static boolean hasRole(Authentication authentication, User.Role role) {
+        if (authentication == null) {
+            return false;
+        }
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.hasRole(role);
+        }
+        return (User.Role.maskOf(authentication.getAuthorities()) & role.getMask()) != 0;
+    }
+}
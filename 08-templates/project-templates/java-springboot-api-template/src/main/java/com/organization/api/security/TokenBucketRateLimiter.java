@@ -0,0 +1,91 @@
+package com.organization.api.security;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ロックフリーなトークンバケット方式のレート制限器.
+ *
+ * <p>キーごとのバケットを単一の{@link AtomicLong}（次にバケットが満杯に戻る
+ * 理論上の時刻: GCRAのTAT）で表現し、判定はCASのみで行います。
+ * 補充処理用のスレッドやロックは使用しません。
+ *
+ * <p>キーの格納先は{@link ConcurrentHashMap}です。
+ * 一定時間アクセスのないキー（バケットが満杯に戻ったキー）は{@link #purgeIdle()}で削除します。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+public final class TokenBucketRateLimiter {
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    /**
+     * レート制限器を作成.
+     *
+     * @param capacity バケット容量（連続して許可するリクエスト数）
+     * @param period バケットが空から満杯に戻るまでの時間
+     */
+    public TokenBucketRateLimiter(int capacity, Duration period) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacityは1以上を指定してください: " + capacity);
+        }
+        this.emissionIntervalNanos = Math.max(1L, period.toNanos() / capacity);
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+    }
+
+    /**
+     * トークンを1つ消費.
+     *
+     * @param key レート制限キー（クライアントIP、プリンシパル名等）
+     * @return 許可された場合は0、拒否された場合は再試行までの待機時間（ナノ秒、1以上）
+     */
+    public long tryAcquire(String key) {
+        AtomicLong state = buckets.get(key);
+        if (state == null) {
+            state = buckets.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        }
+        long now = System.nanoTime();
+
+        while (true) {
+            long current = state.get();
+            long tat = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long waitNanos = tat - now - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (state.compareAndSet(current, tat + emissionIntervalNanos)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * バケットが満杯に戻ったキーを削除.
+     *
+     * <p>満杯のバケットは新規作成したバケットと同じ状態のため、
+     * 削除してもレート制限の判定は変わりません
+     * （削除と同時に行われたトークン消費は最大1回分記録されないことがあります）。
+     *
+     * @return 削除後のキー数
+     */
+    public int purgeIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(state -> state.get() - now <= 0);
+        return buckets.size();
+    }
+
+    /**
+     * 保持しているキー数を取得.
+     *
+     * @return キー数
+     */
+    public int size() {
+        return buckets.size();
+    }
+}
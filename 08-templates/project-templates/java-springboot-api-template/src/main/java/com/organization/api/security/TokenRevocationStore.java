@@ -0,0 +1,119 @@
+package com.organization.api.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * トークン失効ストア（デナイリスト）.
+ *
+ * <p>有効期限前に失効させたトークンのID（{@code jti}）を保持し、
+ * {@link JwtAuthenticationFilter}で失効済みトークンを拒否します。
+ *
+ * <p>構成:
+ * <ul>
+ *   <li>Bloomフィルター（{@link ConcurrentBloomFilter}）: 失効していないトークンは数回のハッシュ計算のみで判定
+ *       （偽陽性はあるが偽陰性はない）</li>
+ *   <li>完全一致セット: Bloomフィルターが「含まれる可能性あり」と判定した場合のみ参照</li>
+ *   <li>自動削除: トークンの有効期限を過ぎたエントリは
+ *       {@code jwt.revocation.purge-interval}間隔で削除し、Bloomフィルターを再構築</li>
+ * </ul>
+ *
+ * <p>失効情報はインスタンスのメモリ上にのみ保持されます。
+ * 再起動後または他インスタンスへは引き継がれないため、
+ * 失効の保証期間はアクセストークンの有効期限（15分）を上限として運用してください。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Component
+@Slf4j
+public class TokenRevocationStore {
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+    private volatile ConcurrentBloomFilter bloomFilter;
+
+    /**
+     * トークン失効ストアを初期化.
+     *
+     * @param meterRegistry メトリクスレジストリ
+     * @param expectedEntries 想定する失効トークン数（Bloomフィルターのサイズ決定に使用）
+     * @param falsePositiveRate Bloomフィルターの偽陽性率
+     */
+    public TokenRevocationStore(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.revocation.expected-entries:100000}") int expectedEntries,
+            @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new ConcurrentBloomFilter(expectedEntries, falsePositiveRate);
+
+        Gauge.builder("jwt.revocations", revoked, Map::size)
+                .description("失効済み（有効期限内）トークン数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * トークンを失効させる.
+     *
+     * <p>{@link #purgeExpired()}の再構築と排他し、メソッドから戻った時点で
+     * 公開中のBloomフィルターに必ず登録されていることを保証します
+     * （判定側の{@link #isRevoked(String)}はロックを取得しません）。
+     *
+     * @param tokenId トークンID（jti）
+     * @param expiration トークンの有効期限（これを過ぎたら自動削除）
+     */
+    public synchronized void revoke(String tokenId, Instant expiration) {
+        revoked.put(tokenId, expiration);
+        bloomFilter.add(tokenId);
+        log.info("トークン失効: jti={}, exp={}", tokenId, expiration);
+    }
+
+    /**
+     * トークンが失効済みかを判定.
+     *
+     * @param tokenId トークンID（jti）
+     * @return 失効済みの場合true
+     */
+    public boolean isRevoked(String tokenId) {
+        return bloomFilter.mightContain(tokenId) && revoked.containsKey(tokenId);
+    }
+
+    /**
+     * 有効期限切れのエントリを削除し、Bloomフィルターを再構築.
+     *
+     * <p>再構築は{@link #revoke(String, Instant)}と排他して行い、すべての失効エントリを
+     * 登録し終えたフィルターのみを公開します。切り替え前後で失効済みトークンが
+     * 一時的に未失効と判定されることはありません。
+     */
+    @Scheduled(
+            fixedDelayString = "${jwt.revocation.purge-interval:60000}",
+            initialDelayString = "${jwt.revocation.purge-interval:60000}")
+    public synchronized void purgeExpired() {
+        Instant now = Instant.now();
+        int before = revoked.size();
+        revoked.values().removeIf(expiration -> !expiration.isAfter(now));
+
+        if (revoked.size() == before) {
+            return;
+        }
+
+        ConcurrentBloomFilter rebuilt = new ConcurrentBloomFilter(
+                Math.max(expectedEntries, revoked.size()), falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::add);
+        bloomFilter = rebuilt;
+
+        log.debug("失効トークン削除: {}件 → {}件", before, revoked.size());
+    }
+}
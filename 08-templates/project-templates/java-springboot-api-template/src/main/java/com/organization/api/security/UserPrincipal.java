@@ -1,8 +1,9 @@
 package com.organization.api.security;
 
+import com.organization.api.entity.User;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -18,16 +19,83 @@ import org.springframework.security.core.userdetails.UserDetails;
  * UserDetailsインターフェースを実装します。カスタムユーザー情報
  * （ID、メール、ロール）を保持し、認証後のリクエスト処理で利用します。</p>
  * 
+ * <p>JPAエンティティから切り離された不変オブジェクトのため、
+ * 認証用ユーザー情報のキャッシュにも使用します。</p>
+ * 
+ * <p>既知のロールは{@link User.Role}の共有権限インスタンスを使用し、
+ * 生成時に権限からロールのビットマスクを算出します（ビットマスクは権限と常に一致し、
+ * 外部から指定することはできません）。管理者判定などのロール判定は
+ * 権限コレクションを走査せず{@link #hasRole(User.Role)}で行えます。</p>
+ * 
  * @see UserDetails
  */
 @Getter
-@AllArgsConstructor
 public class UserPrincipal implements UserDetails {
 
+    private static final long serialVersionUID = 1L;
+
     private final Long id;
     private final String email;
     private final String password;
     private final Collection<? extends GrantedAuthority> authorities;
+    private final boolean enabled;
+    private final Long securityVersion;
+    private final int roleMask;
+
+    /**
+     * ユーザープリンシパルを生成.
+     * 
+     * <p>ロールのビットマスクは{@code authorities}から算出します。
+     * 
+     * @param id ユーザーID
+     * @param email メールアドレス
+     * @param password パスワード (BCryptハッシュ化済み)
+     * @param authorities 権限
+     * @param enabled 有効なユーザーの場合true
+     * @param securityVersion セキュリティバージョン (不明な場合はnull)
+     */
+    public UserPrincipal(Long id, String email, String password,
+                         Collection<? extends GrantedAuthority> authorities,
+                         boolean enabled, Long securityVersion) {
+        this(id, email, password, authorities, enabled, securityVersion,
+            User.Role.maskOf(authorities));
+    }
+
+    /**
+     * ユーザープリンシパルを生成 (算出済みのビットマスクを使用).
+     * 
+     * <p>{@code roleMask}は{@code authorities}から算出した値であること。
+     * ファクトリーメソッドで権限コレクションの再走査を省略するためのものです。
+     */
+    private UserPrincipal(Long id, String email, String password,
+                          Collection<? extends GrantedAuthority> authorities,
+                          boolean enabled, Long securityVersion, int roleMask) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.authorities = authorities;
+        this.enabled = enabled;
+        this.securityVersion = securityVersion;
+        this.roleMask = roleMask;
+    }
+
+    /**
+     * ユーザープリンシパルを生成 (単一ロール指定).
+     * 
+     * @param id ユーザーID
+     * @param email メールアドレス
+     * @param password パスワード (BCryptハッシュ化済み)
+     * @param role ユーザーロール (例: "ROLE_USER", "ROLE_ADMIN")
+     * @return UserPrincipal インスタンス
+     */
+    public static UserPrincipal create(Long id, String email, String password, String role) {
+        User.Role known = User.Role.fromAuthority(role);
+        if (known == null) {
+            return create(id, email, password, List.of(role));
+        }
+        return new UserPrincipal(id, email, password, known.getAuthorities(), true, null,
+            known.getMask());
+    }
 
     /**
      * ユーザープリンシパルを生成 (ロール指定).
@@ -40,12 +108,47 @@ public class UserPrincipal implements UserDetails {
      */
     public static UserPrincipal create(Long id, String email, String password, 
                                        List<String> roles) {
-        List<GrantedAuthority> authorities = roles.stream()
-            .map(SimpleGrantedAuthority::new)
-            .map(auth -> (GrantedAuthority) auth)
-            .toList();
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size());
+        int roleMask = 0;
+        for (String role : roles) {
+            User.Role known = User.Role.fromAuthority(role);
+            if (known != null) {
+                authorities.add(known.getAuthority());
+                roleMask |= known.getMask();
+            } else {
+                authorities.add(new SimpleGrantedAuthority(role));
+            }
+        }
 
-        return new UserPrincipal(id, email, password, authorities);
+        return new UserPrincipal(id, email, password, List.copyOf(authorities), true, null,
+            roleMask);
+    }
+
+    /**
+     * ユーザーエンティティから認証用のユーザープリンシパルを生成.
+     * 
+     * @param user ユーザーエンティティ
+     * @return UserPrincipal インスタンス
+     */
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(
+            user.getId(),
+            user.getEmail(),
+            user.getPassword(),
+            user.getRole().getAuthorities(),
+            Boolean.TRUE.equals(user.getEnabled()),
+            user.getSecurityVersion(),
+            user.getRole().getMask());
+    }
+
+    /**
+     * 指定したロールを保持しているかを判定.
+     * 
+     * @param role ロール
+     * @return 保持している場合true
+     */
+    public boolean hasRole(User.Role role) {
+        return (roleMask & role.getMask()) != 0;
     }
 
     @Override
@@ -81,7 +184,7 @@ public class UserPrincipal implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return true;
+        return enabled;
     }
 
 }
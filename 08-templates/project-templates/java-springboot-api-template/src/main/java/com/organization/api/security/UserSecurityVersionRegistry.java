@@ -0,0 +1,141 @@
+package com.organization.api.security;
+
+import com.organization.api.event.UserSecurityChangedBatchEvent;
+import com.organization.api.event.UserSecurityChangedEvent;
+import com.organization.api.event.UserSecurityFilterChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ユーザーセキュリティバージョンのインメモリレジストリ.
+ *
+ * <p>クレームのみ認証モード（{@code jwt.authentication-mode=CLAIMS}）で、
+ * データベースを参照せずにトークンの失効を判定するために使用します。
+ * ユーザーの無効化・削除時に{@link UserSecurityChangedEvent}を（トランザクションのコミット後に）受信し、
+ * そのユーザーについて有効な最小セキュリティバージョンを記録します。
+ *
+ * <p>判定ルール:
+ * <ul>
+ *   <li>このインスタンスの起動前、または最後の条件指定の一括操作の前に発行されたトークン:
+ *       {@link Status#UNKNOWN}（変更されたユーザーを把握していないため、データベースで確認する）</li>
+ *   <li>変更が記録されていないユーザー: {@link Status#CURRENT}</li>
+ *   <li>記録済みの最小バージョン未満のトークン: {@link Status#REVOKED}</li>
+ *   <li>削除済みユーザー: 常に{@link Status#REVOKED}</li>
+ * </ul>
+ *
+ * <p>保持するのは起動後にセキュリティ状態が変更されたユーザーのみです。
+ * レジストリはインスタンスごとに独立しているため、複数インスタンス構成で
+ * 他インスタンスでの変更を即時反映する必要がある場合は
+ * データベース認証モードを使用してください。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Component
+@Slf4j
+public class UserSecurityVersionRegistry {
+
+    /**
+     * 削除済みユーザーを表す最小バージョン（すべてのトークンを拒否）.
+     */
+    private static final long DELETED = Long.MAX_VALUE;
+
+    private final Map<Long, Long> minimumVersions = new ConcurrentHashMap<>();
+
+    /**
+     * この日時より後に発行されたトークンのみレジストリで判定する（起動日時、条件指定の一括操作のコミット日時）.
+     */
+    private volatile Instant trustedAfter = Instant.now();
+
+    /**
+     * トークンのセキュリティバージョンを判定.
+     *
+     * @param userId ユーザーID
+     * @param securityVersion トークンに含まれるセキュリティバージョン
+     * @param issuedAt トークン発行日時
+     * @return 判定結果
+     */
+    public Status check(Long userId, long securityVersion, Instant issuedAt) {
+        if (issuedAt == null || !issuedAt.isAfter(trustedAfter)) {
+            return Status.UNKNOWN;
+        }
+
+        Long minimumVersion = minimumVersions.get(userId);
+        if (minimumVersion == null || securityVersion >= minimumVersion) {
+            return Status.CURRENT;
+        }
+        return Status.REVOKED;
+    }
+
+    /**
+     * データベースで確認した現在のセキュリティバージョンを記録.
+     *
+     * @param userId ユーザーID
+     * @param securityVersion 現在のセキュリティバージョン
+     */
+    public void record(Long userId, long securityVersion) {
+        minimumVersions.merge(userId, securityVersion, Math::max);
+    }
+
+    /**
+     * ユーザーのセキュリティ状態変更を反映.
+     *
+     * <p>トランザクションのコミット後に反映します。ロールバックされた変更を記録すると、
+     * データベースより新しいバージョンが残り、そのユーザーの有効なトークンが
+     * 再起動まですべて拒否されるためです。
+     *
+     * @param event セキュリティ状態変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedEvent event) {
+        log.debug("セキュリティバージョン更新: {}", event);
+        record(event.getUserId(), event.isDeleted() ? DELETED : event.getSecurityVersion());
+    }
+
+    /**
+     * 一括操作によるセキュリティ状態変更を反映.
+     *
+     * @param event 複数ユーザーのセキュリティ状態変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedBatchEvent event) {
+        log.debug("セキュリティバージョン一括更新: {}件", event.getChanges().size());
+        for (UserSecurityChangedEvent change : event.getChanges()) {
+            record(change.getUserId(), change.isDeleted() ? DELETED : change.getSecurityVersion());
+        }
+    }
+
+    /**
+     * 条件指定の一括操作によるセキュリティ状態変更を反映.
+     *
+     * <p>変更されたユーザーを特定できないため、コミット時点までに発行されたトークンを
+     * すべて{@link Status#UNKNOWN}（データベースで確認）とします。
+     * これらのトークンは有効期限が切れるまで、使用のたびにデータベースで確認します。
+     *
+     * @param event 条件指定の一括操作によるセキュリティ状態変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityFilterChangedEvent event) {
+        log.debug("セキュリティバージョン一括更新（条件指定）: {}", event);
+        trustedAfter = Instant.now();
+    }
+
+    /**
+     * セキュリティバージョン判定結果.
+     */
+    public enum Status {
+        /** トークンは有効. */
+        CURRENT,
+        /** トークンは失効済み. */
+        REVOKED,
+        /** レジストリでは判定できない（データベースで確認が必要）. */
+        UNKNOWN
+    }
+}
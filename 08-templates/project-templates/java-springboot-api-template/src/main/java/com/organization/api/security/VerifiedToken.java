@@ -0,0 +1,152 @@
+package com.organization.api.security;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 検証済みJWTトークン.
+ *
+ * <p>{@link JwtTokenProvider#verify(String)} が署名検証とクレーム解析を
+ * 1回だけ実行した結果を保持する不変オブジェクトです。
+ * 認証フィルターはこのオブジェクトのみを参照し、トークン文字列を再解析しません。
+ *
+ * <p>保持する情報:
+ * <ul>
+ *   <li>トークンID（{@code jti}、失効管理に使用）</li>
+ *   <li>サブジェクト（ユーザー名 = email）</li>
+ *   <li>発行日時・有効期限</li>
+ *   <li>登録済みクレーム以外のカスタムクレーム（変更不可Map）</li>
+ * </ul>
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class VerifiedToken {
+
+    /**
+     * トークンID（jti）.
+     */
+    private final String id;
+
+    /**
+     * サブジェクト（ユーザー名）.
+     */
+    private final String subject;
+
+    /**
+     * 発行日時.
+     */
+    private final Instant issuedAt;
+
+    /**
+     * 有効期限.
+     */
+    private final Instant expiration;
+
+    /**
+     * カスタムクレーム（sub/iat/exp等の登録済みクレームを除く）.
+     */
+    @ToString.Exclude
+    private final Map<String, Object> claims;
+
+    /**
+     * 指定時刻においてトークンが有効期限切れかを判定.
+     *
+     * @param now 判定基準時刻
+     * @return 有効期限切れの場合true
+     */
+    public boolean isExpired(Instant now) {
+        return expiration != null && !now.isBefore(expiration);
+    }
+
+    /**
+     * カスタムクレームを型指定で取得.
+     *
+     * @param <T> クレームの型
+     * @param name クレーム名
+     * @param type 期待する型
+     * @return クレーム値（存在しない、または型が異なる場合はnull）
+     */
+    public <T> T getClaim(String name, Class<T> type) {
+        Object value = claims.get(name);
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+
+    /**
+     * ユーザーIDクレームを取得.
+     *
+     * @return ユーザーID（クレームがない場合はnull）
+     */
+    public Long getUserId() {
+        Number userId = getClaim(JwtTokenProvider.CLAIM_USER_ID, Number.class);
+        return userId != null ? userId.longValue() : null;
+    }
+
+    /**
+     * ロールクレームを取得.
+     *
+     * @return ロール名（例: "ROLE_USER"、クレームがない場合はnull）
+     */
+    public String getRole() {
+        return getClaim(JwtTokenProvider.CLAIM_ROLE, String.class);
+    }
+
+    /**
+     * セキュリティバージョンクレームを取得.
+     *
+     * @return セキュリティバージョン（クレームがない場合はnull）
+     */
+    public Long getSecurityVersion() {
+        Number version = getClaim(JwtTokenProvider.CLAIM_SECURITY_VERSION, Number.class);
+        return version != null ? version.longValue() : null;
+    }
+
+    /**
+     * リフレッシュトークンのファミリーIDクレームを取得.
+     *
+     * @return ファミリーID（クレームがない、または形式が不正な場合はnull）
+     */
+    public UUID getFamilyId() {
+        return parseUuid(getClaim(JwtTokenProvider.CLAIM_FAMILY, String.class));
+    }
+
+    /**
+     * トークンIDをUUIDとして取得.
+     *
+     * @return トークンID（形式が不正な場合はnull）
+     */
+    public UUID getTokenUuid() {
+        return parseUuid(id);
+    }
+
+    /**
+     * リフレッシュトークンかを判定.
+     *
+     * @return トークン種別クレームがリフレッシュトークンを示す場合true
+     */
+    public boolean isRefreshToken() {
+        return JwtTokenProvider.TOKEN_TYPE_REFRESH.equals(
+                getClaim(JwtTokenProvider.CLAIM_TOKEN_TYPE, String.class));
+    }
+
+    private static UUID parseUuid(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
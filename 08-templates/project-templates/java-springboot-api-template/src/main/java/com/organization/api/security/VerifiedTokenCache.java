@@ -0,0 +1,189 @@
+package com.organization.api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 検証済みトークンキャッシュ.
+ *
+ * <p>同一アクセストークンは有効期限（15分）の間繰り返し提示されるため、
+ * 検証結果をトークンのSHA-256ダイジェストをキーとしてキャッシュし、
+ * 2回目以降の署名検証（HMAC）とクレーム解析を省略します。
+ *
+ * <p>キャッシュ仕様:
+ * <ul>
+ *   <li>キー: トークンのSHA-256ダイジェスト（トークン文字列自体は保持しない）</li>
+ *   <li>エントリ有効期限: トークンの{@code exp}（これを超えて保持しない）。
+ *       {@code exp}は時刻のため、キャッシュの時刻源（{@link Ticker}）も{@link Clock}から取得する</li>
+ *   <li>最大エントリ数: {@code jwt.verified-token-cache.maximum-size}</li>
+ *   <li>キーリング更新時: 旧キーセットで検証されたエントリは使用しない</li>
+ *   <li>メトリクス: {@code cache.gets}（hit/miss）、{@code cache.evictions}、{@code cache.size}
+ *       （{@code cache=jwt.verified-tokens}）</li>
+ * </ul>
+ *
+ * <p>{@code jwt.verified-token-cache.enabled=false}の場合は常に検証を実行します。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Component
+public class VerifiedTokenCache {
+
+    /**
+     * Actuatorメトリクスのキャッシュ名.
+     */
+    public static final String CACHE_NAME = "jwt.verified-tokens";
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256が利用できません", ex);
+        }
+    });
+
+    private final JwtKeyRing keyRing;
+    private final Cache<TokenDigest, Entry> cache;
+
+    /**
+     * 検証済みトークンキャッシュを初期化.
+     *
+     * @param keyRing JWTキーリング
+     * @param meterRegistry メトリクスレジストリ
+     * @param enabled キャッシュを有効化する場合true
+     * @param maximumSize 最大エントリ数
+     */
+    @Autowired
+    public VerifiedTokenCache(
+            JwtKeyRing keyRing,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.verified-token-cache.enabled:true}") boolean enabled,
+            @Value("${jwt.verified-token-cache.maximum-size:10000}") long maximumSize) {
+        this(keyRing, meterRegistry, enabled, maximumSize, Clock.systemUTC());
+    }
+
+    /**
+     * 検証済みトークンキャッシュを初期化（時刻源を指定）.
+     *
+     * @param keyRing JWTキーリング
+     * @param meterRegistry メトリクスレジストリ
+     * @param enabled キャッシュを有効化する場合true
+     * @param maximumSize 最大エントリ数
+     * @param clock エントリの有効期限判定に使用する時計
+     */
+    VerifiedTokenCache(
+            JwtKeyRing keyRing, MeterRegistry meterRegistry, boolean enabled, long maximumSize, Clock clock) {
+
+        this.keyRing = keyRing;
+
+        if (enabled) {
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                    .expireAfter(new TokenExpiry())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * キャッシュ済みの検証結果を返却し、未キャッシュの場合は検証して格納.
+     *
+     * <p>キャッシュヒット時は署名検証を行いません。
+     * 検証に失敗した場合（例外）は何も格納しません。
+     *
+     * @param token JWTトークン
+     * @param verifier 署名検証・クレーム解析関数
+     * @return 検証済みトークン
+     * @throws IllegalArgumentException トークンがnullまたは空の場合
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("トークンが指定されていません");
+        }
+        if (cache == null) {
+            return verifier.apply(token);
+        }
+
+        JwtKeyRing.KeySet keys = keyRing.current();
+        TokenDigest digest = TokenDigest.of(token);
+
+        Entry entry = cache.getIfPresent(digest);
+        if (entry != null && entry.keys == keys) {
+            return entry.token;
+        }
+
+        VerifiedToken verified = verifier.apply(token);
+        if (verified.getExpiration() != null) {
+            cache.put(digest, new Entry(keys, verified));
+        }
+        return verified;
+    }
+
+    /**
+     * キャッシュエントリ（検証に使用したキーセットと検証結果）.
+     */
+    private record Entry(JwtKeyRing.KeySet keys, VerifiedToken token) {
+    }
+
+    /**
+     * トークンのSHA-256ダイジェスト（256ビットを4つのlongで保持）.
+     *
+     * <p>JWTはASCIIのみで構成されますが、不正なトークンに非ASCII文字が含まれても
+     * 異なる文字列が同じキーにならないよう、UTF-8でエンコードしてからダイジェストを計算します。
+     */
+    private record TokenDigest(long w0, long w1, long w2, long w3) {
+
+        static TokenDigest of(String token) {
+            ByteBuffer digest = ByteBuffer.wrap(
+                    SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+            return new TokenDigest(
+                    digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+        }
+    }
+
+    /**
+     * エントリの有効期限をトークンの{@code exp}に合わせるExpiry.
+     *
+     * <p>Caffeineから渡される現在時刻（エポックからのナノ秒）との差を残り有効期間とします。
+     */
+    private static final class TokenExpiry implements Expiry<TokenDigest, Entry> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, Entry value, long currentTime) {
+            long expiresAt = TimeUnit.MILLISECONDS.toNanos(value.token.getExpiration().toEpochMilli());
+            return Math.max(0L, expiresAt - currentTime);
+        }
+
+        @Override
+        public long expireAfterUpdate(
+                TokenDigest key, Entry value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+                TokenDigest key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.organization.api.service;
+
+import com.organization.api.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * パスワードハッシュ化サービス.
+ *
+ * <p>BCryptによるハッシュ化は1回あたり数十ミリ秒のCPU処理のため、
+ * リクエストスレッド上で実行するとユーザー作成が集中した際に
+ * 参照系リクエストのスレッドが枯渇します。
+ * このサービスはハッシュ化を専用の有界スレッドプールで実行します。
+ *
+ * <p>スレッドプール仕様:
+ * <ul>
+ *   <li>スレッド数: {@code auth.password-hashing.pool-size}（既定: CPUコア数）</li>
+ *   <li>待機キュー: {@code auth.password-hashing.queue-capacity}件まで</li>
+ *   <li>キュー満杯時: {@link ServiceUnavailableException}（503、
+ *       {@code Retry-After: auth.password-hashing.retry-after}）</li>
+ *   <li>一括処理の投入上限: スレッド数と待機キューの半分の小さい方（超過分は呼び出し元スレッドで実行）</li>
+ *   <li>メトリクス: {@code executor.*}（{@code name=auth.password-hashing}）、
+ *       ハッシュ化時間{@code auth.password.hashing}、拒否件数{@code auth.password.hashing.rejected}</li>
+ * </ul>
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Service
+@Slf4j
+public class PasswordHashingService {
+
+    /**
+     * Actuatorメトリクスのエグゼキューター名.
+     */
+    public static final String EXECUTOR_NAME = "auth.password-hashing";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration retryAfter;
+    private final Timer hashingTimer;
+    private final Counter rejectedCounter;
+    private final Semaphore batchPermits;
+
+    /**
+     * パスワードハッシュ化サービスを初期化.
+     *
+     * @param passwordEncoder パスワードエンコーダー
+     * @param meterRegistry メトリクスレジストリ
+     * @param poolSize スレッド数（0以下の場合はCPUコア数）
+     * @param queueCapacity 待機キューの上限
+     * @param retryAfter キュー満杯時に返却する再試行までの推奨待機時間
+     */
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${auth.password-hashing.pool-size:0}") int poolSize,
+            @Value("${auth.password-hashing.queue-capacity:100}") int queueCapacity,
+            @Value("${auth.password-hashing.retry-after:1s}") Duration retryAfter) {
+
+        this.passwordEncoder = passwordEncoder;
+        this.retryAfter = retryAfter;
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        // 一括処理が実行中・待機中にできる件数を制限し、個別要求用に待機キューの空きを残す
+        int batchLimit = Math.min(threads, queueCapacity / 2);
+        this.batchPermits = new Semaphore(batchLimit);
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, EXECUTOR_NAME);
+        this.hashingTimer = Timer.builder("auth.password.hashing")
+                .description("パスワードハッシュ化時間")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hashing.rejected")
+                .description("キュー満杯により拒否したハッシュ化要求数")
+                .register(meterRegistry);
+
+        log.info("パスワードハッシュ化スレッドプール初期化: threads={}, queueCapacity={}, batchLimit={}",
+                threads, queueCapacity, batchLimit);
+    }
+
+    /**
+     * パスワードを専用スレッドプールでハッシュ化.
+     *
+     * @param rawPassword 平文パスワード
+     * @return ハッシュ化されたパスワード
+     * @throws ServiceUnavailableException 待機キューが上限に達している場合
+     */
+    public CompletableFuture<String> encode(String rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> hashingTimer.record(() -> passwordEncoder.encode(rawPassword)),
+                    executor);
+        } catch (RejectedExecutionException ex) {
+            rejectedCounter.increment();
+            log.warn("パスワードハッシュ化要求を拒否: queued={}", executor.getQueue().size());
+            throw new ServiceUnavailableException(
+                    "パスワードハッシュ処理が混雑しています。しばらくしてから再試行してください", retryAfter);
+        }
+    }
+
+    /**
+     * 複数のパスワードを専用スレッドプールで並列にハッシュ化（一括処理用）.
+     *
+     * <p>スレッドプールに投入するのは、全ての一括処理を合わせて実行中・待機中の件数が
+     * 投入上限（スレッド数と待機キューの半分の小さい方）に収まる分のみで、
+     * 残りは呼び出し元のスレッドでハッシュ化します。待機キューが満杯の場合も
+     * {@link ServiceUnavailableException}をスローせず呼び出し元のスレッドでハッシュ化します。
+     * 一括処理が待機キューを占有しないため、個別のユーザー作成も引き続き受け付けられます。
+     *
+     * @param rawPasswords 平文パスワード
+     * @return ハッシュ化されたパスワード（引数と同じ順序）
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<CompletableFuture<String>> hashes = new ArrayList<>(rawPasswords.size());
+        for (String rawPassword : rawPasswords) {
+            Supplier<String> task = () -> hashingTimer.record(() -> passwordEncoder.encode(rawPassword));
+            hashes.add(batchPermits.tryAcquire()
+                    ? submitBatchTask(task)
+                    : CompletableFuture.completedFuture(task.get()));
+        }
+        return hashes.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * 投入上限の許可を取得済みの一括処理タスクをスレッドプールに投入.
+     *
+     * <p>許可はタスク完了時に返却します。待機キューが満杯の場合は許可を返却し、
+     * 呼び出し元のスレッドでハッシュ化します。
+     *
+     * @param task ハッシュ化タスク
+     * @return ハッシュ化されたパスワード
+     */
+    private CompletableFuture<String> submitBatchTask(Supplier<String> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return task.get();
+                } finally {
+                    batchPermits.release();
+                }
+            }, executor);
+        } catch (RejectedExecutionException ex) {
+            batchPermits.release();
+            return CompletableFuture.completedFuture(task.get());
+        }
+    }
+
+    /**
+     * シャットダウン時にスレッドプールを停止.
+     *
+     * <p>受付済みの要求は完了まで実行します。
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 識別しやすい名前のデーモンスレッドを生成するファクトリ.
+     *
+     * @return スレッドファクトリ
+     */
+    private static ThreadFactory threadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,165 @@
+package com.organization.api.service;
+
+import com.organization.api.entity.User;
+import com.organization.api.repository.UserRepository;
+import com.organization.api.security.ConcurrentBloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.stream.Stream;
+
+/**
+ * 登録済みメールアドレスのインメモリBloomフィルター.
+ *
+ * <p>ユーザー作成時に、明らかに未登録のメールアドレスについては重複チェックのクエリを省略し、
+ * 登録済みのメールアドレスはBCryptハッシュ化の前に拒否するために使用します。
+ * 重複の最終的な判定は{@code users.email_normalized}の一意制約で行います。
+ *
+ * <p>フィルター仕様（{@link ConcurrentBloomFilter}）:
+ * <ul>
+ *   <li>構築: アプリケーション起動完了時に全ユーザーのメールアドレスを読み込む
+ *       （構築前に登録されたユーザーも取りこぼさないよう、フィルターを公開してから読み込む）</li>
+ *   <li>同期: ユーザー作成のコミット後に{@link #add(String)}で追加</li>
+ *   <li>キー: 正規化したメールアドレス（{@link User#normalizeEmail(String)}）</li>
+ *   <li>サイズ: {@code api.user-email-filter.expected-insertions}と登録済み件数の2倍の大きい方、
+ *       偽陽性率{@code api.user-email-filter.false-positive-probability}</li>
+ * </ul>
+ *
+ * <p>Bloomフィルターは要素を削除できないため、削除済みユーザーのメールアドレスは
+ * 「登録済みの可能性あり」と判定されます（偽陽性）。呼び出し元は
+ * {@link #mightBeRegistered(String)}がtrueの場合にデータベースで確認してください。
+ * フィルターはインスタンスごとに独立しているため、他インスタンスで登録されたメールアドレスは
+ * 一意制約違反として検出されます。
+ *
+ * <p>{@code api.user-email-filter.enabled=false}の場合、または構築完了前は
+ * 常にfalse（未判定）を返却し、重複は一意制約でのみ検出します。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Component
+@Slf4j
+public class RegisteredEmailFilter {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+
+    /** Bloomフィルター（構築開始前はnull）. */
+    private volatile ConcurrentBloomFilter filter;
+    private volatile boolean ready;
+
+    /**
+     * 登録済みメールアドレスフィルターを初期化.
+     *
+     * @param userRepository ユーザーリポジトリ
+     * @param transactionTemplate 構築時の読み込みに使用するトランザクションテンプレート
+     * @param enabled フィルターを有効化する場合true
+     * @param expectedInsertions 想定する登録件数の下限
+     * @param falsePositiveProbability 想定件数での偽陽性率
+     */
+    public RegisteredEmailFilter(
+            UserRepository userRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${api.user-email-filter.enabled:true}") boolean enabled,
+            @Value("${api.user-email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${api.user-email-filter.false-positive-probability:0.01}") double falsePositiveProbability) {
+
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException(
+                    "api.user-email-filter.expected-insertionsは1以上を指定してください: " + expectedInsertions);
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException(
+                    "api.user-email-filter.false-positive-probabilityは0より大きく1未満を指定してください: "
+                            + falsePositiveProbability);
+        }
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    /**
+     * 登録済みの全メールアドレスを読み込んでフィルターを構築.
+     *
+     * <p>構築中に作成されたユーザーは{@link #add(String)}で同じフィルターに追加されます。
+     * 読み込みに失敗した場合はフィルターを使用せず、一意制約のみで重複を検出します。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            long registered = userRepository.count();
+            ConcurrentBloomFilter created = new ConcurrentBloomFilter(
+                    Math.max(expectedInsertions, registered * 2), falsePositiveProbability);
+            filter = created;
+
+            Long loaded = transactionTemplate.execute(status -> {
+                try (Stream<String> emails = userRepository.streamAllEmails()) {
+                    return emails.mapToLong(email -> {
+                        created.add(User.normalizeEmail(email));
+                        return 1;
+                    }).sum();
+                }
+            });
+            ready = true;
+            log.info("登録済みメールアドレスフィルター構築完了: {}件, {}ビット, ハッシュ関数{}個, {}ms",
+                    loaded, created.getBitCount(), created.getHashFunctions(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException ex) {
+            filter = null;
+            log.error("登録済みメールアドレスフィルター構築失敗: 一意制約のみで重複を検出します", ex);
+        }
+    }
+
+    /**
+     * 登録済みの可能性があるかを判定.
+     *
+     * @param email メールアドレス
+     * @return 登録済みの可能性がある場合true（データベースで要確認）。
+     *         未登録が確実な場合、フィルターが無効・構築前の場合はfalse
+     */
+    public boolean mightBeRegistered(String email) {
+        ConcurrentBloomFilter current = filter;
+        if (!ready || current == null || email == null) {
+            return false;
+        }
+        return current.mightContain(User.normalizeEmail(email));
+    }
+
+    /**
+     * 登録したメールアドレスを追加.
+     *
+     * <p>登録のトランザクションがコミットされた後に呼び出してください。
+     *
+     * @param email メールアドレス
+     */
+    public void add(String email) {
+        ConcurrentBloomFilter current = filter;
+        if (current != null && email != null) {
+            current.add(User.normalizeEmail(email));
+        }
+    }
+
+    /**
+     * 登録したメールアドレスをまとめて追加.
+     *
+     * @param emails メールアドレス
+     */
+    public void addAll(Collection<String> emails) {
+        emails.forEach(this::add);
+    }
+}
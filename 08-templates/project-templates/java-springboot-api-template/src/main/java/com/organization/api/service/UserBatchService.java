@@ -0,0 +1,225 @@
+package com.organization.api.service;
+
+import com.organization.api.dto.CreateUserRequest;
+import com.organization.api.dto.UserBatchResponse;
+import com.organization.api.entity.User;
+import com.organization.api.exception.DuplicateResourceException;
+import com.organization.api.exception.InvalidRequestException;
+import com.organization.api.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * ユーザー一括作成サービス.
+ *
+ * <p>大量のユーザーをチャンク単位で作成します。
+ * <ul>
+ *   <li>リクエストは1件ずつ検証し、チャンクサイズ（{@code api.user-batch.chunk-size}）分たまるごとに処理</li>
+ *   <li>パスワードは{@link PasswordHashingService#encodeAll(List)}で並列にハッシュ化
+ *       （トランザクション外で実行し、ハッシュ化の間コネクションを保持しない）</li>
+ *   <li>チャンクごとに1トランザクションでJDBCバッチINSERT
+ *       （IDはプール型シーケンスで採番するため、{@code hibernate.jdbc.batch_size}件ずつ送信）</li>
+ *   <li>コミット後は永続化コンテキストをクリアし、件数によらずメモリ使用量は一定</li>
+ * </ul>
+ *
+ * <p>検証エラー・メールアドレスの重複があった場合はそのチャンクをロールバックして処理を中止します
+ * （それより前のチャンクはコミット済み）。チャンク内の重複・登録済みのメールアドレスはハッシュ化の前に確認し、
+ * 確認後に別経路で登録された重複は{@code users.email_normalized}の一意制約で検出します。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserBatchService {
+
+    private final UserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final EntityManager entityManager;
+    private final Validator validator;
+
+    /**
+     * 1トランザクションでコミットする件数.
+     */
+    @Value("${api.user-batch.chunk-size:500}")
+    private int chunkSize = 500;
+
+    /**
+     * ユーザーを一括作成.
+     *
+     * @param requests ユーザー作成リクエスト（逐次読み込み可能なイテレーター）
+     * @return 一括作成結果
+     * @throws InvalidRequestException 読み込み・検証エラーがあった場合
+     * @throws DuplicateResourceException 登録済みまたは重複したメールアドレスがあった場合
+     */
+    public UserBatchResponse createUsers(Iterator<CreateUserRequest> requests) {
+        long start = System.nanoTime();
+        List<CreateUserRequest> chunk = new ArrayList<>(chunkSize);
+        int created = 0;
+        int index = 0;
+
+        while (true) {
+            CreateUserRequest request;
+            try {
+                if (!requests.hasNext()) {
+                    break;
+                }
+                request = requests.next();
+            } catch (RuntimeException ex) {
+                // JSONの構文エラー・型の不一致等（読み込み元のイテレーターが非チェック例外でスローする）
+                log.warn("ユーザー一括作成中止: {}件目を読み込めません, 作成済み={}件: {}",
+                        index + 1, created, ex.getMessage());
+                throw new InvalidRequestException(String.format(
+                        "%d件目: リクエストを読み込めません（%d件作成済み）", index + 1, created));
+            }
+            validate(request, index, created);
+            chunk.add(request);
+            index++;
+            if (chunk.size() == chunkSize) {
+                created += saveChunk(chunk, created);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            created += saveChunk(chunk, created);
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("ユーザー一括作成完了: {}件, {}ms, {}件/秒",
+                created, elapsedMillis, created * 1000L / elapsedMillis);
+
+        return UserBatchResponse.builder()
+                .created(created)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    /**
+     * 1チャンク分のユーザーを作成.
+     *
+     * @param chunk ユーザー作成リクエスト
+     * @param created 作成済み件数（エラーメッセージ用）
+     * @return 作成した件数
+     * @throws DuplicateResourceException 登録済みまたは重複したメールアドレスが含まれている場合
+     */
+    private int saveChunk(List<CreateUserRequest> chunk, int created) {
+        // 重複はハッシュ化の前に除外する（BCryptの計算を無駄にしない）
+        checkDuplicateEmails(chunk, created);
+
+        List<String> hashedPasswords = passwordHashingService.encodeAll(
+                chunk.stream().map(CreateUserRequest::getPassword).toList());
+
+        List<User> users = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            CreateUserRequest request = chunk.get(i);
+            users.add(User.builder()
+                    .email(request.getEmail())
+                    .name(request.getName())
+                    .password(hashedPasswords.get(i))
+                    .role(request.getRole() != null ? request.getRole() : User.Role.ROLE_USER)
+                    .enabled(true)
+                    .build());
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.saveAll(users);
+                userRepository.flush();
+                // Open Session in View でリクエスト全体の永続化コンテキストが共有されるため、チャンクごとに解放する
+                entityManager.clear();
+            });
+        } catch (DataIntegrityViolationException ex) {
+            if (!UserService.isDuplicateEmail(ex)) {
+                throw ex;
+            }
+            log.warn("ユーザー一括作成中止: 登録済みまたは重複したメールアドレス, 作成済み={}件", created);
+            throw new DuplicateResourceException(String.format(
+                    "%d〜%d件目に登録済みまたは重複したメールアドレスが含まれています（%d件作成済み）",
+                    created + 1, created + chunk.size(), created));
+        }
+        registeredEmailFilter.addAll(users.stream().map(User::getEmail).toList());
+        log.debug("ユーザー一括作成チャンク完了: {}件", chunk.size());
+        return chunk.size();
+    }
+
+    /**
+     * チャンク内の重複・登録済みのメールアドレスを確認.
+     *
+     * <p>大文字小文字のみ異なるメールアドレスも重複として扱います（{@link User#normalizeEmail(String)}）。
+     *
+     * @param chunk ユーザー作成リクエスト
+     * @param created 作成済み件数（件数・エラーメッセージ用）
+     * @throws DuplicateResourceException 重複または登録済みのメールアドレスが含まれている場合
+     */
+    private void checkDuplicateEmails(List<CreateUserRequest> chunk, int created) {
+        // 正規化したメールアドレス → チャンク内の位置
+        Map<String, Integer> positions = new HashMap<>(chunk.size() * 2);
+        for (int i = 0; i < chunk.size(); i++) {
+            String email = chunk.get(i).getEmail();
+            Integer first = positions.putIfAbsent(User.normalizeEmail(email), i);
+            if (first != null) {
+                log.warn("ユーザー一括作成中止: {}件目のメールアドレスが{}件目と重複, 作成済み={}件",
+                        created + i + 1, created + first + 1, created);
+                throw new DuplicateResourceException(String.format(
+                        "%d件目: メールアドレスが%d件目と重複しています: %s（%d件作成済み）",
+                        created + i + 1, created + first + 1, email, created));
+            }
+        }
+
+        List<String> registered = userRepository.findExistingEmails(positions.keySet());
+        Integer index = registered.stream()
+                .map(positions::get)
+                .filter(Objects::nonNull)
+                .min(Integer::compare)
+                .orElse(null);
+        if (index != null) {
+            log.warn("ユーザー一括作成中止: {}件目のメールアドレスは登録済み, 作成済み={}件", created + index + 1, created);
+            throw new DuplicateResourceException(String.format(
+                    "%d件目: メールアドレスは登録済みです: %s（%d件作成済み）",
+                    created + index + 1, chunk.get(index).getEmail(), created));
+        }
+    }
+
+    /**
+     * リクエストを検証.
+     *
+     * @param request ユーザー作成リクエスト
+     * @param index リクエストの位置（0始まり）
+     * @param created 作成済み件数（エラーメッセージ用）
+     * @throws InvalidRequestException 検証エラーがある場合
+     */
+    private void validate(CreateUserRequest request, int index, int created) {
+        Set<ConstraintViolation<CreateUserRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return;
+        }
+        String errors = violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining(", "));
+        log.warn("ユーザー一括作成中止: {}件目の検証エラー, 作成済み={}件", index + 1, created);
+        throw new InvalidRequestException(String.format(
+                "%d件目: %s（%d件作成済み）", index + 1, errors, created));
+    }
+}
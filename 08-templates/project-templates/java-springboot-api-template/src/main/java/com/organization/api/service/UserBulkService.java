@@ -0,0 +1,240 @@
+package com.organization.api.service;
+
+import com.organization.api.dto.BulkUserRequest;
+import com.organization.api.dto.BulkUserResponse;
+import com.organization.api.entity.User;
+import com.organization.api.event.UserSecurityChangedBatchEvent;
+import com.organization.api.event.UserSecurityChangedEvent;
+import com.organization.api.event.UserSecurityFilterChangedEvent;
+import com.organization.api.exception.InvalidRequestException;
+import com.organization.api.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * ユーザー一括操作サービス.
+ *
+ * <p>管理者による無効化・有効化・ロール変更・削除を、エンティティを読み込まずに
+ * 集合指向のUPDATE/DELETE文で実行します（{@code findById}・{@code save}の繰り返しを行わない）。
+ * <ul>
+ *   <li>条件指定（{@code filter}）: 対象のIDを取得せず、{@code UPDATE ... WHERE role = ? AND enabled = ?}の
+ *       1文で実行し、コミット後に{@link UserSecurityFilterChangedEvent}を発行して
+ *       認証情報キャッシュを全件破棄・発行済みトークンをデータベースで確認</li>
+ *   <li>ID指定（{@code ids}、{@value UserRepository#MAX_BULK_IDS}件以下）: 状態が変わるユーザーを行ロックを取得して特定し、
+ *       1文で更新した後、コミット後に{@link UserSecurityChangedBatchEvent}を1回発行して
+ *       そのユーザーの認証情報キャッシュ・発行済みトークンのみを無効化</li>
+ * </ul>
+ *
+ * <p>無効化・ロール変更・削除では、実行した管理者自身を対象にできません
+ * （条件指定では対象から除外し、ID指定で含まれている場合は拒否）。
+ * また、これらの操作は同じトランザクションで有効な管理者の行ロックを取得してから実行し、
+ * 実行後に有効な管理者が1人もいない場合はロールバックします
+ * （{@link #requireEnabledAdmin(UserRepository)}、複数の管理者が同時に互いを無効化した場合も含む）。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class UserBulkService {
+
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * ユーザーを一括で有効化・無効化.
+     *
+     * @param request 対象の指定
+     * @param enabled 変更後の有効/無効状態
+     * @param adminId 実行した管理者のユーザーID（無効化の対象から除外する）
+     * @return 状態を変更した件数
+     * @throws InvalidRequestException 対象の指定が不正な場合、無効化の対象に実行した管理者自身が含まれる場合、
+     *         無効化により有効な管理者がいなくなる場合
+     */
+    public BulkUserResponse setEnabled(BulkUserRequest request, boolean enabled, Long adminId) {
+        Long excludedId = enabled ? null : adminId;
+        validate(request, excludedId);
+        if (!enabled) {
+            userRepository.lockEnabledIdsByRole(User.Role.ROLE_ADMIN);
+        }
+        Instant now = Instant.now();
+        BulkUserRequest.Filter filter = request.getFilter();
+        int affected = filter != null
+                ? publishFilterChange(userRepository.updateEnabledByFilter(
+                        filter.getRole(), filter.getEnabled(), excludedId, enabled, now))
+                : update(userRepository.lockSecurityKeysWithEnabledNot(distinct(request), enabled),
+                        ids -> userRepository.updateEnabled(ids, enabled, now));
+        if (!enabled) {
+            requireEnabledAdmin(userRepository);
+        }
+        log.info("ユーザー一括{}完了: {}件", enabled ? "有効化" : "無効化", affected);
+        return BulkUserResponse.builder().affected(affected).build();
+    }
+
+    /**
+     * ユーザーのロールを一括変更.
+     *
+     * @param request 対象の指定（{@code role}に変更後のロール）
+     * @param adminId 実行した管理者のユーザーID（対象から除外する）
+     * @return ロールを変更した件数
+     * @throws InvalidRequestException 対象の指定が不正な場合、変更後のロールがない場合、
+     *         対象に実行した管理者自身が含まれる場合、ロール変更により有効な管理者がいなくなる場合
+     */
+    public BulkUserResponse changeRole(BulkUserRequest request, Long adminId) {
+        User.Role role = request.getRole();
+        if (role == null) {
+            throw new InvalidRequestException("変更後のロール（role）を指定してください");
+        }
+        validate(request, adminId);
+        boolean demotes = role != User.Role.ROLE_ADMIN;
+        if (demotes) {
+            userRepository.lockEnabledIdsByRole(User.Role.ROLE_ADMIN);
+        }
+        Instant now = Instant.now();
+        BulkUserRequest.Filter filter = request.getFilter();
+        int affected = filter != null
+                ? publishFilterChange(userRepository.updateRoleByFilter(
+                        filter.getRole(), filter.getEnabled(), adminId, role, now))
+                : update(userRepository.lockSecurityKeysWithRoleNot(distinct(request), role),
+                        ids -> userRepository.updateRole(ids, role, now));
+        if (demotes) {
+            requireEnabledAdmin(userRepository);
+        }
+        log.info("ユーザー一括ロール変更完了: role={}, {}件", role, affected);
+        return BulkUserResponse.builder().affected(affected).build();
+    }
+
+    /**
+     * ユーザーを一括削除.
+     *
+     * @param request 対象の指定
+     * @param adminId 実行した管理者のユーザーID（対象から除外する）
+     * @return 削除した件数
+     * @throws InvalidRequestException 対象の指定が不正な場合、対象に実行した管理者自身が含まれる場合、
+     *         削除により有効な管理者がいなくなる場合
+     */
+    public BulkUserResponse deleteUsers(BulkUserRequest request, Long adminId) {
+        validate(request, adminId);
+        userRepository.lockEnabledIdsByRole(User.Role.ROLE_ADMIN);
+        BulkUserRequest.Filter filter = request.getFilter();
+        int affected;
+        if (filter != null) {
+            affected = publishFilterChange(
+                    userRepository.deleteByFilter(filter.getRole(), filter.getEnabled(), adminId));
+        } else {
+            List<Long> ids = distinct(request);
+            // 削除後はメールアドレスを取得できないため、削除前に取得する
+            List<UserSecurityChangedEvent> changes = new ArrayList<>();
+            for (UserRepository.SecurityKey key : userRepository.findSecurityKeys(ids)) {
+                changes.add(new UserSecurityChangedEvent(key.getId(), key.getEmail(), key.getSecurityVersion(), true));
+            }
+            affected = changes.isEmpty() ? 0 : userRepository.deleteAllByIdIn(ids);
+            publish(changes);
+        }
+        requireEnabledAdmin(userRepository);
+        log.info("ユーザー一括削除完了: {}件", affected);
+        return BulkUserResponse.builder().affected(affected).build();
+    }
+
+    /**
+     * 有効な管理者が1人以上残っていることを確認.
+     *
+     * <p>管理者を減らす可能性がある操作の前に{@link UserRepository#lockEnabledIdsByRole(User.Role)}で
+     * 有効な管理者の行ロックを取得し、操作後（同じトランザクション内）に呼び出してください。
+     * 例外はトランザクションをロールバックするため、コミット後のイベントも発行されません。
+     *
+     * @param userRepository ユーザーリポジトリ
+     * @throws InvalidRequestException 有効な管理者が1人もいない場合
+     */
+    static void requireEnabledAdmin(UserRepository userRepository) {
+        if (userRepository.countByRoleAndEnabled(User.Role.ROLE_ADMIN, true) == 0) {
+            throw new InvalidRequestException("有効な管理者がいなくなるため実行できません");
+        }
+    }
+
+    /**
+     * 状態が変わるユーザーを更新し、無効化イベントを発行.
+     *
+     * <p>変更対象は行ロックを取得して特定しているため、UPDATE文はその行のみを更新し、
+     * 変更後のセキュリティバージョンは取得した値+1です（更新後に再取得しない）。
+     *
+     * @param changing 状態が変わるユーザー（行ロック取得済み）
+     * @param statement 状態が変わるユーザーのIDを更新するUPDATE文（更新件数を返す）
+     * @return 更新した件数
+     */
+    private int update(List<UserRepository.SecurityKey> changing, ToIntFunction<List<Long>> statement) {
+        if (changing.isEmpty()) {
+            return 0;
+        }
+        List<UserSecurityChangedEvent> changes = new ArrayList<>(changing.size());
+        for (UserRepository.SecurityKey key : changing) {
+            changes.add(new UserSecurityChangedEvent(key.getId(), key.getEmail(), key.getSecurityVersion() + 1, false));
+        }
+        int affected = statement.applyAsInt(changes.stream().map(UserSecurityChangedEvent::getUserId).toList());
+        publish(changes);
+        return affected;
+    }
+
+    /**
+     * 一括操作の対象の指定を検証.
+     *
+     * @param request 対象の指定
+     * @param excludedId 対象にできないユーザーID（実行した管理者自身、制限しない場合はnull）
+     * @throws InvalidRequestException 対象の指定が不正な場合、ID指定に{@code excludedId}が含まれる場合
+     */
+    private static void validate(BulkUserRequest request, Long excludedId) {
+        if ((request.getIds() == null) == (request.getFilter() == null)) {
+            throw new InvalidRequestException("対象はidsまたはfilterのいずれか一方で指定してください");
+        }
+        if (request.getIds() != null) {
+            if (excludedId != null && request.getIds().contains(excludedId)) {
+                throw new InvalidRequestException("実行した管理者自身は対象に指定できません");
+            }
+            return;
+        }
+        BulkUserRequest.Filter filter = request.getFilter();
+        if (filter.getRole() == null && filter.getEnabled() == null) {
+            throw new InvalidRequestException("filterには条件を1つ以上指定してください");
+        }
+    }
+
+    /**
+     * ID指定の対象を重複なしで取得.
+     *
+     * @param request 対象の指定（ID指定）
+     * @return ユーザーID（重複なし、{@value UserRepository#MAX_BULK_IDS}件以下）
+     */
+    private static List<Long> distinct(BulkUserRequest request) {
+        return request.getIds().stream().distinct().toList();
+    }
+
+    private void publish(List<UserSecurityChangedEvent> changes) {
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new UserSecurityChangedBatchEvent(changes));
+        }
+    }
+
+    /**
+     * 条件指定の一括操作の無効化イベントを発行.
+     *
+     * @param affected 変更・削除した件数
+     * @return 変更・削除した件数
+     */
+    private int publishFilterChange(int affected) {
+        if (affected > 0) {
+            eventPublisher.publishEvent(new UserSecurityFilterChangedEvent(affected));
+        }
+        return affected;
+    }
+}
@@ -0,0 +1,209 @@
+package com.organization.api.service;
+
+import com.organization.api.dto.CreateUserRequest;
+import com.organization.api.entity.User;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * ユーザーCSVの逐次読み込み.
+ *
+ * <p>RFC 4180形式（カンマ区切り、ダブルクォートによる囲み・エスケープ、改行はCRLF/LF）の
+ * UTF-8のCSVを1レコードずつ読み込みます。ファイル全体をメモリに読み込みません。
+ * 1行目はヘッダーで、列の順序は任意です（大文字小文字は区別しない）。
+ * <ul>
+ *   <li>必須列: {@code email}, {@code name}, {@code password}</li>
+ *   <li>任意列: {@code role}（省略時・空欄は{@link User.Role#ROLE_USER}）</li>
+ * </ul>
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+final class UserCsvReader implements Closeable {
+
+    /** 1レコードの最大文字数（改行を含む不正なクォートでファイル全体を読み込まないための上限）. */
+    static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    private static final char BOM = '\uFEFF';
+
+    private final Reader reader;
+    private final int emailIndex;
+    private final int nameIndex;
+    private final int passwordIndex;
+    private final int roleIndex;
+    private final int columns;
+    private final StringBuilder field = new StringBuilder();
+    private boolean eof;
+
+    private UserCsvReader(Reader reader) throws IOException {
+        this.reader = reader;
+        reader.mark(1);
+        if (reader.read() != BOM) {
+            reader.reset();
+        }
+
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSVが空です");
+        }
+        List<String> names = header.stream().map(name -> name.strip().toLowerCase(Locale.ROOT)).toList();
+        this.emailIndex = requiredColumn(names, "email");
+        this.nameIndex = requiredColumn(names, "name");
+        this.passwordIndex = requiredColumn(names, "password");
+        this.roleIndex = names.indexOf("role");
+        this.columns = names.size();
+    }
+
+    /**
+     * CSVファイルを開き、ヘッダーを読み込む.
+     *
+     * @param file CSVファイル
+     * @return ユーザーCSVリーダー
+     * @throws IOException 読み込みに失敗した場合
+     * @throws IllegalArgumentException ヘッダーが不正な場合
+     */
+    static UserCsvReader open(Path file) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        try {
+            return new UserCsvReader(reader);
+        } catch (IOException | RuntimeException ex) {
+            reader.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * 次のデータ行を読み込む.
+     *
+     * <p>空行は読み飛ばします。
+     *
+     * @return 列の値（ファイルの終端の場合はnull）
+     * @throws IOException 読み込みに失敗した場合、またはレコードが長すぎる場合
+     */
+    List<String> next() throws IOException {
+        List<String> record;
+        do {
+            record = readRecord();
+        } while (record != null && record.size() == 1 && record.get(0).isEmpty());
+        return record;
+    }
+
+    /**
+     * データ行をユーザー作成リクエストに変換.
+     *
+     * @param record {@link #next()}で読み込んだ列の値
+     * @return ユーザー作成リクエスト（Bean Validationは呼び出し元で実施）
+     * @throws IllegalArgumentException 列数・ロールが不正な場合
+     */
+    CreateUserRequest toRequest(List<String> record) {
+        if (record.size() != columns) {
+            throw new IllegalArgumentException(String.format(
+                    "列数がヘッダーと一致しません（%d列、ヘッダーは%d列）", record.size(), columns));
+        }
+        User.Role role = User.Role.ROLE_USER;
+        if (roleIndex >= 0 && !record.get(roleIndex).isBlank()) {
+            String value = record.get(roleIndex).strip();
+            try {
+                role = User.Role.valueOf(value);
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("ロールが不正です: " + value);
+            }
+        }
+        return CreateUserRequest.builder()
+                .email(record.get(emailIndex).strip())
+                .name(record.get(nameIndex).strip())
+                .password(record.get(passwordIndex))
+                .role(role)
+                .build();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * 1レコードを読み込む（RFC 4180）.
+     *
+     * @return 列の値（ファイルの終端の場合はnull）
+     * @throws IOException 読み込みに失敗した場合、またはレコードが長すぎる場合
+     */
+    private List<String> readRecord() throws IOException {
+        if (eof) {
+            return null;
+        }
+        List<String> record = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean started = false;
+        int length = 0;
+
+        while (true) {
+            int c = reader.read();
+            if (c == -1) {
+                eof = true;
+                if (quoted) {
+                    throw new IOException("ダブルクォートが閉じられていません");
+                }
+                if (!started && record.isEmpty()) {
+                    return null;
+                }
+                record.add(field.toString());
+                return record;
+            }
+            started = true;
+            if (++length > MAX_RECORD_LENGTH) {
+                throw new IOException("レコードが長すぎます（最大" + MAX_RECORD_LENGTH + "文字）");
+            }
+
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                record.add(field.toString());
+                return record;
+            } else if (c == '\r') {
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+                record.add(field.toString());
+                return record;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private static int requiredColumn(List<String> names, String name) {
+        int index = names.indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("CSVのヘッダーに必須列 " + name + " がありません");
+        }
+        return index;
+    }
+}
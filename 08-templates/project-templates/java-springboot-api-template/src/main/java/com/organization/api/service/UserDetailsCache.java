@@ -0,0 +1,173 @@
+package com.organization.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.organization.api.entity.User;
+import com.organization.api.event.UserSecurityChangedBatchEvent;
+import com.organization.api.event.UserSecurityChangedEvent;
+import com.organization.api.event.UserSecurityFilterChangedEvent;
+import com.organization.api.security.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 認証用ユーザー情報キャッシュ.
+ *
+ * <p>{@link UserService#loadUserByUsername(String)}が認証済みリクエストのたびに
+ * {@code users}テーブルを参照しないよう、認証に必要なユーザー情報
+ * （{@link UserPrincipal}: ID、メール、パスワードハッシュ、ロール、有効状態、
+ * セキュリティバージョン）を正規化したメールアドレス（{@link User#normalizeEmail(String)}）をキーとして保持します。
+ *
+ * <p>キャッシュ仕様:
+ * <ul>
+ *   <li>最大エントリ数: {@code auth.user-cache.maximum-size}</li>
+ *   <li>有効期間: {@code auth.user-cache.ttl}（書き込みからの経過時間）</li>
+ *   <li>無効化: {@link UserSecurityChangedEvent}受信時（トランザクションのコミット後）、
+ *       {@link UserSecurityFilterChangedEvent}受信時は全エントリ</li>
+ *   <li>メトリクス: {@code cache.gets}（hit/miss）等（{@code cache=auth.users}）、
+ *       DB取得レイテンシ{@code auth.user.load}</li>
+ * </ul>
+ *
+ * <p>{@code auth.user-cache.enabled=false}の場合は常にデータベースから取得します。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Component
+@Slf4j
+public class UserDetailsCache {
+
+    /**
+     * Actuatorメトリクスのキャッシュ名.
+     */
+    public static final String CACHE_NAME = "auth.users";
+
+    private final Cache<String, UserPrincipal> cache;
+    private final Timer loadTimer;
+
+    /**
+     * 認証用ユーザー情報キャッシュを初期化.
+     *
+     * @param meterRegistry メトリクスレジストリ
+     * @param enabled キャッシュを有効化する場合true
+     * @param maximumSize 最大エントリ数
+     * @param ttl エントリの有効期間
+     */
+    public UserDetailsCache(
+            MeterRegistry meterRegistry,
+            @Value("${auth.user-cache.enabled:true}") boolean enabled,
+            @Value("${auth.user-cache.maximum-size:10000}") long maximumSize,
+            @Value("${auth.user-cache.ttl:60s}") Duration ttl) {
+
+        this.loadTimer = Timer.builder("auth.user.load")
+                .description("認証用ユーザー情報のデータベース取得時間")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+
+        if (enabled) {
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfterWrite(ttl)
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * キャッシュ済みのユーザー情報を返却し、未キャッシュの場合は取得して格納.
+     *
+     * <p>ユーザーの検索は大文字小文字を区別しないため（{@link User#normalizeEmail(String)}）、
+     * 正規化したメールアドレスが一致するエントリを共有します。
+     * 取得処理が例外をスローした場合は何も格納しません。
+     *
+     * @param username ユーザー名（email）
+     * @param loader データベースからの取得関数
+     * @return 認証用ユーザー情報
+     */
+    public UserPrincipal get(String username, Function<String, UserPrincipal> loader) {
+        if (cache == null) {
+            return timedLoad(username, loader);
+        }
+
+        return cache.get(User.normalizeEmail(username), key -> timedLoad(username, loader));
+    }
+
+    /**
+     * セキュリティ状態変更時にエントリを破棄.
+     *
+     * <p>変更がコミットされた後に破棄することで、コミット前の古い状態が
+     * 再キャッシュされることを防ぎます。
+     *
+     * @param event セキュリティ状態変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedEvent event) {
+        evict(event.getEmail());
+    }
+
+    /**
+     * 一括操作によるセキュリティ状態変更時にエントリをまとめて破棄.
+     *
+     * @param event 複数ユーザーのセキュリティ状態変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityChangedBatchEvent event) {
+        if (cache != null) {
+            log.debug("認証用ユーザー情報キャッシュ一括破棄: {}件", event.getChanges().size());
+            cache.invalidateAll(event.getChanges().stream()
+                    .map(change -> User.normalizeEmail(change.getEmail()))
+                    .toList());
+        }
+    }
+
+    /**
+     * 条件指定の一括操作によるセキュリティ状態変更時に全エントリを破棄.
+     *
+     * <p>変更されたユーザーを特定できないため、すべてのエントリを破棄します。
+     *
+     * @param event 条件指定の一括操作によるセキュリティ状態変更イベント
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserSecurityChanged(UserSecurityFilterChangedEvent event) {
+        if (cache != null) {
+            log.debug("認証用ユーザー情報キャッシュ全件破棄: {}", event);
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * 指定したユーザーのエントリを破棄.
+     *
+     * @param email メールアドレス
+     */
+    public void evict(String email) {
+        if (cache != null && email != null) {
+            log.debug("認証用ユーザー情報キャッシュ破棄: email={}", email);
+            cache.invalidate(User.normalizeEmail(email));
+        }
+    }
+
+    /**
+     * 取得時間を計測してユーザー情報を取得.
+     *
+     * @param username ユーザー名（email）
+     * @param loader 取得関数
+     * @return 認証用ユーザー情報
+     */
+    private UserPrincipal timedLoad(String username, Function<String, UserPrincipal> loader) {
+        return loadTimer.record(() -> loader.apply(username));
+    }
+}
@@ -0,0 +1,578 @@
+package com.organization.api.service;
+
+import com.organization.api.dto.CreateUserRequest;
+import com.organization.api.dto.PageResponse;
+import com.organization.api.dto.UserImportErrorDto;
+import com.organization.api.dto.UserImportJobDto;
+import com.organization.api.entity.User;
+import com.organization.api.entity.UserImportError;
+import com.organization.api.entity.UserImportJob;
+import com.organization.api.exception.InvalidRequestException;
+import com.organization.api.exception.ResourceNotFoundException;
+import com.organization.api.repository.UserImportErrorRepository;
+import com.organization.api.repository.UserImportJobRepository;
+import com.organization.api.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * ユーザーCSVインポートサービス.
+ *
+ * <p>アップロードされたCSV（{@link UserCsvReader}の形式）から大量のユーザーをバックグラウンドで登録します。
+ * <ul>
+ *   <li>アップロードはファイルに保存してジョブを登録し、処理は専用スレッドで1ジョブずつ実行</li>
+ *   <li>CSVは1行ずつ読み込み、ユーザー作成APIと同じ制約（Bean Validation）で検証</li>
+ *   <li>パスワードは{@link PasswordHashingService#encodeAll(List)}で並列にハッシュ化
+ *       （トランザクション外で実行し、ハッシュ化の間コネクションを保持しない）</li>
+ *   <li>チャンクサイズ（{@code api.user-import.chunk-size}）ごとに1トランザクションで、
+ *       ユーザー・行エラー・処理済み行数（チェックポイント）をまとめてコミット</li>
+ * </ul>
+ *
+ * <p>不正な行・登録済みのメールアドレスの行は行エラーとして記録してスキップし、処理を続行します。
+ * チェックポイントはユーザーの登録と同じトランザクションで更新するため、プロセスが停止した場合も
+ * 再起動時にチェックポイントの次の行から再開し、同じ行を二重に登録しません。
+ * 再開は単一インスタンス構成を前提とします（複数インスタンスで同じジョブを同時に処理しない）。
+ *
+ * <p>アップロードしたCSVは平文のパスワードを含むため、ジョブの完了時に削除します。
+ *
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+@Service
+@Slf4j
+public class UserImportService {
+
+    private static final int MAX_ERROR_PAGE_SIZE = 100;
+    private static final int MAX_MESSAGE_LENGTH = 500;
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+    private static final Set<UserImportJob.Status> UNFINISHED =
+            EnumSet.of(UserImportJob.Status.QUEUED, UserImportJob.Status.RUNNING);
+
+    private final UserImportJobRepository jobRepository;
+    private final UserImportErrorRepository errorRepository;
+    private final UserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final Validator validator;
+    private final Path location;
+    private final int chunkSize;
+    private final long maxFileSize;
+    private final ExecutorService executor;
+
+    /**
+     * ユーザーCSVインポートサービスを初期化.
+     *
+     * @param jobRepository インポートジョブリポジトリ
+     * @param errorRepository 行エラーリポジトリ
+     * @param userRepository ユーザーリポジトリ
+     * @param passwordHashingService パスワードハッシュ化サービス
+     * @param transactionTemplate トランザクションテンプレート
+     * @param registeredEmailFilter 登録済みメールアドレスフィルター（登録したメールアドレスを追加する）
+     * @param validator Bean Validationのバリデーター
+     * @param location アップロードしたCSVを保存するディレクトリ
+     * @param chunkSize 1トランザクションでコミットする行数
+     * @param maxFileSize アップロードできるCSVの最大サイズ
+     * @throws IOException ディレクトリを作成できない場合
+     */
+    public UserImportService(
+            UserImportJobRepository jobRepository,
+            UserImportErrorRepository errorRepository,
+            UserRepository userRepository,
+            PasswordHashingService passwordHashingService,
+            TransactionTemplate transactionTemplate,
+            RegisteredEmailFilter registeredEmailFilter,
+            Validator validator,
+            @Value("${api.user-import.location:${java.io.tmpdir}/api-template/user-imports}") String location,
+            @Value("${api.user-import.chunk-size:500}") int chunkSize,
+            @Value("${api.user-import.max-file-size:100MB}") DataSize maxFileSize) throws IOException {
+
+        if (chunkSize < 1) {
+            throw new IllegalStateException("api.user-import.chunk-size は1以上を指定してください");
+        }
+        this.jobRepository = jobRepository;
+        this.errorRepository = errorRepository;
+        this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.transactionTemplate = transactionTemplate;
+        this.registeredEmailFilter = registeredEmailFilter;
+        this.validator = validator;
+        this.location = Files.createDirectories(Path.of(location));
+        this.chunkSize = chunkSize;
+        this.maxFileSize = maxFileSize.toBytes();
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("ユーザーCSVインポート: location={}, chunkSize={}, maxFileSize={}",
+                this.location, chunkSize, maxFileSize);
+    }
+
+    /**
+     * CSVを保存してインポートジョブを登録.
+     *
+     * <p>ヘッダーのみ同期的に検証し、データ行はバックグラウンドで処理します。
+     *
+     * @param csv アップロードされたCSV
+     * @param admin 登録した管理者（メールアドレス）
+     * @return 登録したジョブ
+     * @throws InvalidRequestException CSVが大きすぎる場合、ヘッダーが不正な場合
+     */
+    public UserImportJobDto submit(InputStream csv, String admin) {
+        Path upload = null;
+        try {
+            upload = Files.createTempFile(location, "upload-", ".csv");
+            copy(csv, upload);
+            validateHeader(upload);
+
+            UserImportJob job = jobRepository.save(UserImportJob.builder()
+                    .status(UserImportJob.Status.QUEUED)
+                    .createdBy(admin)
+                    .build());
+            Files.move(upload, csvFile(job.getId()), StandardCopyOption.ATOMIC_MOVE);
+            log.info("ユーザーCSVインポートジョブ登録: id={}, admin={}", job.getId(), admin);
+
+            schedule(job.getId());
+            return convertToDto(job);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("CSVを保存できません", ex);
+        } finally {
+            deleteQuietly(upload);
+        }
+    }
+
+    /**
+     * インポートジョブの状態を取得.
+     *
+     * @param id ジョブID
+     * @return ジョブ
+     * @throws ResourceNotFoundException ジョブが存在しない場合
+     */
+    public UserImportJobDto getJob(Long id) {
+        return convertToDto(findJob(id));
+    }
+
+    /**
+     * インポートジョブの行エラーを行番号順に取得.
+     *
+     * @param id ジョブID
+     * @param page ページ番号（0始まり）
+     * @param size ページサイズ（上限を超える場合は切り詰める）
+     * @return 行エラーのページ
+     * @throws ResourceNotFoundException ジョブが存在しない場合
+     * @throws InvalidRequestException ページ番号・ページサイズが不正な場合
+     */
+    public PageResponse<UserImportErrorDto> getErrors(Long id, int page, int size) {
+        if (page < 0) {
+            throw new InvalidRequestException("ページ番号は0以上を指定してください");
+        }
+        if (size < 1) {
+            throw new InvalidRequestException("ページサイズは1以上を指定してください");
+        }
+        findJob(id);
+        int pageSize = Math.min(size, MAX_ERROR_PAGE_SIZE);
+
+        Page<UserImportError> errors = errorRepository.findByJobIdOrderByRowNumberAsc(
+                id, PageRequest.of(page, pageSize));
+
+        return PageResponse.<UserImportErrorDto>builder()
+                .content(errors.map(error -> UserImportErrorDto.builder()
+                        .rowNumber(error.getRowNumber())
+                        .message(error.getMessage())
+                        .build()).getContent())
+                .page(page)
+                .size(pageSize)
+                .totalElements(errors.getTotalElements())
+                .totalPages(errors.getTotalPages())
+                .build();
+    }
+
+    /**
+     * 失敗したインポートジョブをチェックポイントから再開.
+     *
+     * @param id ジョブID
+     * @return 再開したジョブ
+     * @throws ResourceNotFoundException ジョブが存在しない場合
+     * @throws InvalidRequestException ジョブが失敗していない場合
+     */
+    public UserImportJobDto resume(Long id) {
+        UserImportJob job = executeInTransaction(status -> {
+            UserImportJob failed = findJob(id);
+            if (failed.getStatus() != UserImportJob.Status.FAILED) {
+                throw new InvalidRequestException(
+                        "再開できるのは失敗したジョブのみです（状態: " + failed.getStatus() + "）");
+            }
+            failed.setStatus(UserImportJob.Status.QUEUED);
+            failed.setErrorMessage(null);
+            failed.setFinishedAt(null);
+            return failed;
+        });
+        log.info("ユーザーCSVインポートジョブ再開: id={}, processedRows={}", id, job.getProcessedRows());
+
+        schedule(id);
+        return convertToDto(job);
+    }
+
+    /**
+     * 起動時に未完了のジョブをチェックポイントから再開.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        for (UserImportJob job : jobRepository.findByStatusInOrderByIdAsc(UNFINISHED)) {
+            log.info("未完了のユーザーCSVインポートジョブを再開: id={}, status={}, processedRows={}",
+                    job.getId(), job.getStatus(), job.getProcessedRows());
+            schedule(job.getId());
+        }
+    }
+
+    /**
+     * シャットダウン時に処理を中断.
+     *
+     * <p>処理中のジョブはチャンクの境界で中断し、次回起動時にチェックポイントから再開します。
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * ジョブの処理をスケジュール.
+     *
+     * @param jobId ジョブID
+     */
+    private void schedule(Long jobId) {
+        executor.execute(() -> run(jobId));
+    }
+
+    /**
+     * ジョブを処理（インポート専用スレッドで実行）.
+     *
+     * @param jobId ジョブID
+     */
+    void run(Long jobId) {
+        UserImportJob job = transactionTemplate.execute(status -> {
+            UserImportJob queued = jobRepository.findById(jobId).orElse(null);
+            if (queued == null || !UNFINISHED.contains(queued.getStatus())) {
+                return null;
+            }
+            queued.setStatus(UserImportJob.Status.RUNNING);
+            if (queued.getStartedAt() == null) {
+                queued.setStartedAt(Instant.now());
+            }
+            return queued;
+        });
+        if (job == null) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        long rowNumber = job.getProcessedRows();
+        log.info("ユーザーCSVインポート開始: id={}, 再開位置={}行目", jobId, rowNumber + 1);
+        try (UserCsvReader reader = UserCsvReader.open(csvFile(jobId))) {
+            // チェックポイントまでの処理済みの行を読み飛ばす
+            long skipped = 0;
+            while (skipped < rowNumber && reader.next() != null) {
+                skipped++;
+            }
+            List<List<String>> records = new ArrayList<>(chunkSize);
+            while (true) {
+                if (Thread.currentThread().isInterrupted()) {
+                    log.info("ユーザーCSVインポート中断: id={}, processedRows={}（次回起動時に再開）", jobId, rowNumber);
+                    return;
+                }
+                records.clear();
+                List<String> record;
+                while (records.size() < chunkSize && (record = reader.next()) != null) {
+                    records.add(record);
+                }
+                if (records.isEmpty()) {
+                    break;
+                }
+                processChunk(jobId, reader, rowNumber, records);
+                rowNumber += records.size();
+            }
+        } catch (IOException | RuntimeException ex) {
+            fail(jobId, ex);
+            return;
+        }
+
+        complete(jobId, rowNumber, start);
+        deleteQuietly(csvFile(jobId));
+    }
+
+    /**
+     * 1チャンク分の行を検証・登録.
+     *
+     * @param jobId ジョブID
+     * @param reader CSVリーダー（データ行の変換用）
+     * @param processedRows チャンクより前の処理済み行数
+     * @param records チャンクのデータ行
+     */
+    private void processChunk(Long jobId, UserCsvReader reader, long processedRows, List<List<String>> records) {
+        List<RowError> errors = new ArrayList<>();
+        // 正規化したメールアドレス → 登録する行（大文字小文字のみ異なる行も重複として扱う）
+        Map<String, PendingUser> pending = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            long rowNumber = processedRows + i + 1;
+            CreateUserRequest request;
+            try {
+                request = reader.toRequest(records.get(i));
+            } catch (IllegalArgumentException ex) {
+                errors.add(new RowError(rowNumber, ex.getMessage()));
+                continue;
+            }
+            String violations = validate(request);
+            if (violations != null) {
+                errors.add(new RowError(rowNumber, violations));
+            } else if (pending.putIfAbsent(User.normalizeEmail(request.getEmail()), new PendingUser(rowNumber, request)) != null) {
+                errors.add(new RowError(rowNumber, "メールアドレスがファイル内で重複しています: " + request.getEmail()));
+            }
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            // 登録済みのメールアドレスはハッシュ化の前に除外する（BCryptの計算を無駄にしない）
+            if (!pending.isEmpty()) {
+                for (String email : userRepository.findExistingEmails(pending.keySet())) {
+                    PendingUser registered = pending.remove(email);
+                    if (registered == null) {
+                        continue;  // 正規化の結果がデータベースと一致しない場合は一意制約違反で再試行する
+                    }
+                    errors.add(new RowError(registered.rowNumber(),
+                            "メールアドレスは登録済みです: " + registered.request().getEmail()));
+                }
+            }
+            List<PendingUser> users = List.copyOf(pending.values());
+            List<String> hashes = passwordHashingService.encodeAll(
+                    users.stream().map(user -> user.request().getPassword()).toList());
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> saveChunk(jobId, records.size(), users, hashes, errors));
+                registeredEmailFilter.addAll(users.stream().map(user -> user.request().getEmail()).toList());
+                log.debug("ユーザーCSVインポートチャンク完了: id={}, {}〜{}行目, 登録={}件, エラー={}件",
+                        jobId, processedRows + 1, processedRows + records.size(), users.size(), errors.size());
+                return;
+            } catch (DataIntegrityViolationException ex) {
+                // ハッシュ化の間に同じメールアドレスが別経路で登録された場合のみ再試行する
+                // （それ以外の制約違反は再試行しても解消しないため、ハッシュ化をやり直さずにジョブを失敗にする）
+                if (!UserService.isDuplicateEmail(ex) || attempt == MAX_CHUNK_ATTEMPTS) {
+                    throw ex;
+                }
+                log.warn("ユーザーCSVインポートチャンク再試行: id={}, {}行目から, 試行={}回目",
+                        jobId, processedRows + 1, attempt);
+            }
+        }
+    }
+
+    /**
+     * チャンクのユーザー・行エラー・チェックポイントを保存（呼び出し元のトランザクション内で実行）.
+     *
+     * @param jobId ジョブID
+     * @param rows チャンクの行数
+     * @param users 登録するユーザー
+     * @param hashes ハッシュ化したパスワード（{@code users}と同じ順序）
+     * @param errors 行エラー
+     */
+    private void saveChunk(Long jobId, int rows, List<PendingUser> users, List<String> hashes, List<RowError> errors) {
+        List<User> entities = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            CreateUserRequest request = users.get(i).request();
+            entities.add(User.builder()
+                    .email(request.getEmail())
+                    .name(request.getName())
+                    .password(hashes.get(i))
+                    .role(request.getRole() != null ? request.getRole() : User.Role.ROLE_USER)
+                    .enabled(true)
+                    .build());
+        }
+        userRepository.saveAll(entities);
+        userRepository.flush();
+
+        errorRepository.saveAll(errors.stream()
+                .map(error -> UserImportError.builder()
+                        .jobId(jobId)
+                        .rowNumber(error.rowNumber())
+                        .message(truncate(error.message()))
+                        .build())
+                .toList());
+
+        UserImportJob job = jobRepository.findById(jobId).orElseThrow();
+        job.setProcessedRows(job.getProcessedRows() + rows);
+        job.setCreatedCount(job.getCreatedCount() + users.size());
+        job.setFailedCount(job.getFailedCount() + errors.size());
+    }
+
+    private void complete(Long jobId, long rows, long start) {
+        UserImportJob job = executeInTransaction(status -> {
+            UserImportJob running = jobRepository.findById(jobId).orElseThrow();
+            running.setStatus(UserImportJob.Status.COMPLETED);
+            running.setFinishedAt(Instant.now());
+            return running;
+        });
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("ユーザーCSVインポート完了: id={}, {}行, 登録={}件, エラー={}件, {}ms",
+                jobId, rows, job.getCreatedCount(), job.getFailedCount(), elapsedMillis);
+    }
+
+    private void fail(Long jobId, Exception cause) {
+        log.error("ユーザーCSVインポート失敗: id={}", jobId, cause);
+        transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(UserImportJob.Status.FAILED);
+            job.setErrorMessage(truncate(cause instanceof NoSuchFileException
+                    ? "CSVファイルがありません" : String.valueOf(cause.getMessage())));
+            job.setFinishedAt(Instant.now());
+        }));
+    }
+
+    /**
+     * リクエストを検証.
+     *
+     * @param request ユーザー作成リクエスト
+     * @return 検証エラー（エラーがない場合はnull）
+     */
+    private String validate(CreateUserRequest request) {
+        Set<ConstraintViolation<CreateUserRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * アップロードされたCSVをファイルに保存.
+     *
+     * @throws InvalidRequestException 最大サイズを超えた場合
+     */
+    private void copy(InputStream csv, Path file) throws IOException {
+        byte[] buffer = new byte[8192];
+        long total = 0;
+        try (OutputStream out = Files.newOutputStream(file)) {
+            int read;
+            while ((read = csv.read(buffer)) != -1) {
+                total += read;
+                if (total > maxFileSize) {
+                    throw new InvalidRequestException("CSVが大きすぎます（最大" + maxFileSize + "バイト）");
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    /**
+     * CSVのヘッダーを検証.
+     *
+     * @throws InvalidRequestException ヘッダーが不正な場合
+     */
+    private static void validateHeader(Path file) {
+        try {
+            // ヘッダーはオープン時に検証される
+            UserCsvReader.open(file).close();
+            log.debug("ユーザーCSVのヘッダー検証完了: {}", file);
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new InvalidRequestException(ex.getMessage());
+        }
+    }
+
+    /**
+     * トランザクション内で実行し、結果を返却.
+     *
+     * @param action 処理（nullを返さないこと）
+     * @param <T> 結果の型
+     * @return 処理の結果
+     * @throws IllegalStateException 処理がnullを返した場合
+     */
+    private <T> T executeInTransaction(TransactionCallback<T> action) {
+        T result = transactionTemplate.execute(action);
+        if (result == null) {
+            throw new IllegalStateException("トランザクション内の処理が結果を返しませんでした");
+        }
+        return result;
+    }
+
+    private UserImportJob findJob(Long id) {
+        return jobRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("UserImportJob", "id", id));
+    }
+
+    private Path csvFile(Long jobId) {
+        return location.resolve(jobId + ".csv");
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("ファイルを削除できません: {}", file, ex);
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_MESSAGE_LENGTH ? message : message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+
+    private UserImportJobDto convertToDto(UserImportJob job) {
+        return UserImportJobDto.builder()
+                .id(job.getId())
+                .status(job.getStatus())
+                .processedRows(job.getProcessedRows())
+                .createdCount(job.getCreatedCount())
+                .failedCount(job.getFailedCount())
+                .errorMessage(job.getErrorMessage())
+                .createdBy(job.getCreatedBy())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
+    /**
+     * 登録待ちの行.
+     */
+    private record PendingUser(long rowNumber, CreateUserRequest request) {
+    }
+
+    /**
+     * 行エラー（エンティティはトランザクションごとに生成する）.
+     */
+    private record RowError(long rowNumber, String message) {
+    }
+}
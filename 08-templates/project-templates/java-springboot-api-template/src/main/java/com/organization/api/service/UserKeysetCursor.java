@@ -0,0 +1,76 @@
+package com.organization.api.service;
+
+import com.organization.api.exception.InvalidRequestException;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * ユーザー一覧のキーセットページング用カーソル.
+ *
+ * <p>ソートキー{@code (created_at, id)}の最終行の値を保持します。
+ * クライアントには内部構造を意識させないよう、エポック秒・ナノ秒・IDの固定長20バイトを
+ * Base64URL（パディングなし）でエンコードした不透明な文字列として返却します。
+ *
+ * @param createdAt 最終行の作成日時
+ * @param id 最終行のユーザーID
+ * @author Organization Development Team
+ * @version 1.0.0
+ * @since 2024-01-01
+ */
+record UserKeysetCursor(Instant createdAt, long id) {
+
+    /** エンコード後のバイト数（エポック秒8 + ナノ秒4 + ID8）. */
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    /**
+     * カーソル文字列を生成.
+     *
+     * @return 不透明なカーソル文字列
+     */
+    String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .putLong(createdAt.getEpochSecond())
+                .putInt(createdAt.getNano())
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * カーソル文字列を復元.
+     *
+     * @param cursor {@link #encode()}で生成したカーソル文字列
+     * @return カーソル
+     * @throws InvalidRequestException カーソルが不正な場合
+     */
+    static UserKeysetCursor decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+        if (bytes.length != ENCODED_BYTES) {
+            throw invalid();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        long id = buffer.getLong();
+        if (nano < 0 || nano > 999_999_999 || id <= 0) {
+            throw invalid();
+        }
+        try {
+            return new UserKeysetCursor(Instant.ofEpochSecond(epochSecond, nano), id);
+        } catch (DateTimeException e) {
+            throw invalid();
+        }
+    }
+
+    private static InvalidRequestException invalid() {
+        return new InvalidRequestException("ページングカーソルが不正です");
+    }
+}
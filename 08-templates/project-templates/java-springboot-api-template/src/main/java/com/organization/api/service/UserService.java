@@ -1,20 +1,45 @@
 package com.organization.api.service;
 
+import com.organization.api.dto.CursorPageResponse;
+import com.organization.api.dto.PageResponse;
+import com.organization.api.dto.PatchUserRequest;
 import com.organization.api.dto.UserDto;
 import com.organization.api.entity.User;
+import com.organization.api.event.UserSecurityChangedEvent;
+import com.organization.api.exception.DuplicateResourceException;
+import com.organization.api.exception.InvalidRequestException;
 import com.organization.api.exception.ResourceNotFoundException;
+import com.organization.api.exception.VersionConflictException;
 import com.organization.api.repository.UserRepository;
+import com.organization.api.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * ユーザーサービス.
@@ -36,24 +61,149 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Slf4j
-public class UserService implements UserDetailsService {
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
+
+    /** 一覧取得のページサイズ上限の既定値. */
+    private static final int DEFAULT_MAX_PAGE_SIZE = 100;
+
+    /** 一覧取得のソート順（キーセットページングと同じ{@code (created_at, id)}の昇順）. */
+    private static final Sort KEYSET_ORDER = Sort.by("createdAt", "id");
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserDetailsCache userDetailsCache;
+    private final RegisteredEmailFilter registeredEmailFilter;
+
+    /**
+     * ハッシュ化完了後の保存処理を実行するエグゼキューター.
+     *
+     * <p>JDBCのブロッキングI/Oでハッシュ化専用スレッドを占有しないよう、
+     * Spring Bootのアプリケーションタスクエグゼキューター（{@code spring.task.execution.*}）で実行します。
+     */
+    @Qualifier("applicationTaskExecutor")
+    private final Executor persistenceExecutor;
+
+    /**
+     * 一覧取得のページサイズ上限.
+     */
+    @Value("${api.pagination.max-page-size:100}")
+    private int maxPageSize = DEFAULT_MAX_PAGE_SIZE;
 
     /**
-     * 全ユーザーを取得.
+     * ページ番号方式でユーザー一覧を取得.
      * 
-     * @return ユーザーDTOのリスト
+     * <p>{@code (created_at, id)}の昇順で取得します。
+     * ページサイズはサーバー側の上限（{@code api.pagination.max-page-size}）に切り詰めます。
+     * 総件数の取得に{@code COUNT(*)}を、ページの位置指定に{@code OFFSET}を使用するため、
+     * 全件を順に走査する場合は{@link #findUsersByCursor(String, int)}を使用してください。
+     * 
+     * @param page ページ番号（0始まり）
+     * @param size ページサイズ
+     * @return ユーザーDTOのページ
+     * @throws InvalidRequestException ページ番号・ページサイズが不正な場合
      */
-    public List<UserDto> findAllUsers() {
-        log.debug("全ユーザー取得開始");
-        List<User> users = userRepository.findAll();
-        log.info("全ユーザー取得完了: {}件", users.size());
-        
-        return users.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public PageResponse<UserDto> findUsers(int page, int size) {
+        if (page < 0) {
+            throw new InvalidRequestException("ページ番号は0以上を指定してください");
+        }
+        int pageSize = limitPageSize(size);
+        log.debug("ユーザー一覧取得開始: page={}, size={}", page, pageSize);
+
+        Page<UserDto> users = userRepository.findDtoPage(PageRequest.of(page, pageSize, KEYSET_ORDER));
+        log.info("ユーザー一覧取得完了: page={}, {}件", page, users.getNumberOfElements());
+
+        return PageResponse.<UserDto>builder()
+                .content(users.getContent())
+                .page(page)
+                .size(pageSize)
+                .totalElements(users.getTotalElements())
+                .totalPages(users.getTotalPages())
+                .build();
+    }
+
+    /**
+     * カーソル方式（キーセットページング）でユーザー一覧を取得.
+     * 
+     * <p>{@code (created_at, id)}の昇順で、カーソルが指す行より後を取得します。
+     * {@code COUNT(*)}・{@code OFFSET}を使用しないため、ページの深さによらず
+     * インデックスの範囲走査のみで取得できます。
+     * ページサイズはサーバー側の上限（{@code api.pagination.max-page-size}）に切り詰めます。
+     * 
+     * @param cursor 前ページの{@code nextCursor}（先頭ページの場合は空文字またはnull）
+     * @param size ページサイズ
+     * @return ユーザーDTOのページ
+     * @throws InvalidRequestException カーソル・ページサイズが不正な場合
+     */
+    public CursorPageResponse<UserDto> findUsersByCursor(String cursor, int size) {
+        int pageSize = limitPageSize(size);
+        PageRequest limit = PageRequest.ofSize(pageSize);
+
+        Slice<UserDto> users;
+        if (cursor == null || cursor.isEmpty()) {
+            log.debug("ユーザー一覧取得開始（カーソル）: 先頭ページ, size={}", pageSize);
+            users = userRepository.findFirstKeysetPage(limit);
+        } else {
+            UserKeysetCursor after = UserKeysetCursor.decode(cursor);
+            log.debug("ユーザー一覧取得開始（カーソル）: after=({}, {}), size={}",
+                    after.createdAt(), after.id(), pageSize);
+            users = userRepository.findKeysetPageAfter(after.createdAt(), after.id(), limit);
+        }
+        log.info("ユーザー一覧取得完了（カーソル）: {}件", users.getNumberOfElements());
+
+        List<UserDto> content = users.getContent();
+        String nextCursor = null;
+        if (users.hasNext()) {
+            UserDto last = content.get(content.size() - 1);
+            nextCursor = new UserKeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPageResponse.<UserDto>builder()
+                .content(content)
+                .size(pageSize)
+                .nextCursor(nextCursor)
+                .hasNext(users.hasNext())
+                .build();
+    }
+
+    /**
+     * ページサイズをサーバー側の上限に切り詰める.
+     * 
+     * @param size 要求されたページサイズ
+     * @return 上限適用後のページサイズ
+     * @throws InvalidRequestException ページサイズが1未満の場合
+     */
+    private int limitPageSize(int size) {
+        if (size < 1) {
+            throw new InvalidRequestException("ページサイズは1以上を指定してください");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * 全ユーザーを1件ずつ出力（エクスポート用）.
+     * 
+     * <p>{@link UserRepository#streamAllForExport()}でJDBCのフェッチサイズ単位に取得したDTOを
+     * 順次出力します。エンティティを生成・管理せず、全件をリストに保持しないため、
+     * 件数によらずヒープ使用量は一定です。
+     * 出力先への書き込みが完了するまで読み取り専用トランザクション（コネクション）を保持します。
+     * 
+     * @param consumer ユーザーDTOの出力先
+     * @return 出力した件数
+     */
+    public long exportUsers(Consumer<UserDto> consumer) {
+        log.debug("ユーザーエクスポート開始");
+        long exported = 0;
+        try (Stream<UserDto> users = userRepository.streamAllForExport()) {
+            Iterator<UserDto> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                exported++;
+            }
+        }
+        log.info("ユーザーエクスポート完了: {}件", exported);
+        return exported;
     }
 
     /**
@@ -66,37 +216,99 @@ public class UserService implements UserDetailsService {
     public UserDto findUserById(Long id) {
         log.debug("ユーザー取得開始: id={}", id);
         
-        User user = userRepository.findById(id)
+        UserDto user = userRepository.findDtoById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
         
         log.info("ユーザー取得完了: email={}", user.getEmail());
-        return convertToDto(user);
+        return user;
     }
 
     /**
      * ユーザーを作成.
      * 
-     * <p>パスワードはBCryptでハッシュ化して保存されます。
+     * <p>パスワードは{@link PasswordHashingService}の専用スレッドプールでBCryptハッシュ化し、
+     * ハッシュ化完了後にアプリケーションタスクエグゼキューター上の新しいトランザクションで保存します
+     * （ハッシュ化スレッドでデータベースI/Oを待機しない）。
+     * 呼び出し元のリクエストスレッドはハッシュ化の完了を待たずに解放されます。
+     * 
+     * <p>メールアドレスの重複は{@code users.email_normalized}の一意制約で判定します。
+     * {@link RegisteredEmailFilter}が登録済みの可能性ありと判定した場合のみ、
+     * ハッシュ化の前にデータベースで確認します（未登録が確実な場合は確認クエリを発行しない）。
      * 
      * @param userDto ユーザー情報
-     * @return 作成されたユーザーDTO
-     * @throws IllegalArgumentException メールアドレスが既に登録されている場合
+     * @param rawPassword 平文パスワード
+     * @return 作成されたユーザーDTO（保存完了時に完了するCompletableFuture）
+     * @throws DuplicateResourceException メールアドレスが既に登録されている場合
+     *         （ハッシュ化の前に判明した場合はスロー、保存時に判明した場合はCompletableFutureを例外で完了）
+     * @throws com.organization.api.exception.ServiceUnavailableException ハッシュ化の待機キューが上限に達している場合
      */
-    @Transactional
-    public UserDto createUser(UserDto userDto, String rawPassword) {
+    public CompletableFuture<UserDto> createUser(UserDto userDto, String rawPassword) {
         log.debug("ユーザー作成開始: email={}", userDto.getEmail());
 
-        // メールアドレス重複チェック
-        if (userRepository.existsByEmail(userDto.getEmail())) {
-            log.warn("ユーザー作成失敗: メールアドレスが既に登録されています email={}", 
-                    userDto.getEmail());
-            throw new IllegalArgumentException(
-                "メールアドレス " + userDto.getEmail() + " は既に登録されています");
+        // 登録済みの可能性がある場合のみ確認し、重複でのBCryptのCPU消費を避ける
+        if (registeredEmailFilter.mightBeRegistered(userDto.getEmail())
+                && userRepository.existsByEmail(userDto.getEmail())) {
+            throw duplicateEmail(userDto.getEmail());
         }
 
         // BCryptでパスワードをハッシュ化（organization-standards準拠）
-        String hashedPassword = passwordEncoder.encode(rawPassword);
+        return passwordHashingService.encode(rawPassword)
+                .thenApplyAsync(hashedPassword -> {
+                    UserDto created;
+                    try {
+                        created = transactionTemplate.execute(status -> saveNewUser(userDto, hashedPassword));
+                    } catch (DataIntegrityViolationException ex) {
+                        // 同時登録・他インスタンスでの登録はメールアドレスの一意制約違反として検出する
+                        if (!isDuplicateEmail(ex)) {
+                            throw ex;
+                        }
+                        registeredEmailFilter.add(userDto.getEmail());
+                        throw duplicateEmail(userDto.getEmail());
+                    }
+                    registeredEmailFilter.add(userDto.getEmail());
+                    return created;
+                }, persistenceExecutor);
+    }
+
+    /**
+     * メールアドレスの一意制約（{@link User#EMAIL_NORMALIZED_CONSTRAINT}）違反かを判定.
+     *
+     * <p>制約名はデータベースのエラーメッセージから取得されるため、
+     * スキーマ名の修飾・大文字小文字の違い（H2はインデックス名）を許容して比較します。
+     *
+     * @param ex データ整合性違反例外
+     * @return メールアドレスの一意制約違反の場合true
+     */
+    static boolean isDuplicateEmail(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraintName = violation.getConstraintName();
+                return constraintName != null && constraintName.toLowerCase(Locale.ROOT)
+                        .contains(User.EMAIL_NORMALIZED_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * メールアドレス重複の例外を作成.
+     * 
+     * @param email メールアドレス
+     * @return リソース重複例外
+     */
+    private static DuplicateResourceException duplicateEmail(String email) {
+        log.warn("ユーザー作成失敗: メールアドレスが既に登録されています email={}", email);
+        return new DuplicateResourceException("メールアドレス " + email + " は既に登録されています");
+    }
 
+    /**
+     * ハッシュ化済みパスワードで新規ユーザーを保存.
+     * 
+     * @param userDto ユーザー情報
+     * @param hashedPassword ハッシュ化されたパスワード
+     * @return 作成されたユーザーDTO
+     */
+    private UserDto saveNewUser(UserDto userDto, String hashedPassword) {
         User user = User.builder()
                 .email(userDto.getEmail())
                 .name(userDto.getName())
@@ -105,7 +317,7 @@ public class UserService implements UserDetailsService {
                 .enabled(true)
                 .build();
 
-        User savedUser = userRepository.save(user);
+        User savedUser = userRepository.saveAndFlush(user);
         log.info("ユーザー作成完了: id={}, email={}", savedUser.getId(), savedUser.getEmail());
 
         return convertToDto(savedUser);
@@ -114,10 +326,14 @@ public class UserService implements UserDetailsService {
     /**
      * ユーザーを更新.
      * 
+     * <p>有効/無効状態が変更された場合はセキュリティバージョンをインクリメントし、
+     * {@link UserSecurityChangedEvent}を発行して発行済みトークンを失効させます。
+     * 
      * @param id ユーザーID
      * @param userDto 更新情報
      * @return 更新されたユーザーDTO
      * @throws ResourceNotFoundException ユーザーが見つからない場合
+     * @throws InvalidRequestException 無効化により有効な管理者がいなくなる場合
      */
     @Transactional
     public UserDto updateUser(Long id, UserDto userDto) {
@@ -129,47 +345,213 @@ public class UserService implements UserDetailsService {
         // 更新可能なフィールドのみ更新（パスワード除く）
         user.setName(userDto.getName());
         
-        if (userDto.getEnabled() != null) {
+        boolean securityChanged = false;
+        boolean disablesAdmin = false;
+        if (userDto.getEnabled() != null && !userDto.getEnabled().equals(user.getEnabled())) {
+            disablesAdmin = isEnabledAdmin(user.getRole(), user.getEnabled());
+            if (disablesAdmin) {
+                userRepository.lockEnabledIdsByRole(User.Role.ROLE_ADMIN);
+            }
             user.setEnabled(userDto.getEnabled());
+            user.setSecurityVersion(user.getSecurityVersion() + 1);
+            securityChanged = true;
         }
 
-        User updatedUser = userRepository.save(user);
+        // 更新後のバージョンを返却するため、この時点でUPDATEを実行する
+        User updatedUser = userRepository.saveAndFlush(user);
+        if (disablesAdmin) {
+            UserBulkService.requireEnabledAdmin(userRepository);
+        }
         log.info("ユーザー更新完了: id={}, email={}", updatedUser.getId(), 
                 updatedUser.getEmail());
 
+        if (securityChanged) {
+            eventPublisher.publishEvent(new UserSecurityChangedEvent(
+                    updatedUser.getId(), updatedUser.getEmail(),
+                    updatedUser.getSecurityVersion(), false));
+        }
+
         return convertToDto(updatedUser);
     }
 
+    /**
+     * ユーザーを部分更新.
+     * 
+     * <p>エンティティを読み込まず、指定された項目のみを
+     * {@code UPDATE ... WHERE id = ? AND version = ?}の1文で更新します。
+     * 名前のみの更新はこのUPDATE文だけを実行し、失敗した場合に限り
+     * 存在しない（404）のか競合した（409）のかを判定するためにユーザーの存在を確認します。
+     * 
+     * <p>有効/無効状態を指定した場合のみ、UPDATEの前に現在の状態を1回読み込みます。
+     * 認証情報キャッシュはメールアドレス、セキュリティバージョンのレジストリは変更後の値をキーとするため、
+     * 無効化にはこれらの値が必要です（状態が変わらない場合は無効化しない）。
+     * UPDATEはバージョンが一致する場合のみ成功するため、読み込んだ状態は更新直前の状態と一致し、
+     * 変更後のセキュリティバージョンは読み込んだ値+1です。
+     * バージョンが一致しない場合はUPDATEを実行せずに409とします。
+     * 
+     * @param id ユーザーID
+     * @param expectedVersion 更新前のバージョン（{@code If-Match}）
+     * @param request 部分更新リクエスト
+     * @return 更新後のバージョン
+     * @throws InvalidRequestException 更新する項目がない場合、無効化により有効な管理者がいなくなる場合
+     * @throws ResourceNotFoundException ユーザーが見つからない場合
+     * @throws VersionConflictException バージョンが一致しない場合
+     */
+    @Transactional
+    public long patchUser(Long id, long expectedVersion, PatchUserRequest request) {
+        if (request.getName() == null && request.getEnabled() == null) {
+            throw new InvalidRequestException("更新する項目を1つ以上指定してください");
+        }
+        log.debug("ユーザー部分更新開始: id={}, version={}", id, expectedVersion);
+
+        UserRepository.SecurityState current = null;
+        if (request.getEnabled() != null) {
+            current = userRepository.findSecurityStateById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
+            if (current.getVersion() != expectedVersion) {
+                throw versionConflict(id, expectedVersion);
+            }
+        }
+
+        boolean disablesAdmin = current != null && Boolean.FALSE.equals(request.getEnabled())
+                && isEnabledAdmin(current.getRole(), current.getEnabled());
+        if (disablesAdmin) {
+            userRepository.lockEnabledIdsByRole(User.Role.ROLE_ADMIN);
+        }
+
+        int updated = userRepository.patch(
+                id, expectedVersion, request.getName(), request.getEnabled(), Instant.now());
+        if (updated == 0) {
+            if (current == null && !userRepository.existsById(id)) {
+                throw new ResourceNotFoundException("User", "id", id);
+            }
+            throw versionConflict(id, expectedVersion);
+        }
+        if (disablesAdmin) {
+            UserBulkService.requireEnabledAdmin(userRepository);
+        }
+
+        if (current != null && !request.getEnabled().equals(current.getEnabled())) {
+            eventPublisher.publishEvent(new UserSecurityChangedEvent(
+                    current.getId(), current.getEmail(), current.getSecurityVersion() + 1, false));
+        }
+        log.info("ユーザー部分更新完了: id={}, version={}", id, expectedVersion + 1);
+        return expectedVersion + 1;
+    }
+
+    /**
+     * バージョン競合の例外を作成.
+     * 
+     * @param id ユーザーID
+     * @param expectedVersion 更新前のバージョン（{@code If-Match}）
+     * @return バージョン競合例外
+     */
+    private static VersionConflictException versionConflict(Long id, long expectedVersion) {
+        log.warn("ユーザー部分更新失敗: バージョン競合 id={}, version={}", id, expectedVersion);
+        return new VersionConflictException("ユーザーは他の更新により変更されています（id=" + id + "）");
+    }
+
+    /**
+     * 有効な管理者かどうかを判定.
+     * 
+     * <p>有効な管理者を無効化・削除する場合は、{@link UserRepository#lockEnabledIdsByRole(User.Role)}で
+     * 有効な管理者の行ロックを取得してから変更し、変更後に有効な管理者が残ることを確認します
+     * （{@link UserBulkService#requireEnabledAdmin(UserRepository)}）。
+     * 
+     * @param role ロール
+     * @param enabled 有効/無効状態
+     * @return 有効な管理者の場合true
+     */
+    private static boolean isEnabledAdmin(User.Role role, Boolean enabled) {
+        return role == User.Role.ROLE_ADMIN && Boolean.TRUE.equals(enabled);
+    }
+
     /**
      * ユーザーを削除.
      * 
+     * <p>削除後、{@link UserSecurityChangedEvent}を発行して発行済みトークンを失効させます。
+     * 
      * @param id ユーザーID
      * @throws ResourceNotFoundException ユーザーが見つからない場合
+     * @throws InvalidRequestException 削除により有効な管理者がいなくなる場合
      */
     @Transactional
     public void deleteUser(Long id) {
         log.debug("ユーザー削除開始: id={}", id);
 
-        if (!userRepository.existsById(id)) {
-            throw new ResourceNotFoundException("User", "id", id);
-        }
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
 
-        userRepository.deleteById(id);
+        boolean deletesAdmin = isEnabledAdmin(user.getRole(), user.getEnabled());
+        if (deletesAdmin) {
+            userRepository.lockEnabledIdsByRole(User.Role.ROLE_ADMIN);
+        }
+        userRepository.delete(user);
+        if (deletesAdmin) {
+            userRepository.flush();
+            UserBulkService.requireEnabledAdmin(userRepository);
+        }
         log.info("ユーザー削除完了: id={}", id);
+
+        eventPublisher.publishEvent(new UserSecurityChangedEvent(
+                user.getId(), user.getEmail(), user.getSecurityVersion(), true));
     }
 
     /**
      * Spring Security用: ユーザー名（email）でユーザーを取得.
      * 
+     * <p>認証用ユーザー情報は{@link UserDetailsCache}にキャッシュされ、
+     * キャッシュヒット時はデータベースを参照しません（トランザクションも開始しない）。
+     * 
      * @param username ユーザー名（email）
      * @return UserDetails実装オブジェクト
      * @throws UsernameNotFoundException ユーザーが見つからない場合
      */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return userDetailsCache.get(username, this::loadUserPrincipal);
+    }
+
+    /**
+     * Spring Security用: ログイン成功時に保存済みパスワードハッシュを更新.
+     * 
+     * <p>保存済みハッシュのBCrypt強度が現在の強度と異なる場合に
+     * {@link org.springframework.security.authentication.dao.DaoAuthenticationProvider}から
+     * 呼び出されます（パスワード自体は変わらないため、セキュリティバージョンは更新しない）。
+     * 
+     * @param user 認証済みユーザー情報
+     * @param newPassword 再ハッシュ化されたパスワード
+     * @return 更新後のユーザー情報
+     * @throws UsernameNotFoundException ユーザーが見つからない場合
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User entity = userRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException(
+                    "ユーザーが見つかりません: " + user.getUsername()));
+
+        entity.setPassword(newPassword);
+        User updatedUser = userRepository.save(entity);
+        userDetailsCache.evict(updatedUser.getEmail());
+        log.info("パスワードハッシュ再計算完了: id={}", updatedUser.getId());
+
+        return UserPrincipal.from(updatedUser);
+    }
+
+    /**
+     * データベースから認証用ユーザー情報を取得.
+     * 
+     * @param username ユーザー名（email）
+     * @return 認証用ユーザー情報
+     * @throws UsernameNotFoundException ユーザーが見つからない場合
+     */
+    private UserPrincipal loadUserPrincipal(String username) {
         log.debug("認証用ユーザー取得: username={}", username);
         
         return userRepository.findByEmail(username)
+                .map(UserPrincipal::from)
                 .orElseThrow(() -> new UsernameNotFoundException(
                     "ユーザーが見つかりません: " + username));
     }
@@ -178,6 +560,7 @@ public class UserService implements UserDetailsService {
      * EntityをDTOに変換（パスワードは含めない）.
      * 
      * <p>Organization Standards準拠: EntityをAPIレスポンスとして直接返さない。
+     * 更新系で取得済みのエンティティに使用します（参照系はリポジトリのプロジェクションでDTOを直接取得）。
      * 
      * @param user ユーザーエンティティ
      * @return ユーザーDTO
@@ -191,6 +574,7 @@ public class UserService implements UserDetailsService {
                 .enabled(user.getEnabled())
                 .createdAt(user.getCreatedAt())
                 .updatedAt(user.getUpdatedAt())
+                .version(user.getVersion())
                 .build();
     }
 }
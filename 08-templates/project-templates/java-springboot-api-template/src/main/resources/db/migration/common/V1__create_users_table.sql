@@ -0,0 +1,16 @@
+-- ユーザーテーブル作成 (初期スキーマ)
+-- Flyway導入前にHibernate (ddl-auto) が作成していたスキーマと同じ。
+-- 既存環境はこのスキーマの状態で baseline-on-migrate によりV1として登録され、V2以降が適用される
+CREATE TABLE users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    email VARCHAR(100) NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role VARCHAR(255) NOT NULL,
+    enabled BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT users_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT users_role_check CHECK (role IN ('ROLE_USER', 'ROLE_ADMIN'))
+);
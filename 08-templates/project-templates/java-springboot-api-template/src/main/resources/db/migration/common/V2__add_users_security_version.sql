@@ -0,0 +1,3 @@
+-- users.security_version 追加 (クレームのみ認証モードのトークン失効判定)
+-- 無効化・ロール変更等のたびにインクリメントし、発行済みトークンを失効させる
+ALTER TABLE users ADD COLUMN IF NOT EXISTS security_version BIGINT NOT NULL DEFAULT 0;
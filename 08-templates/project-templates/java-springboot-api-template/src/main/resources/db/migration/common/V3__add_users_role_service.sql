@@ -0,0 +1,5 @@
+-- users.role に ROLE_SERVICE（サービスアカウント、アクセストークン一括発行の対象）を追加
+-- Hibernateが作成した既存環境の role 列のCHECK制約も同じ名前 (users_role_check) のため置き換える
+ALTER TABLE users DROP CONSTRAINT IF EXISTS users_role_check;
+ALTER TABLE users ADD CONSTRAINT users_role_check
+    CHECK (role IN ('ROLE_USER', 'ROLE_ADMIN', 'ROLE_SERVICE'));
@@ -0,0 +1,2 @@
+-- users (created_at, id) インデックス追加 (ユーザー一覧のソート・キーセットページング)
+CREATE INDEX IF NOT EXISTS idx_users_created_at_id ON users (created_at, id);
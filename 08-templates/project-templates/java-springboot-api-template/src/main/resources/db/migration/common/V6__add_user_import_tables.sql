@@ -0,0 +1,29 @@
+-- ユーザーCSVインポートのジョブ・行エラーのテーブル追加
+CREATE TABLE IF NOT EXISTS user_import_jobs (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    status VARCHAR(20) NOT NULL,
+    created_by VARCHAR(100) NOT NULL,
+    processed_rows BIGINT NOT NULL DEFAULT 0,
+    created_count BIGINT NOT NULL DEFAULT 0,
+    failed_count BIGINT NOT NULL DEFAULT 0,
+    error_message VARCHAR(500),
+    started_at TIMESTAMP(6) WITH TIME ZONE,
+    finished_at TIMESTAMP(6) WITH TIME ZONE,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT user_import_jobs_pkey PRIMARY KEY (id),
+    CONSTRAINT user_import_jobs_status_check CHECK (status IN ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED'))
+);
+
+-- 行エラーはチャンクごとにJDBCバッチINSERTするため、プール型シーケンス (増分50) で採番する
+CREATE SEQUENCE IF NOT EXISTS user_import_errors_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS user_import_errors (
+    id BIGINT NOT NULL,
+    job_id BIGINT NOT NULL,
+    row_no BIGINT NOT NULL,
+    message VARCHAR(500) NOT NULL,
+    CONSTRAINT user_import_errors_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_import_errors_job_id_row_no ON user_import_errors (job_id, row_no);
@@ -0,0 +1,3 @@
+-- 楽観的排他制御のバージョン列追加 (BaseEntityを継承するテーブル)
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE user_import_jobs ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,5 @@
+-- ユーザーの一括操作・絞り込み用インデックス
+-- ロール・有効状態は値の種類が少ないため、対象IDをID順に取得できるよう id を含める
+-- (created_at は V4 の idx_users_created_at_id の先頭列で検索できるため単独のインデックスは作成しない)
+CREATE INDEX IF NOT EXISTS idx_users_role_enabled_id ON users (role, enabled, id);
+CREATE INDEX IF NOT EXISTS idx_users_enabled_id ON users (enabled, id);
@@ -0,0 +1,6 @@
+-- users.id の採番を IDENTITY からプール型シーケンス users_seq (増分50) へ移行 (JDBCバッチINSERTの有効化)
+-- postgresql/V5 のH2版 (H2は setval() がないため ALTER SEQUENCE で採番位置を設定する)
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+-- 次回の採番で既存の最大ID+1〜+50を確保する (Hibernateはシーケンス値を確保範囲の上限として扱う)
+ALTER SEQUENCE users_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM users);
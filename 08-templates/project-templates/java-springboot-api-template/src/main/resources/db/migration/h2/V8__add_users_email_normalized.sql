@@ -0,0 +1,7 @@
+-- users.email_normalized 追加 (メールアドレスの大文字小文字を区別しない検索・一意制約)
+-- postgresql/V8 のH2版 (H2はV1から作成するため、email 列の一意制約は V1 の名前で削除する)
+ALTER TABLE users ADD COLUMN IF NOT EXISTS email_normalized VARCHAR(100);
+UPDATE users SET email_normalized = LOWER(TRIM(email)) WHERE email_normalized IS NULL;
+ALTER TABLE users ALTER COLUMN email_normalized SET NOT NULL;
+ALTER TABLE users ADD CONSTRAINT uk_users_email_normalized UNIQUE (email_normalized);
+ALTER TABLE users DROP CONSTRAINT IF EXISTS uk_users_email;
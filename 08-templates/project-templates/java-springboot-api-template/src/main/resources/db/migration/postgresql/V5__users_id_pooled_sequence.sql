@@ -0,0 +1,8 @@
+-- users.id の採番を IDENTITY からプール型シーケンス users_seq (増分50) へ移行 (JDBCバッチINSERTの有効化)
+-- 旧バージョンのアプリケーションを停止してから適用すること
+-- (旧バージョンは列のデフォルト値で採番するため、移行後に併用するとIDが重複する)
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE users ALTER COLUMN id DROP DEFAULT;
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+-- 次回の採番で既存の最大ID+1〜+50を確保する (Hibernateはシーケンス値を確保範囲の上限として扱う)
+SELECT setval('users_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM users), false);
@@ -0,0 +1,32 @@
+-- users.email_normalized 追加 (メールアドレスの大文字小文字を区別しない検索・一意制約)
+-- 旧バージョンのアプリケーションを停止してから適用すること
+-- (旧バージョンは email_normalized を設定しないため、移行後に併用するとINSERTが失敗する)
+--
+-- 事前確認: 大文字小文字のみ異なる登録済みの重複 (0件でない場合は統合してから適用すること。一意制約の追加で失敗する)
+--   SELECT LOWER(TRIM(email)), COUNT(*) FROM users GROUP BY LOWER(TRIM(email)) HAVING COUNT(*) > 1;
+-- アプリケーションは Locale.ROOT で小文字化する。ASCII以外を含むメールアドレスは
+-- データベースの LOWER() と結果が異なる場合があるため、適用後に該当行を確認すること
+ALTER TABLE users ADD COLUMN IF NOT EXISTS email_normalized VARCHAR(100);
+UPDATE users SET email_normalized = LOWER(TRIM(email)) WHERE email_normalized IS NULL;
+ALTER TABLE users ALTER COLUMN email_normalized SET NOT NULL;
+ALTER TABLE users DROP CONSTRAINT IF EXISTS uk_users_email_normalized;
+ALTER TABLE users ADD CONSTRAINT uk_users_email_normalized UNIQUE (email_normalized);
+
+-- email 列の一意制約は不要になるため削除する
+-- (Hibernateが作成した既存環境は制約名が生成されたものになるため、列から検索する)
+DO $$
+DECLARE
+    c record;
+BEGIN
+    FOR c IN
+        SELECT con.conname
+        FROM pg_constraint con
+        JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = con.conkey[1]
+        WHERE con.conrelid = 'users'::regclass
+          AND con.contype = 'u'
+          AND cardinality(con.conkey) = 1
+          AND att.attname = 'email'
+    LOOP
+        EXECUTE format('ALTER TABLE users DROP CONSTRAINT %I', c.conname);
+    END LOOP;
+END $$;
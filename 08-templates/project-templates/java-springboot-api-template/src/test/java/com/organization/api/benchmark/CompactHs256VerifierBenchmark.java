@@ -0,0 +1,71 @@
+package com.organization.api.benchmark;
+
+import com.organization.api.security.CompactHs256Verifier;
+import com.organization.api.security.JwtKeyRing;
+import com.organization.api.security.JwtSigningAlgorithm;
+import com.organization.api.security.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HS256アクセストークン検証のベンチマーク（jjwt vs {@link CompactHs256Verifier}）.
+ *
+ * <p>{@code -prof gc}を指定すると1回あたりのアロケーション量（{@code gc.alloc.rate.norm}）も計測します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompactHs256VerifierBenchmark {
+
+    private static final String SECRET =
+            "YmVuY2htYXJrLXNlY3JldC1rZXktZm9yLWhzMjU2LWp3dC12ZXJpZmljYXRpb24=";
+
+    private final CompactHs256Verifier verifier = new CompactHs256Verifier();
+    private JwtKeyRing.KeySet keys;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        keys = new JwtKeyRing(JwtSigningAlgorithm.HS256, SECRET, "", "", "").current();
+        Instant now = Instant.now();
+        token = Jwts.builder()
+                .header().keyId(keys.getActiveKeyId()).and()
+                .id("5f0c2b8e-3f5d-4a59-9a57-0f3c1f6a2d11")
+                .subject("user@example.com")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(3600)))
+                .claim("uid", 42)
+                .claim("role", "ROLE_USER")
+                .claim("sv", 0)
+                .signWith((SecretKey) keys.getSigningKey(), Jwts.SIG.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public Claims jjwt() {
+        return keys.getParser().parseSignedClaims(token).getPayload();
+    }
+
+    @Benchmark
+    public VerifiedToken compact() {
+        return verifier.verify(token, keys);
+    }
+}
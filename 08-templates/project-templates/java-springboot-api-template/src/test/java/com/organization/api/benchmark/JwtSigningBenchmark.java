@@ -0,0 +1,111 @@
+package com.organization.api.benchmark;
+
+import com.organization.api.entity.User;
+import com.organization.api.security.CompactHs256Verifier;
+import com.organization.api.security.JwtKeyRing;
+import com.organization.api.security.JwtSigningAlgorithm;
+import com.organization.api.security.JwtTokenProvider;
+import com.organization.api.security.RefreshTokenStore;
+import com.organization.api.security.UserPrincipal;
+import com.organization.api.security.VerifiedToken;
+import com.organization.api.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * アクセストークンの署名・検証のベンチマーク（HS256 / ES256 / EdDSA）.
+ *
+ * <p>{@link JwtTokenProvider}の発行・検証処理をそのまま計測します
+ * （検証済みトークンキャッシュは無効、HS256の検証は{@link CompactHs256Verifier}）。
+ * {@code -prof gc}を指定すると1回あたりのアロケーション量（{@code gc.alloc.rate.norm}）も計測します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+    private static final String SECRET =
+            "YmVuY2htYXJrLXNlY3JldC1rZXktZm9yLWhzMjU2LWp3dC12ZXJpZmljYXRpb24=";
+
+    @Param({"HS256", "ES256", "EdDSA"})
+    public JwtSigningAlgorithm algorithm;
+
+    private JwtTokenProvider provider;
+    private UserPrincipal user;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        JwtKeyRing keyRing = new JwtKeyRing(JwtSigningAlgorithm.HS256, SECRET, "", "", "");
+        if (algorithm.isAsymmetric()) {
+            keyRing.rotate("bench", Map.of("bench", definition(algorithm, generateKeyPair(algorithm))));
+        }
+
+        provider = new JwtTokenProvider(
+                keyRing,
+                new VerifiedTokenCache(keyRing, new SimpleMeterRegistry(), false, 0),
+                new CompactHs256Verifier(),
+                new RefreshTokenStore(new SimpleMeterRegistry(), "", DataSize.ofMegabytes(1), 0.75,
+                        604_800_000L));
+        ReflectionTestUtils.setField(provider, "compactVerifierEnabled", true);
+        ReflectionTestUtils.setField(provider, "accessTokenExpiration", 900_000L);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpiration", 604_800_000L);
+
+        user = UserPrincipal.from(User.builder()
+                .id(42L)
+                .email("user@example.com")
+                .name("user")
+                .password("")
+                .role(User.Role.ROLE_USER)
+                .build());
+        token = provider.generateAccessToken(user);
+    }
+
+    private static KeyPair generateKeyPair(JwtSigningAlgorithm algorithm) throws Exception {
+        if (algorithm == JwtSigningAlgorithm.ES256) {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        }
+        return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+    }
+
+    private static JwtKeyRing.KeyDefinition definition(JwtSigningAlgorithm algorithm, KeyPair keyPair) {
+        Base64.Encoder encoder = Base64.getEncoder();
+        return new JwtKeyRing.KeyDefinition(algorithm,
+                encoder.encodeToString(keyPair.getPrivate().getEncoded()),
+                encoder.encodeToString(keyPair.getPublic().getEncoded()));
+    }
+
+    @Benchmark
+    public String sign() {
+        return provider.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return provider.verify(token);
+    }
+}
@@ -0,0 +1,93 @@
+package com.organization.api.benchmark;
+
+import com.organization.api.config.RequestPathConfig;
+import com.organization.api.security.RequestPathClassifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * リクエストパス分類のベンチマーク（パスマッチャーのリスト vs {@link RequestPathClassifier}）.
+ *
+ * <p>{@code matcherList}は{@code requestMatchers(...)}の設定と同じパターンを先頭から順に評価します。
+ * {@code trie}は1回の分類、{@code trieCached}はリクエスト属性に保持済みの分類結果の取得です。
+ * {@code -prof gc}を指定すると1回あたりのアロケーション量（{@code gc.alloc.rate.norm}）も計測します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestPathClassifierBenchmark {
+
+    private static final String[] PERMIT_ALL = {
+        "/api/v1/auth/**", "/api/v1/public/**", "/actuator/health", "/actuator/info",
+        "/.well-known/jwks.json", "/h2-console/**", "/error"
+    };
+
+    @Param({"/api/v1/auth/login", "/api/v1/users/42", "/api/v1/admin/tokens"})
+    public String path;
+
+    private final RequestPathClassifier classifier = new RequestPathConfig().requestPathClassifier();
+    private List<RequestMatcher> permitAllMatchers;
+    private RequestMatcher adminMatcher;
+    private MockHttpServletRequest request;
+    private MockHttpServletRequest cachedRequest;
+
+    @Setup
+    public void setUp() {
+        permitAllMatchers = Arrays.stream(PERMIT_ALL)
+                .<RequestMatcher>map(AntPathRequestMatcher::antMatcher)
+                .toList();
+        adminMatcher = AntPathRequestMatcher.antMatcher("/api/v1/admin/**");
+
+        request = newRequest();
+        cachedRequest = newRequest();
+        classifier.classify(cachedRequest);
+    }
+
+    private MockHttpServletRequest newRequest() {
+        MockHttpServletRequest mock = new MockHttpServletRequest("GET", path);
+        mock.setServletPath(path);
+        mock.addHeader("Authorization", "Bearer token");
+        return mock;
+    }
+
+    @Benchmark
+    public RequestPathClassifier.RequestClass matcherList() {
+        for (RequestMatcher matcher : permitAllMatchers) {
+            if (matcher.matches(request)) {
+                return RequestPathClassifier.RequestClass.PUBLIC;
+            }
+        }
+        return adminMatcher.matches(request)
+                ? RequestPathClassifier.RequestClass.ADMIN
+                : RequestPathClassifier.RequestClass.AUTHENTICATED;
+    }
+
+    @Benchmark
+    public RequestPathClassifier.RequestClass trie() {
+        return classifier.classify(RequestPathClassifier.pathWithinApplication(request));
+    }
+
+    @Benchmark
+    public RequestPathClassifier.RequestClass trieCached() {
+        return classifier.classify(cachedRequest);
+    }
+}
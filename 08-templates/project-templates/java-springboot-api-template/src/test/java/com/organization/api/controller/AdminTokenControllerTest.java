@@ -0,0 +1,143 @@
+package com.organization.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.organization.api.dto.BulkTokenRequest;
+import com.organization.api.entity.User;
+import com.organization.api.exception.ResourceNotFoundException;
+import com.organization.api.security.JwtTokenProvider;
+import com.organization.api.security.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link AdminTokenController}のテスト.
+ */
+@ExtendWith(MockitoExtension.class)
+class AdminTokenControllerTest {
+
+    private static final String SERVICE_EMAIL = "batch-job@example.com";
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private AdminTokenController controller;
+    private final Authentication admin = new TestingAuthenticationToken("admin@example.com", null);
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        controller = new AdminTokenController(jwtTokenProvider, userDetailsService, objectMapper);
+    }
+
+    private static UserPrincipal principal(String email, User.Role role, boolean enabled) {
+        return UserPrincipal.from(User.builder()
+                .id(1L)
+                .email(email)
+                .name("name")
+                .password("hashed")
+                .role(role)
+                .enabled(enabled)
+                .build());
+    }
+
+    private static BulkTokenRequest request(String email, int count) {
+        return BulkTokenRequest.builder().email(email).count(count).build();
+    }
+
+    @Test
+    @DisplayName("サービスアカウントのトークンを要求件数分NDJSONで返却する")
+    void issuesTokensForServiceAccount() throws Exception {
+        UserPrincipal service = principal(SERVICE_EMAIL, User.Role.ROLE_SERVICE, true);
+        when(userDetailsService.loadUserByUsername(SERVICE_EMAIL)).thenReturn(service);
+        when(jwtTokenProvider.getAccessTokenExpiration()).thenReturn(900_000L);
+        doAnswer(invocation -> {
+            int count = invocation.getArgument(1);
+            JwtTokenProvider.IssuedTokenConsumer consumer = invocation.getArgument(3);
+            for (int i = 0; i < count; i++) {
+                consumer.accept(UUID.randomUUID(), "token-" + i, Instant.EPOCH);
+            }
+            return null;
+        }).when(jwtTokenProvider).generateAccessTokens(eq(service), anyInt(), anyLong(), any());
+
+        ResponseEntity<StreamingResponseBody> response =
+                controller.issueTokens(request(SERVICE_EMAIL, 3), admin);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).strip().split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[2]).contains("\"accessToken\":\"token-2\"");
+        verify(jwtTokenProvider).generateAccessTokens(eq(service), eq(3), eq(900_000L), any());
+    }
+
+    @Test
+    @DisplayName("管理者のトークンは一括発行できない")
+    void rejectsAdmin() {
+        when(userDetailsService.loadUserByUsername("admin@example.com"))
+                .thenReturn(principal("admin@example.com", User.Role.ROLE_ADMIN, true));
+
+        assertThatThrownBy(() -> controller.issueTokens(request("admin@example.com", 1), admin))
+                .isInstanceOf(AccessDeniedException.class);
+        verifyNoInteractions(jwtTokenProvider);
+    }
+
+    @Test
+    @DisplayName("一般ユーザーのトークンは一括発行できない")
+    void rejectsRegularUser() {
+        when(userDetailsService.loadUserByUsername("user@example.com"))
+                .thenReturn(principal("user@example.com", User.Role.ROLE_USER, true));
+
+        assertThatThrownBy(() -> controller.issueTokens(request("user@example.com", 1), admin))
+                .isInstanceOf(AccessDeniedException.class);
+        verifyNoInteractions(jwtTokenProvider);
+    }
+
+    @Test
+    @DisplayName("存在しない・無効なユーザーは404")
+    void rejectsMissingOrDisabledUser() {
+        when(userDetailsService.loadUserByUsername("missing@example.com"))
+                .thenThrow(new UsernameNotFoundException("missing"));
+        when(userDetailsService.loadUserByUsername(SERVICE_EMAIL))
+                .thenReturn(principal(SERVICE_EMAIL, User.Role.ROLE_SERVICE, false));
+
+        assertThatThrownBy(() -> controller.issueTokens(request("missing@example.com", 1), admin))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> controller.issueTokens(request(SERVICE_EMAIL, 1), admin))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(jwtTokenProvider);
+    }
+}
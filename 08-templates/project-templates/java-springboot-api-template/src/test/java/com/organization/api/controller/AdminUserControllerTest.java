@@ -0,0 +1,86 @@
+package com.organization.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.organization.api.dto.UserDto;
+import com.organization.api.repository.UserRepository;
+import com.organization.api.service.UserBulkService;
+import com.organization.api.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link AdminUserController}のテスト.
+ */
+@ExtendWith(MockitoExtension.class)
+class AdminUserControllerTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private UserBulkService userBulkService;
+
+    private AdminUserController controller;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        controller = new AdminUserController(userService, userBulkService, objectMapper);
+    }
+
+    @Test
+    @DisplayName("全ユーザーを1件1行のNDJSONで返却し、フェッチサイズごとにクライアントへ送信する")
+    void exportsUsersAsNdjson() throws Exception {
+        int total = UserRepository.EXPORT_FETCH_SIZE * 2 + 1;
+        when(userService.exportUsers(any())).thenAnswer(invocation -> {
+            Consumer<UserDto> consumer = invocation.getArgument(0);
+            for (long id = 1; id <= total; id++) {
+                consumer.accept(UserDto.builder().id(id).email("user" + id + "@example.com").build());
+            }
+            return (long) total;
+        });
+        CountingOutputStream out = new CountingOutputStream();
+
+        ResponseEntity<StreamingResponseBody> response =
+                controller.exportUsers(new TestingAuthenticationToken("admin@example.com", null));
+        response.getBody().writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).strip().split("\n");
+        assertThat(lines).hasSize(total);
+        assertThat(lines[total - 1]).contains("\"email\":\"user" + total + "@example.com\"");
+        assertThat(lines[0]).doesNotContain("password");
+        // フェッチサイズごとの2回 + 終了時の1回
+        assertThat(out.flushes).isEqualTo(3);
+    }
+
+    /**
+     * flush回数を記録する出力ストリーム.
+     */
+    private static final class CountingOutputStream extends ByteArrayOutputStream {
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
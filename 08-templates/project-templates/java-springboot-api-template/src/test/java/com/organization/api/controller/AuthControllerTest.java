@@ -0,0 +1,305 @@
+package com.organization.api.controller;
+
+import com.organization.api.dto.LoginRequest;
+import com.organization.api.dto.RefreshTokenRequest;
+import com.organization.api.dto.TokenResponse;
+import com.organization.api.entity.User;
+import com.organization.api.repository.UserRepository;
+import com.organization.api.security.CalibratedBCryptPasswordEncoder;
+import com.organization.api.security.JwtTokenProvider;
+import com.organization.api.security.RefreshTokenStore;
+import com.organization.api.security.TokenRevocationStore;
+import com.organization.api.security.VerifiedToken;
+import com.organization.api.service.PasswordHashingService;
+import com.organization.api.service.RegisteredEmailFilter;
+import com.organization.api.service.UserDetailsCache;
+import com.organization.api.service.UserService;
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link AuthController}のテスト.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuthControllerTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final String PASSWORD = "password123";
+    private static final int STRENGTH = CalibratedBCryptPasswordEncoder.MINIMUM_STRENGTH;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    private CalibratedBCryptPasswordEncoder passwordEncoder;
+    private UserService userService;
+    private AuthController controller;
+
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = new CalibratedBCryptPasswordEncoder(STRENGTH);
+        userService = new UserService(userRepository, mock(PasswordHashingService.class),
+                mock(TransactionTemplate.class), mock(ApplicationEventPublisher.class),
+                new UserDetailsCache(new SimpleMeterRegistry(), true, 100, Duration.ofMinutes(1)),
+                mock(RegisteredEmailFilter.class), mock(ExecutorService.class));
+
+        DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
+        authProvider.setUserDetailsService(userService);
+        authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(userService);
+
+        controller = new AuthController(jwtTokenProvider, tokenRevocationStore, refreshTokenStore,
+                new ProviderManager(authProvider), userService);
+    }
+
+    private static User user(String password, boolean enabled, long securityVersion) {
+        return User.builder()
+                .id(1L)
+                .email(EMAIL)
+                .name("user")
+                .password(password)
+                .role(User.Role.ROLE_USER)
+                .enabled(enabled)
+                .securityVersion(securityVersion)
+                .build();
+    }
+
+    private static VerifiedToken refreshToken(UUID tokenId, UUID familyId, long securityVersion) {
+        VerifiedToken token = mock(VerifiedToken.class);
+        lenient().when(token.getTokenUuid()).thenReturn(tokenId);
+        when(token.getFamilyId()).thenReturn(familyId);
+        when(token.isRefreshToken()).thenReturn(true);
+        when(token.getSubject()).thenReturn(EMAIL);
+        lenient().when(token.getSecurityVersion()).thenReturn(securityVersion);
+        return token;
+    }
+
+    private static LoginRequest login() {
+        return LoginRequest.builder().email(EMAIL).password(PASSWORD).build();
+    }
+
+    private static RefreshTokenRequest refresh(String token) {
+        return RefreshTokenRequest.builder().refreshToken(token).build();
+    }
+
+    @Test
+    @DisplayName("保存済みハッシュの強度が低い場合、ログイン時に再ハッシュ化して保存し、認証キャッシュを破棄する")
+    void rehashesWeakPasswordOnLogin() {
+        String weakHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        User stored = user(weakHash, true, 0L);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(stored));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jwtTokenProvider.generateAccessToken(any())).thenReturn("access");
+        when(jwtTokenProvider.generateRefreshToken(any())).thenReturn("refresh");
+
+        TokenResponse response = controller.login(login()).getBody();
+
+        assertThat(response.getAccessToken()).isEqualTo("access");
+        ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).save(saved.capture());
+        String rehashed = saved.getValue().getPassword();
+        assertThat(rehashed).isNotEqualTo(weakHash).startsWith("$2a$" + STRENGTH + "$");
+        assertThat(passwordEncoder.matches(PASSWORD, rehashed)).isTrue();
+
+        // 再ハッシュ前のハッシュを保持したエントリは破棄され、次回の認証は更新後のハッシュを使用する
+        assertThat(userService.loadUserByUsername(EMAIL).getPassword()).isEqualTo(rehashed);
+        verify(userRepository, times(3)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("保存済みハッシュの強度が設定どおりの場合は再ハッシュ化しない")
+    void keepsCurrentPasswordHashOnLogin() {
+        when(userRepository.findByEmail(EMAIL))
+                .thenReturn(Optional.of(user(passwordEncoder.encode(PASSWORD), true, 0L)));
+
+        controller.login(login());
+
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("無効化されたユーザーのリフレッシュトークンは拒否し、ファミリーを失効させる")
+    void rejectsRefreshForDisabledUser() {
+        UUID tokenId = UUID.randomUUID();
+        UUID familyId = UUID.randomUUID();
+        VerifiedToken token = refreshToken(tokenId, familyId, 0L);
+        when(jwtTokenProvider.verify("refresh")).thenReturn(token);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user("hashed", false, 0L)));
+
+        assertThatThrownBy(() -> controller.refresh(refresh("refresh")))
+                .isInstanceOf(BadCredentialsException.class);
+
+        verify(refreshTokenStore).revokeFamily(familyId);
+        verify(refreshTokenStore, never()).rotate(any(), any());
+    }
+
+    @Test
+    @DisplayName("セキュリティバージョンが古いリフレッシュトークンは拒否し、ファミリーを失効させる")
+    void rejectsRefreshWithStaleSecurityVersion() {
+        UUID tokenId = UUID.randomUUID();
+        UUID familyId = UUID.randomUUID();
+        VerifiedToken token = refreshToken(tokenId, familyId, 1L);
+        when(jwtTokenProvider.verify("refresh")).thenReturn(token);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user("hashed", true, 2L)));
+
+        assertThatThrownBy(() -> controller.refresh(refresh("refresh")))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessageContaining("セキュリティバージョン");
+
+        verify(refreshTokenStore).revokeFamily(familyId);
+        verify(refreshTokenStore, never()).rotate(any(), any());
+    }
+
+    @Test
+    @DisplayName("有効なユーザーのリフレッシュトークンはローテーションして同じファミリーで再発行する")
+    void rotatesRefreshTokenForActiveUser() {
+        UUID tokenId = UUID.randomUUID();
+        UUID familyId = UUID.randomUUID();
+        VerifiedToken token = refreshToken(tokenId, familyId, 2L);
+        when(jwtTokenProvider.verify("refresh")).thenReturn(token);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user("hashed", true, 2L)));
+        when(refreshTokenStore.rotate(tokenId, familyId)).thenReturn(RefreshTokenStore.RotationResult.ROTATED);
+        when(jwtTokenProvider.generateAccessToken(any())).thenReturn("access");
+        when(jwtTokenProvider.generateRefreshToken(any(), eq(familyId))).thenReturn("rotated");
+
+        TokenResponse response = controller.refresh(refresh("refresh")).getBody();
+
+        assertThat(response.getRefreshToken()).isEqualTo("rotated");
+        verify(refreshTokenStore, never()).revokeFamily(any());
+    }
+
+    @Test
+    @DisplayName("使用済み・失効済み・未登録のリフレッシュトークンは再発行しない")
+    void rejectsRefreshTokensNotRotated() {
+        UUID tokenId = UUID.randomUUID();
+        UUID familyId = UUID.randomUUID();
+        VerifiedToken token = refreshToken(tokenId, familyId, 0L);
+        when(jwtTokenProvider.verify("refresh")).thenReturn(token);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user("hashed", true, 0L)));
+        when(refreshTokenStore.rotate(tokenId, familyId)).thenReturn(
+                RefreshTokenStore.RotationResult.REUSED,
+                RefreshTokenStore.RotationResult.REVOKED,
+                RefreshTokenStore.RotationResult.UNKNOWN);
+
+        assertThatThrownBy(() -> controller.refresh(refresh("refresh")))
+                .hasMessageContaining("使用済み");
+        assertThatThrownBy(() -> controller.refresh(refresh("refresh")))
+                .hasMessageContaining("失効済み");
+        assertThatThrownBy(() -> controller.refresh(refresh("refresh")))
+                .hasMessageContaining("未登録");
+        verify(jwtTokenProvider, never()).generateAccessToken(any());
+    }
+
+    @Test
+    @DisplayName("不正なトークン・アクセストークン・存在しないユーザーのトークンでは再発行しない")
+    void rejectsInvalidRefreshRequests() {
+        UUID familyId = UUID.randomUUID();
+        VerifiedToken accessToken = mock(VerifiedToken.class);
+        VerifiedToken orphanToken = refreshToken(UUID.randomUUID(), familyId, 0L);
+        when(jwtTokenProvider.verify("invalid")).thenThrow(new MalformedJwtException("invalid"));
+        when(jwtTokenProvider.verify("access")).thenReturn(accessToken);
+        when(jwtTokenProvider.verify("orphan")).thenReturn(orphanToken);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> controller.refresh(refresh("invalid")))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessageContaining("不正");
+        assertThatThrownBy(() -> controller.refresh(refresh("access")))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessageContaining("リフレッシュトークンではありません");
+        assertThatThrownBy(() -> controller.refresh(refresh("orphan")))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessageContaining("存在しません");
+        verify(refreshTokenStore).revokeFamily(familyId);
+    }
+
+    @Test
+    @DisplayName("ログアウトはアクセストークンを失効させ、同じユーザーのリフレッシュトークンのファミリーを失効させる")
+    void logoutRevokesAccessTokenAndRefreshFamily() {
+        UUID familyId = UUID.randomUUID();
+        Instant expiration = Instant.now().plusSeconds(900);
+        VerifiedToken accessToken = mock(VerifiedToken.class);
+        when(accessToken.getId()).thenReturn("jti");
+        when(accessToken.getSubject()).thenReturn(EMAIL);
+        when(accessToken.getExpiration()).thenReturn(expiration);
+        VerifiedToken refreshToken = refreshToken(UUID.randomUUID(), familyId, 0L);
+        when(jwtTokenProvider.verify("access")).thenReturn(accessToken);
+        when(jwtTokenProvider.verify("refresh")).thenReturn(refreshToken);
+
+        assertThat(controller.logout("Bearer access", refresh("refresh")).getStatusCode().value())
+                .isEqualTo(204);
+        controller.logout("Bearer access", null);
+        controller.logout("Bearer access", refresh(null));
+
+        verify(tokenRevocationStore, times(3)).revoke("jti", expiration);
+        verify(refreshTokenStore).revokeFamily(familyId);
+    }
+
+    @Test
+    @DisplayName("他のユーザーのリフレッシュトークンはログアウト時に失効させない")
+    void logoutIgnoresOtherUsersRefreshToken() {
+        VerifiedToken accessToken = mock(VerifiedToken.class);
+        when(accessToken.getId()).thenReturn("jti");
+        when(accessToken.getSubject()).thenReturn("other@example.com");
+        VerifiedToken refreshToken = refreshToken(UUID.randomUUID(), UUID.randomUUID(), 0L);
+        when(jwtTokenProvider.verify("access")).thenReturn(accessToken);
+        when(jwtTokenProvider.verify("refresh")).thenReturn(refreshToken);
+
+        controller.logout("Bearer access", refresh("refresh"));
+
+        verify(refreshTokenStore, never()).revokeFamily(any());
+    }
+
+    @Test
+    @DisplayName("Bearerトークン・トークンIDのないログアウトは拒否する")
+    void rejectsLogoutWithoutBearerToken() {
+        when(jwtTokenProvider.verify("anonymous")).thenReturn(mock(VerifiedToken.class));
+
+        assertThatThrownBy(() -> controller.logout(null, null))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> controller.logout("Basic dXNlcjpwYXNz", null))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> controller.logout("Bearer anonymous", null))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessageContaining("トークンID");
+        verify(tokenRevocationStore, never()).revoke(any(), any());
+    }
+}
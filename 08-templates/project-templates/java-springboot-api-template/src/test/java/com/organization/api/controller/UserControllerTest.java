@@ -0,0 +1,89 @@
+package com.organization.api.controller;
+
+import com.organization.api.dto.PatchUserRequest;
+import com.organization.api.entity.User;
+import com.organization.api.security.UserPrincipal;
+import com.organization.api.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link UserController}のテスト.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserControllerTest {
+
+    @Mock
+    private UserService userService;
+
+    private UserController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new UserController(userService);
+    }
+
+    private static Authentication authentication(Long id, User.Role role) {
+        UserPrincipal principal = UserPrincipal.from(User.builder()
+                .id(id)
+                .email("user" + id + "@example.com")
+                .name("name")
+                .password("hashed")
+                .role(role)
+                .enabled(true)
+                .build());
+        return new TestingAuthenticationToken(principal, null);
+    }
+
+    @Test
+    @DisplayName("管理者は他のユーザーの有効/無効状態を部分更新できる")
+    void patchUser_adminMayDisableOthers() {
+        PatchUserRequest request = PatchUserRequest.builder().enabled(false).build();
+        when(userService.patchUser(eq(2L), eq(3L), eq(request))).thenReturn(4L);
+
+        ResponseEntity<Void> response = controller.patchUser(2L, "\"3\"", request,
+                authentication(1L, User.Role.ROLE_ADMIN));
+
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"4\"");
+    }
+
+    @Test
+    @DisplayName("管理者以外は自分自身のユーザー名を部分更新できる")
+    void patchUser_userMayRenameSelf() {
+        PatchUserRequest request = PatchUserRequest.builder().name("new name").build();
+        when(userService.patchUser(eq(1L), eq(3L), eq(request))).thenReturn(4L);
+
+        ResponseEntity<Void> response = controller.patchUser(1L, "\"3\"", request,
+                authentication(1L, User.Role.ROLE_USER));
+
+        assertThat(response.getStatusCode().value()).isEqualTo(204);
+    }
+
+    @Test
+    @DisplayName("管理者以外による他のユーザーの更新・有効/無効状態の変更は拒否する")
+    void patchUser_rejectsNonAdminWrites() {
+        Authentication user = authentication(1L, User.Role.ROLE_USER);
+
+        assertThatThrownBy(() -> controller.patchUser(2L, "\"3\"",
+                PatchUserRequest.builder().name("new name").build(), user))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> controller.patchUser(1L, "\"3\"",
+                PatchUserRequest.builder().enabled(false).build(), user))
+                .isInstanceOf(AccessDeniedException.class);
+        verifyNoInteractions(userService);
+    }
+}
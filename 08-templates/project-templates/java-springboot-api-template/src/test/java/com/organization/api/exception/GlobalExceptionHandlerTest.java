@@ -0,0 +1,153 @@
+package com.organization.api.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@link GlobalExceptionHandler}のテスト.
+ *
+ * <p>例外をスローするだけのコントローラーに対してリクエストを実行し、
+ * 例外ごとのステータスコード・レスポンスボディを検証します。
+ */
+class GlobalExceptionHandlerTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ThrowingController())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Bean Validationのエラーは項目ごとのメッセージを含む400とする")
+    void mapsValidationErrors() throws Exception {
+        mockMvc.perform(post("/test/validate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Failed"))
+                .andExpect(jsonPath("$.validationErrors.name").exists())
+                .andExpect(jsonPath("$.path").value("/test/validate"));
+    }
+
+    @Test
+    @DisplayName("アプリケーション例外は種類ごとのステータスコードとメッセージで返却する")
+    void mapsApplicationExceptions() throws Exception {
+        expectStatus("invalid", 400, "不正なリクエスト");
+        expectStatus("not-found", 404, "User");
+        expectStatus("duplicate", 409, "重複");
+        expectStatus("version-conflict", 409, "他の更新");
+        expectStatus("precondition", 428, "If-Match");
+    }
+
+    @Test
+    @DisplayName("楽観的ロックの失敗は内部情報を含まない409とする")
+    void mapsOptimisticLockingFailure() throws Exception {
+        mockMvc.perform(get("/test/throw/optimistic-lock"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("リソースは他の更新により変更されています"));
+    }
+
+    @Test
+    @DisplayName("認証・認可の失敗は401・403とする")
+    void mapsSecurityExceptions() throws Exception {
+        mockMvc.perform(get("/test/throw/bad-credentials"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/test/throw/access-denied"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("一時的な過負荷は再試行までの秒数（最低1秒）を含む503とする")
+    void mapsServiceUnavailableWithRetryAfter() throws Exception {
+        mockMvc.perform(get("/test/throw/unavailable"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    @DisplayName("予期しない例外は詳細を含まない500とする")
+    void hidesUnexpectedExceptions() throws Exception {
+        mockMvc.perform(get("/test/throw/unexpected"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.message").value("サーバー内部でエラーが発生しました"));
+    }
+
+    private void expectStatus(String kind, int status, String message) throws Exception {
+        mockMvc.perform(get("/test/throw/" + kind))
+                .andExpect(status().is(status))
+                .andExpect(jsonPath("$.status").value(status))
+                .andExpect(jsonPath("$.message").value(containsString(message)));
+    }
+
+    /**
+     * 指定された例外をスローするテスト用コントローラー.
+     */
+    @RestController
+    static class ThrowingController {
+
+        @PostMapping("/test/validate")
+        void validate(@Valid @RequestBody NamedRequest request) {
+        }
+
+        @GetMapping("/test/throw/{kind}")
+        void raise(@PathVariable("kind") String kind) {
+            throw switch (kind) {
+                case "invalid" -> new InvalidRequestException("不正なリクエストです");
+                case "not-found" -> new ResourceNotFoundException("User", "id", 1L);
+                case "duplicate" -> new DuplicateResourceException("メールアドレスが重複しています");
+                case "version-conflict" -> new VersionConflictException("ユーザーは他の更新により変更されています");
+                case "precondition" -> new PreconditionRequiredException("If-Matchヘッダーを指定してください");
+                case "optimistic-lock" -> new ObjectOptimisticLockingFailureException(Object.class, 1L);
+                case "bad-credentials" -> new BadCredentialsException("bad credentials");
+                case "access-denied" -> new AccessDeniedException("denied");
+                case "unavailable" -> new ServiceUnavailableException("混雑しています", Duration.ofMillis(10));
+                default -> new IllegalStateException("internal detail");
+            };
+        }
+    }
+
+    /**
+     * 検証用のリクエストボディ.
+     */
+    @Data
+    static class NamedRequest {
+
+        @NotBlank
+        private String name;
+    }
+}
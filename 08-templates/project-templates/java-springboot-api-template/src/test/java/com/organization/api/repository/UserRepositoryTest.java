@@ -0,0 +1,298 @@
+package com.organization.api.repository;
+
+import com.organization.api.dto.UserDto;
+import com.organization.api.entity.User;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link UserRepository}のテスト.
+ *
+ * <p>H2上でクエリを実行し、実行されたSQLを{@link RecordingStatementInspector}で記録して検証します。
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.organization.api.repository.UserRepositoryTest$RecordingStatementInspector")
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 5; i++) {
+            entityManager.persist(User.builder()
+                    .email("user" + i + "@example.com")
+                    .name("User " + i)
+                    .password("hashed-" + i)
+                    .role(User.Role.ROLE_USER)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        RecordingStatementInspector.SQL.clear();
+    }
+
+    @Test
+    @DisplayName("参照系のプロジェクションはパスワード列を取得せず、エンティティを管理しない")
+    void projectionsDoNotSelectPassword() {
+        Long id = userRepository.findFirstKeysetPage(PageRequest.ofSize(1)).getContent().get(0).getId();
+
+        UserDto user = userRepository.findDtoById(id).orElseThrow();
+        Page<UserDto> page = userRepository.findDtoPage(
+                PageRequest.of(0, 2, Sort.by("createdAt", "id")));
+        try (Stream<UserDto> users = userRepository.streamAllForExport()) {
+            assertThat(users).hasSize(5);
+        }
+
+        assertThat(user.getEmail()).isEqualTo("user1@example.com");
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(RecordingStatementInspector.SQL).isNotEmpty()
+                .allSatisfy(sql -> assertThat(sql.toLowerCase(Locale.ROOT)).doesNotContain("password"));
+        assertThat(entityManager.getEntityManager().unwrap(Session.class)
+                .getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("キーセットページングは(created_at, id)の順に重複・欠落なく全件を返却する")
+    void pagesThroughAllUsersByKeyset() {
+        Slice<UserDto> slice = userRepository.findFirstKeysetPage(PageRequest.ofSize(2));
+        List<Long> ids = new ArrayList<>(slice.map(UserDto::getId).getContent());
+        while (slice.hasNext()) {
+            UserDto last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            slice = userRepository.findKeysetPageAfter(last.getCreatedAt(), last.getId(), PageRequest.ofSize(2));
+            ids.addAll(slice.map(UserDto::getId).getContent());
+        }
+
+        assertThat(ids).hasSize(5).doesNotHaveDuplicates().isSorted();
+        assertThat(RecordingStatementInspector.SQL)
+                .noneSatisfy(sql -> assertThat(sql.toLowerCase(Locale.ROOT)).contains("count("));
+
+        // 2ページ目以降はインデックスの走査開始位置を前ページ最終行のcreated_atとする
+        String afterSql = RecordingStatementInspector.SQL.get(RecordingStatementInspector.SQL.size() - 1);
+        Instant createdAt = Instant.now();
+        assertThat(explain(afterSql, createdAt, createdAt, 1L, 2).toLowerCase(Locale.ROOT))
+                .contains("idx_users_created_at_id: created_at >=")
+                .doesNotContain("tablescan");
+    }
+
+    @Test
+    @DisplayName("ID指定の一括更新・削除は変更対象の行ロックを取得し、エンティティを読み込まず1つのSQLで実行する")
+    void bulkStatementsAreSetBased() {
+        List<Long> ids = userIds();
+        userRepository.updateEnabled(ids.subList(0, 1), false, Instant.now());
+        RecordingStatementInspector.SQL.clear();
+
+        List<UserRepository.SecurityKey> changing = userRepository.lockSecurityKeysWithEnabledNot(ids, false);
+        int disabled = userRepository.updateEnabled(
+                changing.stream().map(UserRepository.SecurityKey::getId).toList(), false, Instant.now());
+        int promoted = userRepository.updateRole(ids.subList(0, 2), User.Role.ROLE_SERVICE, Instant.now());
+        int deleted = userRepository.deleteAllByIdIn(ids.subList(3, 5));
+
+        assertThat(changing).extracting(UserRepository.SecurityKey::getId).containsExactlyElementsOf(ids.subList(1, 5));
+        assertThat(disabled).isEqualTo(4);
+        assertThat(promoted).isEqualTo(2);
+        assertThat(deleted).isEqualTo(2);
+        assertThat(RecordingStatementInspector.SQL).hasSize(4);
+        assertThat(RecordingStatementInspector.SQL.get(0).toLowerCase(Locale.ROOT)).contains("for update");
+        assertThat(RecordingStatementInspector.SQL.subList(1, 4))
+                .noneSatisfy(sql -> assertThat(sql.toLowerCase(Locale.ROOT)).startsWith("select"));
+        assertThat(userRepository.findSecurityKeys(ids))
+                .extracting(UserRepository.SecurityKey::getSecurityVersion)
+                .containsExactlyInAnyOrder(2L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("条件指定の一括更新・削除は対象のIDを取得せず、条件のみを持つ1つのSQLでインデックスを使用する")
+    void filterStatementsUseIndexes() {
+        Long excludedId = userIds().get(0);
+        RecordingStatementInspector.SQL.clear();
+
+        int disabled = userRepository.updateEnabledByFilter(User.Role.ROLE_USER, true, excludedId, false, Instant.now());
+        int promoted = userRepository.updateRoleByFilter(null, false, null, User.Role.ROLE_SERVICE, Instant.now());
+        int deleted = userRepository.deleteByFilter(User.Role.ROLE_SERVICE, null, null);
+
+        assertThat(disabled).isEqualTo(4);
+        assertThat(promoted).isEqualTo(4);
+        assertThat(deleted).isEqualTo(4);
+        assertThat(RecordingStatementInspector.SQL).hasSize(3)
+                .noneSatisfy(sql -> assertThat(sql.toLowerCase(Locale.ROOT)).contains("select", " is null", " in ("));
+
+        Instant now = Instant.now();
+        String role = User.Role.ROLE_USER.name();
+        assertThat(explain(RecordingStatementInspector.SQL.get(0),
+                false, 1L, 1L, now, role, true, excludedId, false).toLowerCase(Locale.ROOT))
+                .contains("idx_users_role_enabled_id")
+                .doesNotContain("tablescan");
+        assertThat(explain(RecordingStatementInspector.SQL.get(1),
+                role, 1L, 1L, now, false, role).toLowerCase(Locale.ROOT))
+                .contains("idx_users_enabled_id")
+                .doesNotContain("tablescan");
+        assertThat(explain(RecordingStatementInspector.SQL.get(2), role).toLowerCase(Locale.ROOT))
+                .contains("idx_users_role_enabled_id")
+                .doesNotContain("tablescan");
+        // 実行した管理者自身は除外される
+        assertThat(userRepository.findSecurityKeys(List.of(excludedId))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("有効な管理者の行ロックはロール・有効状態のインデックスで取得する")
+    void locksEnabledAdminsUsingIndex() {
+        Long adminId = userIds().get(0);
+        userRepository.updateRole(List.of(adminId), User.Role.ROLE_ADMIN, Instant.now());
+        RecordingStatementInspector.SQL.clear();
+
+        List<Long> admins = userRepository.lockEnabledIdsByRole(User.Role.ROLE_ADMIN);
+        long count = userRepository.countByRoleAndEnabled(User.Role.ROLE_ADMIN, true);
+
+        assertThat(admins).containsExactly(adminId);
+        assertThat(count).isEqualTo(1);
+        String lockSql = RecordingStatementInspector.SQL.get(0);
+        assertThat(lockSql.toLowerCase(Locale.ROOT)).contains("for update");
+        assertThat(explain(lockSql, User.Role.ROLE_ADMIN.name()).toLowerCase(Locale.ROOT))
+                .contains("idx_users_role_enabled_id")
+                .doesNotContain("tablescan");
+    }
+
+    @Test
+    @DisplayName("部分更新は指定した列のみをバージョン条件付きの1つのUPDATEで更新する")
+    void patchIsConditionalOnVersion() {
+        UserDto user = userRepository.findFirstKeysetPage(PageRequest.ofSize(1)).getContent().get(0);
+        RecordingStatementInspector.SQL.clear();
+
+        int updated = userRepository.patch(user.getId(), user.getVersion(), "Renamed", null, Instant.now());
+        int stale = userRepository.patch(user.getId(), user.getVersion(), "Stale", null, Instant.now());
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(stale).isZero();
+        assertThat(RecordingStatementInspector.SQL).hasSize(2)
+                .allSatisfy(sql -> assertThat(sql.toLowerCase(Locale.ROOT))
+                        .contains("update users set", "where id=? and version=?")
+                        .doesNotContain("email")
+                        .doesNotContain("enabled"));
+        UserDto patched = userRepository.findDtoById(user.getId()).orElseThrow();
+        assertThat(patched.getName()).isEqualTo("Renamed");
+        assertThat(patched.getVersion()).isEqualTo(user.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("部分更新は1つのUPDATEで、有効/無効状態が変わる場合のみセキュリティバージョンをインクリメントする")
+    void patchBumpsSecurityVersionOnlyWhenEnabledChanges() {
+        UserDto user = userRepository.findFirstKeysetPage(PageRequest.ofSize(1)).getContent().get(0);
+        List<Long> ids = List.of(user.getId());
+        RecordingStatementInspector.SQL.clear();
+
+        int unchanged = userRepository.patch(user.getId(), user.getVersion(), null, true, Instant.now());
+        int disabled = userRepository.patch(user.getId(), user.getVersion() + 1, null, false, Instant.now());
+        int stale = userRepository.patch(user.getId(), user.getVersion(), null, true, Instant.now());
+
+        assertThat(unchanged).isEqualTo(1);
+        assertThat(disabled).isEqualTo(1);
+        assertThat(stale).isZero();
+        assertThat(RecordingStatementInspector.SQL).hasSize(3)
+                .allSatisfy(sql -> assertThat(sql.toLowerCase(Locale.ROOT))
+                        .contains("update users set", "case when", "where id=? and version=?"));
+        assertThat(userRepository.findSecurityKeys(ids))
+                .extracting(UserRepository.SecurityKey::getSecurityVersion)
+                .containsExactly(1L);
+        UserDto patched = userRepository.findDtoById(user.getId()).orElseThrow();
+        assertThat(patched.getEnabled()).isFalse();
+        assertThat(patched.getVersion()).isEqualTo(user.getVersion() + 2);
+    }
+
+    @Test
+    @DisplayName("メールアドレスの検索は大文字小文字を区別せず、正規化した列の一意インデックスを使用する")
+    void findsByEmailUsingNormalizedIndex() {
+        User user = userRepository.findByEmail(" User3@Example.COM ").orElseThrow();
+        String findSql = RecordingStatementInspector.SQL.get(0);
+
+        assertThat(user.getEmail()).isEqualTo("user3@example.com");
+        assertThat(userRepository.existsByEmail("USER3@example.com")).isTrue();
+        assertThat(userRepository.findExistingEmails(List.of("user1@example.com", "none@example.com")))
+                .containsExactly("user1@example.com");
+        assertThat(RecordingStatementInspector.SQL).hasSize(3)
+                .allSatisfy(sql -> assertThat(sql.toLowerCase(Locale.ROOT))
+                        .contains("email_normalized")
+                        .doesNotContain("lower("));
+        assertThat(explain(findSql, "user3@example.com").toLowerCase(Locale.ROOT))
+                .contains(User.EMAIL_NORMALIZED_CONSTRAINT)
+                .doesNotContain("tablescan");
+
+        assertThatThrownBy(() -> userRepository.saveAndFlush(User.builder()
+                .email("USER1@Example.com")
+                .name("Duplicate")
+                .password("hashed")
+                .role(User.Role.ROLE_USER)
+                .build()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    /**
+     * 全ユーザーのIDを取得.
+     *
+     * @return ユーザーID（昇順）
+     */
+    private List<Long> userIds() {
+        return userRepository.findAll(Sort.by("id")).stream().map(User::getId).toList();
+    }
+
+    /**
+     * SQLの実行計画を取得.
+     *
+     * @param sql SQL
+     * @param parameters パラメーター（SQL中の順）
+     * @return H2の実行計画
+     */
+    private String explain(String sql, Object... parameters) {
+        return entityManager.getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                try (ResultSet plan = statement.executeQuery()) {
+                    plan.next();
+                    return plan.getString(1);
+                }
+            }
+        });
+    }
+
+    /**
+     * 実行されたSQLを記録するインスペクター.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+        static final List<String> SQL = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            SQL.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.organization.api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** {@link CalibratedBCryptPasswordEncoder}のテスト. */
+class CalibratedBCryptPasswordEncoderTest {
+
+    private static final String HASH_SUFFIX = "$abcdefghijklmnopqrstuv";
+
+    private static String hashWithStrength(int strength) {
+        return String.format("$2a$%02d", strength) + HASH_SUFFIX;
+    }
+
+    @Test
+    @DisplayName("下限強度未満の固定強度は拒否する")
+    void rejectsStrengthBelowMinimum() {
+        assertThatThrownBy(() -> new CalibratedBCryptPasswordEncoder(9))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("下限強度未満の調整範囲は拒否する")
+    void rejectsCalibrationRangeBelowMinimum() {
+        assertThatThrownBy(() -> CalibratedBCryptPasswordEncoder.calibrate(
+                        Duration.ofMillis(250), 4, 14))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CalibratedBCryptPasswordEncoder.calibrate(
+                        Duration.ofMillis(250), 12, 11))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("調整後の強度は下限強度を下回らない")
+    void calibrationNeverGoesBelowMinimum() {
+        CalibratedBCryptPasswordEncoder encoder = CalibratedBCryptPasswordEncoder.calibrate(
+                Duration.ofNanos(1), 10, 14);
+
+        assertThat(encoder.getStrength()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("強度差が許容幅以内の場合は再ハッシュ化しない")
+    void doesNotUpgradeWithinTolerance() {
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(12);
+
+        assertThat(encoder.upgradeEncoding(hashWithStrength(11))).isFalse();
+        assertThat(encoder.upgradeEncoding(hashWithStrength(12))).isFalse();
+        assertThat(encoder.upgradeEncoding(hashWithStrength(13))).isFalse();
+    }
+
+    @Test
+    @DisplayName("強度差が許容幅を超える場合は再ハッシュ化する")
+    void upgradesOutsideTolerance() {
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(12);
+
+        assertThat(encoder.upgradeEncoding(hashWithStrength(10))).isTrue();
+        assertThat(encoder.upgradeEncoding(hashWithStrength(14))).isTrue();
+    }
+
+    @Test
+    @DisplayName("下限強度未満のハッシュは許容幅以内でも再ハッシュ化する")
+    void upgradesHashBelowMinimum() {
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(10);
+
+        assertThat(encoder.upgradeEncoding(hashWithStrength(9))).isTrue();
+        assertThat(encoder.upgradeEncoding(hashWithStrength(11))).isFalse();
+    }
+
+    @Test
+    @DisplayName("BCrypt形式でないハッシュは再ハッシュ化しない")
+    void ignoresNonBcryptHash() {
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(10);
+
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+        assertThat(encoder.upgradeEncoding("plain")).isFalse();
+    }
+
+    @Test
+    @DisplayName("エンコードしたパスワードを照合できる")
+    void encodesAndMatches() {
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(10);
+        String encoded = encoder.encode("password123");
+
+        assertThat(encoder.matches("password123", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+        assertThat(encoder.upgradeEncoding(encoded)).isFalse();
+    }
+}
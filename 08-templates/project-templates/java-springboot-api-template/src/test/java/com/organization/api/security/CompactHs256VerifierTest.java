@@ -0,0 +1,352 @@
+package com.organization.api.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.PrivateKey;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link CompactHs256Verifier}のテスト.
+ */
+class CompactHs256VerifierTest {
+
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final CompactHs256Verifier verifier = new CompactHs256Verifier();
+    private JwtKeyRing keyRing;
+    private JwtKeyRing.KeyDefinition es256;
+
+    @BeforeEach
+    void setUp() {
+        keyRing = JwtTestKeys.hs256KeyRing();
+        es256 = JwtTestKeys.es256Definition();
+        keyRing.rotate(JwtKeyRing.DEFAULT_KEY_ID, Map.of(
+                JwtKeyRing.DEFAULT_KEY_ID, new JwtKeyRing.KeyDefinition(
+                        JwtSigningAlgorithm.HS256, JwtTestKeys.HS256_SECRET, null),
+                "es", es256));
+    }
+
+    @Test
+    @DisplayName("jjwtで発行したHS256トークンを検証し、クレームを抽出する")
+    void verifiesValidToken() {
+        Instant issuedAt = Instant.now().minusSeconds(10);
+        String token = Jwts.builder()
+                .header().keyId(JwtKeyRing.DEFAULT_KEY_ID).and()
+                .id("token-1")
+                .subject("user@example.com")
+                .issuedAt(Date.from(issuedAt))
+                .expiration(Date.from(issuedAt.plusSeconds(900)))
+                .claim("role", "ROLE_USER")
+                .claim("uid", 42)
+                .claim("active", true)
+                .signWith(hmacKey(), Jwts.SIG.HS256)
+                .compact();
+
+        VerifiedToken verified = verifier.verify(token, keyRing.current());
+
+        assertThat(verified).isNotNull();
+        assertThat(verified.getId()).isEqualTo("token-1");
+        assertThat(verified.getSubject()).isEqualTo("user@example.com");
+        assertThat(verified.getIssuedAt())
+                .isEqualTo(Instant.ofEpochSecond(issuedAt.getEpochSecond()));
+        assertThat(verified.getClaim("role", String.class)).isEqualTo("ROLE_USER");
+        assertThat(verified.getClaims()).containsEntry("uid", 42L).containsEntry("active", true);
+    }
+
+    @Test
+    @DisplayName("kidのないトークンはデフォルトキーで検証する")
+    void verifiesTokenWithoutKeyId() {
+        String token = sign("{\"alg\":\"HS256\"}", "{\"sub\":\"a\"}", hmacKey());
+
+        assertThat(verifier.verify(token, keyRing.current()).getSubject()).isEqualTo("a");
+    }
+
+    @Test
+    @DisplayName("署名を改ざんしたトークンは拒否する")
+    void rejectsTamperedSignature() {
+        String token = validToken();
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char first = token.charAt(signatureStart);
+        String tampered = token.substring(0, signatureStart)
+                + (first == 'A' ? 'B' : 'A') + token.substring(signatureStart + 1);
+
+        assertThatThrownBy(() -> verifier.verify(tampered, keyRing.current()))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("署名長が不正なトークンは拒否する")
+    void rejectsTruncatedSignature() {
+        String token = validToken();
+
+        assertThatThrownBy(() -> verifier.verify(token.substring(0, token.length() - 4),
+                keyRing.current()))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("ペイロードを改ざんしたトークンは拒否する")
+    void rejectsTamperedPayload() {
+        String token = validToken();
+        String[] parts = token.split("\\.");
+        String forgedPayload = BASE64URL.encodeToString(
+                "{\"sub\":\"admin@example.com\",\"role\":\"ROLE_ADMIN\"}"
+                        .getBytes(StandardCharsets.UTF_8));
+        String tampered = parts[0] + "." + forgedPayload + "." + parts[2];
+
+        assertThatThrownBy(() -> verifier.verify(tampered, keyRing.current()))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("ヘッダーを改ざんしたトークンは拒否する")
+    void rejectsTamperedHeader() {
+        String token = validToken();
+        String[] parts = token.split("\\.");
+        String forgedHeader = BASE64URL.encodeToString(
+                "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+        String tampered = forgedHeader + "." + parts[1] + "." + parts[2];
+
+        assertThatThrownBy(() -> verifier.verify(tampered, keyRing.current()))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("alg=noneのトークンは対応外としてjjwtに委譲する")
+    void delegatesUnsignedTokens() {
+        String token = sign("{\"alg\":\"none\"}", "{\"sub\":\"a\"}", hmacKey());
+
+        assertThat(verifier.verify(token, keyRing.current())).isNull();
+    }
+
+    @Test
+    @DisplayName("ES256キーのkidを指定したHS256トークンは拒否する（アルゴリズム混同）")
+    void rejectsHs256TokenForAsymmetricKeyId() {
+        // 公開鍵をHMAC秘密鍵として署名する典型的なアルゴリズム混同攻撃
+        byte[] publicKey = Base64.getDecoder().decode(es256.verificationKey());
+        String token = sign("{\"alg\":\"HS256\",\"kid\":\"es\"}", "{\"sub\":\"a\"}",
+                new SecretKeySpec(publicKey, "HmacSHA256"));
+
+        assertThatThrownBy(() -> verifier.verify(token, keyRing.current()))
+                .isInstanceOf(UnsupportedJwtException.class);
+    }
+
+    @Test
+    @DisplayName("未知のkidは拒否する")
+    void rejectsUnknownKeyId() {
+        String token = sign("{\"alg\":\"HS256\",\"kid\":\"unknown\"}", "{\"sub\":\"a\"}",
+                hmacKey());
+
+        assertThatThrownBy(() -> verifier.verify(token, keyRing.current()))
+                .isInstanceOf(UnsupportedJwtException.class);
+    }
+
+    @Test
+    @DisplayName("ES256トークンは対応外としてnullを返却する")
+    void returnsNullForEs256Tokens() {
+        JwtKeyRing.KeySet keys = keyRing.current();
+        Key privateKey = JwtSigningAlgorithm.ES256.parseSigningKey(es256.signingKey());
+        String token = Jwts.builder()
+                .header().keyId("es").and()
+                .subject("a")
+                .signWith((PrivateKey) privateKey, Jwts.SIG.ES256)
+                .compact();
+
+        assertThat(verifier.verify(token, keys)).isNull();
+        assertThat(keys.getParser().parseSignedClaims(token).getPayload().getSubject())
+                .isEqualTo("a");
+    }
+
+    @Test
+    @DisplayName("nbf・ネストしたクレームを含むトークンは対応外としてnullを返却する")
+    void returnsNullForUnsupportedClaims() {
+        long now = Instant.now().getEpochSecond();
+        String withNotBefore = sign("{\"alg\":\"HS256\"}", "{\"sub\":\"a\",\"nbf\":" + now + "}",
+                hmacKey());
+        String withNested = sign("{\"alg\":\"HS256\"}", "{\"sub\":\"a\",\"ext\":{\"x\":1}}",
+                hmacKey());
+
+        assertThat(verifier.verify(withNotBefore, keyRing.current())).isNull();
+        assertThat(verifier.verify(withNested, keyRing.current())).isNull();
+    }
+
+    @Test
+    @DisplayName("有効期限切れのトークンは拒否する")
+    void rejectsExpiredToken() {
+        long expired = Instant.now().minusSeconds(1).getEpochSecond();
+        String token = sign("{\"alg\":\"HS256\"}", "{\"sub\":\"a\",\"exp\":" + expired + "}",
+                hmacKey());
+
+        assertThatThrownBy(() -> verifier.verify(token, keyRing.current()))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("Base64URL以外の文字を含むトークンは拒否する")
+    void rejectsMalformedBase64() {
+        // 署名は正しいがペイロードにBase64URL以外の文字を含む
+        String header = BASE64URL.encodeToString(
+                "{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+        String malformedPayload = signRaw(header + ".eyJzdWIi*iJhIn0", hmacKey());
+        String nonAsciiHeader = "eyJhbGc\u00e9.eyJzdWIiOiJhIn0.c2ln";
+
+        assertThatThrownBy(() -> verifier.verify(malformedPayload, keyRing.current()))
+                .isInstanceOf(MalformedJwtException.class);
+        assertThatThrownBy(() -> verifier.verify(nonAsciiHeader, keyRing.current()))
+                .isInstanceOf(MalformedJwtException.class);
+    }
+
+    @Test
+    @DisplayName("セグメント数が不正なトークンは拒否する")
+    void rejectsWrongSegmentCount() {
+        JwtKeyRing.KeySet keys = keyRing.current();
+
+        for (String token : new String[] {"abc", "a.b", "a.b.", "a.b.c.d", "a..c", ".b.c"}) {
+            assertThatThrownBy(() -> verifier.verify(token, keys))
+                    .as(token)
+                    .isInstanceOf(MalformedJwtException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("ヘッダー・ペイロードがJSONでない場合は対応外としてnullを返却する")
+    void returnsNullForNonJsonSegments() {
+        String token = sign("{\"alg\":\"HS256\"}", "not-json", hmacKey());
+
+        assertThat(verifier.verify(token, keyRing.current())).isNull();
+    }
+
+    @Test
+    @DisplayName("エスケープを含む文字列・数値・真偽値・nullのクレームを抽出する")
+    void extractsEscapedStringsAndScalars() {
+        String payload = " { \"sub\" : \"a\\\"b\\\\c\\/d\\b\\f\\n\\r\\t\\u3042\" ,"
+                + "\"jti\":\"id\",\"iat\":-1,\"n\":\"x\\u0041y\",\"t\":true,\"f\":false,"
+                + "\"z\":null,\"v\":12}\r\n";
+        String token = sign("{\"typ\":\"JWT\",\"alg\":\"HS256\"}", payload, hmacKey());
+
+        VerifiedToken verified = verifier.verify(token, keyRing.current());
+
+        assertThat(verified.getSubject()).isEqualTo("a\"b\\c/d\b\f\n\r\t\u3042");
+        assertThat(verified.getId()).isEqualTo("id");
+        assertThat(verified.getIssuedAt()).isEqualTo(Instant.ofEpochSecond(-1));
+        assertThat(verified.getExpiration()).isNull();
+        assertThat(verified.getClaims()).containsEntry("n", "xAy")
+                .containsEntry("t", true)
+                .containsEntry("f", false)
+                .containsEntry("z", null)
+                .containsEntry("v", 12L);
+    }
+
+    @Test
+    @DisplayName("不正・対応外のJSON構文を含むトークンは対応外としてnullを返却する")
+    void returnsNullForUnsupportedJsonSyntax() {
+        String header = "{\"alg\":\"HS256\"}";
+        List<String> payloads = List.of(
+                " [] ",
+                "{\"sub\" \"a\"}",
+                "{\"s\\ub\":\"a\"}",
+                "{\"sub\":\"a",
+                "{\"sub\":1}",
+                "{\"sub\":\"a\\",
+                "{\"sub\":\"a\\x\"}",
+                "{\"sub\":\"\\u00\"}",
+                "{\"sub\":\"\\uzzzz\"}",
+                "{\"sub\":\"a\\n",
+                "{\"iat\":1.5}",
+                "{\"iat\":1e3}",
+                "{\"iat\":-}",
+                "{\"iat\":1234567890123456789}",
+                "{\"c\":[1]}",
+                "{\"c\":tru}",
+                "{\"c\":",
+                "{\"iss\":\"issuer\"}",
+                "{\"sub\":\"a\"");
+        for (String payload : payloads) {
+            assertThat(verifier.verify(sign(header, payload, hmacKey()), keyRing.current()))
+                    .as(payload)
+                    .isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("対応外のヘッダーを含むトークンは対応外としてnullを返却する")
+    void returnsNullForUnsupportedHeaders() {
+        List<String> headers = List.of(
+                "{\"alg\":\"HS256\",\"cty\":\"JWT\"}",
+                "{\"alg\":1}",
+                "{\"alg\":\"HS256\",\"kid\":1}",
+                "{\"typ\":[]}",
+                "{\"typ\":\"JWT\"}",
+                "{\"alg\":\"HS256\"");
+        for (String header : headers) {
+            assertThat(verifier.verify(sign(header, "{}", hmacKey()), keyRing.current()))
+                    .as(header)
+                    .isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("カンマで区切られていないメンバーを含むトークンは対応外としてnullを返却する")
+    void returnsNullForMembersWithoutComma() {
+        String header = "{\"alg\":\"HS256\"}";
+
+        for (String payload : List.of("{\"sub\":\"a\" \"jti\":\"b\"}", "{,\"sub\":\"a\"}",
+                "{\"sub\":\"a\",}")) {
+            assertThat(verifier.verify(sign(header, payload, hmacKey()), keyRing.current()))
+                    .as(payload)
+                    .isNull();
+        }
+        assertThat(verifier.verify(sign("{\"alg\":\"HS256\" \"typ\":\"JWT\"}", "{}", hmacKey()),
+                keyRing.current())).isNull();
+    }
+
+    private String validToken() {
+        return Jwts.builder()
+                .header().keyId(JwtKeyRing.DEFAULT_KEY_ID).and()
+                .subject("user@example.com")
+                .claim("role", "ROLE_USER")
+                .expiration(Date.from(Instant.now().plusSeconds(900)))
+                .signWith(hmacKey(), Jwts.SIG.HS256)
+                .compact();
+    }
+
+    private static SecretKey hmacKey() {
+        return Keys.hmacShaKeyFor(Base64.getDecoder().decode(JwtTestKeys.HS256_SECRET));
+    }
+
+    private static String sign(String header, String payload, SecretKey key) {
+        return signRaw(BASE64URL.encodeToString(header.getBytes(StandardCharsets.UTF_8))
+                + "." + BASE64URL.encodeToString(payload.getBytes(StandardCharsets.UTF_8)), key);
+    }
+
+    private static String signRaw(String signingInput, SecretKey key) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            return signingInput + "." + BASE64URL.encodeToString(
+                    mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII)));
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
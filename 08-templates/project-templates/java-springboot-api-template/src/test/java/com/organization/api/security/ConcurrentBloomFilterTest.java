@@ -0,0 +1,80 @@
+package com.organization.api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link ConcurrentBloomFilter}のテスト.
+ */
+class ConcurrentBloomFilterTest {
+
+    @Test
+    @DisplayName("Bloomフィルターに偽陰性がない")
+    void hasNoFalseNegatives() {
+        ConcurrentBloomFilter filter = new ConcurrentBloomFilter(10_000, 0.01);
+        List<String> added = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            String id = UUID.randomUUID().toString();
+            filter.add(id);
+            added.add(id);
+        }
+
+        assertThat(added).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("Bloomフィルターの偽陽性率が設定値に近い")
+    void falsePositiveRateIsBounded() {
+        ConcurrentBloomFilter filter = new ConcurrentBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("複数スレッドから並行して登録しても登録済みの値に偽陰性がない")
+    void keepsBitsSetConcurrently() {
+        ConcurrentBloomFilter filter = new ConcurrentBloomFilter(40_000, 0.01);
+        List<List<String>> values = IntStream.range(0, 4)
+                .mapToObj(thread -> IntStream.range(0, 10_000)
+                        .mapToObj(i -> thread + "-" + i)
+                        .toList())
+                .toList();
+
+        CompletableFuture.allOf(values.stream()
+                .map(chunk -> CompletableFuture.runAsync(() -> chunk.forEach(filter::add)))
+                .toArray(CompletableFuture[]::new)).join();
+
+        assertThat(values).allSatisfy(chunk -> assertThat(chunk).allMatch(filter::mightContain));
+    }
+
+    @Test
+    @DisplayName("想定件数・偽陽性率が範囲外の場合は作成できない")
+    void rejectsInvalidParameters() {
+        assertThatThrownBy(() -> new ConcurrentBloomFilter(0, 0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ConcurrentBloomFilter(100, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ConcurrentBloomFilter(100, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,218 @@
+package com.organization.api.security;
+
+import com.organization.api.config.RequestPathConfig;
+import com.organization.api.entity.User;
+import io.jsonwebtoken.ExpiredJwtException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link JwtAuthenticationFilter}のテスト.
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private UserSecurityVersionRegistry securityVersionRegistry;
+
+    @Mock
+    private TokenRevocationStore tokenRevocationStore;
+
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.clearContext();
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService,
+                securityVersionRegistry, tokenRevocationStore,
+                new RequestPathConfig().requestPathClassifier());
+        mode(JwtAuthenticationFilter.AuthenticationMode.DATABASE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private void mode(JwtAuthenticationFilter.AuthenticationMode mode) {
+        ReflectionTestUtils.setField(filter, "authenticationMode", mode);
+    }
+
+    private static VerifiedToken token(Long securityVersion, String tokenType) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(JwtTokenProvider.CLAIM_USER_ID, 1L);
+        claims.put(JwtTokenProvider.CLAIM_ROLE, "ROLE_USER");
+        if (securityVersion != null) {
+            claims.put(JwtTokenProvider.CLAIM_SECURITY_VERSION, securityVersion);
+        }
+        if (tokenType != null) {
+            claims.put(JwtTokenProvider.CLAIM_TOKEN_TYPE, tokenType);
+        }
+        Instant now = Instant.now();
+        return new VerifiedToken("jti-1", EMAIL, now, now.plusSeconds(900), claims);
+    }
+
+    private static UserPrincipal principal(boolean enabled, long securityVersion) {
+        return UserPrincipal.from(User.builder()
+                .id(1L)
+                .email(EMAIL)
+                .password("{noop}password")
+                .role(User.Role.ROLE_USER)
+                .enabled(enabled)
+                .securityVersion(securityVersion)
+                .build());
+    }
+
+    private Authentication filter(String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+        request.setServletPath("/api/v1/users/me");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isSameAs(request);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Test
+    @DisplayName("Bearer形式でないAuthorizationヘッダーは検証せずに続行する")
+    void skipsMissingOrNonBearerHeader() throws Exception {
+        assertThat(filter(null)).isNull();
+        assertThat(filter("Basic dXNlcjpwYXNz")).isNull();
+        verifyNoInteractions(jwtTokenProvider);
+    }
+
+    @Test
+    @DisplayName("パブリックなリクエストはトークンを検証しない")
+    void skipsPublicRequests() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.setServletPath("/api/v1/auth/login");
+        request.addHeader("Authorization", "Bearer token");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verifyNoInteractions(jwtTokenProvider);
+    }
+
+    @Test
+    @DisplayName("検証に失敗したトークン・リフレッシュトークン・失効済みトークンは認証しない")
+    void rejectsUnusableTokens() throws Exception {
+        when(jwtTokenProvider.verify("expired"))
+                .thenThrow(new ExpiredJwtException(null, null, "expired"));
+        when(jwtTokenProvider.verify("refresh"))
+                .thenReturn(token(0L, JwtTokenProvider.TOKEN_TYPE_REFRESH));
+        when(jwtTokenProvider.verify("revoked")).thenReturn(token(0L, null));
+        when(tokenRevocationStore.isRevoked("jti-1")).thenReturn(true);
+
+        assertThat(filter("Bearer expired")).isNull();
+        assertThat(filter("Bearer refresh")).isNull();
+        assertThat(filter("Bearer revoked")).isNull();
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("データベースモードでは有効なユーザーの最新のトークンのみ認証する")
+    void authenticatesFromDatabase() throws Exception {
+        when(jwtTokenProvider.verify("current")).thenReturn(token(2L, null));
+        when(jwtTokenProvider.verify("stale")).thenReturn(token(1L, null));
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(principal(true, 2L));
+
+        assertThat(filter("Bearer stale")).isNull();
+        Authentication authentication = filter("Bearer current");
+
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo(EMAIL);
+        assertThat(authentication.getCredentials()).isNull();
+        verifyNoInteractions(securityVersionRegistry);
+    }
+
+    @Test
+    @DisplayName("存在しない・無効化されたユーザーのトークンは認証しない")
+    void rejectsMissingOrDisabledUsers() throws Exception {
+        when(jwtTokenProvider.verify("token")).thenReturn(token(0L, null));
+        when(userDetailsService.loadUserByUsername(EMAIL))
+                .thenThrow(new UsernameNotFoundException(EMAIL))
+                .thenReturn(principal(false, 0L));
+
+        assertThat(filter("Bearer token")).isNull();
+        assertThat(filter("Bearer token")).isNull();
+    }
+
+    @Test
+    @DisplayName("クレームモードではレジストリで判定できたトークンをデータベースを参照せずに処理する")
+    void authenticatesFromClaims() throws Exception {
+        mode(JwtAuthenticationFilter.AuthenticationMode.CLAIMS);
+        when(jwtTokenProvider.verify("current")).thenReturn(token(0L, null));
+        when(jwtTokenProvider.verify("revoked")).thenReturn(token(1L, null));
+        when(securityVersionRegistry.check(any(), anyLong(), any())).thenAnswer(invocation ->
+                invocation.<Long>getArgument(1) == 0L
+                        ? UserSecurityVersionRegistry.Status.CURRENT
+                        : UserSecurityVersionRegistry.Status.REVOKED);
+
+        assertThat(filter("Bearer revoked")).isNull();
+        Authentication authentication = filter("Bearer current");
+
+        assertThat(authentication.getName()).isEqualTo(EMAIL);
+        assertThat(authentication.getAuthorities()).extracting(Object::toString)
+                .containsExactly("ROLE_USER");
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("クレームモードでレジストリが判定できないトークンはデータベースで確認して記録する")
+    void fallsBackToDatabaseForUnknownTokens() throws Exception {
+        mode(JwtAuthenticationFilter.AuthenticationMode.CLAIMS);
+        when(jwtTokenProvider.verify("token")).thenReturn(token(3L, null));
+        when(securityVersionRegistry.check(any(), anyLong(), any()))
+                .thenReturn(UserSecurityVersionRegistry.Status.UNKNOWN);
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(principal(true, 3L));
+
+        assertThat(filter("Bearer token")).isNotNull();
+        verify(securityVersionRegistry).record(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("クレームモードでもユーザークレームのないトークンはデータベースで確認する")
+    void loadsTokensWithoutUserClaimsFromDatabase() throws Exception {
+        mode(JwtAuthenticationFilter.AuthenticationMode.CLAIMS);
+        when(jwtTokenProvider.verify("token")).thenReturn(token(null, null));
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(principal(true, 0L));
+
+        assertThat(filter("Bearer token")).isNotNull();
+        verify(securityVersionRegistry, never()).check(any(), anyLong(), any());
+    }
+}
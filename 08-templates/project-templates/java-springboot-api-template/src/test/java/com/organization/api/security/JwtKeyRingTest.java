@@ -0,0 +1,130 @@
+package com.organization.api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** {@link JwtKeyRing}のテスト. */
+class JwtKeyRingTest {
+
+    @TempDir
+    Path directory;
+
+    private static KeyPair ed25519() throws Exception {
+        return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+    }
+
+    /**
+     * 秘密鍵と公開鍵を別々の鍵ペアから組み合わせたキー定義を作成.
+     */
+    private static JwtKeyRing.KeyDefinition mismatched(JwtKeyRing.KeyDefinition privateSide,
+                                                       JwtKeyRing.KeyDefinition publicSide) {
+        return new JwtKeyRing.KeyDefinition(
+                privateSide.algorithm(), privateSide.signingKey(), publicSide.verificationKey());
+    }
+
+    @Test
+    @DisplayName("対応する鍵ペアのES256・EdDSAキーを読み込める")
+    void acceptsMatchingKeyPairs() throws Exception {
+        JwtKeyRing keyRing = JwtTestKeys.hs256KeyRing();
+
+        keyRing.rotate("es", Map.of(
+                "es", JwtTestKeys.es256Definition(),
+                "ed", JwtTestKeys.definition(JwtSigningAlgorithm.EdDSA, ed25519())));
+
+        assertThat(keyRing.current().getActiveKeyId()).isEqualTo("es");
+        assertThat(keyRing.current().getSigningAlgorithm()).isEqualTo(JwtSigningAlgorithm.ES256);
+        assertThat(keyRing.current().getVerificationKeys()).containsOnlyKeys("es", "ed");
+    }
+
+    @Test
+    @DisplayName("公開鍵と対応しないES256秘密鍵は起動時に拒否する")
+    void rejectsMismatchedEs256KeyPairAtStartup() {
+        JwtKeyRing.KeyDefinition definition = mismatched(
+                JwtTestKeys.es256Definition(), JwtTestKeys.es256Definition());
+
+        assertThatThrownBy(() -> new JwtKeyRing(JwtSigningAlgorithm.ES256, "",
+                        definition.signingKey(), definition.verificationKey(), ""))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("kid=" + JwtKeyRing.DEFAULT_KEY_ID);
+    }
+
+    @Test
+    @DisplayName("公開鍵と対応しないEdDSA秘密鍵は拒否し、現在のキーセットを維持する")
+    void rejectsMismatchedEdDsaKeyPairOnRotate() throws Exception {
+        JwtKeyRing keyRing = JwtTestKeys.hs256KeyRing();
+        JwtKeyRing.KeySet before = keyRing.current();
+        JwtKeyRing.KeyDefinition definition = mismatched(
+                JwtTestKeys.definition(JwtSigningAlgorithm.EdDSA, ed25519()),
+                JwtTestKeys.definition(JwtSigningAlgorithm.EdDSA, ed25519()));
+
+        assertThatThrownBy(() -> keyRing.rotate("ed", Map.of("ed", definition)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("kid=ed");
+        assertThat(keyRing.current()).isSameAs(before);
+    }
+
+    @Test
+    @DisplayName("アクティブでない次期キーの鍵ペアも確認する")
+    void checksInactiveKeysWithPrivateKey() {
+        JwtKeyRing keyRing = JwtTestKeys.hs256KeyRing();
+        JwtKeyRing.KeyDefinition next = mismatched(
+                JwtTestKeys.es256Definition(), JwtTestKeys.es256Definition());
+        JwtKeyRing.KeyDefinition current = new JwtKeyRing.KeyDefinition(
+                JwtSigningAlgorithm.HS256, JwtTestKeys.HS256_SECRET, null);
+
+        assertThatThrownBy(() -> keyRing.rotate("current", Map.of("current", current, "next", next)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("kid=next");
+    }
+
+    @Test
+    @DisplayName("検証専用（公開鍵のみ）のキーは鍵ペアを確認しない")
+    void acceptsVerificationOnlyKeys() {
+        JwtKeyRing keyRing = JwtTestKeys.hs256KeyRing();
+        JwtKeyRing.KeyDefinition old = JwtTestKeys.es256Definition();
+
+        keyRing.rotate("current", Map.of(
+                "current", new JwtKeyRing.KeyDefinition(
+                        JwtSigningAlgorithm.HS256, JwtTestKeys.HS256_SECRET, null),
+                "old", new JwtKeyRing.KeyDefinition(old.algorithm(), null, old.verificationKey())));
+
+        assertThat(keyRing.current().getVerificationKeys()).containsOnlyKeys("current", "old");
+    }
+
+    @Test
+    @DisplayName("キーリングファイルの再読み込みで鍵ペアが対応しない場合は現在のキーを維持する")
+    void keepsCurrentKeysWhenReloadedFileHasMismatchedKeyPair() throws Exception {
+        Path file = directory.resolve("jwt-key-ring.properties");
+        JwtKeyRing.KeyDefinition valid = JwtTestKeys.es256Definition();
+        Files.writeString(file, String.join("\n",
+                "active-key-id=k1",
+                "algorithms.k1=ES256",
+                "keys.k1=" + valid.signingKey(),
+                "public-keys.k1=" + valid.verificationKey()));
+        JwtKeyRing keyRing = new JwtKeyRing(JwtSigningAlgorithm.HS256, "", "", "", file.toString());
+        JwtKeyRing.KeySet before = keyRing.current();
+
+        JwtKeyRing.KeyDefinition other = JwtTestKeys.es256Definition();
+        Files.writeString(file, String.join("\n",
+                "active-key-id=k2",
+                "algorithms.k2=ES256",
+                "keys.k2=" + valid.signingKey(),
+                "public-keys.k2=" + other.verificationKey()));
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        keyRing.reload();
+
+        assertThat(keyRing.current()).isSameAs(before);
+    }
+}
@@ -0,0 +1,61 @@
+package com.organization.api.security;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+
+/**
+ * テスト用のJWTキー.
+ */
+final class JwtTestKeys {
+
+    /** HS256用の256ビット秘密鍵（Base64）. */
+    static final String HS256_SECRET =
+            "dGVzdC1zZWNyZXQta2V5LWZvci11bml0LXRlc3RzLW9ubHktMzItYnl0ZXM=";
+
+    private JwtTestKeys() {
+    }
+
+    /**
+     * HS256の単一キー構成のキーリングを作成.
+     *
+     * @return キーリング
+     */
+    static JwtKeyRing hs256KeyRing() {
+        try {
+            return new JwtKeyRing(JwtSigningAlgorithm.HS256, HS256_SECRET, "", "", "");
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * ES256（P-256）のキー定義を生成.
+     *
+     * @return キー定義（PKCS#8秘密鍵・X.509公開鍵をBase64で保持）
+     */
+    static JwtKeyRing.KeyDefinition es256Definition() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return definition(JwtSigningAlgorithm.ES256, generator.generateKeyPair());
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * 鍵ペアからキー定義を作成.
+     *
+     * @param algorithm 署名アルゴリズム
+     * @param keyPair 鍵ペア
+     * @return キー定義
+     */
+    static JwtKeyRing.KeyDefinition definition(JwtSigningAlgorithm algorithm, KeyPair keyPair) {
+        Base64.Encoder encoder = Base64.getEncoder();
+        return new JwtKeyRing.KeyDefinition(algorithm,
+                encoder.encodeToString(keyPair.getPrivate().getEncoded()),
+                encoder.encodeToString(keyPair.getPublic().getEncoded()));
+    }
+}
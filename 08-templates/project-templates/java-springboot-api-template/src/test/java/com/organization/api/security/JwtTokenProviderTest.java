@@ -0,0 +1,164 @@
+package com.organization.api.security;
+
+import com.organization.api.entity.User;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link JwtTokenProvider}のテスト（省アロケーション検証器とjjwtの使い分け）.
+ */
+class JwtTokenProviderTest {
+
+    private static final long ACCESS_TOKEN_EXPIRATION = 900_000L;
+    private static final long REFRESH_TOKEN_EXPIRATION = 604_800_000L;
+
+    private final UserDetails user = UserPrincipal.from(User.builder()
+            .id(1L)
+            .email("user@example.com")
+            .password("{noop}password")
+            .role(User.Role.ROLE_USER)
+            .build());
+    private JwtKeyRing keyRing;
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        keyRing = JwtTestKeys.hs256KeyRing();
+        provider = newProvider(keyRing);
+    }
+
+    @Test
+    @DisplayName("HS256トークンを省アロケーション検証器で検証する")
+    void verifiesHs256Token() {
+        String token = provider.generateAccessToken(user);
+
+        assertThat(provider.verify(token).getSubject()).isEqualTo("user@example.com");
+    }
+
+    @Test
+    @DisplayName("ES256トークンはjjwtで検証する")
+    void fallsBackToJjwtForEs256Tokens() {
+        keyRing.rotate("es", Map.of("es", JwtTestKeys.es256Definition()));
+        String token = provider.generateAccessToken(user);
+
+        assertThat(provider.verify(token).getSubject()).isEqualTo("user@example.com");
+        assertThat(provider.verify(token).getClaim(JwtTokenProvider.CLAIM_ROLE, String.class))
+                .isEqualTo("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("署名のないトークン（alg=none）は拒否する")
+    void rejectsUnsignedTokens() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String token = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString(
+                        "{\"sub\":\"admin@example.com\"}".getBytes(StandardCharsets.UTF_8))
+                + ".";
+
+        assertThatThrownBy(() -> provider.verify(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("他のキーで署名したトークンは拒否する")
+    void rejectsTokenSignedWithAnotherKey() {
+        JwtKeyRing otherRing = JwtTestKeys.hs256KeyRing();
+        otherRing.rotate(JwtKeyRing.DEFAULT_KEY_ID, Map.of(JwtKeyRing.DEFAULT_KEY_ID,
+                new JwtKeyRing.KeyDefinition(JwtSigningAlgorithm.HS256,
+                        Base64.getEncoder().encodeToString(new byte[32]), null)));
+        String token = newProvider(otherRing).generateAccessToken(user);
+
+        assertThatThrownBy(() -> provider.verify(token)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("HS256のトークン一括生成は一意なトークンIDを持つ検証可能なトークンを発行する")
+    void generatesHs256TokensInBulk() {
+        List<String> tokenIds = new ArrayList<>();
+
+        provider.generateAccessTokens(user, 3, 60_000L, (tokenId, token, expiresAt) -> {
+            VerifiedToken verified = provider.verify(token);
+            assertThat(verified.getTokenUuid()).isEqualTo(tokenId);
+            assertThat(verified.getUserId()).isEqualTo(1L);
+            assertThat(verified.getRole()).isEqualTo("ROLE_USER");
+            assertThat(verified.getSecurityVersion()).isZero();
+            assertThat(verified.getExpiration()).isEqualTo(expiresAt);
+            assertThat(verified.isRefreshToken()).isFalse();
+            tokenIds.add(verified.getId());
+        });
+
+        assertThat(tokenIds).hasSize(3).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("ES256のトークン一括生成は通常の発行経路で1件ずつ署名する")
+    void generatesEs256TokensInBulk() {
+        keyRing.rotate("es", Map.of("es", JwtTestKeys.es256Definition()));
+        List<String> subjects = new ArrayList<>();
+
+        provider.generateAccessTokens(user, 2, 60_000L, (tokenId, token, expiresAt) -> {
+            VerifiedToken verified = provider.verify(token);
+            assertThat(verified.getTokenUuid()).isEqualTo(tokenId);
+            subjects.add(verified.getSubject());
+        });
+
+        assertThat(subjects).containsExactly("user@example.com", "user@example.com");
+    }
+
+    @Test
+    @DisplayName("リフレッシュトークンはファミリーIDとセキュリティバージョンを持つ")
+    void generatesRefreshToken() {
+        UUID familyId = UUID.randomUUID();
+
+        VerifiedToken verified = provider.verify(provider.generateRefreshToken(user, familyId));
+
+        assertThat(verified.isRefreshToken()).isTrue();
+        assertThat(verified.getFamilyId()).isEqualTo(familyId);
+        assertThat(verified.getSecurityVersion()).isZero();
+        assertThat(verified.getUserId()).isNull();
+        assertThat(verified.isExpired(Instant.now())).isFalse();
+        assertThat(verified.isExpired(verified.getExpiration())).isTrue();
+    }
+
+    @Test
+    @DisplayName("トークンの有効性はサブジェクトと署名で判定する")
+    void validatesTokenForUser() {
+        String token = provider.generateAccessToken(user);
+        UserDetails other = UserPrincipal.create(2L, "other@example.com", null, "ROLE_USER");
+
+        assertThat(provider.isTokenValid(token, user)).isTrue();
+        assertThat(provider.isTokenValid(token, other)).isFalse();
+        assertThat(provider.isTokenValid("not-a-token", user)).isFalse();
+        assertThat(provider.getAccessTokenExpiration()).isEqualTo(ACCESS_TOKEN_EXPIRATION);
+    }
+
+    private static JwtTokenProvider newProvider(JwtKeyRing keyRing) {
+        JwtTokenProvider provider = new JwtTokenProvider(
+                keyRing,
+                new VerifiedTokenCache(keyRing, new SimpleMeterRegistry(), false, 100),
+                new CompactHs256Verifier(),
+                new RefreshTokenStore(new SimpleMeterRegistry(), "", DataSize.ofMegabytes(1), 0.75,
+                        REFRESH_TOKEN_EXPIRATION));
+        ReflectionTestUtils.setField(provider, "compactVerifierEnabled", true);
+        ReflectionTestUtils.setField(provider, "accessTokenExpiration", ACCESS_TOKEN_EXPIRATION);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpiration", REFRESH_TOKEN_EXPIRATION);
+        return provider;
+    }
+}
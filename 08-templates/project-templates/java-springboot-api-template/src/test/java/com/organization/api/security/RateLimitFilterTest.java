@@ -0,0 +1,106 @@
+package com.organization.api.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.organization.api.config.RequestPathConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** {@link RateLimitFilter}のテスト. */
+class RateLimitFilterTest {
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.clearContext();
+        filter = new RateLimitFilter(
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                new RequestPathConfig().requestPathClassifier(),
+                new SimpleMeterRegistry(),
+                true,
+                1, Duration.ofMinutes(1),
+                1, Duration.ofMinutes(1));
+    }
+
+    /**
+     * サーブレットコンテナと同様に、requestURIは未デコード、servletPathはデコード済みで作成.
+     */
+    private static MockHttpServletRequest request(String method, String requestUri, String servletPath) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, requestUri);
+        request.setServletPath(servletPath);
+        request.setRemoteAddr("192.0.2.1");
+        return request;
+    }
+
+    private int status(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+
+    @Test
+    @DisplayName("認証APIは上限超過で429を返却する")
+    void limitsAuthApi() throws Exception {
+        assertThat(status(request("POST", "/api/v1/auth/login", "/api/v1/auth/login")))
+                .isEqualTo(HttpStatus.OK.value());
+        assertThat(status(request("POST", "/api/v1/auth/login", "/api/v1/auth/login")))
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    @Test
+    @DisplayName("エンコードした認証APIのパスでも同じバケットで制限する")
+    void limitsPercentEncodedAuthApi() throws Exception {
+        assertThat(status(request("POST", "/api/v1/auth/login", "/api/v1/auth/login")))
+                .isEqualTo(HttpStatus.OK.value());
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("POST", "/api/v1/%61uth/login", "/api/v1/auth/login"),
+                response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(response.getHeader("Retry-After")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("エンコードした管理者APIのパスでも制限する")
+    void limitsPercentEncodedAdminApi() throws Exception {
+        assertThat(status(request("POST", "/api/v1/%61dmin/tokens", "/api/v1/admin/tokens")))
+                .isEqualTo(HttpStatus.OK.value());
+        assertThat(status(request("POST", "/api/v1/%61dmin/tokens", "/api/v1/admin/tokens")))
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    @Test
+    @DisplayName("エンコードしたユーザー一覧APIのパスでも制限する")
+    void limitsPercentEncodedUserList() throws Exception {
+        assertThat(status(request("GET", "/api/v1/users", "/api/v1/users")))
+                .isEqualTo(HttpStatus.OK.value());
+        assertThat(status(request("GET", "/api/v1/%75sers", "/api/v1/users")))
+                .isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    @Test
+    @DisplayName("制限対象外のリクエストは制限しない")
+    void doesNotLimitOtherRequests() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(status(request("POST", "/api/v1/users", "/api/v1/users")))
+                    .isEqualTo(HttpStatus.OK.value());
+            assertThat(status(request("GET", "/api/v1/users/1", "/api/v1/users/1")))
+                    .isEqualTo(HttpStatus.OK.value());
+            assertThat(status(request("GET", "/api/v1/authors", "/api/v1/authors")))
+                    .isEqualTo(HttpStatus.OK.value());
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.organization.api.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** {@link RefreshTokenLog}のテスト. */
+class RefreshTokenLogTest {
+
+    private static final int HEADER_SIZE = 16;
+    private static final int CAPACITY = 4096;
+
+    @TempDir
+    Path directory;
+
+    private record Entry(byte op, UUID tokenId, UUID familyId, long expiresAt) {
+    }
+
+    private static List<Entry> replay(RefreshTokenLog log) {
+        List<Entry> entries = new ArrayList<>();
+        log.replay((op, tokenId, familyId, expiresAt) ->
+                entries.add(new Entry(op, tokenId, familyId, expiresAt)));
+        return entries;
+    }
+
+    private static void append(RefreshTokenLog log, Entry entry) {
+        assertThat(log.append(entry.op(), entry.tokenId(), entry.familyId(), entry.expiresAt()))
+                .isTrue();
+    }
+
+    private static Entry issue(long expiresAt) {
+        return new Entry(RefreshTokenLog.OP_ISSUE, UUID.randomUUID(), UUID.randomUUID(), expiresAt);
+    }
+
+    @Test
+    @DisplayName("再起動後に追記したレコードを順に再生する")
+    void replaysRecordsAfterReopen() throws IOException {
+        Path file = directory.resolve("refresh-tokens.log");
+        Entry issued = issue(100L);
+        Entry used = new Entry(RefreshTokenLog.OP_USE, issued.tokenId(), issued.familyId(), 100L);
+        Entry revoked = new Entry(
+                RefreshTokenLog.OP_REVOKE_FAMILY, new UUID(0L, 0L), issued.familyId(), 200L);
+
+        try (RefreshTokenLog log = new RefreshTokenLog(file, CAPACITY)) {
+            replay(log);
+            append(log, issued);
+            append(log, used);
+            append(log, revoked);
+        }
+
+        try (RefreshTokenLog log = new RefreshTokenLog(file, CAPACITY)) {
+            assertThat(replay(log)).containsExactly(issued, used, revoked);
+
+            // 再生後の追記は最後のレコードの直後に行われる
+            Entry next = issue(300L);
+            append(log, next);
+            assertThat(replay(log)).containsExactly(issued, used, revoked, next);
+        }
+    }
+
+    @Test
+    @DisplayName("操作種別が書き込まれていないレコードは再生時に無視する")
+    void skipsTornRecord() throws IOException {
+        Path file = directory.resolve("refresh-tokens.log");
+        Entry first = issue(100L);
+        Entry last = issue(200L);
+
+        try (RefreshTokenLog log = new RefreshTokenLog(file, CAPACITY)) {
+            replay(log);
+            append(log, first);
+            append(log, issue(150L));
+            append(log, last);
+        }
+
+        // 2件目のレコードを本体のみ書き込まれた状態にする（操作種別を0に戻す）
+        int torn = HEADER_SIZE + RefreshTokenLog.RECORD_SIZE;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0}), torn);
+        }
+
+        try (RefreshTokenLog log = new RefreshTokenLog(file, CAPACITY)) {
+            assertThat(replay(log)).containsExactly(first, last);
+        }
+    }
+
+    @Test
+    @DisplayName("末尾の書き込み途中のレコードは無視し、次の追記で上書きする")
+    void overwritesTornTail() throws IOException {
+        Path file = directory.resolve("refresh-tokens.log");
+        Entry first = issue(100L);
+
+        try (RefreshTokenLog log = new RefreshTokenLog(file, CAPACITY)) {
+            replay(log);
+            append(log, first);
+        }
+
+        // 2件目の本体のみが書き込まれた状態（操作種別は0のまま）
+        ByteBuffer body = ByteBuffer.allocate(RefreshTokenLog.RECORD_SIZE - 8);
+        body.putLong(1L).putLong(2L).putLong(3L).putLong(4L).putLong(5L).flip();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(body, HEADER_SIZE + RefreshTokenLog.RECORD_SIZE + 8);
+        }
+
+        try (RefreshTokenLog log = new RefreshTokenLog(file, CAPACITY)) {
+            assertThat(replay(log)).containsExactly(first);
+
+            Entry second = issue(200L);
+            append(log, second);
+            assertThat(replay(log)).containsExactly(first, second);
+        }
+    }
+
+    @Test
+    @DisplayName("満杯の場合は追記に失敗する")
+    void rejectsAppendWhenFull() throws IOException {
+        int capacity = HEADER_SIZE + RefreshTokenLog.RECORD_SIZE * 2;
+        try (RefreshTokenLog log = new RefreshTokenLog(directory.resolve("full.log"), capacity)) {
+            replay(log);
+            append(log, issue(100L));
+            append(log, issue(200L));
+
+            assertThat(log.append(RefreshTokenLog.OP_ISSUE, UUID.randomUUID(), UUID.randomUUID(), 300L))
+                    .isFalse();
+            assertThat(log.usage()).isEqualTo(1.0);
+        }
+    }
+
+    @Test
+    @DisplayName("コンパクション後は書き出したレコードのみを保持し、追記と再生を継続できる")
+    void compactsToLiveRecords() throws IOException {
+        Path file = directory.resolve("refresh-tokens.log");
+        Entry live = issue(100L);
+
+        try (RefreshTokenLog log = new RefreshTokenLog(file, CAPACITY)) {
+            replay(log);
+            for (int i = 0; i < 10; i++) {
+                append(log, issue(i));
+            }
+            append(log, live);
+
+            log.compact(writer ->
+                    writer.visit(live.op(), live.tokenId(), live.familyId(), live.expiresAt()));
+
+            assertThat(Files.exists(file.resolveSibling(file.getFileName() + ".compact"))).isFalse();
+            assertThat(log.usage())
+                    .isEqualTo((double) (HEADER_SIZE + RefreshTokenLog.RECORD_SIZE) / CAPACITY);
+
+            Entry next = issue(200L);
+            append(log, next);
+            assertThat(replay(log)).containsExactly(live, next);
+        }
+
+        try (RefreshTokenLog log = new RefreshTokenLog(file, CAPACITY)) {
+            assertThat(replay(log)).hasSize(2);
+        }
+    }
+
+    @Test
+    @DisplayName("コンパクション後のファイルは稼働中のレコード数に応じて拡張する")
+    void growsOnCompaction() throws IOException {
+        Path file = directory.resolve("refresh-tokens.log");
+        int capacity = HEADER_SIZE + RefreshTokenLog.RECORD_SIZE * 2;
+
+        try (RefreshTokenLog log = new RefreshTokenLog(file, capacity)) {
+            replay(log);
+            List<Entry> entries = List.of(issue(1L), issue(2L), issue(3L));
+            log.compact(writer -> entries.forEach(entry ->
+                    writer.visit(entry.op(), entry.tokenId(), entry.familyId(), entry.expiresAt())));
+
+            assertThat(replay(log)).containsExactlyElementsOf(entries);
+            assertThat(Files.size(file)).isGreaterThan(capacity);
+        }
+    }
+
+    @Test
+    @DisplayName("2GB以上またはレコード1件分未満のサイズは拒否する")
+    void rejectsInvalidCapacity() {
+        Path file = directory.resolve("invalid.log");
+
+        assertThatThrownBy(() -> new RefreshTokenLog(file, 4L * 1024 * 1024 * 1024))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RefreshTokenLog(file, HEADER_SIZE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(Files.exists(file)).isFalse();
+    }
+}
@@ -0,0 +1,200 @@
+package com.organization.api.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link RefreshTokenStore}のテスト.
+ */
+class RefreshTokenStoreTest {
+
+    private static final long REFRESH_TOKEN_EXPIRATION = 604_800_000L;
+    private static final Instant EXPIRATION = Instant.now().plusSeconds(3600);
+
+    @TempDir
+    Path directory;
+
+    private static RefreshTokenStore newStore(String location) {
+        return newStore(new SimpleMeterRegistry(), location);
+    }
+
+    private static RefreshTokenStore newStore(SimpleMeterRegistry meterRegistry, String location) {
+        return newStore(meterRegistry, location, DataSize.ofKilobytes(64), 0.75);
+    }
+
+    private static RefreshTokenStore newStore(
+            SimpleMeterRegistry meterRegistry, String location, DataSize capacity, double compactionThreshold) {
+        return new RefreshTokenStore(
+                meterRegistry, location, capacity, compactionThreshold, REFRESH_TOKEN_EXPIRATION);
+    }
+
+    @Test
+    @DisplayName("未使用のトークンは1回だけローテーションできる")
+    void rotatesUnusedTokenOnce() {
+        RefreshTokenStore store = newStore("");
+        UUID tokenId = UUID.randomUUID();
+        UUID familyId = UUID.randomUUID();
+        store.issue(tokenId, familyId, EXPIRATION);
+
+        assertThat(store.rotate(tokenId, familyId)).isEqualTo(RefreshTokenStore.RotationResult.ROTATED);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("使用済みトークンの再使用はファミリー全体を失効させ、後続トークンも拒否する")
+    void revokesFamilyOnReuse() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RefreshTokenStore store = newStore(meterRegistry, "");
+        UUID familyId = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID rotated = UUID.randomUUID();
+        store.issue(first, familyId, EXPIRATION);
+        assertThat(store.rotate(first, familyId)).isEqualTo(RefreshTokenStore.RotationResult.ROTATED);
+        store.issue(rotated, familyId, EXPIRATION);
+
+        assertThat(store.rotate(first, familyId)).isEqualTo(RefreshTokenStore.RotationResult.REUSED);
+        assertThat(store.rotate(rotated, familyId)).isEqualTo(RefreshTokenStore.RotationResult.REVOKED);
+        assertThat(store.rotate(first, familyId)).isEqualTo(RefreshTokenStore.RotationResult.REVOKED);
+        assertThat(meterRegistry.get("jwt.refresh.reuse.detected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("失効したファミリーのトークンは未使用でも拒否し、他のファミリーには影響しない")
+    void rejectsSiblingOfRevokedFamily() {
+        RefreshTokenStore store = newStore("");
+        UUID familyId = UUID.randomUUID();
+        UUID sibling = UUID.randomUUID();
+        UUID otherFamilyId = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        store.issue(sibling, familyId, EXPIRATION);
+        store.issue(other, otherFamilyId, EXPIRATION);
+
+        store.revokeFamily(familyId);
+
+        assertThat(store.rotate(sibling, familyId)).isEqualTo(RefreshTokenStore.RotationResult.REVOKED);
+        assertThat(store.rotate(other, otherFamilyId)).isEqualTo(RefreshTokenStore.RotationResult.ROTATED);
+    }
+
+    @Test
+    @DisplayName("未登録のトークン、またはファミリーが一致しないトークンは未登録と判定する")
+    void rejectsUnknownToken() {
+        RefreshTokenStore store = newStore("");
+        UUID tokenId = UUID.randomUUID();
+        UUID familyId = UUID.randomUUID();
+        store.issue(tokenId, familyId, EXPIRATION);
+
+        assertThat(store.rotate(UUID.randomUUID(), familyId)).isEqualTo(RefreshTokenStore.RotationResult.UNKNOWN);
+        assertThat(store.rotate(tokenId, UUID.randomUUID())).isEqualTo(RefreshTokenStore.RotationResult.UNKNOWN);
+        assertThat(store.rotate(tokenId, familyId)).isEqualTo(RefreshTokenStore.RotationResult.ROTATED);
+    }
+
+    @Test
+    @DisplayName("再起動後もログから使用済み・ファミリー失効の状態を復元する")
+    void restoresStateFromLog() throws IOException {
+        String location = directory.resolve("refresh-tokens.log").toString();
+        UUID familyId = UUID.randomUUID();
+        UUID used = UUID.randomUUID();
+        UUID unused = UUID.randomUUID();
+        UUID revokedFamilyId = UUID.randomUUID();
+        UUID revoked = UUID.randomUUID();
+
+        RefreshTokenStore store = newStore(location);
+        store.issue(used, familyId, EXPIRATION);
+        store.issue(unused, familyId, EXPIRATION);
+        store.issue(revoked, revokedFamilyId, EXPIRATION);
+        assertThat(store.rotate(used, familyId)).isEqualTo(RefreshTokenStore.RotationResult.ROTATED);
+        store.revokeFamily(revokedFamilyId);
+        store.close();
+
+        RefreshTokenStore reopened = newStore(location);
+        try {
+            assertThat(reopened.size()).isEqualTo(3);
+            assertThat(reopened.rotate(revoked, revokedFamilyId))
+                    .isEqualTo(RefreshTokenStore.RotationResult.REVOKED);
+            assertThat(reopened.rotate(unused, familyId)).isEqualTo(RefreshTokenStore.RotationResult.ROTATED);
+            assertThat(reopened.rotate(used, familyId)).isEqualTo(RefreshTokenStore.RotationResult.REUSED);
+        } finally {
+            reopened.close();
+        }
+
+        // 再使用検知によるファミリー失効も記録される
+        RefreshTokenStore restarted = newStore(location);
+        try {
+            assertThat(restarted.rotate(unused, familyId)).isEqualTo(RefreshTokenStore.RotationResult.REVOKED);
+        } finally {
+            restarted.close();
+        }
+    }
+
+    @Test
+    @DisplayName("期限切れのトークンを削除し、使用率がしきい値以上のログをコンパクションする")
+    void purgesExpiredTokensAndCompactsLog() throws IOException {
+        String location = directory.resolve("refresh-tokens.log").toString();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UUID familyId = UUID.randomUUID();
+        UUID expired = UUID.randomUUID();
+        UUID used = UUID.randomUUID();
+        UUID revokedFamilyId = UUID.randomUUID();
+
+        RefreshTokenStore store = newStore(meterRegistry, location, DataSize.ofKilobytes(64), 0.0);
+        store.issue(expired, familyId, Instant.now().minusSeconds(1));
+        store.issue(used, familyId, EXPIRATION);
+        assertThat(store.rotate(used, familyId)).isEqualTo(RefreshTokenStore.RotationResult.ROTATED);
+        store.revokeFamily(revokedFamilyId);
+        store.revokeFamily(revokedFamilyId);
+
+        store.purgeExpired();
+        store.flush();
+        store.close();
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.refresh.tokens").gauge().value()).isEqualTo(1.0);
+        RefreshTokenStore reopened = newStore(location);
+        try {
+            assertThat(reopened.size()).isEqualTo(1);
+            assertThat(reopened.rotate(used, familyId)).isEqualTo(RefreshTokenStore.RotationResult.REUSED);
+            assertThat(reopened.rotate(UUID.randomUUID(), revokedFamilyId))
+                    .isEqualTo(RefreshTokenStore.RotationResult.REVOKED);
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    @DisplayName("ログが満杯の場合はコンパクションしてから追記する")
+    void compactsFullLogBeforeAppending() throws IOException {
+        String location = directory.resolve("refresh-tokens.log").toString();
+        // ヘッダー + 3レコード分
+        DataSize capacity = DataSize.ofBytes(16 + 3 * RefreshTokenLog.RECORD_SIZE);
+        UUID familyId = UUID.randomUUID();
+        UUID used = UUID.randomUUID();
+        UUID revokedFamilyId = UUID.randomUUID();
+
+        RefreshTokenStore store = newStore(new SimpleMeterRegistry(), location, capacity, 0.75);
+        store.issue(UUID.randomUUID(), familyId, Instant.now().minusSeconds(1));
+        store.issue(used, familyId, EXPIRATION);
+        assertThat(store.rotate(used, familyId)).isEqualTo(RefreshTokenStore.RotationResult.ROTATED);
+        // 4件目: 期限切れのレコードを除いてコンパクションした後に追記される
+        store.revokeFamily(revokedFamilyId);
+        store.close();
+
+        RefreshTokenStore reopened = newStore(new SimpleMeterRegistry(), location, capacity, 0.75);
+        try {
+            assertThat(reopened.rotate(used, familyId)).isEqualTo(RefreshTokenStore.RotationResult.REUSED);
+            assertThat(reopened.rotate(UUID.randomUUID(), revokedFamilyId))
+                    .isEqualTo(RefreshTokenStore.RotationResult.REVOKED);
+        } finally {
+            reopened.close();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.organization.api.security;
+
+import com.organization.api.config.RequestPathConfig;
+import com.organization.api.security.RequestPathClassifier.RequestClass;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** {@link RequestPathClassifier}のテスト. */
+class RequestPathClassifierTest {
+
+    private final RequestPathClassifier classifier = new RequestPathConfig().requestPathClassifier();
+
+    /**
+     * サーブレットコンテナと同様に、requestURIは未デコード、servletPathはデコード済みで作成.
+     */
+    private static MockHttpServletRequest request(String requestUri, String servletPath) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", requestUri);
+        request.setServletPath(servletPath);
+        return request;
+    }
+
+    @Test
+    @DisplayName("/**はベースパス自体とその配下すべてに一致する")
+    void subtreePatternMatchesBaseAndDescendants() {
+        assertThat(classifier.classify("/api/v1/auth")).isEqualTo(RequestClass.PUBLIC);
+        assertThat(classifier.classify("/api/v1/auth/login")).isEqualTo(RequestClass.PUBLIC);
+        assertThat(classifier.classify("/api/v1/auth/a/b/c")).isEqualTo(RequestClass.PUBLIC);
+        assertThat(classifier.classify("/api/v1/admin")).isEqualTo(RequestClass.ADMIN);
+        assertThat(classifier.classify("/api/v1/admin/tokens")).isEqualTo(RequestClass.ADMIN);
+    }
+
+    @Test
+    @DisplayName("/**はパスセグメントの途中には一致しない")
+    void subtreePatternRespectsSegmentBoundary() {
+        assertThat(classifier.classify("/api/v1/authors")).isEqualTo(RequestClass.AUTHENTICATED);
+        assertThat(classifier.classify("/api/v1/administrators")).isEqualTo(RequestClass.AUTHENTICATED);
+        assertThat(classifier.classify("/api/v1/au")).isEqualTo(RequestClass.AUTHENTICATED);
+        assertThat(classifier.classify("/api/v1")).isEqualTo(RequestClass.AUTHENTICATED);
+    }
+
+    @Test
+    @DisplayName("完全一致のパターンは配下のパスに一致しない")
+    void exactPatternDoesNotMatchDescendants() {
+        assertThat(classifier.classify("/actuator/health")).isEqualTo(RequestClass.PUBLIC);
+        assertThat(classifier.classify("/actuator/health/db")).isEqualTo(RequestClass.AUTHENTICATED);
+        assertThat(classifier.classify("/actuator/healthz")).isEqualTo(RequestClass.AUTHENTICATED);
+        assertThat(classifier.classify("/actuator/metrics")).isEqualTo(RequestClass.AUTHENTICATED);
+    }
+
+    @Test
+    @DisplayName("末尾のスラッシュ: /**の配下は一致し、完全一致のパターンは一致しない")
+    void trailingSlash() {
+        assertThat(classifier.classify("/api/v1/auth/")).isEqualTo(RequestClass.PUBLIC);
+        assertThat(classifier.classify("/api/v1/admin/")).isEqualTo(RequestClass.ADMIN);
+        assertThat(classifier.classify("/actuator/health/")).isEqualTo(RequestClass.AUTHENTICATED);
+        assertThat(classifier.classify("/")).isEqualTo(RequestClass.AUTHENTICATED);
+        assertThat(classifier.classify("")).isEqualTo(RequestClass.AUTHENTICATED);
+    }
+
+    @Test
+    @DisplayName("複数のパターンに一致する場合は最長一致を採用する")
+    void longestMatchWins() {
+        RequestPathClassifier nested = RequestPathClassifier.builder()
+                .permitAll("/api/**", "/api/v1/admin/status")
+                .admin("/api/v1/admin/**")
+                .build();
+
+        assertThat(nested.classify("/api/v1/users")).isEqualTo(RequestClass.PUBLIC);
+        assertThat(nested.classify("/api/v1/admin/tokens")).isEqualTo(RequestClass.ADMIN);
+        assertThat(nested.classify("/api/v1/admin/status")).isEqualTo(RequestClass.PUBLIC);
+        assertThat(nested.classify("/api/v1/admin/status/x")).isEqualTo(RequestClass.ADMIN);
+        assertThat(nested.classify("/apis")).isEqualTo(RequestClass.AUTHENTICATED);
+    }
+
+    @Test
+    @DisplayName("エンコードされたパスはデコード済みのservletPathで判定する")
+    void classifiesDecodedPath() {
+        assertThat(classifier.classify(request("/api/v1/%61dmin/tokens", "/api/v1/admin/tokens")))
+                .isEqualTo(RequestClass.ADMIN);
+        assertThat(classifier.classify(request("/api/v1/%61uth/login", "/api/v1/auth/login")))
+                .isEqualTo(RequestClass.PUBLIC);
+        // デコードされていないパスが渡されても公開・管理者パスとは判定しない
+        assertThat(classifier.classify("/api/v1/%61dmin/tokens")).isEqualTo(RequestClass.AUTHENTICATED);
+    }
+
+    @Test
+    @DisplayName("servletPathとpathInfoを連結して判定する")
+    void concatenatesServletPathAndPathInfo() {
+        MockHttpServletRequest request = request("/api/v1/admin/tokens", "/api");
+        request.setPathInfo("/v1/admin/tokens");
+
+        assertThat(RequestPathClassifier.pathWithinApplication(request)).isEqualTo("/api/v1/admin/tokens");
+        assertThat(classifier.classify(request)).isEqualTo(RequestClass.ADMIN);
+    }
+
+    @Test
+    @DisplayName("分類結果をリクエスト属性に保持し、同じリクエストでは再計算しない")
+    void cachesClassificationPerRequest() {
+        MockHttpServletRequest request = request("/api/v1/admin/tokens", "/api/v1/admin/tokens");
+
+        assertThat(classifier.classify(request)).isEqualTo(RequestClass.ADMIN);
+        assertThat(request.getAttribute(RequestPathClassifier.REQUEST_CLASS_ATTRIBUTE))
+                .isEqualTo(RequestClass.ADMIN);
+
+        request.setServletPath("/api/v1/auth/login");
+        assertThat(classifier.classify(request)).isEqualTo(RequestClass.ADMIN);
+    }
+
+    @Test
+    @DisplayName("エラーディスパッチでは保持した分類結果を使用しない")
+    void doesNotReuseClassificationOnErrorDispatch() {
+        MockHttpServletRequest request = request("/api/v1/admin/missing", "/api/v1/admin/missing");
+        assertThat(classifier.classify(request)).isEqualTo(RequestClass.ADMIN);
+
+        request.setDispatcherType(DispatcherType.ERROR);
+        request.setServletPath("/error");
+        assertThat(classifier.classify(request)).isEqualTo(RequestClass.PUBLIC);
+        assertThat(request.getAttribute(RequestPathClassifier.REQUEST_CLASS_ATTRIBUTE))
+                .isEqualTo(RequestClass.ADMIN);
+    }
+
+    @Test
+    @DisplayName("対応していないパターン・矛盾するパターンは拒否する")
+    void rejectsInvalidPatterns() {
+        assertThatThrownBy(() -> RequestPathClassifier.builder().permitAll("api/**"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RequestPathClassifier.builder().permitAll("/api/*/users"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RequestPathClassifier.builder().permitAll("/api/{id}"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RequestPathClassifier.builder().permitAll("/api/**").admin("/api/**"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package com.organization.api.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link TokenRevocationStore}のテスト.
+ */
+class TokenRevocationStoreTest {
+
+    private static final Instant FUTURE = Instant.now().plusSeconds(3600);
+
+    @Test
+    @DisplayName("失効させたトークンのみ失効済みと判定する")
+    void revokeAndCheck() {
+        TokenRevocationStore store = newStore(1000);
+
+        store.revoke("revoked", FUTURE);
+
+        assertThat(store.isRevoked("revoked")).isTrue();
+        assertThat(store.isRevoked("active")).isFalse();
+    }
+
+    @Test
+    @DisplayName("有効期限切れのエントリを削除し、有効なエントリは残す")
+    void purgeRemovesOnlyExpiredEntries() {
+        TokenRevocationStore store = newStore(1000);
+        store.revoke("expired", Instant.now().minusSeconds(1));
+        store.revoke("active", FUTURE);
+
+        store.purgeExpired();
+
+        assertThat(store.isRevoked("expired")).isFalse();
+        assertThat(store.isRevoked("active")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Bloomフィルターの再構築と並行して失効させたトークンも即時に失効済みと判定する")
+    void revokeRacingWithPurgeIsNeverMissed() throws Exception {
+        TokenRevocationStore store = newStore(1000);
+        for (int i = 0; i < 5_000; i++) {
+            store.revoke(UUID.randomUUID().toString(), FUTURE);
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> missed = new AtomicReference<>();
+        CountDownLatch started = new CountDownLatch(1);
+        List<String> revoked = new ArrayList<>();
+
+        Thread purger = new Thread(() -> {
+            started.countDown();
+            while (running.get()) {
+                // 毎回期限切れのエントリを追加し、再構築を発生させる
+                store.revoke(UUID.randomUUID().toString(), Instant.now().minusSeconds(1));
+                store.purgeExpired();
+            }
+        });
+        purger.start();
+        started.await();
+
+        try {
+            for (int i = 0; i < 20_000 && missed.get() == null; i++) {
+                String id = UUID.randomUUID().toString();
+                store.revoke(id, FUTURE);
+                revoked.add(id);
+                if (!store.isRevoked(id)) {
+                    missed.set(id);
+                }
+            }
+        } finally {
+            running.set(false);
+            purger.join();
+        }
+
+        assertThat(missed.get()).isNull();
+        store.purgeExpired();
+        assertThat(revoked).allMatch(store::isRevoked);
+    }
+
+    private static TokenRevocationStore newStore(int expectedEntries) {
+        return new TokenRevocationStore(new SimpleMeterRegistry(), expectedEntries, 0.01);
+    }
+}
@@ -0,0 +1,218 @@
+package com.organization.api.security;
+
+import com.organization.api.config.SecurityConfig;
+import com.organization.api.entity.User;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/** {@link UserPrincipal}と管理者判定（{@link RoleAuthorizationManager}・{@link AdminOnly}）のテスト. */
+class UserPrincipalTest {
+
+    /**
+     * 1リクエストあたりのアロケーション上限.
+     *
+     * <p>認証トークン・SecurityContextの設定を含めて約330バイト
+     * （{@code @PreAuthorize("hasRole('ADMIN')")}のSpEL評価では約2.8KB）。
+     */
+    private static final long MAX_BYTES_PER_REQUEST = 512;
+
+    private final RoleAuthorizationManager<Object> requestAuthorization =
+            new RoleAuthorizationManager<>(User.Role.ROLE_ADMIN);
+    private final MethodInterceptor adminOnlyInterceptor =
+            (MethodInterceptor) SecurityConfig.adminOnlyAuthorizationAdvisor();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("ROLE_接頭辞を含む権限名のみロールとして扱う")
+    void fromAuthorityRequiresExactRoleName() {
+        assertThat(User.Role.fromAuthority("ROLE_ADMIN")).isEqualTo(User.Role.ROLE_ADMIN);
+        assertThat(User.Role.fromAuthority("ROLE_SERVICE")).isEqualTo(User.Role.ROLE_SERVICE);
+        assertThat(User.Role.fromAuthority("ADMIN")).isNull();
+        assertThat(User.Role.fromAuthority("role_admin")).isNull();
+        assertThat(User.Role.fromAuthority("ROLE_ADMINISTRATOR")).isNull();
+        assertThat(User.Role.fromAuthority("ROLE_")).isNull();
+        assertThat(User.Role.fromAuthority(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("接頭辞のない権限では管理者と判定しない")
+    void unprefixedAuthorityIsNotAdmin() {
+        UserPrincipal principal = UserPrincipal.create(1L, "user@example.com", null, "ADMIN");
+
+        assertThat(principal.hasRole(User.Role.ROLE_ADMIN)).isFalse();
+        assertThat(principal.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ADMIN");
+        assertThat(User.Role.maskOf(List.of(new SimpleGrantedAuthority("ADMIN")))).isZero();
+    }
+
+    @Test
+    @DisplayName("ロールのビットマスクは権限から算出する")
+    void roleMaskIsDerivedFromAuthorities() {
+        UserPrincipal admin = new UserPrincipal(1L, "admin@example.com", null,
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN"), new SimpleGrantedAuthority("ROLE_USER")),
+                true, 0L);
+        UserPrincipal user = new UserPrincipal(2L, "user@example.com", null,
+                User.Role.ROLE_USER.getAuthorities(), true, 0L);
+
+        assertThat(admin.getRoleMask())
+                .isEqualTo(User.Role.ROLE_ADMIN.getMask() | User.Role.ROLE_USER.getMask());
+        assertThat(admin.hasRole(User.Role.ROLE_ADMIN)).isTrue();
+        assertThat(user.hasRole(User.Role.ROLE_ADMIN)).isFalse();
+        assertThat(user.hasRole(User.Role.ROLE_USER)).isTrue();
+    }
+
+    @Test
+    @DisplayName("ファクトリーメソッドのビットマスクは権限と一致する")
+    void factoryMethodsAgreeWithAuthorities() {
+        UserPrincipal fromUser = UserPrincipal.from(User.builder()
+                .id(1L).email("service@example.com").name("service").password("hashed")
+                .role(User.Role.ROLE_SERVICE).build());
+        UserPrincipal fromClaims = UserPrincipal.create(1L, "admin@example.com", null, "ROLE_ADMIN");
+        UserPrincipal fromList = UserPrincipal.create(1L, "admin@example.com", null,
+                List.of("ROLE_USER", "ROLE_ADMIN", "CUSTOM"));
+
+        for (UserPrincipal principal : List.of(fromUser, fromClaims, fromList)) {
+            assertThat(principal.getRoleMask()).isEqualTo(User.Role.maskOf(principal.getAuthorities()));
+        }
+        assertThat(fromUser.hasRole(User.Role.ROLE_SERVICE)).isTrue();
+        assertThat(fromList.hasRole(User.Role.ROLE_ADMIN)).isTrue();
+    }
+
+    @Test
+    @DisplayName("@AdminOnlyは管理者以外のアクセスを拒否する")
+    void adminOnlyRejectsNonAdmin() throws Throwable {
+        Invocation invocation = new Invocation();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                authenticate(UserPrincipal.create(1L, "user@example.com", null, "ROLE_USER")));
+        assertThatThrownBy(() -> adminOnlyInterceptor.invoke(invocation))
+                .isInstanceOf(AccessDeniedException.class);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                authenticate(UserPrincipal.create(1L, "admin@example.com", null, "ROLE_ADMIN")));
+        adminOnlyInterceptor.invoke(invocation);
+        assertThat(invocation.proceeded).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("プリンシパル生成と管理者判定（リクエスト・@AdminOnly）のアロケーションが上限以下")
+    void adminCheckAllocatesLittlePerRequest() throws Throwable {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+        Invocation invocation = new Invocation();
+
+        // JITコンパイル（エスケープ解析）が効くまでウォームアップ
+        for (int i = 0; i < 50_000; i++) {
+            simulateRequest(invocation);
+        }
+
+        int iterations = 100_000;
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            simulateRequest(invocation);
+        }
+        long perRequest = (threads.getThreadAllocatedBytes(threadId) - before) / iterations;
+
+        assertThat(perRequest).isLessThanOrEqualTo(MAX_BYTES_PER_REQUEST);
+    }
+
+    /**
+     * 管理者APIへの1リクエスト分の処理（クレームからのプリンシパル生成 → URL認可 → @AdminOnly認可）.
+     */
+    private void simulateRequest(Invocation invocation) throws Throwable {
+        UserPrincipal principal = UserPrincipal.create(1L, "admin@example.com", null, "ROLE_ADMIN");
+        Authentication authentication = authenticate(principal);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (!requestAuthorization.check(() -> authentication, null).isGranted()) {
+            throw new AssertionError("管理者と判定されませんでした");
+        }
+        adminOnlyInterceptor.invoke(invocation);
+    }
+
+    private static Authentication authenticate(UserPrincipal principal) {
+        return UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities());
+    }
+
+    /**
+     * {@link AdminOnly}メソッドの呼び出し.
+     */
+    static final class Invocation implements MethodInvocation {
+
+        private static final Object[] NO_ARGUMENTS = new Object[0];
+        private static final Method METHOD;
+
+        static {
+            try {
+                METHOD = Target.class.getMethod("adminOperation");
+            } catch (NoSuchMethodException ex) {
+                throw new ExceptionInInitializerError(ex);
+            }
+        }
+
+        private final Target target = new Target();
+        private int proceeded;
+
+        @Override
+        public Method getMethod() {
+            return METHOD;
+        }
+
+        @Override
+        public Object[] getArguments() {
+            return NO_ARGUMENTS;
+        }
+
+        @Override
+        public Object proceed() {
+            proceeded++;
+            return null;
+        }
+
+        @Override
+        public Object getThis() {
+            return target;
+        }
+
+        @Override
+        public AccessibleObject getStaticPart() {
+            return METHOD;
+        }
+    }
+
+    /**
+     * {@link AdminOnly}を付与した対象クラス.
+     */
+    public static class Target {
+
+        @AdminOnly
+        public void adminOperation() {
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.organization.api.security;
+
+import com.organization.api.event.UserSecurityChangedEvent;
+import com.organization.api.event.UserSecurityFilterChangedEvent;
+import com.organization.api.security.UserSecurityVersionRegistry.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link UserSecurityVersionRegistry}のテスト.
+ */
+class UserSecurityVersionRegistryTest {
+
+    private AnnotationConfigApplicationContext context;
+    private UserSecurityVersionRegistry registry;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(TestConfig.class);
+        registry = context.getBean(UserSecurityVersionRegistry.class);
+        transactionTemplate = new TransactionTemplate(
+                context.getBean(PlatformTransactionManager.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("コミットされた変更は古いトークンを失効させる")
+    void revokesAfterCommit() {
+        transactionTemplate.executeWithoutResult(status ->
+                context.publishEvent(new UserSecurityChangedEvent(1L, "a@example.com", 1L, false)));
+
+        assertThat(registry.check(1L, 0L, issuedNow())).isEqualTo(Status.REVOKED);
+        assertThat(registry.check(1L, 1L, issuedNow())).isEqualTo(Status.CURRENT);
+    }
+
+    @Test
+    @DisplayName("ロールバックされた変更は記録しない")
+    void ignoresRolledBackChange() {
+        transactionTemplate.executeWithoutResult(status -> {
+            context.publishEvent(new UserSecurityChangedEvent(1L, "a@example.com", 0L, true));
+            status.setRollbackOnly();
+        });
+
+        assertThat(registry.check(1L, 0L, issuedNow())).isEqualTo(Status.CURRENT);
+    }
+
+    @Test
+    @DisplayName("トランザクション外のイベントは即時反映する")
+    void appliesEventOutsideTransaction() {
+        context.publishEvent(new UserSecurityChangedEvent(1L, "a@example.com", 0L, true));
+
+        assertThat(registry.check(1L, 5L, issuedNow())).isEqualTo(Status.REVOKED);
+    }
+
+    @Test
+    @DisplayName("起動前に発行されたトークンは判定しない")
+    void returnsUnknownForTokensIssuedBeforeStartup() {
+        assertThat(registry.check(1L, 0L, Instant.EPOCH)).isEqualTo(Status.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("条件指定の一括操作のコミット前に発行されたトークンはデータベースで確認する")
+    void returnsUnknownForTokensIssuedBeforeFilterChange() {
+        Instant issuedAt = Instant.now();
+        assertThat(registry.check(1L, 0L, issuedAt.plusNanos(1))).isEqualTo(Status.CURRENT);
+
+        transactionTemplate.executeWithoutResult(status ->
+                context.publishEvent(new UserSecurityFilterChangedEvent(1)));
+
+        assertThat(registry.check(1L, 0L, issuedAt.plusNanos(1))).isEqualTo(Status.UNKNOWN);
+        assertThat(registry.check(1L, 0L, issuedNow())).isEqualTo(Status.CURRENT);
+    }
+
+    private static Instant issuedNow() {
+        return Instant.now().plusSeconds(1);
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class TestConfig {
+
+        @Bean
+        UserSecurityVersionRegistry userSecurityVersionRegistry() {
+            return new UserSecurityVersionRegistry();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new DataSourceTransactionManager(
+                    new DriverManagerDataSource("jdbc:h2:mem:registry-test", "sa", ""));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.organization.api.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link VerifiedTokenCache}のテスト.
+ */
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "dGVzdC1zZWNyZXQta2V5LWZvci11bml0LXRlc3RzLW9ubHktMzItYnl0ZXM=";
+
+    private JwtKeyRing keyRing;
+    private VerifiedTokenCache cache;
+    private AtomicInteger verifications;
+    private Function<String, VerifiedToken> verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        keyRing = new JwtKeyRing(JwtSigningAlgorithm.HS256, SECRET, "", "", "");
+        cache = new VerifiedTokenCache(keyRing, new SimpleMeterRegistry(), true, 100);
+        verifications = new AtomicInteger();
+        verifier = token -> {
+            verifications.incrementAndGet();
+            return new VerifiedToken(token, token, Instant.now(),
+                    Instant.now().plusSeconds(60), Map.of());
+        };
+    }
+
+    @Test
+    @DisplayName("同一トークンの2回目以降は検証を省略する")
+    void returnsCachedResultForSameToken() {
+        VerifiedToken first = cache.get("a.b.c", verifier);
+        VerifiedToken second = cache.get("a.b.c", verifier);
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("非ASCII文字だけが異なるトークンは別のキャッシュエントリになる")
+    void distinguishesNonAsciiTokens() {
+        VerifiedToken first = cache.get("a.b.あ", verifier);
+        VerifiedToken second = cache.get("a.b.い", verifier);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getSubject()).isEqualTo("a.b.い");
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("キーリング更新後は旧キーセットのエントリを使用しない")
+    void reverifiesAfterKeyRotation() {
+        cache.get("a.b.c", verifier);
+        keyRing.rotate(JwtKeyRing.DEFAULT_KEY_ID, Map.of(JwtKeyRing.DEFAULT_KEY_ID,
+                new JwtKeyRing.KeyDefinition(JwtSigningAlgorithm.HS256, SECRET, SECRET)));
+
+        cache.get("a.b.c", verifier);
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("エントリはキャッシュの時計でトークンの有効期限を過ぎると再検証する")
+    void expiresEntryAtTokenExpiration() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        VerifiedTokenCache expiring = new VerifiedTokenCache(keyRing, new SimpleMeterRegistry(), true, 100, clock);
+        Function<String, VerifiedToken> clockVerifier = token -> {
+            verifications.incrementAndGet();
+            return new VerifiedToken(token, token, clock.instant(),
+                    clock.instant().plusSeconds(60), Map.of());
+        };
+
+        expiring.get("a.b.c", clockVerifier);
+        clock.advance(Duration.ofSeconds(59));
+        expiring.get("a.b.c", clockVerifier);
+        assertThat(verifications).hasValue(1);
+
+        clock.advance(Duration.ofSeconds(1));
+        expiring.get("a.b.c", clockVerifier);
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("キャッシュの時計で有効期限切れのトークンは格納しない")
+    void doesNotKeepAlreadyExpiredToken() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        VerifiedTokenCache expiring = new VerifiedTokenCache(keyRing, new SimpleMeterRegistry(), true, 100, clock);
+        Function<String, VerifiedToken> expiredVerifier = token -> {
+            verifications.incrementAndGet();
+            return new VerifiedToken(token, token, clock.instant().minusSeconds(120),
+                    clock.instant().minusSeconds(60), Map.of());
+        };
+
+        expiring.get("a.b.c", expiredVerifier);
+        expiring.get("a.b.c", expiredVerifier);
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("nullまたは空のトークンはIllegalArgumentException")
+    void rejectsNullOrEmptyToken() {
+        assertThatThrownBy(() -> cache.get(null, verifier))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> cache.get("", verifier))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(verifications).hasValue(0);
+    }
+
+    /**
+     * テスト用の進められる時計.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
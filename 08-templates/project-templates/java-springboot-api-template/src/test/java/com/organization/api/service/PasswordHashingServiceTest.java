@@ -0,0 +1,88 @@
+package com.organization.api.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link PasswordHashingService}のテスト.
+ */
+class PasswordHashingServiceTest {
+
+    private final CountDownLatch batchStarted = new CountDownLatch(2);
+    private final CountDownLatch releaseBatch = new CountDownLatch(1);
+    private PasswordHashingService passwordHashingService;
+
+    @AfterEach
+    void tearDown() {
+        releaseBatch.countDown();
+        if (passwordHashingService != null) {
+            passwordHashingService.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("一括ハッシュ化の実行中も個別のハッシュ化要求を受け付ける")
+    void encode_acceptedWhileEncodeAllInProgress() throws Exception {
+        // スレッド1・待機キュー2件: 一括処理の投入上限は1件
+        passwordHashingService = new PasswordHashingService(
+                blockingEncoder(), new SimpleMeterRegistry(), 1, 2, Duration.ofSeconds(1));
+
+        CompletableFuture<List<String>> batch = CompletableFuture.supplyAsync(() ->
+                passwordHashingService.encodeAll(List.of("batch-1", "batch-2", "batch-3", "batch-4")));
+        // プールと呼び出し元スレッドの両方で一括処理のハッシュ化が進行中
+        assertThat(batchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> single = passwordHashingService.encode("single");
+
+        releaseBatch.countDown();
+        assertThat(single.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:single");
+        assertThat(batch.get(5, TimeUnit.SECONDS))
+                .containsExactly("hashed:batch-1", "hashed:batch-2", "hashed:batch-3", "hashed:batch-4");
+    }
+
+    @Test
+    @DisplayName("待機キューの半分が0件の場合は一括処理を全て呼び出し元スレッドでハッシュ化する")
+    void encodeAll_runsOnCallerThreadWhenNoBatchCapacity() {
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.encode(any())).thenAnswer(invocation -> Thread.currentThread().getName());
+        passwordHashingService = new PasswordHashingService(
+                encoder, new SimpleMeterRegistry(), 1, 1, Duration.ofSeconds(1));
+
+        List<String> hashes = passwordHashingService.encodeAll(List.of("a", "b"));
+
+        String caller = Thread.currentThread().getName();
+        assertThat(hashes).containsExactly(caller, caller);
+    }
+
+    /**
+     * 一括処理のパスワードは解放されるまでハッシュ化を待機するエンコーダー.
+     *
+     * @return パスワードエンコーダー
+     */
+    private PasswordEncoder blockingEncoder() {
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.encode(any())).thenAnswer(invocation -> {
+            String rawPassword = invocation.getArgument(0).toString();
+            if (rawPassword.startsWith("batch")) {
+                batchStarted.countDown();
+                releaseBatch.await(5, TimeUnit.SECONDS);
+            }
+            return "hashed:" + rawPassword;
+        });
+        return encoder;
+    }
+}
@@ -0,0 +1,84 @@
+package com.organization.api.service;
+
+import com.organization.api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * {@link RegisteredEmailFilter}のテスト.
+ */
+@ExtendWith(MockitoExtension.class)
+class RegisteredEmailFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+        lenient().when(userRepository.count()).thenReturn(2L);
+        lenient().when(userRepository.streamAllEmails())
+                .thenAnswer(invocation -> Stream.of("user1@example.com", "User2@Example.com"));
+    }
+
+    @Test
+    @DisplayName("登録済み・追加したメールアドレスは大文字小文字によらず登録済みの可能性ありと判定する")
+    void containsLoadedAndAddedEmails() {
+        RegisteredEmailFilter filter = new RegisteredEmailFilter(userRepository, transactionTemplate, true, 1000, 0.01);
+        filter.load();
+        filter.add("new@example.com");
+
+        assertThat(filter.mightBeRegistered("user1@example.com")).isTrue();
+        assertThat(filter.mightBeRegistered("user2@example.com")).isTrue();
+        assertThat(filter.mightBeRegistered("NEW@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("未登録のメールアドレスの偽陽性率は想定件数までおおむね設定値以下に収まる")
+    void keepsFalsePositiveRate() {
+        RegisteredEmailFilter filter = new RegisteredEmailFilter(userRepository, transactionTemplate, true, 1000, 0.01);
+        filter.load();
+        filter.addAll(IntStream.range(0, 1000).mapToObj(i -> "added" + i + "@example.com").toList());
+
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightBeRegistered("unknown" + i + "@example.com"))
+                .count();
+
+        assertThat(falsePositives).isLessThan(200);
+    }
+
+    @Test
+    @DisplayName("無効化時・構築前は常に未判定（false）とし、データベースを参照しない")
+    void answersFalseWhenDisabledOrNotLoaded() {
+        RegisteredEmailFilter disabled = new RegisteredEmailFilter(userRepository, transactionTemplate, false, 1000, 0.01);
+        disabled.load();
+        disabled.addAll(List.of("user1@example.com"));
+        RegisteredEmailFilter notLoaded = new RegisteredEmailFilter(userRepository, transactionTemplate, true, 1000, 0.01);
+        notLoaded.add("user1@example.com");
+
+        assertThat(disabled.mightBeRegistered("user1@example.com")).isFalse();
+        assertThat(notLoaded.mightBeRegistered("user1@example.com")).isFalse();
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -0,0 +1,212 @@
+package com.organization.api.service;
+
+import com.organization.api.dto.CreateUserRequest;
+import com.organization.api.dto.UserBatchResponse;
+import com.organization.api.entity.User;
+import com.organization.api.exception.DuplicateResourceException;
+import com.organization.api.exception.InvalidRequestException;
+import com.organization.api.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link UserBatchService}のテスト.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserBatchServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    private PasswordEncoder encoder;
+    private ValidatorFactory validatorFactory;
+    private PasswordHashingService passwordHashingService;
+    private UserBatchService userBatchService;
+    private final List<List<User>> savedChunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        encoder = mock(PasswordEncoder.class);
+        lenient().when(encoder.encode(any())).thenAnswer(invocation -> "hashed:" + invocation.getArgument(0));
+        // 待機キュー1件: 一括処理では溢れた分を呼び出し元スレッドでハッシュ化する
+        passwordHashingService = new PasswordHashingService(
+                encoder, new SimpleMeterRegistry(), 1, 1, Duration.ofSeconds(1));
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        userBatchService = new UserBatchService(userRepository, passwordHashingService,
+                transactionTemplate, registeredEmailFilter, entityManager, validatorFactory.getValidator());
+        ReflectionTestUtils.setField(userBatchService, "chunkSize", 2);
+
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(userRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            savedChunks.add(new ArrayList<>(invocation.<List<User>>getArgument(0)));
+            return invocation.getArgument(0);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.shutdown();
+        validatorFactory.close();
+    }
+
+    private static CreateUserRequest request(int i) {
+        return CreateUserRequest.builder()
+                .email("user" + i + "@example.com")
+                .name("User " + i)
+                .password("password-" + i)
+                .build();
+    }
+
+    private static Iterator<CreateUserRequest> requests(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(UserBatchServiceTest::request).iterator();
+    }
+
+    @Test
+    @DisplayName("チャンクサイズごとに1トランザクションで保存し、永続化コンテキストをクリアする")
+    void savesInChunks() {
+        UserBatchResponse response = userBatchService.createUsers(requests(5));
+
+        assertThat(response.getCreated()).isEqualTo(5);
+        assertThat(savedChunks).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(savedChunks.get(2).get(0).getPassword()).isEqualTo("hashed:password-5");
+        assertThat(savedChunks.get(2).get(0).getRole()).isEqualTo(User.Role.ROLE_USER);
+        verify(transactionTemplate, times(3)).executeWithoutResult(any());
+        verify(entityManager, times(3)).clear();
+        verify(registeredEmailFilter, times(3)).addAll(anyList());
+    }
+
+    @Test
+    @DisplayName("検証エラーは件数と作成済み件数を含むInvalidRequestExceptionで中止する")
+    void stopsOnValidationError() {
+        List<CreateUserRequest> requests = new ArrayList<>(List.of(request(1), request(2), request(3)));
+        requests.get(2).setEmail("not-an-email");
+
+        assertThatThrownBy(() -> userBatchService.createUsers(requests.iterator()))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("3件目")
+                .hasMessageContaining("email")
+                .hasMessageContaining("2件作成済み");
+        assertThat(savedChunks).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("メールアドレスの重複はチャンクの範囲を含むDuplicateResourceExceptionで中止する")
+    void stopsOnDuplicateEmail() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).doThrow(constraintViolation(User.EMAIL_NORMALIZED_CONSTRAINT))
+                .when(transactionTemplate).executeWithoutResult(any());
+
+        assertThatThrownBy(() -> userBatchService.createUsers(requests(4)))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessageContaining("3〜4件目")
+                .hasMessageContaining("2件作成済み");
+    }
+
+    @Test
+    @DisplayName("メールアドレス以外の制約違反は重複とせずにそのままスローする")
+    void rethrowsOtherConstraintViolations() {
+        doThrow(constraintViolation("users_role_check"))
+                .when(transactionTemplate).executeWithoutResult(any());
+
+        assertThatThrownBy(() -> userBatchService.createUsers(requests(2)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        verify(registeredEmailFilter, never()).addAll(any());
+    }
+
+    private static DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("constraint violation",
+                new ConstraintViolationException("constraint violation", new SQLException(), constraintName));
+    }
+
+    @Test
+    @DisplayName("チャンク内で大文字小文字のみ異なるメールアドレスはハッシュ化の前に中止する")
+    void stopsOnDuplicateEmailInChunkBeforeHashing() {
+        List<CreateUserRequest> requests = new ArrayList<>(List.of(request(1), request(2), request(3), request(4)));
+        requests.get(3).setEmail("USER3@example.com");
+
+        assertThatThrownBy(() -> userBatchService.createUsers(requests.iterator()))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessageContaining("4件目")
+                .hasMessageContaining("3件目と重複")
+                .hasMessageContaining("2件作成済み");
+        assertThat(savedChunks).hasSize(1);
+        verify(encoder, never()).encode("password-3");
+    }
+
+    @Test
+    @DisplayName("登録済みのメールアドレスはハッシュ化の前に中止する")
+    void stopsOnRegisteredEmailBeforeHashing() {
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of("user2@example.com"));
+
+        assertThatThrownBy(() -> userBatchService.createUsers(requests(2)))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessageContaining("2件目")
+                .hasMessageContaining("登録済み")
+                .hasMessageContaining("0件作成済み");
+        verify(encoder, never()).encode(any());
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("リクエストの読み込みエラーはInvalidRequestExceptionに変換する")
+    @SuppressWarnings("unchecked")
+    void stopsOnUnreadableRequest() {
+        Iterator<CreateUserRequest> broken = mock(Iterator.class);
+        doThrow(new RuntimeException("Unexpected character")).when(broken).hasNext();
+
+        assertThatThrownBy(() -> userBatchService.createUsers(broken))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("1件目");
+    }
+}
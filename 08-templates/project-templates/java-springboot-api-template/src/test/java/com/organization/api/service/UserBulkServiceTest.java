@@ -0,0 +1,213 @@
+package com.organization.api.service;
+
+import com.organization.api.dto.BulkUserRequest;
+import com.organization.api.dto.BulkUserResponse;
+import com.organization.api.entity.User;
+import com.organization.api.event.UserSecurityChangedBatchEvent;
+import com.organization.api.event.UserSecurityChangedEvent;
+import com.organization.api.event.UserSecurityFilterChangedEvent;
+import com.organization.api.exception.InvalidRequestException;
+import com.organization.api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link UserBulkService}のテスト.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserBulkServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private static final Long ADMIN_ID = 1_000_000L;
+
+    private UserBulkService userBulkService;
+
+    @BeforeEach
+    void setUp() {
+        userBulkService = new UserBulkService(userRepository, eventPublisher);
+        lenient().when(userRepository.countByRoleAndEnabled(User.Role.ROLE_ADMIN, true)).thenReturn(1L);
+    }
+
+    private static UserRepository.SecurityKey key(Long id) {
+        return new UserRepository.SecurityKey() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getEmail() {
+                return "user" + id + "@example.com";
+            }
+
+            @Override
+            public Long getSecurityVersion() {
+                return 1L;
+            }
+        };
+    }
+
+    private static List<UserRepository.SecurityKey> keys(Long... ids) {
+        return Stream.of(ids).map(UserBulkServiceTest::key).toList();
+    }
+
+    @Test
+    @DisplayName("条件指定はIDを取得せずに1つのUPDATEで実行し、条件指定の無効化イベントを1回だけ発行する")
+    void disablesByFilterInOneStatement() {
+        when(userRepository.updateEnabledByFilter(eq(User.Role.ROLE_SERVICE), isNull(), eq(ADMIN_ID), eq(false), any()))
+                .thenReturn(5000);
+
+        BulkUserResponse response = userBulkService.setEnabled(BulkUserRequest.builder()
+                .filter(BulkUserRequest.Filter.builder().role(User.Role.ROLE_SERVICE).build())
+                .build(), false, ADMIN_ID);
+
+        assertThat(response.getAffected()).isEqualTo(5000);
+        InOrder order = inOrder(userRepository);
+        order.verify(userRepository).lockEnabledIdsByRole(User.Role.ROLE_ADMIN);
+        order.verify(userRepository).updateEnabledByFilter(any(), any(), any(), eq(false), any());
+        order.verify(userRepository).countByRoleAndEnabled(User.Role.ROLE_ADMIN, true);
+        ArgumentCaptor<UserSecurityFilterChangedEvent> event = ArgumentCaptor.forClass(UserSecurityFilterChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getAffected()).isEqualTo(5000);
+    }
+
+    @Test
+    @DisplayName("条件指定の削除は実行した管理者自身を除外する1つのDELETEで実行する")
+    void deletesByFilterExcludingCallingAdmin() {
+        when(userRepository.deleteByFilter(User.Role.ROLE_ADMIN, null, ADMIN_ID)).thenReturn(1);
+
+        BulkUserResponse response = userBulkService.deleteUsers(BulkUserRequest.builder()
+                .filter(BulkUserRequest.Filter.builder().role(User.Role.ROLE_ADMIN).build()).build(), ADMIN_ID);
+
+        assertThat(response.getAffected()).isEqualTo(1);
+        verify(userRepository, never()).findSecurityKeys(anyCollection());
+        verify(eventPublisher).publishEvent(any(UserSecurityFilterChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("削除は削除前に取得したメールアドレスで無効化イベントを発行する")
+    void deletesByIds() {
+        when(userRepository.findSecurityKeys(List.of(1L, 2L))).thenReturn(keys(1L, 2L));
+        when(userRepository.deleteAllByIdIn(List.of(1L, 2L))).thenReturn(2);
+
+        BulkUserResponse response = userBulkService.deleteUsers(
+                BulkUserRequest.builder().ids(List.of(1L, 2L, 2L)).build(), ADMIN_ID);
+
+        assertThat(response.getAffected()).isEqualTo(2);
+        ArgumentCaptor<UserSecurityChangedBatchEvent> event = ArgumentCaptor.forClass(UserSecurityChangedBatchEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getChanges())
+                .extracting(UserSecurityChangedEvent::getEmail)
+                .containsExactly("user1@example.com", "user2@example.com");
+        assertThat(event.getValue().getChanges()).allMatch(UserSecurityChangedEvent::isDeleted);
+    }
+
+    @Test
+    @DisplayName("状態が変わったユーザーのみ更新し、ロック時に取得したバージョン+1で無効化イベントを発行する")
+    void publishesOnlyChangedUsers() {
+        when(userRepository.lockSecurityKeysWithEnabledNot(List.of(1L, 2L, 3L), false)).thenReturn(keys(1L, 3L));
+        when(userRepository.updateEnabled(eq(List.of(1L, 3L)), eq(false), any())).thenReturn(2);
+
+        BulkUserResponse response = userBulkService.setEnabled(BulkUserRequest.builder()
+                .ids(List.of(1L, 2L, 3L)).build(), false, ADMIN_ID);
+
+        assertThat(response.getAffected()).isEqualTo(2);
+        verify(userRepository, never()).findSecurityKeys(anyCollection());
+        ArgumentCaptor<UserSecurityChangedBatchEvent> event = ArgumentCaptor.forClass(UserSecurityChangedBatchEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getChanges())
+                .extracting(UserSecurityChangedEvent::getUserId, UserSecurityChangedEvent::getSecurityVersion)
+                .containsExactly(tuple(1L, 2L), tuple(3L, 2L));
+    }
+
+    @Test
+    @DisplayName("更新対象がない場合は更新せず、イベントを発行しない")
+    void publishesNothingWhenUnchanged() {
+        when(userRepository.lockSecurityKeysWithRoleNot(List.of(1L), User.Role.ROLE_ADMIN)).thenReturn(List.of());
+
+        BulkUserResponse response = userBulkService.changeRole(BulkUserRequest.builder()
+                .ids(List.of(1L)).role(User.Role.ROLE_ADMIN).build(), ADMIN_ID);
+
+        assertThat(response.getAffected()).isZero();
+        verify(userRepository, never()).updateRole(anyCollection(), any(), any());
+        verify(userRepository, never()).lockEnabledIdsByRole(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("有効な管理者がいなくなる無効化・ロール変更・削除は拒否する（ロールバック）")
+    void rejectsRemovingLastEnabledAdmin() {
+        when(userRepository.countByRoleAndEnabled(User.Role.ROLE_ADMIN, true)).thenReturn(0L);
+        BulkUserRequest filter = BulkUserRequest.builder().role(User.Role.ROLE_USER)
+                .filter(BulkUserRequest.Filter.builder().role(User.Role.ROLE_ADMIN).build()).build();
+
+        assertThatThrownBy(() -> userBulkService.setEnabled(filter, false, ADMIN_ID))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> userBulkService.changeRole(filter, ADMIN_ID))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> userBulkService.deleteUsers(filter, ADMIN_ID))
+                .isInstanceOf(InvalidRequestException.class);
+        verify(userRepository, times(3)).lockEnabledIdsByRole(User.Role.ROLE_ADMIN);
+    }
+
+    @Test
+    @DisplayName("ID指定に実行した管理者自身が含まれる場合は無効化・ロール変更・削除を拒否する")
+    void rejectsCallingAdminInIds() {
+        BulkUserRequest request = BulkUserRequest.builder()
+                .ids(List.of(1L, ADMIN_ID)).role(User.Role.ROLE_USER).build();
+
+        assertThatThrownBy(() -> userBulkService.setEnabled(request, false, ADMIN_ID))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> userBulkService.changeRole(request, ADMIN_ID))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> userBulkService.deleteUsers(request, ADMIN_ID))
+                .isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("対象の指定が不正な場合はInvalidRequestExceptionとする")
+    void rejectsInvalidTargets() {
+        assertThatThrownBy(() -> userBulkService.setEnabled(BulkUserRequest.builder().build(), false, ADMIN_ID))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> userBulkService.setEnabled(BulkUserRequest.builder()
+                .ids(List.of(1L)).filter(BulkUserRequest.Filter.builder().enabled(true).build()).build(), false, ADMIN_ID))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> userBulkService.deleteUsers(BulkUserRequest.builder()
+                .filter(new BulkUserRequest.Filter()).build(), ADMIN_ID))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> userBulkService.changeRole(BulkUserRequest.builder().ids(List.of(1L)).build(), ADMIN_ID))
+                .isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(userRepository);
+    }
+}
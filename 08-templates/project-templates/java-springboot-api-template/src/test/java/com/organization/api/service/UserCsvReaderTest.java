@@ -0,0 +1,89 @@
+package com.organization.api.service;
+
+import com.organization.api.dto.CreateUserRequest;
+import com.organization.api.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link UserCsvReader}のテスト.
+ */
+class UserCsvReaderTest {
+
+    @TempDir
+    private Path directory;
+
+    private Path csv(String content) throws IOException {
+        return Files.writeString(directory.resolve("users.csv"), content, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("ヘッダーの列順に従ってクォート・改行を含むレコードを読み込む")
+    void readsQuotedRecords() throws IOException {
+        Path file = csv("﻿Name,EMAIL,password,role\r\n"
+                + "\"Yamada, Taro\",taro@example.com,\"pa\"\"ss\nword\",ROLE_ADMIN\r\n"
+                + "\n"
+                + "Hanako,hanako@example.com,password123,\n");
+
+        try (UserCsvReader reader = UserCsvReader.open(file)) {
+            CreateUserRequest first = reader.toRequest(reader.next());
+            assertThat(first.getName()).isEqualTo("Yamada, Taro");
+            assertThat(first.getEmail()).isEqualTo("taro@example.com");
+            assertThat(first.getPassword()).isEqualTo("pa\"ss\nword");
+            assertThat(first.getRole()).isEqualTo(User.Role.ROLE_ADMIN);
+
+            CreateUserRequest second = reader.toRequest(reader.next());
+            assertThat(second.getEmail()).isEqualTo("hanako@example.com");
+            assertThat(second.getRole()).isEqualTo(User.Role.ROLE_USER);
+
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("必須列がないヘッダーはIllegalArgumentExceptionとする")
+    void rejectsMissingColumn() throws IOException {
+        Path file = csv("email,name\nuser@example.com,User\n");
+
+        assertThatThrownBy(() -> UserCsvReader.open(file))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("password");
+    }
+
+    @Test
+    @DisplayName("列数・ロールが不正な行はIllegalArgumentExceptionとする")
+    void rejectsInvalidRecord() throws IOException {
+        Path file = csv("email,name,password,role\na@example.com,A\nb@example.com,B,password123,ROLE_ROOT\n");
+
+        try (UserCsvReader reader = UserCsvReader.open(file)) {
+            List<String> shortRecord = reader.next();
+            assertThatThrownBy(() -> reader.toRequest(shortRecord))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("列数");
+            List<String> badRole = reader.next();
+            assertThatThrownBy(() -> reader.toRequest(badRole))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("ROLE_ROOT");
+        }
+    }
+
+    @Test
+    @DisplayName("閉じられていないクォートはIOExceptionとする")
+    void rejectsUnterminatedQuote() throws IOException {
+        Path file = csv("email,name,password\n\"a@example.com,A,password123\n");
+
+        try (UserCsvReader reader = UserCsvReader.open(file)) {
+            assertThatThrownBy(reader::next).isInstanceOf(IOException.class);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.organization.api.service;
+
+import com.organization.api.event.UserSecurityChangedBatchEvent;
+import com.organization.api.event.UserSecurityChangedEvent;
+import com.organization.api.event.UserSecurityFilterChangedEvent;
+import com.organization.api.security.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link UserDetailsCache}のテスト.
+ */
+class UserDetailsCacheTest {
+
+    private AnnotationConfigApplicationContext context;
+    private UserDetailsCache cache;
+    private MeterRegistry meterRegistry;
+    private TransactionTemplate transactionTemplate;
+    private AtomicInteger loads;
+    private Function<String, UserPrincipal> loader;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(TestConfig.class);
+        cache = context.getBean(UserDetailsCache.class);
+        meterRegistry = context.getBean(MeterRegistry.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        loads = new AtomicInteger();
+        loader = username -> {
+            loads.incrementAndGet();
+            return UserPrincipal.create(1L, username, "hash", "ROLE_USER");
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("セキュリティ状態変更イベントはコミット後にエントリを破棄する")
+    void evictsAfterCommit() {
+        cache.get("user@example.com", loader);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            context.publishEvent(new UserSecurityChangedEvent(1L, "user@example.com", 1L, false));
+            // コミット前は破棄しない（コミット前の状態を再キャッシュしない）
+            cache.get("user@example.com", loader);
+            assertThat(loads).hasValue(1);
+        });
+
+        cache.get("user@example.com", loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("ロールバックされた変更ではエントリを破棄しない")
+    void keepsEntryOnRollback() {
+        cache.get("user@example.com", loader);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            context.publishEvent(new UserSecurityChangedEvent(1L, "user@example.com", 1L, true));
+            status.setRollbackOnly();
+        });
+
+        cache.get("user@example.com", loader);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("一括操作のイベントは対象ユーザーのエントリをすべて破棄する")
+    void evictsAllKeysOfBatchEvent() {
+        cache.get("a@example.com", loader);
+        cache.get("b@example.com", loader);
+        cache.get("c@example.com", loader);
+
+        transactionTemplate.executeWithoutResult(status ->
+                context.publishEvent(new UserSecurityChangedBatchEvent(List.of(
+                        new UserSecurityChangedEvent(1L, "A@example.com", 1L, false),
+                        new UserSecurityChangedEvent(2L, "b@example.com", 0L, true)))));
+
+        cache.get("a@example.com", loader);
+        cache.get("b@example.com", loader);
+        cache.get("c@example.com", loader);
+        assertThat(loads).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("条件指定の一括操作のイベントはコミット後に全エントリを破棄する")
+    void evictsEverythingOnFilterEvent() {
+        cache.get("a@example.com", loader);
+        cache.get("b@example.com", loader);
+
+        transactionTemplate.executeWithoutResult(status ->
+                context.publishEvent(new UserSecurityFilterChangedEvent(1)));
+
+        cache.get("a@example.com", loader);
+        cache.get("b@example.com", loader);
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("大文字小文字のみ異なるユーザー名は同じエントリを共有する")
+    void sharesEntryIgnoringCase() {
+        cache.get("User@Example.com", loader);
+        cache.get("user@example.com", loader);
+        cache.get(" USER@EXAMPLE.COM ", loader);
+        assertThat(loads).hasValue(1);
+
+        cache.evict("uSeR@example.com");
+        cache.get("user@example.com", loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("取得処理の例外はキャッシュせず、次回は再取得する")
+    void doesNotCacheLoaderFailure() {
+        assertThatThrownBy(() -> cache.get("missing@example.com", username -> {
+            loads.incrementAndGet();
+            throw new UsernameNotFoundException(username);
+        })).isInstanceOf(UsernameNotFoundException.class);
+
+        UserPrincipal loaded = cache.get("missing@example.com", loader);
+
+        assertThat(loaded.getUsername()).isEqualTo("missing@example.com");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("ヒット・ミス件数とデータベース取得時間をメトリクスに記録する")
+    void registersMetrics() {
+        cache.get("user@example.com", loader);
+        cache.get("user@example.com", loader);
+        cache.get("user@example.com", loader);
+
+        assertThat(meterRegistry.get("cache.gets")
+                .tags("cache", UserDetailsCache.CACHE_NAME, "result", "hit")
+                .functionCounter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("cache.gets")
+                .tags("cache", UserDetailsCache.CACHE_NAME, "result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("auth.user.load").timer().count()).isEqualTo(1L);
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    static class TestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        UserDetailsCache userDetailsCache(MeterRegistry meterRegistry) {
+            return new UserDetailsCache(meterRegistry, true, 100, Duration.ofMinutes(1));
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new DataSourceTransactionManager(
+                    new DriverManagerDataSource("jdbc:h2:mem:user-details-cache-test", "sa", ""));
+        }
+    }
+}
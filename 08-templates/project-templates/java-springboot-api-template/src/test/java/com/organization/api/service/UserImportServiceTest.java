@@ -0,0 +1,302 @@
+package com.organization.api.service;
+
+import com.organization.api.entity.User;
+import com.organization.api.entity.UserImportError;
+import com.organization.api.entity.UserImportJob;
+import com.organization.api.exception.InvalidRequestException;
+import com.organization.api.repository.UserImportErrorRepository;
+import com.organization.api.repository.UserImportJobRepository;
+import com.organization.api.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link UserImportService}のテスト.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+    private static final long JOB_ID = 1L;
+
+    @Mock
+    private UserImportJobRepository jobRepository;
+
+    @Mock
+    private UserImportErrorRepository errorRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @TempDir
+    private Path location;
+
+    private PasswordEncoder encoder;
+    private ValidatorFactory validatorFactory;
+    private PasswordHashingService passwordHashingService;
+    private UserImportService userImportService;
+    private final List<List<User>> savedChunks = new ArrayList<>();
+    private final List<UserImportError> savedErrors = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        encoder = mock(PasswordEncoder.class);
+        lenient().when(encoder.encode(any())).thenAnswer(invocation -> "hashed:" + invocation.getArgument(0));
+        passwordHashingService = new PasswordHashingService(
+                encoder, new SimpleMeterRegistry(), 1, 1, Duration.ofSeconds(1));
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        userImportService = new UserImportService(jobRepository, errorRepository, userRepository,
+                passwordHashingService, transactionTemplate, registeredEmailFilter, validatorFactory.getValidator(),
+                location.toString(), 2, DataSize.ofKilobytes(1));
+
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        lenient().when(userRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            savedChunks.add(new ArrayList<>(invocation.<List<User>>getArgument(0)));
+            return invocation.getArgument(0);
+        });
+        lenient().when(errorRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            savedErrors.addAll(invocation.<List<UserImportError>>getArgument(0));
+            return invocation.getArgument(0);
+        });
+        lenient().when(userRepository.findExistingEmails(anyCollection())).thenAnswer(invocation ->
+                savedChunks.stream().flatMap(List::stream).map(User::getEmail)
+                        .filter(invocation.<Collection<String>>getArgument(0)::contains).toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userImportService.shutdown();
+        passwordHashingService.shutdown();
+        validatorFactory.close();
+    }
+
+    private UserImportJob job(long processedRows) {
+        UserImportJob job = UserImportJob.builder()
+                .id(JOB_ID)
+                .status(UserImportJob.Status.RUNNING)
+                .createdBy("admin@example.com")
+                .processedRows(processedRows)
+                .build();
+        when(jobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+        return job;
+    }
+
+    private static DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("constraint violation",
+                new ConstraintViolationException("constraint violation", new SQLException(), constraintName));
+    }
+
+    private Path csv(String content) throws IOException {
+        return Files.writeString(location.resolve(JOB_ID + ".csv"), content, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("チャンクごとに登録し、不正な行は行エラーとして記録して完了する")
+    void importsInChunks() throws IOException {
+        UserImportJob job = job(0);
+        Path file = csv("email,name,password\n"
+                + "user1@example.com,User 1,password-1\n"
+                + "not-an-email,User 2,password-2\n"
+                + "user3@example.com,User 3,password-3\n"
+                + "user1@example.com,User 4,password-4\n"
+                + "user5@example.com,User 5\n");
+
+        userImportService.run(JOB_ID);
+
+        assertThat(savedChunks).extracting(List::size).containsExactly(1, 1, 0);
+        assertThat(savedChunks.get(1).get(0).getPassword()).isEqualTo("hashed:password-3");
+        // 前のチャンクで登録したメールアドレスはリポジトリの照会で除外される
+        assertThat(savedErrors).extracting(UserImportError::getRowNumber).containsExactly(2L, 4L, 5L);
+        assertThat(savedErrors.get(0).getMessage()).contains("email");
+        assertThat(job.getStatus()).isEqualTo(UserImportJob.Status.COMPLETED);
+        assertThat(job.getProcessedRows()).isEqualTo(5);
+        assertThat(job.getCreatedCount()).isEqualTo(2);
+        assertThat(job.getFailedCount()).isEqualTo(3);
+        assertThat(job.getFinishedAt()).isNotNull();
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("登録済みのメールアドレスはハッシュ化せずに行エラーとする")
+    void skipsDuplicatesBeforeHashing() throws IOException {
+        UserImportJob job = job(0);
+        csv("email,name,password\n"
+                + "taken@example.com,Taken,password-1\n"
+                + "new@example.com,New,password-2\n"
+                + "new@example.com,Again,password-3\n");
+        savedChunks.add(List.of(User.builder().email("taken@example.com").build()));
+
+        userImportService.run(JOB_ID);
+
+        verify(encoder, never()).encode("password-1");
+        verify(encoder, never()).encode("password-3");
+        assertThat(savedErrors).extracting(UserImportError::getRowNumber).containsExactly(1L, 3L);
+        assertThat(job.getCreatedCount()).isEqualTo(1);
+        assertThat(job.getFailedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("チャンク内で重複したメールアドレスは2件目以降を行エラーとする")
+    void rejectsDuplicatesWithinChunk() throws IOException {
+        UserImportJob job = job(0);
+        csv("email,name,password\n"
+                + "same@example.com,First,password-1\n"
+                + "same@example.com,Second,password-2\n");
+
+        userImportService.run(JOB_ID);
+
+        assertThat(savedChunks.get(0)).extracting(User::getName).containsExactly("First");
+        assertThat(savedErrors).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).contains("ファイル内で重複"));
+        verify(encoder, never()).encode("password-2");
+        assertThat(job.getFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("チェックポイントまでの行を読み飛ばして再開する")
+    void resumesFromCheckpoint() throws IOException {
+        UserImportJob job = job(2);
+        job.setCreatedCount(2L);
+        csv("email,name,password\n"
+                + "user1@example.com,User 1,password-1\n"
+                + "user2@example.com,User 2,password-2\n"
+                + "user3@example.com,User 3,password-3\n");
+
+        userImportService.run(JOB_ID);
+
+        assertThat(savedChunks).hasSize(1);
+        assertThat(savedChunks.get(0)).extracting(User::getEmail).containsExactly("user3@example.com");
+        assertThat(job.getProcessedRows()).isEqualTo(3);
+        assertThat(job.getCreatedCount()).isEqualTo(3);
+        assertThat(job.getStatus()).isEqualTo(UserImportJob.Status.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("ハッシュ化の間に別経路で登録されたメールアドレスの一意制約違反はチャンクを再試行する")
+    void retriesChunkOnDuplicateEmail() throws IOException {
+        UserImportJob job = job(0);
+        csv("email,name,password\n"
+                + "user1@example.com,User 1,password-1\n"
+                + "user2@example.com,User 2,password-2\n");
+        doThrow(constraintViolation("PUBLIC.UK_USERS_EMAIL_NORMALIZED_INDEX_4"))
+                .doAnswer(invocation -> {
+                    savedChunks.add(new ArrayList<>(invocation.<List<User>>getArgument(0)));
+                    return invocation.getArgument(0);
+                })
+                .when(userRepository).saveAll(anyList());
+
+        userImportService.run(JOB_ID);
+
+        verify(encoder, times(2)).encode("password-1");
+        assertThat(savedChunks).singleElement().satisfies(chunk -> assertThat(chunk).hasSize(2));
+        assertThat(job.getStatus()).isEqualTo(UserImportJob.Status.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("メールアドレス以外の制約違反は再試行せずにジョブを失敗にする")
+    void failsWithoutRetryOnOtherConstraintViolation() throws IOException {
+        UserImportJob job = job(0);
+        csv("email,name,password\n"
+                + "user1@example.com,User 1,password-1\n");
+        doThrow(constraintViolation("users_role_check")).when(userRepository).saveAll(anyList());
+
+        userImportService.run(JOB_ID);
+
+        verify(userRepository, times(1)).saveAll(anyList());
+        verify(encoder, times(1)).encode("password-1");
+        assertThat(job.getStatus()).isEqualTo(UserImportJob.Status.FAILED);
+        assertThat(job.getProcessedRows()).isZero();
+    }
+
+    @Test
+    @DisplayName("CSVが読み込めない場合はジョブを失敗にしてCSVを残す")
+    void failsOnMalformedCsv() throws IOException {
+        UserImportJob job = job(0);
+        Path file = csv("email,name,password\n\"user1@example.com,User 1,password-1\n");
+
+        userImportService.run(JOB_ID);
+
+        assertThat(job.getStatus()).isEqualTo(UserImportJob.Status.FAILED);
+        assertThat(job.getErrorMessage()).contains("ダブルクォート");
+        assertThat(file).exists();
+    }
+
+    @Test
+    @DisplayName("ヘッダーが不正なCSV・上限を超えるCSVはジョブを登録せずにInvalidRequestExceptionとする")
+    void rejectsInvalidUpload() throws IOException {
+        assertThatThrownBy(() -> userImportService.submit(
+                new ByteArrayInputStream("email,name\n".getBytes(StandardCharsets.UTF_8)), "admin@example.com"))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("password");
+        assertThatThrownBy(() -> userImportService.submit(
+                new ByteArrayInputStream(new byte[2048]), "admin@example.com"))
+                .isInstanceOf(InvalidRequestException.class);
+
+        verify(jobRepository, never()).save(any());
+        try (var files = Files.list(location)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("失敗したジョブ以外は再開できない")
+    void resumesOnlyFailedJobs() {
+        job(0);
+
+        assertThatThrownBy(() -> userImportService.resume(JOB_ID))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+}
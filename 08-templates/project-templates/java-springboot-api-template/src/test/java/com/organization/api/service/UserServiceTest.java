@@ -0,0 +1,388 @@
+package com.organization.api.service;
+
+import com.organization.api.dto.CursorPageResponse;
+import com.organization.api.dto.PageResponse;
+import com.organization.api.dto.PatchUserRequest;
+import com.organization.api.dto.UserDto;
+import com.organization.api.entity.User;
+import com.organization.api.event.UserSecurityChangedEvent;
+import com.organization.api.exception.DuplicateResourceException;
+import com.organization.api.exception.InvalidRequestException;
+import com.organization.api.exception.ResourceNotFoundException;
+import com.organization.api.exception.VersionConflictException;
+import com.organization.api.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link UserService}のテスト.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    private PasswordHashingService passwordHashingService;
+    private ExecutorService persistenceExecutor;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        lenient().when(encoder.encode(any())).thenAnswer(invocation -> "hashed:" + invocation.getArgument(0));
+        passwordHashingService = new PasswordHashingService(
+                encoder, new SimpleMeterRegistry(), 1, 10, Duration.ofSeconds(1));
+        persistenceExecutor = Executors.newSingleThreadExecutor(
+                runnable -> new Thread(runnable, "persistence-test"));
+        userService = new UserService(userRepository, passwordHashingService, transactionTemplate,
+                eventPublisher, userDetailsCache, registeredEmailFilter, persistenceExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.shutdown();
+        persistenceExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("ハッシュ化後の保存はハッシュ化スレッドではなく保存用エグゼキューターで実行する")
+    void savesOnPersistenceExecutor() throws Exception {
+        AtomicReference<String> transactionThread = new AtomicReference<>();
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            transactionThread.set(Thread.currentThread().getName());
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(mock(TransactionStatus.class));
+        });
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            user.setId(1L);
+            return user;
+        });
+
+        UserDto created = userService.createUser(
+                UserDto.builder().email("new@example.com").name("New").build(), "password")
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(created.getId()).isEqualTo(1L);
+        assertThat(created.getRole()).isEqualTo(User.Role.ROLE_USER);
+        assertThat(transactionThread.get()).isEqualTo("persistence-test");
+        verify(userRepository, never()).existsByEmail(any());
+        verify(registeredEmailFilter).add("new@example.com");
+    }
+
+    @Test
+    @DisplayName("フィルターが登録済みの可能性ありと判定し、データベースで確認できた場合はハッシュ化せずに409とする")
+    void rejectsRegisteredEmailBeforeHashing() {
+        when(registeredEmailFilter.mightBeRegistered("taken@example.com")).thenReturn(true);
+        when(userRepository.existsByEmail("taken@example.com")).thenReturn(true);
+
+        assertThatThrownBy(() -> userService.createUser(
+                UserDto.builder().email("taken@example.com").name("Taken").build(), "password"))
+                .isInstanceOf(DuplicateResourceException.class);
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("保存時の一意制約違反はDuplicateResourceExceptionで完了する")
+    void mapsUniqueViolationToDuplicate() {
+        when(registeredEmailFilter.mightBeRegistered("race@example.com")).thenReturn(true);
+        when(userRepository.existsByEmail("race@example.com")).thenReturn(false);
+        when(transactionTemplate.execute(any())).thenThrow(constraintViolation("PUBLIC.UK_USERS_EMAIL_NORMALIZED_INDEX_4"));
+
+        CompletableFuture<UserDto> created = userService.createUser(
+                UserDto.builder().email("race@example.com").name("Race").build(), "password");
+
+        assertThatThrownBy(() -> created.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(DuplicateResourceException.class);
+        verify(registeredEmailFilter).add("race@example.com");
+    }
+
+    @Test
+    @DisplayName("メールアドレス以外の制約違反は重複とせず、Bloomフィルターに追加しない")
+    void rethrowsOtherConstraintViolations() {
+        when(registeredEmailFilter.mightBeRegistered("other@example.com")).thenReturn(false);
+        when(transactionTemplate.execute(any())).thenThrow(constraintViolation("users_role_check"));
+
+        CompletableFuture<UserDto> created = userService.createUser(
+                UserDto.builder().email("other@example.com").name("Other").build(), "password");
+
+        assertThatThrownBy(() -> created.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(DataIntegrityViolationException.class);
+        verify(registeredEmailFilter, never()).add(any());
+    }
+
+    @Test
+    @DisplayName("ページ番号方式はページサイズを上限に切り詰め、(created_at, id)の昇順で取得する")
+    void limitsPageSize() {
+        ReflectionTestUtils.setField(userService, "maxPageSize", 50);
+        when(userRepository.findDtoPage(any(Pageable.class))).thenAnswer(invocation ->
+                new PageImpl<>(List.of(user(1L, CREATED_AT)), invocation.getArgument(0), 120));
+
+        PageResponse<UserDto> page = userService.findUsers(1, 1000);
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(userRepository).findDtoPage(pageable.capture());
+        assertThat(pageable.getValue().getPageNumber()).isEqualTo(1);
+        assertThat(pageable.getValue().getPageSize()).isEqualTo(50);
+        assertThat(pageable.getValue().getSort()).isEqualTo(Sort.by("createdAt", "id"));
+        assertThat(page.getSize()).isEqualTo(50);
+        assertThat(page.getTotalElements()).isEqualTo(120);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("不正なページ番号・ページサイズはInvalidRequestExceptionをスローする")
+    void rejectsInvalidPageParameters() {
+        assertThatThrownBy(() -> userService.findUsers(-1, 20))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> userService.findUsers(0, 0))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> userService.findUsersByCursor("", 0))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("カーソル方式は最終行の(created_at, id)をカーソルにして次ページを取得する")
+    void pagesByCursor() {
+        Instant secondCreatedAt = CREATED_AT.plusNanos(1);
+        when(userRepository.findFirstKeysetPage(any(Pageable.class))).thenReturn(new SliceImpl<>(
+                List.of(user(1L, CREATED_AT), user(7L, secondCreatedAt)), PageRequest.ofSize(2), true));
+        when(userRepository.findKeysetPageAfter(any(), any(), any(Pageable.class))).thenReturn(
+                new SliceImpl<>(List.of(user(3L, CREATED_AT.plusSeconds(1))), PageRequest.ofSize(2), false));
+
+        CursorPageResponse<UserDto> first = userService.findUsersByCursor("", 2);
+        assertThat(first.getContent()).extracting(UserDto::getId).containsExactly(1L, 7L);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).matches("[A-Za-z0-9_-]+");
+
+        CursorPageResponse<UserDto> second = userService.findUsersByCursor(first.getNextCursor(), 2);
+        verify(userRepository).findKeysetPageAfter(
+                eq(secondCreatedAt), eq(7L), eq(PageRequest.ofSize(2)));
+        assertThat(second.getContent()).extracting(UserDto::getId).containsExactly(3L);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("改ざん・破損したカーソルはInvalidRequestExceptionをスローする")
+    void rejectsInvalidCursor() {
+        String valid = new UserKeysetCursor(CREATED_AT, 1L).encode();
+
+        assertThatThrownBy(() -> userService.findUsersByCursor("not a cursor!", 20))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> userService.findUsersByCursor(valid.substring(1), 20))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> userService.findUsersByCursor(
+                new UserKeysetCursor(CREATED_AT, 0L).encode(), 20))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("エクスポートはストリームのDTOを順に出力し、ストリームをクローズする")
+    void exportsUsersAndClosesStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        List<UserDto> exported = new ArrayList<>();
+        when(userRepository.streamAllForExport()).thenReturn(
+                Stream.of(user(1L, CREATED_AT), user(2L, CREATED_AT)).onClose(() -> closed.set(true)));
+
+        long count = userService.exportUsers(exported::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(exported).extracting(UserDto::getEmail)
+                .containsExactly("user1@example.com", "user2@example.com");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("IDによる取得はエンティティを読み込まずプロジェクションのDTOを返却する")
+    void findsUserByIdWithProjection() {
+        UserDto user = user(1L, CREATED_AT);
+        when(userRepository.findDtoById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.findDtoById(2L)).thenReturn(Optional.empty());
+
+        assertThat(userService.findUserById(1L)).isSameAs(user);
+        assertThatThrownBy(() -> userService.findUserById(2L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("名前のみの部分更新は条件付きUPDATEだけを実行し、新しいバージョンを返却する")
+    void patchesWithExpectedVersion() {
+        PatchUserRequest request = PatchUserRequest.builder().name("New Name").build();
+        when(userRepository.patch(eq(1L), eq(3L), eq("New Name"), eq(null), any())).thenReturn(1);
+
+        assertThat(userService.patchUser(1L, 3L, request)).isEqualTo(4L);
+        verify(userRepository, never()).findSecurityStateById(any());
+        verify(userRepository, never()).existsById(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("部分更新で有効・無効を変更した場合は更新前の状態から無効化イベントを発行する")
+    void publishesEventWhenPatchingEnabled() {
+        PatchUserRequest request = PatchUserRequest.builder().enabled(false).build();
+        UserRepository.SecurityState current = state(true, 3L);
+        when(userRepository.findSecurityStateById(1L)).thenReturn(Optional.of(current));
+        when(userRepository.patch(eq(1L), eq(3L), eq(null), eq(false), any())).thenReturn(1);
+
+        userService.patchUser(1L, 3L, request);
+
+        ArgumentCaptor<UserSecurityChangedEvent> event = ArgumentCaptor.forClass(UserSecurityChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getEmail()).isEqualTo("user1@example.com");
+        assertThat(event.getValue().getSecurityVersion()).isEqualTo(2L);
+        verify(userRepository, never()).findSecurityKeys(any());
+    }
+
+    @Test
+    @DisplayName("部分更新で有効・無効が変わらない場合は無効化イベントを発行しない")
+    void skipsEventWhenEnabledIsUnchanged() {
+        PatchUserRequest request = PatchUserRequest.builder().enabled(true).build();
+        UserRepository.SecurityState current = state(true, 3L);
+        when(userRepository.findSecurityStateById(1L)).thenReturn(Optional.of(current));
+        when(userRepository.patch(eq(1L), eq(3L), eq(null), eq(true), any())).thenReturn(1);
+
+        assertThat(userService.patchUser(1L, 3L, request)).isEqualTo(4L);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("有効・無効を指定した部分更新はバージョンが一致しない場合UPDATEを実行せずに競合とする")
+    void rejectsStaleEnabledPatchWithoutUpdate() {
+        UserRepository.SecurityState current = state(true, 4L);
+        when(userRepository.findSecurityStateById(1L)).thenReturn(Optional.of(current));
+
+        assertThatThrownBy(() -> userService.patchUser(1L, 3L, PatchUserRequest.builder().enabled(false).build()))
+                .isInstanceOf(VersionConflictException.class);
+        verify(userRepository, never()).patch(any(), any(Long.class), any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("部分更新の対象がない場合は存在有無によりResourceNotFoundExceptionかVersionConflictExceptionとする")
+    void rejectsStalePatch() {
+        PatchUserRequest request = PatchUserRequest.builder().name("New Name").build();
+        when(userRepository.patch(any(), eq(3L), any(), any(), any())).thenReturn(0);
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.existsById(2L)).thenReturn(false);
+
+        assertThatThrownBy(() -> userService.patchUser(1L, 3L, request))
+                .isInstanceOf(VersionConflictException.class);
+        assertThatThrownBy(() -> userService.patchUser(2L, 3L, request))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> userService.patchUser(1L, 3L, new PatchUserRequest()))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("有効な管理者の無効化は管理者の行ロックを取得してから更新し、有効な管理者がいなくなる場合は拒否する")
+    void rejectsDisablingLastEnabledAdmin() {
+        UserRepository.SecurityState current = state(User.Role.ROLE_ADMIN, true, 3L);
+        when(userRepository.findSecurityStateById(1L)).thenReturn(Optional.of(current));
+        when(userRepository.patch(eq(1L), eq(3L), eq(null), eq(false), any())).thenReturn(1);
+        when(userRepository.countByRoleAndEnabled(User.Role.ROLE_ADMIN, true)).thenReturn(0L);
+
+        assertThatThrownBy(() -> userService.patchUser(1L, 3L, PatchUserRequest.builder().enabled(false).build()))
+                .isInstanceOf(InvalidRequestException.class);
+        InOrder order = inOrder(userRepository);
+        order.verify(userRepository).lockEnabledIdsByRole(User.Role.ROLE_ADMIN);
+        order.verify(userRepository).patch(eq(1L), eq(3L), eq(null), eq(false), any());
+        order.verify(userRepository).countByRoleAndEnabled(User.Role.ROLE_ADMIN, true);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("constraint violation",
+                new ConstraintViolationException("constraint violation", new SQLException(), constraintName));
+    }
+
+    private static UserRepository.SecurityState state(boolean enabled, long version) {
+        return state(User.Role.ROLE_USER, enabled, version);
+    }
+
+    private static UserRepository.SecurityState state(User.Role role, boolean enabled, long version) {
+        UserRepository.SecurityState state = mock(UserRepository.SecurityState.class);
+        lenient().when(state.getRole()).thenReturn(role);
+        lenient().when(state.getId()).thenReturn(1L);
+        lenient().when(state.getEmail()).thenReturn("user1@example.com");
+        lenient().when(state.getSecurityVersion()).thenReturn(1L);
+        lenient().when(state.getEnabled()).thenReturn(enabled);
+        lenient().when(state.getVersion()).thenReturn(version);
+        return state;
+    }
+
+    private static UserDto user(Long id, Instant createdAt) {
+        return UserDto.builder()
+                .id(id)
+                .email("user" + id + "@example.com")
+                .name("User " + id)
+                .role(User.Role.ROLE_USER)
+                .enabled(true)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+}